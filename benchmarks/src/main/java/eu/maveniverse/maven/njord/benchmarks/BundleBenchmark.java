@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2023-2024 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.njord.benchmarks;
+
+import eu.maveniverse.maven.njord.shared.impl.store.DefaultArtifactStoreWriter;
+import eu.maveniverse.maven.njord.shared.impl.store.PathArtifactStore;
+import eu.maveniverse.maven.njord.shared.store.BundleFormat;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link DefaultArtifactStoreWriter#writeAsBundle(eu.maveniverse.maven.njord.shared.store.ArtifactStore, Path,
+ * BundleFormat)} of whole store.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class BundleBenchmark extends StoreBenchmarkSupport {
+    @Param({"100", "1000"})
+    public int artifacts;
+
+    @Param({"ZIP", "TAR_GZ"})
+    public BundleFormat format;
+
+    private PathArtifactStore store;
+    private DefaultArtifactStoreWriter writer;
+    private Path outputDirectory;
+    private Path bundle;
+
+    @Setup
+    public void setUp() throws IOException {
+        setUpSupport(artifacts, 1024);
+        store = createStore();
+        writer = new DefaultArtifactStoreWriter();
+        outputDirectory = Files.createDirectories(workdir.resolve("bundles"));
+    }
+
+    @TearDown(Level.Invocation)
+    public void deleteBundle() throws IOException {
+        if (bundle != null) {
+            Files.deleteIfExists(bundle);
+            bundle = null;
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try {
+            if (store != null) {
+                store.close();
+            }
+        } finally {
+            tearDownSupport();
+        }
+    }
+
+    @Benchmark
+    public Path writeAsBundle() throws IOException {
+        bundle = writer.writeAsBundle(store, outputDirectory, format);
+        return bundle;
+    }
+}
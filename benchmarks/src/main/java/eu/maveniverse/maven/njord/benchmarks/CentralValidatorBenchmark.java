@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2023-2024 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.njord.benchmarks;
+
+import eu.maveniverse.maven.mima.context.Context;
+import eu.maveniverse.maven.mima.context.ContextOverrides;
+import eu.maveniverse.maven.mima.context.Runtimes;
+import eu.maveniverse.maven.njord.publisher.sonatype.central.SonatypeCentralRequirements;
+import eu.maveniverse.maven.njord.shared.Session;
+import eu.maveniverse.maven.njord.shared.SessionConfig;
+import eu.maveniverse.maven.njord.shared.impl.J8Utils;
+import eu.maveniverse.maven.njord.shared.impl.publisher.DefaultArtifactStoreValidator;
+import eu.maveniverse.maven.njord.shared.impl.store.PathArtifactStore;
+import eu.maveniverse.maven.njord.shared.publisher.ArtifactStoreValidator;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link DefaultArtifactStoreValidator} with Central requirements (as used by Sonatype publishers) over whole store.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class CentralValidatorBenchmark extends StoreBenchmarkSupport {
+    @Param({"100", "1000"})
+    public int artifacts;
+
+    /**
+     * With cache enabled, all but first invocation validate unchanged store.
+     */
+    @Param({"false", "true"})
+    public boolean validationCache;
+
+    private Context context;
+    private Session session;
+    private PathArtifactStore store;
+    private ArtifactStoreValidator validator;
+
+    @Setup
+    public void setUp() throws IOException {
+        setUpSupport(artifacts, 1024);
+        context = Runtimes.INSTANCE
+                .getRuntime()
+                .create(ContextOverrides.create()
+                        .offline(true)
+                        .withLocalRepositoryOverride(workdir.resolve("local-repository"))
+                        .build());
+        session = createSession(
+                context,
+                Collections.singletonMap(SessionConfig.CONFIG_VALIDATION_CACHE, String.valueOf(validationCache)));
+        store = createStore();
+        validator = new SonatypeCentralRequirements(session, checksumAlgorithmFactorySelector)
+                .releaseValidator()
+                .orElseThrow(J8Utils.OET);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try {
+            if (store != null) {
+                store.close();
+            }
+            if (session != null) {
+                session.close();
+            }
+            if (context != null) {
+                context.close();
+            }
+        } finally {
+            tearDownSupport();
+        }
+    }
+
+    @Benchmark
+    public ArtifactStoreValidator.ValidationResult validate() throws IOException {
+        return validator.validate(store);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2023-2024 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.njord.benchmarks;
+
+import eu.maveniverse.maven.njord.shared.impl.publisher.basic.ArtifactChecksumValidator;
+import eu.maveniverse.maven.njord.shared.impl.store.PathArtifactStore;
+import eu.maveniverse.maven.njord.shared.publisher.spi.ValidationContext;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.aether.artifact.Artifact;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link ArtifactChecksumValidator} over whole store, with Central mandatory (SHA-1, MD5) and optional (SHA-512,
+ * SHA-256) checksums.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ChecksumValidatorBenchmark extends StoreBenchmarkSupport {
+    @Param({"100", "1000"})
+    public int artifacts;
+
+    @Param({"1024", "1048576"})
+    public int jarSize;
+
+    private PathArtifactStore store;
+    private Collection<Artifact> storeArtifacts;
+    private ArtifactChecksumValidator validator;
+
+    @Setup
+    public void setUp() throws IOException {
+        setUpSupport(artifacts, jarSize);
+        store = createStore();
+        storeArtifacts = store.artifacts();
+        validator = new ArtifactChecksumValidator(
+                "Checksum Validation",
+                checksumAlgorithmFactorySelector.selectList(Arrays.asList("SHA-1", "MD5")),
+                checksumAlgorithmFactorySelector.selectList(Arrays.asList("SHA-512", "SHA-256")));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try {
+            if (store != null) {
+                store.close();
+            }
+        } finally {
+            tearDownSupport();
+        }
+    }
+
+    @Benchmark
+    public int validate() throws IOException {
+        CountingValidationContext context = new CountingValidationContext();
+        for (Artifact artifact : storeArtifacts) {
+            validator.validate(store, artifact, context);
+        }
+        return context.count;
+    }
+
+    private static final class CountingValidationContext implements ValidationContext {
+        private int count;
+
+        @Override
+        public ValidationContext addInfo(String msg) {
+            count++;
+            return this;
+        }
+
+        @Override
+        public ValidationContext addWarning(String msg) {
+            count++;
+            return this;
+        }
+
+        @Override
+        public ValidationContext addError(String msg) {
+            count++;
+            return this;
+        }
+
+        @Override
+        public ValidationContext child(String name) {
+            return this;
+        }
+    }
+}
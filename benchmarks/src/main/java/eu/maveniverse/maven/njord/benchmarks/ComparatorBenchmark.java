@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2023-2024 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.njord.benchmarks;
+
+import eu.maveniverse.maven.njord.shared.impl.comparator.BitwiseArtifactStoreComparator;
+import eu.maveniverse.maven.njord.shared.impl.store.PathArtifactStore;
+import eu.maveniverse.maven.njord.shared.store.ArtifactStoreComparator;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link BitwiseArtifactStoreComparator} of two stores with same content.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ComparatorBenchmark extends StoreBenchmarkSupport {
+    @Param({"100", "1000"})
+    public int artifacts;
+
+    private PathArtifactStore store1;
+    private PathArtifactStore store2;
+    private BitwiseArtifactStoreComparator comparator;
+
+    @Setup
+    public void setUp() throws IOException {
+        setUpSupport(artifacts, 1024);
+        store1 = createStore();
+        store2 = createStore();
+        comparator = new BitwiseArtifactStoreComparator(
+                sessionConfig, "bitwise", "Bitwise comparison", checksumAlgorithmFactorySelector);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try {
+            if (store1 != null) {
+                store1.close();
+            }
+            if (store2 != null) {
+                store2.close();
+            }
+        } finally {
+            tearDownSupport();
+        }
+    }
+
+    @Benchmark
+    public ArtifactStoreComparator.ComparisonResult compare() throws IOException {
+        return comparator.compare(store1, store2);
+    }
+}
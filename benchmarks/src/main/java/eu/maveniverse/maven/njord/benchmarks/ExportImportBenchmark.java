@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2023-2024 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.njord.benchmarks;
+
+import eu.maveniverse.maven.njord.shared.impl.store.DefaultInternalArtifactStoreManager;
+import eu.maveniverse.maven.njord.shared.impl.store.PathArtifactStore;
+import eu.maveniverse.maven.njord.shared.store.ArtifactStore;
+import eu.maveniverse.maven.njord.shared.store.BundleFormat;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link DefaultInternalArtifactStoreManager#exportTo(ArtifactStore, Path, ArtifactStore, BundleFormat)} and
+ * {@link DefaultInternalArtifactStoreManager#importFrom(Path)} of whole store.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ExportImportBenchmark extends StoreBenchmarkSupport {
+    @Param({"100", "1000"})
+    public int artifacts;
+
+    @Param({"ZIP", "TAR_GZ"})
+    public BundleFormat format;
+
+    private PathArtifactStore store;
+    private Path exportDirectory;
+    private Path bundle;
+    private Path exported;
+    private ArtifactStore imported;
+
+    @Setup
+    public void setUp() throws IOException {
+        setUpSupport(artifacts, 1024);
+        store = createStore();
+        bundle = storeManager.exportTo(store, Files.createDirectories(workdir.resolve("bundle")), null, format);
+        exportDirectory = Files.createDirectories(workdir.resolve("export"));
+    }
+
+    @TearDown(Level.Invocation)
+    public void cleanUp() throws IOException {
+        if (exported != null) {
+            Files.deleteIfExists(exported);
+            exported = null;
+        }
+        if (imported != null) {
+            String name = imported.name();
+            imported.close();
+            imported = null;
+            storeManager.dropArtifactStore(name);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try {
+            if (store != null) {
+                store.close();
+            }
+        } finally {
+            tearDownSupport();
+        }
+    }
+
+    @Benchmark
+    public Path exportTo() throws IOException {
+        exported = storeManager.exportTo(store, exportDirectory, null, format);
+        return exported;
+    }
+
+    @Benchmark
+    public ArtifactStore importFrom() throws IOException {
+        imported = storeManager.importFrom(bundle);
+        return imported;
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2023-2024 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.njord.benchmarks;
+
+import eu.maveniverse.maven.mima.context.Context;
+import eu.maveniverse.maven.mima.extensions.mmr.MavenModelReader;
+import eu.maveniverse.maven.njord.shared.Session;
+import eu.maveniverse.maven.njord.shared.SessionConfig;
+import eu.maveniverse.maven.njord.shared.impl.DefaultSessionFactory;
+import eu.maveniverse.maven.njord.shared.impl.store.DefaultArtifactStoreMergerFactory;
+import eu.maveniverse.maven.njord.shared.impl.store.DefaultArtifactStoreWriterFactory;
+import eu.maveniverse.maven.njord.shared.impl.store.DefaultInternalArtifactStoreManager;
+import eu.maveniverse.maven.njord.shared.impl.store.DefaultInternalArtifactStoreManagerFactory;
+import eu.maveniverse.maven.njord.shared.impl.store.PathArtifactStore;
+import eu.maveniverse.maven.njord.shared.impl.store.SyntheticArtifactStoreGenerator;
+import eu.maveniverse.maven.njord.shared.store.ArtifactStoreTemplate;
+import eu.maveniverse.maven.shared.core.fs.FileUtils;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.maven.rtinfo.RuntimeInformation;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.internal.impl.checksum.DefaultChecksumAlgorithmFactorySelector;
+import org.eclipse.aether.internal.impl.checksum.Md5ChecksumAlgorithmFactory;
+import org.eclipse.aether.internal.impl.checksum.Sha1ChecksumAlgorithmFactory;
+import org.eclipse.aether.internal.impl.checksum.Sha256ChecksumAlgorithmFactory;
+import org.eclipse.aether.internal.impl.checksum.Sha512ChecksumAlgorithmFactory;
+import org.eclipse.aether.spi.connector.checksum.ChecksumAlgorithmFactory;
+import org.eclipse.aether.spi.connector.checksum.ChecksumAlgorithmFactorySelector;
+
+/**
+ * Support class for benchmarks working with stores: sets up temporary Njord basedir, store manager and
+ * {@link SyntheticArtifactStoreGenerator}, and cleans up all of it.
+ */
+public abstract class StoreBenchmarkSupport {
+    protected Path workdir;
+    protected SessionConfig sessionConfig;
+    protected ChecksumAlgorithmFactorySelector checksumAlgorithmFactorySelector;
+    protected DefaultInternalArtifactStoreManager storeManager;
+    protected SyntheticArtifactStoreGenerator generator;
+
+    /**
+     * Sets up the environment, generated stores will have (at least) given count of artifacts, and JARs will have
+     * content of given size.
+     */
+    protected void setUpSupport(int artifacts, int jarSize) throws IOException {
+        workdir = Files.createTempDirectory("njord-benchmark");
+        HashMap<String, ChecksumAlgorithmFactory> factories = new HashMap<>();
+        factories.put(Sha1ChecksumAlgorithmFactory.NAME, new Sha1ChecksumAlgorithmFactory());
+        factories.put(Md5ChecksumAlgorithmFactory.NAME, new Md5ChecksumAlgorithmFactory());
+        factories.put(Sha256ChecksumAlgorithmFactory.NAME, new Sha256ChecksumAlgorithmFactory());
+        factories.put(Sha512ChecksumAlgorithmFactory.NAME, new Sha512ChecksumAlgorithmFactory());
+        checksumAlgorithmFactorySelector = new DefaultChecksumAlgorithmFactorySelector(factories);
+        sessionConfig = SessionConfig.defaults(new DefaultRepositorySystemSession(), Collections.emptyList())
+                .basedir(workdir.resolve("njord"))
+                .build();
+        storeManager = new DefaultInternalArtifactStoreManager(sessionConfig, checksumAlgorithmFactorySelector);
+        SyntheticArtifactStoreGenerator.Builder builder = SyntheticArtifactStoreGenerator.builder(
+                        Files.createDirectories(workdir.resolve("artifacts")))
+                .size(jarSize, jarSize)
+                .sizeDistribution(SyntheticArtifactStoreGenerator.SizeDistribution.FIXED);
+        int artifactsPerModule = builder.build().artifactsPerModule();
+        generator = builder.modules((artifacts + artifactsPerModule - 1) / artifactsPerModule)
+                .build();
+    }
+
+    /**
+     * Tears down the environment, deletes all files created by benchmark.
+     */
+    protected void tearDownSupport() throws IOException {
+        try {
+            if (storeManager != null) {
+                storeManager.close();
+            }
+        } finally {
+            if (workdir != null) {
+                FileUtils.deleteRecursively(workdir);
+            }
+        }
+    }
+
+    /**
+     * Creates new release store populated by generator.
+     */
+    protected PathArtifactStore createStore() throws IOException {
+        PathArtifactStore store =
+                (PathArtifactStore) storeManager.createArtifactStore(ArtifactStoreTemplate.RELEASE, null);
+        generator.generate(store);
+        return store;
+    }
+
+    /**
+     * Creates Njord session using given MIMA context, for benchmarks needing full session (like validators reading
+     * POMs). Caller must close the session.
+     */
+    protected Session createSession(Context context) {
+        return createSession(context, Collections.emptyMap());
+    }
+
+    /**
+     * Same as {@link #createSession(Context)}, with given user properties on top of session ones (to tune Njord).
+     */
+    protected Session createSession(Context context, Map<String, String> userProperties) {
+        HashMap<String, String> properties =
+                new HashMap<>(context.repositorySystemSession().getUserProperties());
+        properties.putAll(userProperties);
+        SessionConfig config = SessionConfig.defaults(context.repositorySystemSession(), context.remoteRepositories())
+                .basedir(workdir.resolve("njord"))
+                .userProperties(properties)
+                .build();
+        return new DefaultSessionFactory(
+                        context.repositorySystem(),
+                        new RuntimeInformation() {
+                            @Override
+                            public String getMavenVersion() {
+                                return "3.9.11";
+                            }
+
+                            @Override
+                            public boolean isMavenVersion(String s) {
+                                return getMavenVersion().equals(s);
+                            }
+                        },
+                        new DefaultInternalArtifactStoreManagerFactory(checksumAlgorithmFactorySelector),
+                        new DefaultArtifactStoreWriterFactory(),
+                        new DefaultArtifactStoreMergerFactory(
+                                context.repositorySystem(), checksumAlgorithmFactorySelector),
+                        Collections.emptyMap(),
+                        Collections.emptyMap(),
+                        new MavenModelReader(context).getImpl())
+                .create(config);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2023-2024 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.njord.benchmarks;
+
+import eu.maveniverse.maven.njord.shared.impl.store.PathArtifactStore;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Store put (as connector does it: put, write files and checksums, commit) of one module into store already having
+ * given count of artifacts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class StorePutBenchmark extends StoreBenchmarkSupport {
+    @Param({"100", "1000", "10000"})
+    public int artifacts;
+
+    private PathArtifactStore store;
+    private List<Artifact> module;
+    private int counter;
+
+    @Setup
+    public void setUp() throws IOException {
+        setUpSupport(artifacts, 1024);
+        store = createStore();
+        module = generator.module(generator.modules());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try {
+            if (store != null) {
+                store.close();
+            }
+        } finally {
+            tearDownSupport();
+        }
+    }
+
+    @Benchmark
+    public void put() throws IOException {
+        String artifactId = "put-" + counter++;
+        generator.put(
+                store,
+                module.stream()
+                        .map(a -> new DefaultArtifact(
+                                a.getGroupId(),
+                                artifactId,
+                                a.getClassifier(),
+                                a.getExtension(),
+                                a.getVersion(),
+                                null,
+                                a.getFile()))
+                        .collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2023-2024 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.njord.benchmarks;
+
+import eu.maveniverse.maven.njord.shared.impl.store.PathArtifactStore;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Store index reads: {@link PathArtifactStore#artifacts()} and {@link PathArtifactStore#artifactPresent(Artifact)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class StoreReadBenchmark extends StoreBenchmarkSupport {
+    @Param({"100", "1000", "10000"})
+    public int artifacts;
+
+    private PathArtifactStore store;
+    private Artifact present;
+    private Artifact missing;
+
+    @Setup
+    public void setUp() throws IOException {
+        setUpSupport(artifacts, 1024);
+        store = createStore();
+        present = new DefaultArtifact(
+                generator.groupId(), generator.artifactId(generator.modules() / 2), "", "jar", generator.version());
+        missing = new DefaultArtifact(
+                generator.groupId(), generator.artifactId(generator.modules()), "", "jar", generator.version());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try {
+            if (store != null) {
+                store.close();
+            }
+        } finally {
+            tearDownSupport();
+        }
+    }
+
+    @Benchmark
+    public Collection<Artifact> artifacts() throws IOException {
+        return store.artifacts();
+    }
+
+    @Benchmark
+    public boolean artifactPresent() throws IOException {
+        return store.artifactPresent(present);
+    }
+
+    @Benchmark
+    public boolean artifactMissing() throws IOException {
+        return store.artifactPresent(missing);
+    }
+}
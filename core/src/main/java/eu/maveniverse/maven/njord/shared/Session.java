@@ -9,6 +9,7 @@ package eu.maveniverse.maven.njord.shared;
 
 import static java.util.Objects.requireNonNull;
 
+import eu.maveniverse.maven.njord.shared.metrics.Metrics;
 import eu.maveniverse.maven.njord.shared.publisher.ArtifactPublisherRedirector;
 import eu.maveniverse.maven.njord.shared.publisher.ArtifactStorePublisher;
 import eu.maveniverse.maven.njord.shared.store.ArtifactStore;
@@ -22,6 +23,7 @@ import java.io.IOException;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import org.apache.maven.model.Model;
 import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.repository.RemoteRepository;
@@ -32,6 +34,13 @@ public interface Session extends Closeable {
      */
     SessionConfig config();
 
+    /**
+     * Returns this session metrics.
+     *
+     * @since 0.9.7
+     */
+    Metrics metrics();
+
     /**
      * Returns store manager.
      */
@@ -122,4 +131,47 @@ public interface Session extends Closeable {
      * Cleans up "best effort" and reports failures as warnings.
      */
     int dropSessionArtifactStores();
+
+    /**
+     * Task performing staging, executed by {@link #stageAsync(String, StagingTask)}.
+     *
+     * @since 0.9.7
+     */
+    @FunctionalInterface
+    interface StagingTask {
+        void run() throws IOException;
+    }
+
+    /**
+     * Submits staging task for asynchronous execution. Tasks submitted with same key (usually the store name) are
+     * executed in submission order. Failures are collected and reported by {@link #awaitStaging()}.
+     *
+     * @since 0.9.7
+     */
+    void stageAsync(String key, StagingTask task);
+
+    /**
+     * Waits for staging tasks submitted with given key to finish. Does not report failures.
+     *
+     * @since 0.9.7
+     */
+    void awaitStaging(String key);
+
+    /**
+     * Waits for all submitted staging tasks to finish, and reports failures, if any.
+     *
+     * @since 0.9.7
+     */
+    void awaitStaging() throws IOException;
+
+    /**
+     * Returns the session-scoped resource mapped to given key, creating it with given factory if not present. Keys
+     * should be value objects, and resources should be thread safe, as they may be shared across publishers and
+     * threads. Resources that are {@link Closeable} are closed when this session is closed. Meant for
+     * expensive objects, like pooled HTTP clients or results of server capability probes, that should be reused
+     * across publishing of several stores. The factory must not invoke this method.
+     *
+     * @since 0.9.7
+     */
+    <T> T getOrCreateSessionResource(Object key, Supplier<T> factory);
 }
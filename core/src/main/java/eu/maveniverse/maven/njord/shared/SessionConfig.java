@@ -65,6 +65,54 @@ public interface SessionConfig {
      */
     String CONFIG_AUTO_DROP = KEY_PREFIX + "autoDrop";
 
+    /**
+     * Configuration key in properties (system, user or project) for "async staging": connector hands over uploads
+     * to background staging, and build continues without waiting for them. Pending uploads are waited for at the
+     * end of session (or before Njord mojos execute) and failures are reported there. The deployed files must not
+     * be modified or removed during build. Defaults to {@code false}.
+     *
+     * @since 0.9.7
+     */
+    String CONFIG_ASYNC_STAGING = KEY_PREFIX + "asyncStaging";
+
+    /**
+     * Configuration key in properties (system, user or project) for count of session stores published concurrently
+     * (when publishing session stores). Snapshot stores are published before release stores, and release stores are
+     * not published if publishing of any snapshot store failed. Defaults to {@code 1} (one by one).
+     *
+     * @since 0.9.7
+     */
+    String CONFIG_PUBLISH_THREADS = KEY_PREFIX + "publishThreads";
+
+    /**
+     * Configuration key in properties (system, user or project) for name of the store attachment to write session
+     * metrics (as JSON) to, when publishing session stores. By default, metrics are not written.
+     *
+     * @since 0.9.7
+     */
+    String CONFIG_METRICS_ATTACHMENT = KEY_PREFIX + "metricsAttachment";
+
+    /**
+     * Configuration key in properties (system, user or project) for "validation cache": results of validators are
+     * persisted with the store, and on next validation only validators of artifacts whose content (or related
+     * content, like signatures and checksums) changed are executed again. Results having errors and results of
+     * validators that are not cacheable (like POM model validators) are not cached. Applies to stores on file system
+     * only. Defaults to {@code true}.
+     *
+     * @since 0.9.7
+     */
+    String CONFIG_VALIDATION_CACHE = KEY_PREFIX + "validationCache";
+
+    /**
+     * Configuration key in properties (system, user or project) for "fail-fast validation": validation stops at
+     * first error, and cheap validators (like presence checks) are executed before expensive ones (like hashing,
+     * signature verification and model building). Validation result contains only the checks executed so far.
+     * Defaults to {@code false}.
+     *
+     * @since 0.9.7
+     */
+    String CONFIG_VALIDATION_FAIL_FAST = KEY_PREFIX + "validationFailFast";
+
     /**
      * Configuration key in properties (system, user or project) for explicitly set prefix to use.
      * If there is a project in context, prefix will be automatically set to top level project artifact id.
@@ -185,6 +233,46 @@ public interface SessionConfig {
      */
     boolean autoDrop();
 
+    /**
+     * Whether connector should stage uploads asynchronously. Defaults to {@code false}.
+     *
+     * @see #CONFIG_ASYNC_STAGING
+     * @since 0.9.7
+     */
+    boolean asyncStaging();
+
+    /**
+     * The count of session stores published concurrently. Defaults to {@code 1}.
+     *
+     * @see #CONFIG_PUBLISH_THREADS
+     * @since 0.9.7
+     */
+    int publishThreads();
+
+    /**
+     * The name of store attachment to write session metrics to when publishing session stores, if any.
+     *
+     * @see #CONFIG_METRICS_ATTACHMENT
+     * @since 0.9.7
+     */
+    Optional<String> metricsAttachment();
+
+    /**
+     * Whether validation results should be cached with the store. Defaults to {@code true}.
+     *
+     * @see #CONFIG_VALIDATION_CACHE
+     * @since 0.9.7
+     */
+    boolean validationCache();
+
+    /**
+     * Whether validation should stop at first error. Defaults to {@code false}.
+     *
+     * @see #CONFIG_VALIDATION_FAIL_FAST
+     * @since 0.9.7
+     */
+    boolean validationFailFast();
+
     /**
      * The prefix to override template prefix, if needed. This value is always
      * present if there is present {@link #currentProject()}.
@@ -475,6 +563,11 @@ public interface SessionConfig {
             private final List<RemoteRepository> allRemoteRepositories;
             private final boolean autoPublish;
             private final boolean autoDrop;
+            private final boolean asyncStaging;
+            private final int publishThreads;
+            private final String metricsAttachment;
+            private final boolean validationCache;
+            private final boolean validationFailFast;
             private final String prefix;
             private final Map<String, Map<String, String>> serverConfigurations;
             private final CurrentProject currentProject;
@@ -548,6 +641,17 @@ public interface SessionConfig {
                         effectiveProperties.getOrDefault(CONFIG_AUTO_PUBLISH, Boolean.FALSE.toString()));
                 this.autoDrop = Boolean.parseBoolean(
                         effectiveProperties.getOrDefault(CONFIG_AUTO_DROP, Boolean.TRUE.toString()));
+                this.asyncStaging = Boolean.parseBoolean(
+                        effectiveProperties.getOrDefault(CONFIG_ASYNC_STAGING, Boolean.FALSE.toString()));
+                this.publishThreads = Integer.parseInt(effectiveProperties.getOrDefault(CONFIG_PUBLISH_THREADS, "1"));
+                if (this.publishThreads < 1) {
+                    throw new IllegalArgumentException(CONFIG_PUBLISH_THREADS + " must be positive");
+                }
+                this.metricsAttachment = effectiveProperties.get(CONFIG_METRICS_ATTACHMENT);
+                this.validationCache = Boolean.parseBoolean(
+                        effectiveProperties.getOrDefault(CONFIG_VALIDATION_CACHE, Boolean.TRUE.toString()));
+                this.validationFailFast = Boolean.parseBoolean(
+                        effectiveProperties.getOrDefault(CONFIG_VALIDATION_FAIL_FAST, Boolean.FALSE.toString()));
 
                 String prefixString = effectiveProperties.get(CONFIG_PREFIX);
                 if (prefixString == null && currentProject != null) {
@@ -626,6 +730,31 @@ public interface SessionConfig {
                 return autoDrop;
             }
 
+            @Override
+            public boolean asyncStaging() {
+                return asyncStaging;
+            }
+
+            @Override
+            public int publishThreads() {
+                return publishThreads;
+            }
+
+            @Override
+            public Optional<String> metricsAttachment() {
+                return Optional.ofNullable(metricsAttachment);
+            }
+
+            @Override
+            public boolean validationCache() {
+                return validationCache;
+            }
+
+            @Override
+            public boolean validationFailFast() {
+                return validationFailFast;
+            }
+
             @Override
             public Optional<String> prefix() {
                 return Optional.ofNullable(prefix);
@@ -0,0 +1,345 @@
+/*
+ * Copyright (c) 2023-2024 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.njord.shared.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import eu.maveniverse.maven.shared.core.component.ComponentSupport;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.apache.maven.artifact.repository.metadata.Versioning;
+import org.apache.maven.artifact.repository.metadata.io.xpp3.MetadataXpp3Reader;
+import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.metadata.DefaultMetadata;
+import org.eclipse.aether.metadata.Metadata;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.repository.RepositoryPolicy;
+import org.eclipse.aether.spi.connector.ArtifactDownload;
+import org.eclipse.aether.spi.connector.MetadataDownload;
+import org.eclipse.aether.spi.connector.RepositoryConnector;
+
+/**
+ * Helper class, that performs "existence checks" of artifacts in remote repository using
+ * {@link RepositoryConnector}, in a way that is gentle with remote repository:
+ * <ul>
+ *     <li>artifacts are grouped, and only one "gate" check is done per group first; the rest of artifacts are
+ *     checked only once the gate passed. In {@link Mode#ARTIFACT} mode the gate is one representative artifact (the
+ *     POM, if present) per GAV, while in {@link Mode#METADATA} mode the gate is presence of version in
+ *     {@code maven-metadata.xml} per GA (so one request covers all versions of the GA)</li>
+ *     <li>each failed check is retried after a backoff, that is doubled after each miss, up to given maximum</li>
+ *     <li>all due checks are passed to connector in one call, so connector can perform them in parallel (for
+ *     example basic connector uses {@code aether.connector.basic.threads} threads)</li>
+ * </ul>
+ */
+public class ArtifactAvailabilityChecker extends ComponentSupport {
+    /**
+     * The mode of gate checks.
+     *
+     * @since 0.9.7
+     */
+    public enum Mode {
+        /**
+         * Gate is existence of representative artifact (the POM) per GAV.
+         */
+        ARTIFACT,
+        /**
+         * Gate is presence of version in GA level {@code maven-metadata.xml}. Note: some repositories update
+         * metadata later than artifacts become available.
+         */
+        METADATA
+    }
+
+    private final RepositoryConnector repositoryConnector;
+    private final RemoteRepository repository;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Mode mode;
+
+    /**
+     * A check: either of one artifact (and when it passes, of its siblings), or of GA metadata (and when it lists a
+     * version, of all artifacts of that version).
+     */
+    private static final class Probe {
+        private final Artifact artifact;
+        private final List<Artifact> siblings;
+        private final Metadata metadata;
+        private final Map<String, List<Artifact>> versions;
+        private long due;
+        private long backoff;
+        private Exception failure;
+
+        private Probe(
+                Artifact artifact,
+                List<Artifact> siblings,
+                Metadata metadata,
+                Map<String, List<Artifact>> versions,
+                long due,
+                long backoff) {
+            this.artifact = artifact;
+            this.siblings = siblings;
+            this.metadata = metadata;
+            this.versions = versions;
+            this.due = due;
+            this.backoff = backoff;
+        }
+
+        @Override
+        public String toString() {
+            return artifact != null ? artifact.toString() : metadata + " " + versions.keySet();
+        }
+    }
+
+    public ArtifactAvailabilityChecker(
+            RepositoryConnector repositoryConnector,
+            RemoteRepository repository,
+            Duration initialBackoff,
+            Duration maxBackoff) {
+        this(repositoryConnector, repository, initialBackoff, maxBackoff, Mode.ARTIFACT);
+    }
+
+    public ArtifactAvailabilityChecker(
+            RepositoryConnector repositoryConnector,
+            RemoteRepository repository,
+            Duration initialBackoff,
+            Duration maxBackoff,
+            Mode mode) {
+        this.repositoryConnector = requireNonNull(repositoryConnector);
+        this.repository = requireNonNull(repository);
+        this.initialBackoff = requireNonNull(initialBackoff);
+        this.maxBackoff = requireNonNull(maxBackoff);
+        this.mode = requireNonNull(mode);
+        if (initialBackoff.isZero() || initialBackoff.isNegative() || maxBackoff.compareTo(initialBackoff) < 0) {
+            throw new IllegalArgumentException("Invalid backoff: initial " + initialBackoff + ", max " + maxBackoff);
+        }
+    }
+
+    /**
+     * Checks availability of given artifacts. If {@code timeout} is {@code null}, performs one pass only, otherwise
+     * keeps rechecking unavailable artifacts until all of them become available or timeout elapses.
+     *
+     * @return the list of artifacts that are not available, never {@code null}. If empty, all artifacts are
+     * available.
+     */
+    public List<Artifact> check(Collection<Artifact> artifacts, Duration timeout)
+            throws IOException, InterruptedException {
+        requireNonNull(artifacts);
+        long now = System.nanoTime();
+        long deadline = timeout == null ? now : now + timeout.toNanos();
+        ArrayList<Probe> pending = new ArrayList<>();
+        if (mode == Mode.METADATA) {
+            for (List<Artifact> ga : group(artifacts, a -> a.getGroupId() + ":" + a.getArtifactId())
+                    .values()) {
+                Artifact first = ga.get(0);
+                pending.add(new Probe(
+                        null,
+                        Collections.emptyList(),
+                        new DefaultMetadata(
+                                first.getGroupId(),
+                                first.getArtifactId(),
+                                "maven-metadata.xml",
+                                Metadata.Nature.RELEASE_OR_SNAPSHOT),
+                        group(ga, Artifact::getBaseVersion),
+                        now,
+                        initialBackoff.toNanos()));
+            }
+        } else {
+            for (List<Artifact> gav : group(
+                            artifacts, a -> a.getGroupId() + ":" + a.getArtifactId() + ":" + a.getVersion())
+                    .values()) {
+                Artifact representative = gav.stream()
+                        .filter(a -> "pom".equals(a.getExtension())
+                                && a.getClassifier().isEmpty())
+                        .findFirst()
+                        .orElse(gav.get(0));
+                ArrayList<Artifact> siblings = new ArrayList<>(gav);
+                siblings.remove(representative);
+                pending.add(new Probe(representative, siblings, null, null, now, initialBackoff.toNanos()));
+            }
+        }
+
+        int available = 0;
+        while (!pending.isEmpty()) {
+            now = System.nanoTime();
+            ArrayList<Probe> due = new ArrayList<>();
+            for (Probe probe : pending) {
+                // in one pass mode, each check is done once
+                if (probe.due - now <= 0 && (timeout != null || probe.failure == null)) {
+                    due.add(probe);
+                }
+            }
+            if (!due.isEmpty()) {
+                ArrayList<ArtifactDownload> artifactDownloads = new ArrayList<>();
+                ArrayList<MetadataDownload> metadataDownloads = new ArrayList<>();
+                Map<Probe, Object> downloads = new LinkedHashMap<>();
+                try {
+                    for (Probe probe : due) {
+                        if (probe.artifact != null) {
+                            ArtifactDownload download = new ArtifactDownload(probe.artifact, "njord", null, null);
+                            download.setRepositories(Collections.singletonList(repository));
+                            download.setExistenceCheck(true);
+                            artifactDownloads.add(download);
+                            downloads.put(probe, download);
+                        } else {
+                            MetadataDownload download = new MetadataDownload(
+                                    probe.metadata,
+                                    "njord",
+                                    Files.createTempFile("njord-metadata", ".xml")
+                                            .toFile(),
+                                    RepositoryPolicy.CHECKSUM_POLICY_IGNORE);
+                            download.setRepositories(Collections.singletonList(repository));
+                            metadataDownloads.add(download);
+                            downloads.put(probe, download);
+                        }
+                    }
+                    logger.info(
+                            "Checking availability of {} artifacts and {} metadata ({} available out of {})",
+                            artifactDownloads.size(),
+                            metadataDownloads.size(),
+                            available,
+                            artifacts.size());
+                    repositoryConnector.get(artifactDownloads, metadataDownloads);
+                    now = System.nanoTime();
+                    for (Map.Entry<Probe, Object> entry : downloads.entrySet()) {
+                        Probe probe = entry.getKey();
+                        if (entry.getValue() instanceof ArtifactDownload) {
+                            Exception failure = ((ArtifactDownload) entry.getValue()).getException();
+                            if (failure == null) {
+                                available++;
+                                pending.remove(probe);
+                                for (Artifact sibling : probe.siblings) {
+                                    // fan out: siblings are due right away
+                                    pending.add(new Probe(
+                                            sibling,
+                                            Collections.emptyList(),
+                                            null,
+                                            null,
+                                            now,
+                                            initialBackoff.toNanos()));
+                                }
+                            } else {
+                                backoff(probe, failure, now);
+                            }
+                        } else {
+                            MetadataDownload download = (MetadataDownload) entry.getValue();
+                            Exception failure = download.getException();
+                            Set<String> versions = Collections.emptySet();
+                            if (failure == null) {
+                                try {
+                                    versions = versions(download.getFile().toPath());
+                                } catch (IOException e) {
+                                    failure = e;
+                                }
+                            }
+                            if (failure == null) {
+                                for (Iterator<Map.Entry<String, List<Artifact>>> it =
+                                                probe.versions.entrySet().iterator();
+                                        it.hasNext(); ) {
+                                    Map.Entry<String, List<Artifact>> version = it.next();
+                                    if (versions.contains(version.getKey())) {
+                                        it.remove();
+                                        for (Artifact artifact : version.getValue()) {
+                                            // fan out: all artifacts of version are due right away
+                                            pending.add(new Probe(
+                                                    artifact,
+                                                    Collections.emptyList(),
+                                                    null,
+                                                    null,
+                                                    now,
+                                                    initialBackoff.toNanos()));
+                                        }
+                                    }
+                                }
+                                if (probe.versions.isEmpty()) {
+                                    pending.remove(probe);
+                                } else {
+                                    backoff(
+                                            probe,
+                                            new IOException("Versions not yet present in " + probe.metadata),
+                                            now);
+                                }
+                            } else {
+                                backoff(probe, failure, now);
+                            }
+                        }
+                    }
+                } finally {
+                    for (MetadataDownload download : metadataDownloads) {
+                        Files.deleteIfExists(download.getFile().toPath());
+                    }
+                }
+                continue;
+            }
+            if (timeout == null) {
+                break;
+            }
+            long next = Long.MAX_VALUE;
+            for (Probe probe : pending) {
+                next = Math.min(next, probe.due);
+            }
+            if (next - deadline > 0) {
+                break;
+            }
+            TimeUnit.NANOSECONDS.sleep(next - now);
+        }
+
+        ArrayList<Artifact> result = new ArrayList<>();
+        for (Probe probe : pending) {
+            logger.warn(
+                    "Not available {}: {}", probe, probe.failure == null ? "not checked" : probe.failure.getMessage());
+            if (probe.artifact != null) {
+                result.add(probe.artifact);
+                result.addAll(probe.siblings);
+            } else {
+                probe.versions.values().forEach(result::addAll);
+            }
+        }
+        if (result.isEmpty()) {
+            logger.info("All {} artifacts are available.", artifacts.size());
+        }
+        return result;
+    }
+
+    private void backoff(Probe probe, Exception failure, long now) {
+        probe.failure = failure;
+        probe.due = now + probe.backoff;
+        probe.backoff = Math.min(probe.backoff * 2, maxBackoff.toNanos());
+    }
+
+    private static Set<String> versions(Path metadata) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(metadata)) {
+            Versioning versioning =
+                    new MetadataXpp3Reader().read(inputStream, false).getVersioning();
+            return versioning == null ? Collections.emptySet() : new HashSet<>(versioning.getVersions());
+        } catch (XmlPullParserException e) {
+            throw new IOException("Invalid metadata: " + e.getMessage(), e);
+        }
+    }
+
+    private static Map<String, List<Artifact>> group(Collection<Artifact> artifacts, Function<Artifact, String> key) {
+        LinkedHashMap<String, List<Artifact>> result = new LinkedHashMap<>();
+        for (Artifact artifact : artifacts) {
+            result.computeIfAbsent(key.apply(artifact), k -> new ArrayList<>()).add(artifact);
+        }
+        return result;
+    }
+}
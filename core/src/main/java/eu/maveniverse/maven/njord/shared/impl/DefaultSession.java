@@ -14,7 +14,9 @@ import eu.maveniverse.maven.mima.extensions.mmr.ModelResponse;
 import eu.maveniverse.maven.mima.extensions.mmr.internal.MavenModelReaderImpl;
 import eu.maveniverse.maven.njord.shared.Session;
 import eu.maveniverse.maven.njord.shared.SessionConfig;
+import eu.maveniverse.maven.njord.shared.impl.metrics.DefaultMetrics;
 import eu.maveniverse.maven.njord.shared.impl.publisher.DefaultArtifactPublisherRedirector;
+import eu.maveniverse.maven.njord.shared.metrics.Metrics;
 import eu.maveniverse.maven.njord.shared.publisher.ArtifactPublisherRedirector;
 import eu.maveniverse.maven.njord.shared.publisher.ArtifactStorePublisher;
 import eu.maveniverse.maven.njord.shared.publisher.ArtifactStorePublisherFactory;
@@ -25,19 +27,34 @@ import eu.maveniverse.maven.njord.shared.store.ArtifactStoreManager;
 import eu.maveniverse.maven.njord.shared.store.ArtifactStoreMerger;
 import eu.maveniverse.maven.njord.shared.store.ArtifactStoreTemplate;
 import eu.maveniverse.maven.njord.shared.store.ArtifactStoreWriter;
+import eu.maveniverse.maven.njord.shared.store.RepositoryMode;
 import eu.maveniverse.maven.shared.core.component.CloseableConfigSupport;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.apache.maven.model.Model;
 import org.apache.maven.rtinfo.RuntimeInformation;
@@ -55,6 +72,11 @@ public class DefaultSession extends CloseableConfigSupport<SessionConfig> implem
     private final Map<String, ArtifactStorePublisher> artifactStorePublishers;
     private final Map<String, ArtifactStoreComparator> artifactStoreComparators;
     private final MavenModelReaderImpl mavenModelReader;
+    private final Metrics metrics;
+    private final ConcurrentHashMap<String, CompletableFuture<Void>> stagingTasks;
+    private final ConcurrentLinkedQueue<Exception> stagingFailures;
+    private final ConcurrentHashMap<Object, Object> sessionResources;
+    private ExecutorService stagingExecutor;
 
     public DefaultSession(
             SessionConfig sessionConfig,
@@ -85,6 +107,14 @@ public class DefaultSession extends CloseableConfigSupport<SessionConfig> implem
         }
         this.artifactStoreComparators = Collections.unmodifiableMap(ac);
         this.mavenModelReader = requireNonNull(mavenModelReader);
+        HashMap<String, String> labels = new HashMap<>();
+        labels.put("njordVersion", sessionConfig.version());
+        labels.put("mavenVersion", mavenRuntimeInformation.getMavenVersion());
+        labels.put("javaVersion", System.getProperty("java.version", "n/a"));
+        this.metrics = new DefaultMetrics(labels);
+        this.stagingTasks = new ConcurrentHashMap<>();
+        this.stagingFailures = new ConcurrentLinkedQueue<>();
+        this.sessionResources = new ConcurrentHashMap<>();
 
         logger.info("Njord {} session created", sessionConfig.version());
         if (logger.isDebugEnabled()) {
@@ -105,6 +135,11 @@ public class DefaultSession extends CloseableConfigSupport<SessionConfig> implem
         return config;
     }
 
+    @Override
+    public Metrics metrics() {
+        return metrics;
+    }
+
     @Override
     public ArtifactStoreManager artifactStoreManager() {
         checkClosed();
@@ -306,42 +341,110 @@ public class DefaultSession extends CloseableConfigSupport<SessionConfig> implem
     @Override
     public int publishSessionArtifactStores() throws IOException {
         checkClosed();
+        awaitStaging();
         ConcurrentMap<RemoteRepository, String> sessionBoundStores = getSessionBoundStores();
         if (sessionBoundStores.isEmpty()) {
             return 0;
         }
-        AtomicInteger result = new AtomicInteger(0);
         Optional<String> pno = artifactPublisherRedirector.getArtifactStorePublisherName();
         if (pno.isPresent()) {
             String publisherName = pno.orElseThrow(J8Utils.OET);
             Optional<ArtifactStorePublisher> po = selectArtifactStorePublisher(publisherName);
             if (po.isPresent()) {
                 ArtifactStorePublisher p = po.orElseThrow(J8Utils.OET);
-                for (String storeName : sessionBoundStores.values()) {
-                    logger.info("Publishing {} with {}", storeName, publisherName);
+                // snapshot stores go first; release stores are published only if all snapshot stores were published
+                Map<RepositoryMode, List<String>> phases = new TreeMap<>(Comparator.reverseOrder());
+                for (String storeName : new TreeSet<>(sessionBoundStores.values())) {
                     try (ArtifactStore as = internalArtifactStoreManager
                             .selectArtifactStore(storeName)
                             .orElseThrow(J8Utils.OET)) {
                         if (!as.isEmpty()) {
-                            p.publish(as);
-                            result.addAndGet(1);
+                            phases.computeIfAbsent(as.repositoryMode(), k -> new ArrayList<>())
+                                    .add(storeName);
                         } else {
                             logger.warn("Skipping publishing of empty artifact store {}", storeName);
                         }
                     }
                 }
+                int result = 0;
+                for (List<String> phase : phases.values()) {
+                    result += publishArtifactStores(p, publisherName, phase);
+                }
+                return result;
             } else {
                 throw new IllegalArgumentException("Publisher not found: " + publisherName);
             }
         } else {
             throw new IllegalStateException("Publisher name was not specified nor could be discovered");
         }
-        return result.get();
+    }
+
+    /**
+     * Publishes given stores using at most {@link SessionConfig#publishThreads()} threads. All stores are attempted,
+     * and if any of them failed, the failures are thrown aggregated (or the failure as is, if only one failed).
+     */
+    private int publishArtifactStores(ArtifactStorePublisher p, String publisherName, List<String> storeNames)
+            throws IOException {
+        LinkedHashMap<String, Callable<Void>> tasks = new LinkedHashMap<>();
+        for (String storeName : storeNames) {
+            tasks.put(storeName, () -> {
+                publishArtifactStore(p, publisherName, storeName);
+                return null;
+            });
+        }
+        LinkedHashMap<String, Exception> failures = new LinkedHashMap<>();
+        ParallelUtils.execute("publish", config.publishThreads(), tasks, failures);
+        failures.forEach((storeName, e) -> logger.error("Publishing {} failed: {}", storeName, e.getMessage()));
+        ParallelUtils.rethrow(
+                failures,
+                () -> "Publishing of " + failures.size() + " out of " + storeNames.size() + " stores failed: "
+                        + String.join(", ", failures.keySet()));
+        return storeNames.size();
+    }
+
+    private void publishArtifactStore(ArtifactStorePublisher p, String publisherName, String storeName)
+            throws IOException {
+        logger.info("Publishing {} with {}", storeName, publisherName);
+        try (ArtifactStore as =
+                internalArtifactStoreManager.selectArtifactStore(storeName).orElseThrow(J8Utils.OET)) {
+            p.publish(as);
+        } finally {
+            writeMetricsAttachment(storeName);
+        }
+    }
+
+    /**
+     * Writes metrics of given store as attachment, if configured. Is "best effort", reports failures as warnings.
+     */
+    private void writeMetricsAttachment(String storeName) {
+        if (!config.metricsAttachment().isPresent()) {
+            return;
+        }
+        String attachmentName = config.metricsAttachment().orElseThrow(J8Utils.OET);
+        try (ArtifactStore as =
+                internalArtifactStoreManager.selectArtifactStore(storeName).orElseThrow(J8Utils.OET)) {
+            if (as.attachmentPresent(attachmentName)) {
+                logger.warn("Store {} already has attachment {}; metrics not written", storeName, attachmentName);
+                return;
+            }
+            try (ArtifactStore.AttachmentOperation op = as.manageAttachment(attachmentName)) {
+                op.write(new ByteArrayInputStream(metrics.toJson(storeName).getBytes(StandardCharsets.UTF_8)));
+            }
+            logger.info("Metrics written to store {} attachment {}", storeName, attachmentName);
+        } catch (Exception e) {
+            logger.warn(
+                    "Could not write metrics to store {} attachment {}: {}", storeName, attachmentName, e.getMessage());
+        }
     }
 
     @Override
     public int dropSessionArtifactStores() {
         checkClosed();
+        try {
+            awaitStaging();
+        } catch (IOException e) {
+            logger.warn("Staging failed before drop: {}", e.getMessage());
+        }
         ConcurrentMap<RemoteRepository, String> sessionBoundStores = getSessionBoundStores();
         if (sessionBoundStores.isEmpty()) {
             return 0;
@@ -359,9 +462,102 @@ public class DefaultSession extends CloseableConfigSupport<SessionConfig> implem
         return result.get();
     }
 
+    @Override
+    public void stageAsync(String key, StagingTask task) {
+        requireNonNull(key);
+        requireNonNull(task);
+        checkClosed();
+
+        ExecutorService executor = stagingExecutor();
+        stagingTasks.compute(
+                key, (k, previous) -> (previous == null ? CompletableFuture.<Void>completedFuture(null) : previous)
+                        .thenRunAsync(
+                                () -> {
+                                    try {
+                                        task.run();
+                                    } catch (Exception e) {
+                                        logger.error("Staging to {} failed: {}", k, e.getMessage());
+                                        stagingFailures.add(e);
+                                    }
+                                },
+                                executor));
+    }
+
+    @Override
+    public void awaitStaging(String key) {
+        requireNonNull(key);
+        CompletableFuture<Void> task = stagingTasks.get(key);
+        if (task != null) {
+            task.join();
+        }
+    }
+
+    @Override
+    public void awaitStaging() throws IOException {
+        for (String key : stagingTasks.keySet()) {
+            awaitStaging(key);
+        }
+        if (!stagingFailures.isEmpty()) {
+            IOException failure = new IOException("Asynchronous staging failed");
+            Exception e;
+            while ((e = stagingFailures.poll()) != null) {
+                failure.addSuppressed(e);
+            }
+            throw failure;
+        }
+    }
+
+    private synchronized ExecutorService stagingExecutor() {
+        if (stagingExecutor == null) {
+            AtomicInteger threadCounter = new AtomicInteger();
+            stagingExecutor = Executors.newFixedThreadPool(
+                    Math.min(4, Runtime.getRuntime().availableProcessors()), r -> {
+                        Thread thread = new Thread(r, "njord-staging-" + threadCounter.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+        }
+        return stagingExecutor;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T getOrCreateSessionResource(Object key, Supplier<T> factory) {
+        requireNonNull(key);
+        requireNonNull(factory);
+        checkClosed();
+        return (T) sessionResources.computeIfAbsent(key, k -> requireNonNull(factory.get(), "resource"));
+    }
+
     @Override
     protected void doClose() throws IOException {
-        internalArtifactStoreManager.close();
+        try {
+            awaitStaging();
+        } finally {
+            synchronized (this) {
+                if (stagingExecutor != null) {
+                    stagingExecutor.shutdown();
+                }
+            }
+            try {
+                internalArtifactStoreManager.close();
+            } finally {
+                closeSessionResources();
+            }
+        }
+    }
+
+    private void closeSessionResources() {
+        for (Map.Entry<Object, Object> entry : sessionResources.entrySet()) {
+            if (entry.getValue() instanceof Closeable) {
+                try {
+                    ((Closeable) entry.getValue()).close();
+                } catch (IOException e) {
+                    logger.warn("Could not close session resource {}: {}", entry.getKey(), e.getMessage());
+                }
+            }
+        }
+        sessionResources.clear();
     }
 
     /**
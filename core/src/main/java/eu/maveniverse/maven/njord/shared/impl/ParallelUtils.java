@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2023-2024 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.njord.shared.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Helpers to execute keyed tasks in parallel, collecting failures instead of failing fast.
+ *
+ * @since 0.9.7
+ */
+public final class ParallelUtils {
+    private ParallelUtils() {}
+
+    /**
+     * Executes all given tasks using at most given count of daemon threads named {@code njord-<name>-N}, and returns
+     * results of succeeded tasks in task order. Failed tasks are put into {@code failures} map. If there is one
+     * thread only, tasks are executed by the calling thread.
+     *
+     * @param name the name of tasks, used in thread names
+     * @param threads the maximum count of threads to use, must be positive
+     * @param tasks the tasks, keyed by some human-readable key (like artifact ID or bundle name)
+     * @param failures the map to collect failures into, keyed by task key
+     */
+    public static <R> LinkedHashMap<String, R> execute(
+            String name, int threads, Map<String, Callable<R>> tasks, Map<String, Exception> failures)
+            throws IOException {
+        requireNonNull(name);
+        requireNonNull(tasks);
+        requireNonNull(failures);
+        if (threads < 1) {
+            throw new IllegalArgumentException("Threads must be positive");
+        }
+        LinkedHashMap<String, R> results = new LinkedHashMap<>();
+        if (Math.min(threads, tasks.size()) <= 1) {
+            for (Map.Entry<String, Callable<R>> task : tasks.entrySet()) {
+                try {
+                    results.put(task.getKey(), task.getValue().call());
+                } catch (Exception e) {
+                    failures.put(task.getKey(), e);
+                }
+            }
+            return results;
+        }
+        AtomicInteger threadCounter = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, tasks.size()), r -> {
+            Thread thread = new Thread(r, "njord-" + name + "-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            LinkedHashMap<String, Future<R>> futures = new LinkedHashMap<>();
+            tasks.forEach((key, task) -> futures.put(key, executor.submit(task)));
+            for (Map.Entry<String, Future<R>> future : futures.entrySet()) {
+                try {
+                    results.put(future.getKey(), future.getValue().get());
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    failures.put(
+                            future.getKey(), cause instanceof Exception ? (Exception) cause : new IOException(cause));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while executing " + name + " tasks", e);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return results;
+    }
+
+    /**
+     * Throws the failures, if any: single failure is thrown as is (if it is {@link IOException} or
+     * {@link RuntimeException}), otherwise an {@link IOException} with given message is thrown, having all the
+     * failures added as suppressed.
+     */
+    public static void rethrow(Map<String, Exception> failures, Supplier<String> message) throws IOException {
+        requireNonNull(failures);
+        requireNonNull(message);
+        if (failures.isEmpty()) {
+            return;
+        }
+        if (failures.size() == 1) {
+            Exception e = failures.values().iterator().next();
+            if (e instanceof IOException) {
+                throw (IOException) e;
+            } else if (e instanceof RuntimeException) {
+                throw (RuntimeException) e;
+            }
+        }
+        IOException failure = new IOException(message.get());
+        failures.values().forEach(failure::addSuppressed);
+        throw failure;
+    }
+}
@@ -10,8 +10,11 @@ package eu.maveniverse.maven.njord.shared.impl.comparator;
 import static java.util.Objects.requireNonNull;
 
 import eu.maveniverse.maven.njord.shared.SessionConfig;
+import eu.maveniverse.maven.njord.shared.impl.J8Utils;
+import eu.maveniverse.maven.njord.shared.impl.store.ArtifactStoreUtils;
 import eu.maveniverse.maven.njord.shared.store.ArtifactStore;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -19,7 +22,6 @@ import java.util.Map;
 import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.spi.connector.checksum.ChecksumAlgorithmFactory;
 import org.eclipse.aether.spi.connector.checksum.ChecksumAlgorithmFactorySelector;
-import org.eclipse.aether.spi.connector.checksum.ChecksumAlgorithmHelper;
 import org.eclipse.aether.util.artifact.ArtifactIdUtils;
 
 /**
@@ -66,10 +68,14 @@ public class BitwiseArtifactStoreComparator extends ArtifactStoreComparatorSuppo
                         .orElse(null);
                 if (artifact1 != null && artifact2 != null) {
                     ComparisonContext artifactContext = context.child(id);
-                    Map<String, String> a1hashes =
-                            ChecksumAlgorithmHelper.calculate(artifact1.getFile(), checksumAlgorithmFactories);
-                    Map<String, String> a2hashes =
-                            ChecksumAlgorithmHelper.calculate(artifact2.getFile(), checksumAlgorithmFactories);
+                    Map<String, String> a1hashes;
+                    try (InputStream content = a1.artifactContent(artifact1).orElseThrow(J8Utils.OET)) {
+                        a1hashes = ArtifactStoreUtils.calculateChecksums(content, checksumAlgorithmFactories);
+                    }
+                    Map<String, String> a2hashes;
+                    try (InputStream content = a2.artifactContent(artifact2).orElseThrow(J8Utils.OET)) {
+                        a2hashes = ArtifactStoreUtils.calculateChecksums(content, checksumAlgorithmFactories);
+                    }
                     if (a1hashes.equals(a2hashes)) {
                         artifactContext.addEquality("Equal: " + a1hashes.get(SHA1));
                     } else {
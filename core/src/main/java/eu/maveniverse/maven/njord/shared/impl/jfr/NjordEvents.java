@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2023-2024 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.njord.shared.impl.jfr;
+
+/**
+ * Java Flight Recorder events of Njord. This is the Java 8 variant, where all events are no-op; the Java 11+
+ * variant of this class (in multi-release part of the JAR) emits real JFR events. Events are created only when
+ * JFR is recording and given event type is enabled, otherwise shared no-op instance is returned, so call sites
+ * cost nothing when JFR is not in use.
+ * <p>
+ * Usage:
+ * <pre>{@code
+ * try (NjordEvents.Event event = NjordEvents.begin(NjordEvents.Type.BUNDLE_WRITE)) {
+ *     event.store(name);
+ *     ...
+ * }
+ * }</pre>
+ * Costly computation of event data should be guarded with {@link Event#isEnabled()}.
+ */
+public final class NjordEvents {
+    private NjordEvents() {}
+
+    /**
+     * The event types.
+     */
+    public enum Type {
+        /**
+         * Store put operation commit (index update).
+         */
+        STORE_PUT,
+        /**
+         * Store index load.
+         */
+        INDEX_LOAD,
+        /**
+         * Validator invocation.
+         */
+        VALIDATE,
+        /**
+         * Checksum computation.
+         */
+        CHECKSUM,
+        /**
+         * Bundle write.
+         */
+        BUNDLE_WRITE,
+        /**
+         * HTTP upload to remote service.
+         */
+        HTTP_UPLOAD,
+        /**
+         * Remote status poll.
+         */
+        STATUS_POLL
+    }
+
+    /**
+     * Started event, is committed when closed.
+     */
+    public interface Event extends AutoCloseable {
+        /**
+         * Returns {@code true} if this event will be recorded.
+         */
+        boolean isEnabled();
+
+        /**
+         * Sets the store name.
+         */
+        Event store(String store);
+
+        /**
+         * Sets the artifact (or component) ID.
+         */
+        Event artifact(String artifact);
+
+        /**
+         * Sets the byte count.
+         */
+        Event bytes(long bytes);
+
+        /**
+         * Sets the operation name, like validator name or checksum algorithms.
+         */
+        Event name(String name);
+
+        /**
+         * Ends and commits this event.
+         */
+        @Override
+        void close();
+    }
+
+    private static final Event NOOP = new Event() {
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+        @Override
+        public Event store(String store) {
+            return this;
+        }
+
+        @Override
+        public Event artifact(String artifact) {
+            return this;
+        }
+
+        @Override
+        public Event bytes(long bytes) {
+            return this;
+        }
+
+        @Override
+        public Event name(String name) {
+            return this;
+        }
+
+        @Override
+        public void close() {}
+    };
+
+    /**
+     * Begins event of given type.
+     */
+    public static Event begin(Type type) {
+        return NOOP;
+    }
+}
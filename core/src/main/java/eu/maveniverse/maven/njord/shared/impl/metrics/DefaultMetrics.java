@@ -0,0 +1,301 @@
+/*
+ * Copyright (c) 2023-2024 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.njord.shared.impl.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import eu.maveniverse.maven.njord.shared.metrics.Metrics;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Default in-memory implementation of {@link Metrics}. Histograms (and timers) keep count, sum, min, max and
+ * power-of-two buckets, from which percentiles are estimated (as upper bound of the bucket).
+ */
+public class DefaultMetrics implements Metrics {
+    private enum Type {
+        COUNTER,
+        TIMER,
+        HISTOGRAM
+    }
+
+    private static final class Key {
+        private final String subsystem;
+        private final String store;
+        private final String name;
+
+        private Key(String subsystem, String store, String name) {
+            this.subsystem = requireNonNull(subsystem);
+            this.store = store;
+            this.name = requireNonNull(name);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return subsystem.equals(key.subsystem) && Objects.equals(store, key.store) && name.equals(key.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(subsystem, store, name);
+        }
+    }
+
+    private static final Comparator<Key> KEY_ORDER = Comparator.comparing((Key k) -> k.store == null ? "" : k.store)
+            .thenComparing(k -> k.subsystem)
+            .thenComparing(k -> k.name);
+
+    private static final class Metric {
+        private final Type type;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder sum = new LongAdder();
+        private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+        private final AtomicLong max = new AtomicLong(Long.MIN_VALUE);
+        private final AtomicLongArray buckets;
+
+        private Metric(Type type) {
+            this.type = type;
+            this.buckets = type == Type.COUNTER ? null : new AtomicLongArray(64);
+        }
+
+        private void add(long value) {
+            count.increment();
+            sum.add(value);
+            min.accumulateAndGet(value, Math::min);
+            max.accumulateAndGet(value, Math::max);
+            buckets.incrementAndGet(bucket(value));
+        }
+
+        private long percentile(double p) {
+            long total = count.sum();
+            long threshold = (long) Math.ceil(total * p);
+            long seen = 0;
+            for (int i = 0; i < buckets.length(); i++) {
+                seen += buckets.get(i);
+                if (seen >= threshold && seen > 0) {
+                    return Math.min(i == 0 ? 0 : i == 63 ? Long.MAX_VALUE : (1L << i) - 1, max.get());
+                }
+            }
+            return max.get();
+        }
+
+        private static int bucket(long value) {
+            return value <= 0 ? 0 : 64 - Long.numberOfLeadingZeros(value);
+        }
+    }
+
+    private final Map<String, String> labels;
+    private final ConcurrentHashMap<Key, Metric> metrics;
+
+    /**
+     * Creates metrics instance, with given labels (like versions) written out with JSON snapshots.
+     */
+    public DefaultMetrics(Map<String, String> labels) {
+        this.labels = Collections.unmodifiableMap(new TreeMap<>(requireNonNull(labels)));
+        this.metrics = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void count(String subsystem, String store, String name, long delta) {
+        Metric metric = metric(Type.COUNTER, subsystem, store, name);
+        metric.count.add(delta);
+    }
+
+    @Override
+    public void record(String subsystem, String store, String name, long value) {
+        metric(Type.HISTOGRAM, subsystem, store, name).add(value);
+    }
+
+    @Override
+    public void time(String subsystem, String store, String name, long nanos) {
+        metric(Type.TIMER, subsystem, store, name).add(nanos);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return metrics.isEmpty();
+    }
+
+    @Override
+    public List<String> report() {
+        ArrayList<String> result = new ArrayList<>();
+        for (Map.Entry<Key, Metric> entry : sorted(null)) {
+            Key key = entry.getKey();
+            Metric metric = entry.getValue();
+            StringBuilder line = new StringBuilder();
+            line.append(key.store == null ? "(session)" : key.store)
+                    .append(' ')
+                    .append(key.subsystem)
+                    .append(' ')
+                    .append(key.name)
+                    .append(": ");
+            long count = metric.count.sum();
+            switch (metric.type) {
+                case COUNTER:
+                    line.append(count);
+                    break;
+                case TIMER:
+                    line.append(count)
+                            .append("x ")
+                            .append(millis(metric.sum.sum()))
+                            .append(" (avg ")
+                            .append(millis(metric.sum.sum() / count))
+                            .append(", p95 ")
+                            .append(millis(metric.percentile(0.95)))
+                            .append(", max ")
+                            .append(millis(metric.max.get()))
+                            .append(')');
+                    break;
+                case HISTOGRAM:
+                    line.append(count)
+                            .append("x ")
+                            .append(metric.sum.sum())
+                            .append(" (avg ")
+                            .append(metric.sum.sum() / count)
+                            .append(", p95 ")
+                            .append(metric.percentile(0.95))
+                            .append(", max ")
+                            .append(metric.max.get())
+                            .append(')');
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown type: " + metric.type);
+            }
+            result.add(line.toString());
+        }
+        return result;
+    }
+
+    @Override
+    public String toJson(String store) {
+        StringBuilder json = new StringBuilder();
+        json.append("{\n  \"timestamp\": ")
+                .append(quote(Instant.now().toString()))
+                .append(",\n  \"labels\": {");
+        String separator = "";
+        for (Map.Entry<String, String> label : labels.entrySet()) {
+            json.append(separator)
+                    .append("\n    ")
+                    .append(quote(label.getKey()))
+                    .append(": ")
+                    .append(quote(label.getValue()));
+            separator = ",";
+        }
+        json.append(labels.isEmpty() ? "},\n" : "\n  },\n").append("  \"metrics\": [");
+        separator = "";
+        for (Map.Entry<Key, Metric> entry : sorted(store)) {
+            Key key = entry.getKey();
+            Metric metric = entry.getValue();
+            json.append(separator)
+                    .append("\n    {\"subsystem\": ")
+                    .append(quote(key.subsystem))
+                    .append(", \"store\": ")
+                    .append(key.store == null ? "null" : quote(key.store))
+                    .append(", \"name\": ")
+                    .append(quote(key.name))
+                    .append(", \"type\": ")
+                    .append(quote(metric.type.name().toLowerCase(Locale.ENGLISH)))
+                    .append(", \"count\": ")
+                    .append(metric.count.sum());
+            if (metric.type != Type.COUNTER) {
+                json.append(", \"unit\": ")
+                        .append(quote(metric.type == Type.TIMER ? "ns" : "1"))
+                        .append(", \"sum\": ")
+                        .append(metric.sum.sum())
+                        .append(", \"min\": ")
+                        .append(metric.min.get())
+                        .append(", \"max\": ")
+                        .append(metric.max.get())
+                        .append(", \"p50\": ")
+                        .append(metric.percentile(0.5))
+                        .append(", \"p95\": ")
+                        .append(metric.percentile(0.95))
+                        .append(", \"p99\": ")
+                        .append(metric.percentile(0.99));
+            }
+            json.append('}');
+            separator = ",";
+        }
+        json.append(separator.isEmpty() ? "]\n}\n" : "\n  ]\n}\n");
+        return json.toString();
+    }
+
+    private Metric metric(Type type, String subsystem, String store, String name) {
+        Metric metric = metrics.computeIfAbsent(new Key(subsystem, store, name), k -> new Metric(type));
+        if (metric.type != type) {
+            throw new IllegalArgumentException(
+                    String.format("Metric %s/%s/%s is %s, not %s", subsystem, store, name, metric.type, type));
+        }
+        return metric;
+    }
+
+    private List<Map.Entry<Key, Metric>> sorted(String store) {
+        ArrayList<Map.Entry<Key, Metric>> result = new ArrayList<>();
+        for (Map.Entry<Key, Metric> entry : metrics.entrySet()) {
+            if (store == null || entry.getKey().store == null || store.equals(entry.getKey().store)) {
+                if (entry.getValue().count.sum() > 0 || entry.getValue().type == Type.COUNTER) {
+                    result.add(entry);
+                }
+            }
+        }
+        result.sort(Map.Entry.comparingByKey(KEY_ORDER));
+        return result;
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ENGLISH, "%.1fms", nanos / 1_000_000.0);
+    }
+
+    private static String quote(String value) {
+        StringBuilder sb = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        return sb.append('"').toString();
+    }
+}
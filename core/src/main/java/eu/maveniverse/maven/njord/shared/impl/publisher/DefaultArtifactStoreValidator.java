@@ -11,6 +11,8 @@ import static java.util.Objects.requireNonNull;
 
 import eu.maveniverse.maven.njord.shared.Session;
 import eu.maveniverse.maven.njord.shared.impl.J8Utils;
+import eu.maveniverse.maven.njord.shared.impl.jfr.NjordEvents;
+import eu.maveniverse.maven.njord.shared.metrics.Metrics;
 import eu.maveniverse.maven.njord.shared.publisher.ArtifactStoreValidator;
 import eu.maveniverse.maven.njord.shared.publisher.spi.BulkValidator;
 import eu.maveniverse.maven.njord.shared.publisher.spi.BulkValidatorFactory;
@@ -21,7 +23,10 @@ import eu.maveniverse.maven.njord.shared.store.ArtifactStore;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.util.artifact.ArtifactIdUtils;
 import org.slf4j.Logger;
@@ -61,13 +66,24 @@ public class DefaultArtifactStoreValidator implements ArtifactStoreValidator {
 
     @Override
     public ValidationResult validate(ArtifactStore artifactStore) throws IOException {
+        Metrics metrics = session.metrics();
+        boolean failFast = session.config().validationFailFast();
         VR vr = new VR(description());
         for (BulkValidatorFactory bulkValidatorFactory : bulkValidatorFactories) {
             try (BulkValidator bulkValidator = bulkValidatorFactory.create(session)) {
                 VR child = vr.child(bulkValidator.name());
-                bulkValidator.validate(artifactStore, child);
+                try (Metrics.Timer ignored =
+                                metrics.start(Metrics.VALIDATION, artifactStore.name(), bulkValidator.name());
+                        NjordEvents.Event event = NjordEvents.begin(NjordEvents.Type.VALIDATE)) {
+                    event.store(artifactStore.name()).name(bulkValidator.name());
+                    bulkValidator.validate(artifactStore, child);
+                }
                 vr.dropIfEmpty(child);
             }
+            if (failFast && !vr.isValid()) {
+                logger.info("Validation of store {} stopped at first error", artifactStore.name());
+                return vr;
+            }
         }
         ArrayList<Validator> validators = new ArrayList<>();
         ArrayList<IOException> closeErrors = new ArrayList<>();
@@ -75,14 +91,40 @@ public class DefaultArtifactStoreValidator implements ArtifactStoreValidator {
             for (ValidatorFactory validatorFactory : validatorFactories) {
                 validators.add(validatorFactory.create(session));
             }
-            for (Artifact artifact : artifactStore.artifacts()) {
-                VR vvr = vr.child(ArtifactIdUtils.toId(artifact));
+            // when failing fast, all artifacts are validated by cheaper validators first
+            Collection<List<Validator>> passes;
+            if (failFast) {
+                EnumMap<Validator.Cost, List<Validator>> byCost = new EnumMap<>(Validator.Cost.class);
                 for (Validator validator : validators) {
-                    VR child = vvr.child(validator.name());
-                    validator.validate(artifactStore, artifact, child);
-                    vvr.dropIfEmpty(child);
+                    byCost.computeIfAbsent(validator.cost(), k -> new ArrayList<>())
+                            .add(validator);
+                }
+                passes = byCost.values();
+            } else {
+                passes = Collections.singletonList(validators);
+            }
+            ValidationCache cache = ValidationCache.load(session, name, artifactStore, validators)
+                    .orElse(null);
+            Collection<Artifact> artifacts = artifactStore.artifacts();
+            boolean complete = true;
+            for (List<Validator> pass : passes) {
+                if (!validate(artifactStore, artifacts, pass, cache, failFast, vr)) {
+                    logger.info("Validation of store {} stopped at first error", artifactStore.name());
+                    complete = false;
+                    break;
+                }
+            }
+            if (cache != null) {
+                if (cache.replayed() > 0) {
+                    metrics.count(Metrics.VALIDATION, artifactStore.name(), "cached", cache.replayed());
+                }
+                logger.debug("Reused {} cached validation results of store {}", cache.replayed(), artifactStore.name());
+                try {
+                    cache.save(complete);
+                } catch (IOException e) {
+                    logger.warn(
+                            "Could not save validation cache of store {}: {}", artifactStore.name(), e.getMessage());
                 }
-                vr.dropIfEmpty(vvr);
             }
         } finally {
             for (Validator validator : validators) {
@@ -101,6 +143,45 @@ public class DefaultArtifactStoreValidator implements ArtifactStoreValidator {
         return vr;
     }
 
+    /**
+     * Validates artifacts with given validators, and returns {@code false} if failing fast and an error was recorded.
+     */
+    private boolean validate(
+            ArtifactStore artifactStore,
+            Collection<Artifact> artifacts,
+            List<Validator> validators,
+            ValidationCache cache,
+            boolean failFast,
+            VR vr)
+            throws IOException {
+        Metrics metrics = session.metrics();
+        for (Artifact artifact : artifacts) {
+            VR vvr = vr.childFor(ArtifactIdUtils.toId(artifact));
+            for (Validator validator : validators) {
+                VR child = vvr.childFor(validator.name());
+                if (cache == null || !cache.replay(artifact, validator, child)) {
+                    try (Metrics.Timer ignored =
+                                    metrics.start(Metrics.VALIDATION, artifactStore.name(), validator.name());
+                            NjordEvents.Event event = NjordEvents.begin(NjordEvents.Type.VALIDATE)) {
+                        event.store(artifactStore.name())
+                                .artifact(ArtifactIdUtils.toId(artifact))
+                                .name(validator.name());
+                        validator.validate(artifactStore, artifact, child);
+                    }
+                    if (cache != null) {
+                        cache.record(artifact, validator, child);
+                    }
+                }
+                vvr.dropIfEmpty(child);
+                if (failFast && !child.isValid()) {
+                    return false;
+                }
+            }
+            vr.dropIfEmpty(vvr);
+        }
+        return true;
+    }
+
     private static final class VR implements ValidationResult, ValidationContext {
         private final String name;
         private final ArrayList<String> info = new ArrayList<>();
@@ -164,6 +245,10 @@ public class DefaultArtifactStoreValidator implements ArtifactStoreValidator {
             return this;
         }
 
+        private VR childFor(String name) {
+            return children.computeIfAbsent(name, VR::new);
+        }
+
         @Override
         public VR child(String name) {
             requireNonNull(name);
@@ -0,0 +1,301 @@
+/*
+ * Copyright (c) 2023-2024 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.njord.shared.impl.publisher;
+
+import static java.util.Objects.requireNonNull;
+
+import eu.maveniverse.maven.njord.shared.Session;
+import eu.maveniverse.maven.njord.shared.impl.store.ArtifactStoreUtils;
+import eu.maveniverse.maven.njord.shared.impl.store.DefaultLayout;
+import eu.maveniverse.maven.njord.shared.impl.store.PathArtifactStore;
+import eu.maveniverse.maven.njord.shared.publisher.ArtifactStoreValidator;
+import eu.maveniverse.maven.njord.shared.publisher.spi.ValidationContext;
+import eu.maveniverse.maven.njord.shared.publisher.spi.Validator;
+import eu.maveniverse.maven.njord.shared.store.ArtifactStore;
+import eu.maveniverse.maven.shared.core.fs.FileUtils;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.TreeSet;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.util.artifact.ArtifactIdUtils;
+
+/**
+ * Cache of per-artifact validation results, persisted in store {@code .meta} directory. Results are keyed by artifact,
+ * validator and the digest of artifact "inputs": content of all files in artifact version directory (artifact itself,
+ * its siblings like sources and javadoc, signatures and checksums), as validators look at these. Whole cache is keyed
+ * by Njord version, validator set, validator implementations and store checksum settings, and is dropped if any of
+ * these change. Only results of {@link Validator#cacheable() cacheable} validators are cached, as results depending on
+ * content outside of store (like parent POMs from remote repositories) may change without the store changing. Results
+ * having errors are never cached, so failures are always reported by a fresh validator run.
+ */
+final class ValidationCache {
+    private static final String KEY = "key";
+    private static final String DIGEST = ".digest";
+    private static final String RESULT = ".result";
+
+    private final Path basedir;
+    private final Path file;
+    private final String key;
+    private final Properties cached;
+    private final Properties current;
+    private final HashMap<Path, String> digests;
+    private final DefaultLayout layout;
+    private int replayed;
+
+    private ValidationCache(Path basedir, Path file, String key, Properties cached) {
+        this.basedir = basedir;
+        this.file = file;
+        this.key = key;
+        this.cached = cached;
+        this.current = new Properties();
+        this.digests = new HashMap<>();
+        this.layout = new DefaultLayout();
+    }
+
+    /**
+     * Loads cache of given validator set for given store, if cache is enabled and store supports it.
+     */
+    static Optional<ValidationCache> load(
+            Session session, String name, ArtifactStore artifactStore, List<Validator> validators) throws IOException {
+        requireNonNull(session);
+        requireNonNull(name);
+        requireNonNull(artifactStore);
+        requireNonNull(validators);
+        if (!session.config().validationCache() || !(artifactStore instanceof PathArtifactStore)) {
+            return Optional.empty();
+        }
+        StringBuilder key = new StringBuilder();
+        key.append(session.config().version()).append('\n').append(name).append('\n');
+        for (Validator validator : validators) {
+            key.append(validator.getClass().getName())
+                    .append(':')
+                    .append(validator.name())
+                    .append('\n');
+        }
+        artifactStore.checksumAlgorithmFactories().forEach(f -> key.append(f.getName())
+                .append(','));
+        key.append('\n');
+        artifactStore.omitChecksumsForExtensions().forEach(e -> key.append(e).append(','));
+        key.append('\n');
+        String cacheKey = ArtifactStoreUtils.hex(
+                ArtifactStoreUtils.sha256().digest(key.toString().getBytes(StandardCharsets.UTF_8)));
+
+        Path basedir = ((PathArtifactStore) artifactStore).basedir();
+        Path file = basedir.resolve(".meta").resolve("validation-" + name + ".properties");
+        Properties cached = new Properties();
+        if (Files.isRegularFile(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                cached.load(in);
+            }
+            if (!cacheKey.equals(cached.getProperty(KEY))) {
+                cached.clear();
+            }
+        }
+        return Optional.of(new ValidationCache(basedir, file, cacheKey, cached));
+    }
+
+    /**
+     * Replays cached result of validator for artifact into given context, if inputs did not change since, and returns
+     * {@code true}. Otherwise returns {@code false}, and validator must be executed.
+     */
+    boolean replay(Artifact artifact, Validator validator, ValidationContext context) throws IOException {
+        if (!validator.cacheable()) {
+            return false;
+        }
+        String entry = entry(artifact, validator);
+        String digest = digest(artifact);
+        if (digest.equals(cached.getProperty(entry + DIGEST))) {
+            String result = cached.getProperty(entry + RESULT);
+            if (result != null && decode(result, context)) {
+                current.setProperty(entry + DIGEST, digest);
+                current.setProperty(entry + RESULT, result);
+                replayed++;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Records the result of executed validator for artifact, unless validator is not cacheable or result has errors.
+     */
+    void record(Artifact artifact, Validator validator, ArtifactStoreValidator.ValidationResult result)
+            throws IOException {
+        if (!validator.cacheable() || !result.isValid()) {
+            return;
+        }
+        String entry = entry(artifact, validator);
+        StringBuilder encoded = new StringBuilder();
+        encode(result, 0, encoded);
+        current.setProperty(entry + DIGEST, digest(artifact));
+        current.setProperty(entry + RESULT, encoded.toString());
+    }
+
+    /**
+     * Returns the count of replayed results.
+     */
+    int replayed() {
+        return replayed;
+    }
+
+    /**
+     * Saves recorded results. If validation was complete, results of artifacts no longer present in store are
+     * dropped, otherwise the cached results not replayed are kept.
+     */
+    void save(boolean complete) throws IOException {
+        if (!complete) {
+            cached.stringPropertyNames().forEach(k -> {
+                if (current.getProperty(k) == null) {
+                    current.setProperty(k, cached.getProperty(k));
+                }
+            });
+        }
+        current.setProperty(KEY, key);
+        Files.createDirectories(file.getParent());
+        FileUtils.writeFile(file, p -> {
+            try (OutputStream out = Files.newOutputStream(p)) {
+                current.store(out, null);
+            }
+        });
+    }
+
+    private static String entry(Artifact artifact, Validator validator) {
+        return ArtifactIdUtils.toId(artifact) + "/" + validator.name();
+    }
+
+    /**
+     * The digest of all files in artifact version directory, calculated once per directory.
+     */
+    private String digest(Artifact artifact) throws IOException {
+        Path directory = basedir.resolve(layout.artifactPath(artifact)).getParent();
+        String digest = digests.get(directory);
+        if (digest == null) {
+            TreeSet<String> names = new TreeSet<>();
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, Files::isRegularFile)) {
+                files.forEach(f -> names.add(f.getFileName().toString()));
+            }
+            MessageDigest directoryDigest = ArtifactStoreUtils.sha256();
+            for (String name : names) {
+                try (InputStream content = Files.newInputStream(directory.resolve(name))) {
+                    ArtifactStoreUtils.updateDigest(directoryDigest, name, content);
+                }
+            }
+            digest = ArtifactStoreUtils.hex(directoryDigest.digest());
+            digests.put(directory, digest);
+        }
+        return digest;
+    }
+
+    /**
+     * Encodes result as lines of {@code depth kind text}, where kind is one of {@code i}, {@code w}, {@code e} for
+     * messages and {@code c} for child.
+     */
+    private static void encode(ArtifactStoreValidator.ValidationResult result, int depth, StringBuilder out) {
+        result.info().forEach(m -> line(out, depth, 'i', m));
+        result.warning().forEach(m -> line(out, depth, 'w', m));
+        result.error().forEach(m -> line(out, depth, 'e', m));
+        for (ArtifactStoreValidator.ValidationResult child : result.children()) {
+            line(out, depth, 'c', child.name());
+            encode(child, depth + 1, out);
+        }
+    }
+
+    private static void line(StringBuilder out, int depth, char kind, String text) {
+        out.append(depth).append(' ').append(kind).append(' ');
+        for (char c : text.toCharArray()) {
+            if (c == '\\') {
+                out.append("\\\\");
+            } else if (c == '\n') {
+                out.append("\\n");
+            } else if (c == '\r') {
+                out.append("\\r");
+            } else {
+                out.append(c);
+            }
+        }
+        out.append('\n');
+    }
+
+    /**
+     * Decodes result into given context, if it is well-formed, and returns {@code true}. Otherwise, leaves context
+     * untouched and returns {@code false}.
+     */
+    private static boolean decode(String encoded, ValidationContext context) {
+        ArrayList<String[]> lines = new ArrayList<>();
+        int maxDepth = 0;
+        for (String line : encoded.split("\n")) {
+            if (line.isEmpty()) {
+                continue;
+            }
+            int sep = line.indexOf(' ');
+            if (sep < 1 || line.length() < sep + 3 || "iwec".indexOf(line.charAt(sep + 1)) < 0) {
+                return false;
+            }
+            int depth;
+            try {
+                depth = Integer.parseInt(line.substring(0, sep));
+            } catch (NumberFormatException e) {
+                return false;
+            }
+            if (depth < 0 || depth > maxDepth) {
+                return false;
+            }
+            char kind = line.charAt(sep + 1);
+            maxDepth = kind == 'c' ? depth + 1 : depth;
+            lines.add(new String[] {String.valueOf(depth), String.valueOf(kind), unescape(line.substring(sep + 3))});
+        }
+        ArrayList<ValidationContext> stack = new ArrayList<>();
+        stack.add(context);
+        for (String[] line : lines) {
+            int depth = Integer.parseInt(line[0]);
+            while (stack.size() > depth + 1) {
+                stack.remove(stack.size() - 1);
+            }
+            ValidationContext target = stack.get(depth);
+            switch (line[1].charAt(0)) {
+                case 'i':
+                    target.addInfo(line[2]);
+                    break;
+                case 'w':
+                    target.addWarning(line[2]);
+                    break;
+                case 'e':
+                    target.addError(line[2]);
+                    break;
+                default:
+                    stack.add(target.child(line[2]));
+            }
+        }
+        return true;
+    }
+
+    private static String unescape(String text) {
+        StringBuilder result = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\\' && i + 1 < text.length()) {
+                char next = text.charAt(++i);
+                result.append(next == 'n' ? '\n' : next == 'r' ? '\r' : next);
+            } else {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+}
@@ -21,6 +21,11 @@ public class ArchiveValidator extends ValidatorSupport {
         super(name);
     }
 
+    @Override
+    public Cost cost() {
+        return Cost.CHEAP;
+    }
+
     @Override
     public void validate(ArtifactStore artifactStore, Artifact artifact, ValidationContext collector)
             throws IOException {
@@ -11,6 +11,7 @@ import static java.util.Objects.requireNonNull;
 
 import eu.maveniverse.maven.njord.shared.impl.J8Utils;
 import eu.maveniverse.maven.njord.shared.impl.publisher.ValidatorSupport;
+import eu.maveniverse.maven.njord.shared.impl.store.ArtifactStoreUtils;
 import eu.maveniverse.maven.njord.shared.publisher.spi.ValidationContext;
 import eu.maveniverse.maven.njord.shared.store.ArtifactStore;
 import java.io.ByteArrayOutputStream;
@@ -25,7 +26,7 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.spi.connector.checksum.ChecksumAlgorithmFactory;
-import org.eclipse.aether.spi.connector.checksum.ChecksumAlgorithmHelper;
+import org.eclipse.aether.util.artifact.ArtifactIdUtils;
 import org.eclipse.aether.util.artifact.SubArtifact;
 
 /**
@@ -44,6 +45,14 @@ public class ArtifactChecksumValidator extends ValidatorSupport {
         this.optionalChecksums = requireNonNull(optionalChecksums);
     }
 
+    /**
+     * Hashes artifact content.
+     */
+    @Override
+    public Cost cost() {
+        return Cost.MODERATE;
+    }
+
     @Override
     public void validate(ArtifactStore artifactStore, Artifact artifact, ValidationContext collector)
             throws IOException {
@@ -66,7 +75,11 @@ public class ArtifactChecksumValidator extends ValidatorSupport {
             boolean mandatory,
             ValidationContext chkCollector)
             throws IOException {
-        Map<String, String> checksums = ChecksumAlgorithmHelper.calculate(artifact.getFile(), algorithms);
+        Map<String, String> checksums;
+        try (InputStream content = artifactStore.artifactContent(artifact).orElseThrow(J8Utils.OET)) {
+            checksums = ArtifactStoreUtils.calculateChecksums(
+                    artifactStore.name(), ArtifactIdUtils.toId(artifact), content, algorithms);
+        }
         HashSet<String> algOk = new HashSet<>();
         HashSet<String> algMissing = new HashSet<>();
         HashSet<String> algMismatch = new HashSet<>();
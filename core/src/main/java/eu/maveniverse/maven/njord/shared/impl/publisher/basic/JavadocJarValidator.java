@@ -22,6 +22,14 @@ public class JavadocJarValidator extends ValidatorSupport {
         super(name);
     }
 
+    /**
+     * Presence check; reads JARs only if javadoc JAR is missing.
+     */
+    @Override
+    public Cost cost() {
+        return Cost.CHEAP;
+    }
+
     @Override
     public void validate(ArtifactStore artifactStore, Artifact artifact, ValidationContext collector)
             throws IOException {
@@ -22,6 +22,14 @@ public class SourcesJarValidator extends ValidatorSupport {
         super(name);
     }
 
+    /**
+     * Presence check; reads main JAR only if sources JAR is missing.
+     */
+    @Override
+    public Cost cost() {
+        return Cost.CHEAP;
+    }
+
     @Override
     public void validate(ArtifactStore artifactStore, Artifact artifact, ValidationContext collector)
             throws IOException {
@@ -45,6 +45,14 @@ public class ArtifactSignatureValidator extends ValidatorSupport {
         this.optionalSignatureValidators = requireNonNull(optionalSignatureValidators);
     }
 
+    /**
+     * Verifies signatures over artifact content.
+     */
+    @Override
+    public Cost cost() {
+        return Cost.MODERATE;
+    }
+
     @Override
     public void validate(ArtifactStore artifactStore, Artifact artifact, ValidationContext collector)
             throws IOException {
@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2023-2024 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.njord.shared.impl.store;
+
+import static java.util.Objects.requireNonNull;
+
+import eu.maveniverse.maven.shared.core.fs.FileUtils;
+import eu.maveniverse.maven.shared.core.maven.MavenUtils;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Catalog of stores in Njord basedir: it keeps the "immutable" store properties (name, template, created, origin)
+ * of all stores in single file, so queries like listing stores by prefix do not have to lock and load each store.
+ * <p>
+ * The catalog is reconciled with basedir directory listing on each read: stores created by other tools (or older
+ * versions) are added, and stores deleted behind our back are removed. Hence, the catalog file may be deleted any
+ * time, it will be rebuilt.
+ * <p>
+ * The catalog also allocates store names, using per-prefix counter files (in {@code .counters} directory of basedir)
+ * under the catalog lock, so allocation costs same regardless of store count, and is safe across concurrent builds
+ * sharing same basedir.
+ */
+final class ArtifactStoreCatalog {
+    /**
+     * Store properties kept in catalog.
+     */
+    private static final List<String> KEYS = Collections.unmodifiableList(Arrays.asList(
+            "name", "templateName", "templatePrefix", "created", "repositoryMode", "originProjectArtifact"));
+
+    /**
+     * Guards the catalog file within this JVM, as file locks are held by JVM.
+     */
+    private static final Object MUTEX = new Object();
+
+    private final Path basedir;
+    private final Path catalog;
+    private final Path lock;
+    private final Path counters;
+
+    ArtifactStoreCatalog(Path basedir) {
+        this.basedir = requireNonNull(basedir);
+        this.catalog = basedir.resolve(".catalog");
+        this.lock = basedir.resolve(".catalog.lock");
+        this.counters = basedir.resolve(".counters");
+    }
+
+    /**
+     * Returns catalog entries (store properties) keyed and sorted by store name.
+     */
+    Map<String, Map<String, String>> entries() throws IOException {
+        if (!Files.isDirectory(basedir)) {
+            return Collections.emptyMap();
+        }
+        synchronized (MUTEX) {
+            try (FileChannel channel = lockChannel();
+                    FileLock ignored = channel.lock()) {
+                TreeMap<String, Map<String, String>> entries = load();
+                if (reconcile(entries)) {
+                    save(entries);
+                }
+                return entries;
+            }
+        }
+    }
+
+    /**
+     * Adds or replaces catalog entry of store with given properties.
+     */
+    void put(Map<String, String> storeProperties) throws IOException {
+        requireNonNull(storeProperties);
+        update(entries -> entries.put(storeProperties.get("name"), catalogProperties(storeProperties)));
+    }
+
+    /**
+     * Removes catalog entry of store with given name.
+     */
+    void remove(String name) throws IOException {
+        requireNonNull(name);
+        update(entries -> entries.remove(name));
+    }
+
+    /**
+     * Allocates new store name for given prefix and reserves it by creating store directory. Numbers are taken from
+     * counter file of prefix, as long as the store named by counter still exists. If counter does not exist (or was
+     * reset), or its store was dropped, it is initialized from basedir listing, so like before counters were
+     * introduced, the next name follows the highest existing store (and after dropping all stores of prefix, numbering
+     * starts over). Names whose directory already exists (ie. created by older version not using counters) are
+     * skipped.
+     */
+    String allocate(String prefix, IntFunction<String> nameFormatter) throws IOException {
+        requireNonNull(prefix);
+        requireNonNull(nameFormatter);
+        Files.createDirectories(counters);
+        synchronized (MUTEX) {
+            try (FileChannel channel = lockChannel();
+                    FileLock ignored = channel.lock()) {
+                Path counter = counters.resolve(prefix);
+                int num = 0;
+                if (Files.isRegularFile(counter)) {
+                    num = Integer.parseInt(new String(Files.readAllBytes(counter), StandardCharsets.UTF_8).trim());
+                }
+                if (num < 1 || !Files.isDirectory(basedir.resolve(nameFormatter.apply(num)))) {
+                    try (Stream<Path> stream = Files.list(basedir)) {
+                        num = DefaultInternalArtifactStoreManager.highestArtifactStoreNumber(
+                                prefix, stream.filter(Files::isDirectory));
+                    }
+                }
+                String name;
+                while (true) {
+                    name = nameFormatter.apply(++num);
+                    try {
+                        Files.createDirectory(basedir.resolve(name));
+                        break;
+                    } catch (FileAlreadyExistsException e) {
+                        // taken; try next
+                    }
+                }
+                String value = Integer.toString(num);
+                FileUtils.writeFile(counter, p -> Files.write(p, value.getBytes(StandardCharsets.UTF_8)));
+                return name;
+            }
+        }
+    }
+
+    /**
+     * Resets counters of all prefixes, to have them initialized from basedir listing on next allocation.
+     */
+    void resetCounters() throws IOException {
+        if (!Files.isDirectory(counters)) {
+            return;
+        }
+        synchronized (MUTEX) {
+            try (FileChannel channel = lockChannel();
+                    FileLock ignored = channel.lock()) {
+                FileUtils.deleteRecursively(counters);
+            }
+        }
+    }
+
+    private interface Updater {
+        void update(TreeMap<String, Map<String, String>> entries) throws IOException;
+    }
+
+    private void update(Updater updater) throws IOException {
+        if (!Files.isDirectory(basedir)) {
+            return;
+        }
+        synchronized (MUTEX) {
+            try (FileChannel channel = lockChannel();
+                    FileLock ignored = channel.lock()) {
+                TreeMap<String, Map<String, String>> entries = load();
+                reconcile(entries);
+                updater.update(entries);
+                save(entries);
+            }
+        }
+    }
+
+    private FileChannel lockChannel() throws IOException {
+        return FileChannel.open(lock, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Reconciles entries with basedir listing, returns {@code true} if entries were changed.
+     */
+    private boolean reconcile(TreeMap<String, Map<String, String>> entries) throws IOException {
+        HashSet<String> existing = new HashSet<>();
+        boolean changed = false;
+        try (Stream<Path> stream = Files.list(basedir)) {
+            for (Path directory : stream.filter(Files::isDirectory).collect(Collectors.toList())) {
+                String name = directory.getFileName().toString();
+                Path repositoryProperties = directory.resolve(".meta").resolve("repository.properties");
+                if (entries.containsKey(name)) {
+                    existing.add(name);
+                } else if (Files.isRegularFile(repositoryProperties)) {
+                    Map<String, String> properties = loadProperties(repositoryProperties);
+                    if (name.equals(properties.get("name"))) {
+                        entries.put(name, catalogProperties(properties));
+                        existing.add(name);
+                        changed = true;
+                    }
+                }
+            }
+        }
+        changed |= entries.keySet().retainAll(existing);
+        return changed;
+    }
+
+    private TreeMap<String, Map<String, String>> load() throws IOException {
+        TreeMap<String, Map<String, String>> entries = new TreeMap<>();
+        if (Files.isRegularFile(catalog)) {
+            for (Map.Entry<String, String> property : loadProperties(catalog).entrySet()) {
+                int dot = property.getKey().lastIndexOf('.');
+                if (dot > 0) {
+                    entries.computeIfAbsent(property.getKey().substring(0, dot), k -> new HashMap<>())
+                            .put(property.getKey().substring(dot + 1), property.getValue());
+                }
+            }
+        }
+        return entries;
+    }
+
+    private void save(TreeMap<String, Map<String, String>> entries) throws IOException {
+        Properties properties = new Properties();
+        entries.forEach(
+                (name, entry) -> entry.forEach((key, value) -> properties.setProperty(name + "." + key, value)));
+        FileUtils.writeFile(catalog, p -> {
+            try (OutputStream out = Files.newOutputStream(p)) {
+                properties.store(out, null);
+            }
+        });
+    }
+
+    private static Map<String, String> catalogProperties(Map<String, String> storeProperties) {
+        HashMap<String, String> result = new HashMap<>();
+        for (String key : KEYS) {
+            if (storeProperties.containsKey(key)) {
+                result.put(key, storeProperties.get(key));
+            }
+        }
+        return result;
+    }
+
+    private static Map<String, String> loadProperties(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        }
+        return MavenUtils.toMap(properties);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2023-2024 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.njord.shared.impl.store;
+
+import static java.util.Objects.requireNonNull;
+
+import eu.maveniverse.maven.njord.shared.impl.J8Utils;
+import eu.maveniverse.maven.njord.shared.impl.ParallelUtils;
+import eu.maveniverse.maven.shared.core.component.ComponentSupport;
+import eu.maveniverse.maven.shared.core.fs.FileUtils;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.spi.connector.checksum.ChecksumAlgorithmFactory;
+import org.eclipse.aether.util.artifact.ArtifactIdUtils;
+
+/**
+ * Writes missing checksum sidecars of store artifacts for given algorithms, like when a store created with
+ * {@code release} template (carrying SHA-1 and MD5 only) should be upgraded to carry SHA-256 and SHA-512 as well.
+ * Each artifact missing any of the checksums is read only once, calculating all its missing checksums at once, and
+ * artifacts are processed in parallel.
+ *
+ * @since 0.9.7
+ */
+public final class ArtifactStoreChecksumWriter extends ComponentSupport {
+    private final List<ChecksumAlgorithmFactory> checksumAlgorithmFactories;
+    private final int threads;
+
+    public ArtifactStoreChecksumWriter(List<ChecksumAlgorithmFactory> checksumAlgorithmFactories, int threads) {
+        this.checksumAlgorithmFactories = J8Utils.copyOf(requireNonNull(checksumAlgorithmFactories));
+        if (threads < 1) {
+            throw new IllegalArgumentException("Threads must be positive");
+        }
+        this.threads = threads;
+    }
+
+    /**
+     * Writes missing checksums of store artifacts (except of extensions the store omits checksums for), and returns
+     * the count of written checksum files. Existing checksums are not touched. Checksums are written while holding
+     * write locks of all the store GAVs, so they do not race with concurrent puts.
+     */
+    public int write(PathArtifactStore artifactStore) throws IOException {
+        requireNonNull(artifactStore);
+        if (!artifactStore.writeMode().allowWrite()) {
+            throw new IOException(String.format("Store %s: does not allow write operations.", artifactStore.name()));
+        }
+        Set<String> gavs = artifactStore.artifacts().stream()
+                .map(PathArtifactStore::writeKey)
+                .collect(Collectors.toSet());
+        List<PathArtifactStore.WriteLock> locks = artifactStore.lockWrites(gavs);
+        try {
+            // list again: puts we waited for may have added artifacts to locked GAVs
+            return write(
+                    artifactStore,
+                    artifactStore.artifacts().stream()
+                            .filter(a -> gavs.contains(PathArtifactStore.writeKey(a)))
+                            .collect(Collectors.toList()));
+        } finally {
+            PathArtifactStore.unlockWrites(locks);
+        }
+    }
+
+    private int write(PathArtifactStore artifactStore, Collection<Artifact> artifacts) throws IOException {
+        DefaultLayout layout = new DefaultLayout();
+        LinkedHashMap<String, Path> targets = new LinkedHashMap<>();
+        LinkedHashMap<String, List<ChecksumAlgorithmFactory>> missing = new LinkedHashMap<>();
+        for (Artifact artifact : artifacts) {
+            if (artifactStore.omitChecksumsForExtensions().stream()
+                    .noneMatch(e -> artifact.getExtension().endsWith(e))) {
+                Path target = artifactStore.basedir().resolve(layout.artifactPath(artifact));
+                ArrayList<ChecksumAlgorithmFactory> factories = new ArrayList<>();
+                for (ChecksumAlgorithmFactory factory : checksumAlgorithmFactories) {
+                    if (!Files.isRegularFile(sidecar(target, factory))) {
+                        factories.add(factory);
+                    }
+                }
+                if (!factories.isEmpty()) {
+                    targets.put(ArtifactIdUtils.toId(artifact), target);
+                    missing.put(ArtifactIdUtils.toId(artifact), factories);
+                }
+            }
+        }
+        if (missing.isEmpty()) {
+            return 0;
+        }
+
+        LinkedHashMap<String, Callable<Integer>> tasks = new LinkedHashMap<>();
+        missing.forEach((artifactId, factories) -> tasks.put(
+                artifactId, () -> write(artifactStore.name(), artifactId, targets.get(artifactId), factories)));
+        LinkedHashMap<String, Exception> failures = new LinkedHashMap<>();
+        int result = ParallelUtils.execute("checksum", threads, tasks, failures).values().stream()
+                .mapToInt(Integer::intValue)
+                .sum();
+        failures.forEach(
+                (artifactId, e) -> logger.error("Writing checksums of {} failed: {}", artifactId, e.getMessage()));
+        ParallelUtils.rethrow(
+                failures,
+                () -> "Writing checksums of " + failures.size() + " out of " + missing.size() + " artifacts failed");
+        return result;
+    }
+
+    private static int write(String storeName, String artifactId, Path target, List<ChecksumAlgorithmFactory> factories)
+            throws IOException {
+        Map<String, String> checksums;
+        try (InputStream content = Files.newInputStream(target)) {
+            checksums = ArtifactStoreUtils.calculateChecksums(storeName, artifactId, content, factories);
+        }
+        for (ChecksumAlgorithmFactory factory : factories) {
+            FileUtils.writeFile(
+                    sidecar(target, factory),
+                    p -> Files.write(p, checksums.get(factory.getName()).getBytes(StandardCharsets.UTF_8)));
+        }
+        return factories.size();
+    }
+
+    private static Path sidecar(Path target, ChecksumAlgorithmFactory factory) {
+        return target.resolveSibling(target.getFileName() + "." + factory.getFileExtension());
+    }
+}
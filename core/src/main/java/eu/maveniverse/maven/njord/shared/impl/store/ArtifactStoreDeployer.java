@@ -9,12 +9,19 @@ package eu.maveniverse.maven.njord.shared.impl.store;
 
 import static java.util.Objects.requireNonNull;
 
+import eu.maveniverse.maven.njord.shared.impl.J8Utils;
 import eu.maveniverse.maven.njord.shared.impl.NjordRepositoryListener;
 import eu.maveniverse.maven.njord.shared.store.ArtifactStore;
 import eu.maveniverse.maven.shared.core.component.ComponentSupport;
+import eu.maveniverse.maven.shared.core.fs.FileUtils;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.function.Function;
 import org.eclipse.aether.DefaultRepositorySystemSession;
 import org.eclipse.aether.RepositorySystem;
 import org.eclipse.aether.RepositorySystemSession;
@@ -23,6 +30,7 @@ import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.deployment.DeployRequest;
 import org.eclipse.aether.deployment.DeploymentException;
 import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.util.artifact.ArtifactIdUtils;
 
 /**
  * Helper class, that uses {@link RepositorySystem#deploy(RepositorySystemSession, DeployRequest)} calls to perform
@@ -34,6 +42,7 @@ public class ArtifactStoreDeployer extends ComponentSupport {
     private final NjordRepositoryListener.Mode listenerMode;
     private final RemoteRepository repository;
     private final boolean repositoryPrepared;
+    private final DefaultLayout layout;
 
     public ArtifactStoreDeployer(
             RepositorySystem repositorySystem,
@@ -46,6 +55,7 @@ public class ArtifactStoreDeployer extends ComponentSupport {
         this.listenerMode = requireNonNull(listenerMode);
         this.repository = requireNonNull(repository);
         this.repositoryPrepared = repositoryPrepared;
+        this.layout = new DefaultLayout();
     }
 
     /**
@@ -53,11 +63,7 @@ public class ArtifactStoreDeployer extends ComponentSupport {
      */
     public void deploy(ArtifactStore artifactStore) throws IOException {
         requireNonNull(artifactStore);
-        deploy(
-                artifactStore,
-                artifactStore.artifacts().stream()
-                        .map(a -> a.setVersion(a.getBaseVersion()))
-                        .collect(Collectors.toList()));
+        deploy(artifactStore, artifactStore.artifacts(), a -> a.setVersion(a.getBaseVersion()));
     }
 
     /**
@@ -66,6 +72,48 @@ public class ArtifactStoreDeployer extends ComponentSupport {
     public void deploy(ArtifactStore artifactStore, Collection<Artifact> artifacts) throws IOException {
         requireNonNull(artifactStore);
         requireNonNull(artifacts);
+        deploy(artifactStore, artifacts, Function.identity());
+    }
+
+    /**
+     * Deploys artifacts, extracting the content of those without backing file (like the ones from bundle stores)
+     * into a temporary directory first, as Resolver deploys files.
+     */
+    private void deploy(
+            ArtifactStore artifactStore, Collection<Artifact> artifacts, Function<Artifact, Artifact> mapper)
+            throws IOException {
+        Path materialized = null;
+        try {
+            ArrayList<Artifact> deployed = new ArrayList<>(artifacts.size());
+            for (Artifact artifact : artifacts) {
+                if (artifact.getFile() == null) {
+                    if (materialized == null) {
+                        materialized = Files.createTempDirectory("njord-deploy");
+                    }
+                    Path file = materialized.resolve(layout.artifactPath(artifact));
+                    Files.createDirectories(file.getParent());
+                    Optional<InputStream> content = artifactStore.artifactContent(artifact);
+                    if (!content.isPresent()) {
+                        throw new IOException(String.format(
+                                "Store %s: no content for artifact %s",
+                                artifactStore.name(), ArtifactIdUtils.toId(artifact)));
+                    }
+                    try (InputStream in = content.orElseThrow(J8Utils.OET)) {
+                        Files.copy(in, file);
+                    }
+                    artifact = artifact.setFile(file.toFile());
+                }
+                deployed.add(mapper.apply(artifact));
+            }
+            doDeploy(artifactStore, deployed);
+        } finally {
+            if (materialized != null) {
+                FileUtils.deleteRecursively(materialized);
+            }
+        }
+    }
+
+    private void doDeploy(ArtifactStore artifactStore, Collection<Artifact> artifacts) throws IOException {
         DeployRequest deployRequest = new DeployRequest();
         deployRequest.setArtifacts(artifacts);
         if (repositoryPrepared) {
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2023-2024 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.njord.shared.impl.store;
+
+import static java.util.Objects.requireNonNull;
+
+import eu.maveniverse.maven.njord.shared.impl.J8Utils;
+import eu.maveniverse.maven.njord.shared.impl.ParallelUtils;
+import eu.maveniverse.maven.njord.shared.impl.publisher.signature.GpgSignatureType;
+import eu.maveniverse.maven.njord.shared.store.ArtifactStore;
+import eu.maveniverse.maven.shared.core.component.ComponentSupport;
+import eu.maveniverse.maven.shared.core.fs.FileUtils;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import org.bouncycastle.bcpg.ArmoredOutputStream;
+import org.bouncycastle.bcpg.HashAlgorithmTags;
+import org.bouncycastle.openpgp.PGPException;
+import org.bouncycastle.openpgp.PGPPrivateKey;
+import org.bouncycastle.openpgp.PGPSecretKey;
+import org.bouncycastle.openpgp.PGPSecretKeyRing;
+import org.bouncycastle.openpgp.PGPSecretKeyRingCollection;
+import org.bouncycastle.openpgp.PGPSignature;
+import org.bouncycastle.openpgp.PGPSignatureGenerator;
+import org.bouncycastle.openpgp.PGPSignatureSubpacketGenerator;
+import org.bouncycastle.openpgp.PGPUtil;
+import org.bouncycastle.openpgp.operator.bc.BcKeyFingerprintCalculator;
+import org.bouncycastle.openpgp.operator.bc.BcPBESecretKeyDecryptorBuilder;
+import org.bouncycastle.openpgp.operator.bc.BcPGPContentSignerBuilder;
+import org.bouncycastle.openpgp.operator.bc.BcPGPDigestCalculatorProvider;
+import org.bouncycastle.util.encoders.Hex;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.util.artifact.ArtifactIdUtils;
+import org.eclipse.aether.util.artifact.SubArtifact;
+
+/**
+ * Signs artifacts of store that have no signature yet, producing GPG detached and armored signatures ({@code .asc})
+ * using a local secret key and Bouncy Castle, so no {@code gpg} executable is needed. Artifacts are signed in
+ * parallel, and the signatures are put into store using single (batched) put operation.
+ * <p>
+ * Bouncy Castle is an optional dependency of core, hence users of this class must provide it themselves.
+ *
+ * @since 0.9.7
+ */
+public final class ArtifactStoreSigner extends ComponentSupport {
+    private static final String EXTENSION = "." + new GpgSignatureType().extension();
+
+    private final PGPSecretKey secretKey;
+    private final PGPPrivateKey privateKey;
+    private final int threads;
+
+    /**
+     * Creates signer using secret key from given (armored or binary) key ring file. If key ID (or fingerprint) is
+     * given, the matching key is used, otherwise the first key capable of signing.
+     *
+     * @param keyFile the secret key ring file
+     * @param keyId the key ID or fingerprint (hex), may be {@code null}
+     * @param passphrase the passphrase of key, may be {@code null} if key is not protected
+     * @param threads the count of signing threads
+     */
+    public ArtifactStoreSigner(Path keyFile, String keyId, char[] passphrase, int threads) throws IOException {
+        requireNonNull(keyFile);
+        if (threads < 1) {
+            throw new IllegalArgumentException("Threads must be positive");
+        }
+        this.secretKey = selectSecretKey(keyFile, keyId);
+        try {
+            this.privateKey =
+                    secretKey.extractPrivateKey(new BcPBESecretKeyDecryptorBuilder(new BcPGPDigestCalculatorProvider())
+                            .build(passphrase == null ? new char[0] : passphrase));
+        } catch (PGPException e) {
+            throw new IOException("Cannot unlock key " + keyId() + " (wrong or missing passphrase?)", e);
+        }
+        this.threads = threads;
+    }
+
+    /**
+     * The ID (hex) of key used for signing.
+     */
+    public String keyId() {
+        return String.format("%016X", secretKey.getKeyID());
+    }
+
+    /**
+     * Signs artifacts of store that have no signature, and returns the created signature artifacts. Signatures
+     * themselves and artifacts of extensions the store omits checksums for are not signed.
+     */
+    public List<Artifact> sign(PathArtifactStore artifactStore) throws IOException {
+        requireNonNull(artifactStore);
+        ArrayList<Artifact> unsigned = new ArrayList<>();
+        for (Artifact artifact : artifactStore.artifacts()) {
+            if (!artifact.getExtension().endsWith(EXTENSION)
+                    && artifactStore.omitChecksumsForExtensions().stream()
+                            .noneMatch(e -> artifact.getExtension().endsWith(e))
+                    && !artifactStore.artifactPresent(signature(artifact))) {
+                unsigned.add(artifact);
+            }
+        }
+        if (unsigned.isEmpty()) {
+            return unsigned;
+        }
+        Path workdir = Files.createTempDirectory("njord-sign");
+        try {
+            List<Artifact> signatures = signAll(artifactStore, unsigned, workdir);
+            ArtifactStoreUtils.putWithChecksums(artifactStore, signatures);
+            return signatures;
+        } finally {
+            FileUtils.deleteRecursively(workdir);
+        }
+    }
+
+    private List<Artifact> signAll(ArtifactStore artifactStore, List<Artifact> artifacts, Path workdir)
+            throws IOException {
+        LinkedHashMap<String, Callable<Artifact>> tasks = new LinkedHashMap<>();
+        for (int i = 0; i < artifacts.size(); i++) {
+            Artifact artifact = artifacts.get(i);
+            Path target = workdir.resolve(i + EXTENSION);
+            tasks.put(ArtifactIdUtils.toId(artifact), () -> sign(artifactStore, artifact, target));
+        }
+        LinkedHashMap<String, Exception> failures = new LinkedHashMap<>();
+        ArrayList<Artifact> result = new ArrayList<>(
+                ParallelUtils.execute("sign", threads, tasks, failures).values());
+        failures.forEach((artifactId, e) -> logger.error("Signing {} failed: {}", artifactId, e.getMessage()));
+        ParallelUtils.rethrow(
+                failures, () -> "Signing of " + failures.size() + " out of " + artifacts.size() + " artifacts failed");
+        return result;
+    }
+
+    private Artifact sign(ArtifactStore artifactStore, Artifact artifact, Path target) throws IOException {
+        try (InputStream content = artifactStore.artifactContent(artifact).orElseThrow(J8Utils.OET)) {
+            PGPSignatureGenerator generator = new PGPSignatureGenerator(
+                    new BcPGPContentSignerBuilder(secretKey.getPublicKey().getAlgorithm(), HashAlgorithmTags.SHA512),
+                    secretKey.getPublicKey());
+            generator.init(PGPSignature.BINARY_DOCUMENT, privateKey);
+            PGPSignatureSubpacketGenerator subpackets = new PGPSignatureSubpacketGenerator();
+            subpackets.setIssuerFingerprint(false, secretKey.getPublicKey());
+            subpackets.setSignatureCreationTime(false, new Date());
+            generator.setHashedSubpackets(subpackets.generate());
+            final byte[] buffer = new byte[1024 * 32];
+            for (; ; ) {
+                int read = content.read(buffer);
+                if (read < 0) {
+                    break;
+                }
+                generator.update(buffer, 0, read);
+            }
+            try (OutputStream out = new ArmoredOutputStream(Files.newOutputStream(target))) {
+                generator.generate().encode(out);
+            }
+        } catch (PGPException e) {
+            throw new IOException("Failed to sign " + ArtifactIdUtils.toId(artifact) + ": " + e.getMessage(), e);
+        }
+        return signature(artifact).setFile(target.toFile());
+    }
+
+    private static Artifact signature(Artifact artifact) {
+        return new SubArtifact(artifact, "*", artifact.getExtension() + EXTENSION);
+    }
+
+    private static PGPSecretKey selectSecretKey(Path keyFile, String keyId) throws IOException {
+        String id = keyId == null ? null : keyId.replaceAll("^0x", "").toUpperCase(Locale.ROOT);
+        try (InputStream in = PGPUtil.getDecoderStream(Files.newInputStream(keyFile))) {
+            PGPSecretKeyRingCollection rings = new PGPSecretKeyRingCollection(in, new BcKeyFingerprintCalculator());
+            for (PGPSecretKeyRing ring : rings) {
+                for (PGPSecretKey key : ring) {
+                    if (key.isSigningKey()
+                            && !key.isPrivateKeyEmpty()
+                            && (id == null
+                                    || String.format("%016X", key.getKeyID()).endsWith(id)
+                                    || Hex.toHexString(key.getPublicKey().getFingerprint())
+                                            .toUpperCase(Locale.ROOT)
+                                            .equals(id))) {
+                        return key;
+                    }
+                }
+            }
+        } catch (PGPException e) {
+            throw new IOException("Cannot read secret key ring " + keyFile + ": " + e.getMessage(), e);
+        }
+        throw new IOException("No secret signing key" + (id == null ? "" : " " + keyId) + " found in " + keyFile);
+    }
+}
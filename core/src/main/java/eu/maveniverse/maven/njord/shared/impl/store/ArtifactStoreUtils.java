@@ -9,7 +9,31 @@ package eu.maveniverse.maven.njord.shared.impl.store;
 
 import static java.util.Objects.requireNonNull;
 
+import eu.maveniverse.maven.njord.shared.impl.jfr.NjordEvents;
+import eu.maveniverse.maven.njord.shared.store.ArtifactStore;
+import eu.maveniverse.maven.shared.core.fs.FileUtils;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.regex.Pattern;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.spi.connector.checksum.ChecksumAlgorithm;
+import org.eclipse.aether.spi.connector.checksum.ChecksumAlgorithmFactory;
+import org.eclipse.aether.util.artifact.ArtifactIdUtils;
 
 /**
  * Helper class for store related validations and more.
@@ -38,4 +62,213 @@ public final class ArtifactStoreUtils {
         }
         return name;
     }
+
+    /**
+     * Calculates checksums of content provided by input stream, reading it only once. Caller must close the stream.
+     * Returned map is keyed by algorithm name, in order of given factories.
+     */
+    public static Map<String, String> calculateChecksums(
+            InputStream inputStream, List<ChecksumAlgorithmFactory> checksumAlgorithmFactories) throws IOException {
+        return calculateChecksums(null, null, inputStream, checksumAlgorithmFactories);
+    }
+
+    /**
+     * Same as {@link #calculateChecksums(InputStream, List)}, but with store name and artifact ID of the content
+     * (both may be {@code null}), that are used for diagnostics only.
+     */
+    public static Map<String, String> calculateChecksums(
+            String storeName,
+            String artifactId,
+            InputStream inputStream,
+            List<ChecksumAlgorithmFactory> checksumAlgorithmFactories)
+            throws IOException {
+        requireNonNull(inputStream);
+        requireNonNull(checksumAlgorithmFactories);
+        LinkedHashMap<String, ChecksumAlgorithm> algorithms = new LinkedHashMap<>();
+        checksumAlgorithmFactories.forEach(f -> algorithms.put(f.getName(), f.getAlgorithm()));
+        try (NjordEvents.Event event = NjordEvents.begin(NjordEvents.Type.CHECKSUM)) {
+            final byte[] buffer = new byte[1024 * 32];
+            long bytes = 0;
+            for (; ; ) {
+                int read = inputStream.read(buffer);
+                if (read < 0) {
+                    break;
+                }
+                bytes += read;
+                for (ChecksumAlgorithm algorithm : algorithms.values()) {
+                    algorithm.update(ByteBuffer.wrap(buffer, 0, read));
+                }
+            }
+            LinkedHashMap<String, String> result = new LinkedHashMap<>();
+            algorithms.forEach((k, v) -> result.put(k, v.checksum()));
+            event.store(storeName)
+                    .artifact(artifactId)
+                    .name(String.join(",", algorithms.keySet()))
+                    .bytes(bytes);
+            return result;
+        }
+    }
+
+    /**
+     * Puts given artifacts into store as connector and file transport would do: copies their files into store layout
+     * along with checksums as configured for store. If any copy or checksum write fails, the files written so far are
+     * deleted and the put operation is cancelled, so the store is left as it was.
+     *
+     * @since 0.9.7
+     */
+    public static void putWithChecksums(PathArtifactStore artifactStore, List<Artifact> artifacts) throws IOException {
+        requireNonNull(artifactStore);
+        requireNonNull(artifacts);
+        DefaultLayout layout = new DefaultLayout();
+        ArrayList<Path> written = new ArrayList<>();
+        try (ArtifactStore.Operation operation = artifactStore.put(artifacts, Collections.emptyList())) {
+            try {
+                for (Artifact artifact : artifacts) {
+                    Path target = artifactStore.basedir().resolve(layout.artifactPath(artifact));
+                    Files.createDirectories(target.getParent());
+                    Files.copy(artifact.getFile().toPath(), target);
+                    written.add(target);
+                    if (artifactStore.omitChecksumsForExtensions().stream()
+                            .noneMatch(e -> artifact.getExtension().endsWith(e))) {
+                        Map<String, String> checksums;
+                        try (InputStream content = Files.newInputStream(target)) {
+                            checksums = calculateChecksums(
+                                    artifactStore.name(),
+                                    ArtifactIdUtils.toId(artifact),
+                                    content,
+                                    artifactStore.checksumAlgorithmFactories());
+                        }
+                        for (ChecksumAlgorithmFactory factory : artifactStore.checksumAlgorithmFactories()) {
+                            Path sidecar =
+                                    target.resolveSibling(target.getFileName() + "." + factory.getFileExtension());
+                            Files.write(
+                                    sidecar, checksums.get(factory.getName()).getBytes(StandardCharsets.UTF_8));
+                            written.add(sidecar);
+                        }
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                operation.cancel();
+                for (Path path : written) {
+                    try {
+                        Files.deleteIfExists(path);
+                    } catch (IOException ex) {
+                        e.addSuppressed(ex);
+                    }
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Calculates SHA-256 digest of store content, as written out by {@link ArtifactStore#writeTo(Path)}: of all the
+     * files (artifacts, metadata, their checksums and signatures) along with their paths. Stores with same content
+     * have same digest, regardless of order the content was deployed in. Reads all the content once, which is still
+     * much cheaper than compressing and writing it out.
+     *
+     * @since 0.9.7
+     */
+    public static String contentDigest(ArtifactStore artifactStore) throws IOException {
+        requireNonNull(artifactStore);
+        if (artifactStore instanceof PathArtifactStore) {
+            return directoryDigest(((PathArtifactStore) artifactStore).basedir());
+        }
+        Path directory = Files.createTempDirectory("njord-digest");
+        try {
+            artifactStore.writeTo(directory);
+            return directoryDigest(directory);
+        } finally {
+            FileUtils.deleteRecursively(directory);
+        }
+    }
+
+    /**
+     * Digest of all files in directory that {@link PathArtifactStore#writeTo(Path)} copies.
+     */
+    private static String directoryDigest(Path directory) throws IOException {
+        MessageDigest digest = sha256();
+        for (Map.Entry<String, Path> file : visibleFiles(directory).entrySet()) {
+            try (InputStream content = Files.newInputStream(file.getValue())) {
+                updateDigest(digest, file.getKey(), content);
+            }
+        }
+        return hex(digest.digest());
+    }
+
+    /**
+     * Returns all the files in directory that {@link PathArtifactStore#writeTo(Path)} copies, keyed and sorted by
+     * their relative path (using {@code /} as separator): hidden files and directories (name starting with dot) are
+     * skipped.
+     */
+    static TreeMap<String, Path> visibleFiles(Path directory) throws IOException {
+        TreeMap<String, Path> files = new TreeMap<>();
+        Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                return !dir.equals(directory) && hidden(dir) ? FileVisitResult.SKIP_SUBTREE : FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (attrs.isRegularFile() && !hidden(file)) {
+                    ArrayList<String> segments = new ArrayList<>();
+                    directory.relativize(file).forEach(s -> segments.add(s.toString()));
+                    files.put(String.join("/", segments), file);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            private boolean hidden(Path path) {
+                return path.getFileName() != null
+                        && path.getFileName().toString().startsWith(".");
+            }
+        });
+        return files;
+    }
+
+    /**
+     * Updates digest with a {@code key=hex\n} line, where hex is the SHA-256 digest of content. Caller must close the
+     * stream.
+     *
+     * @since 0.9.7
+     */
+    public static void updateDigest(MessageDigest digest, String key, InputStream content) throws IOException {
+        MessageDigest contentDigest = sha256();
+        final byte[] buffer = new byte[1024 * 32];
+        for (; ; ) {
+            int read = content.read(buffer);
+            if (read < 0) {
+                break;
+            }
+            contentDigest.update(buffer, 0, read);
+        }
+        digest.update((key + "=" + hex(contentDigest.digest()) + "\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns new SHA-256 message digest.
+     *
+     * @since 0.9.7
+     */
+    public static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not supported", e);
+        }
+    }
+
+    /**
+     * Returns given bytes as lowercase hex string.
+     *
+     * @since 0.9.7
+     */
+    public static String hex(byte[] bytes) {
+        StringBuilder result = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            result.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return result.toString();
+    }
 }
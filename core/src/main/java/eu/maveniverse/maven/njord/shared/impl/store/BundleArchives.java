@@ -0,0 +1,348 @@
+/*
+ * Copyright (c) 2023-2024 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.njord.shared.impl.store;
+
+import static java.util.Objects.requireNonNull;
+
+import eu.maveniverse.maven.njord.shared.store.BundleFormat;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Helper class for tar based bundle formats: writing, extracting and format detection. Uses only JDK, writes POSIX
+ * ustar archives (with PAX headers for long names and big files) and understands GNU long names when reading.
+ */
+public final class BundleArchives {
+    private BundleArchives() {}
+
+    private static final int BLOCK = 512;
+
+    /**
+     * Detects the format of given bundle file by its content.
+     */
+    public static BundleFormat detectFormat(Path file) throws IOException {
+        requireNonNull(file);
+        byte[] header = new byte[BLOCK];
+        int read;
+        try (InputStream in = Files.newInputStream(file)) {
+            read = readFully(in, header);
+        }
+        if (read >= 4 && header[0] == 'P' && header[1] == 'K' && header[2] == 3 && header[3] == 4) {
+            return BundleFormat.ZIP;
+        } else if (read >= 2 && (header[0] & 0xff) == 0x1f && (header[1] & 0xff) == 0x8b) {
+            return BundleFormat.TAR_GZ;
+        } else if (read == BLOCK && "ustar".equals(new String(header, 257, 5, StandardCharsets.US_ASCII))) {
+            return BundleFormat.TAR;
+        }
+        throw new IOException("Unknown bundle format: " + file);
+    }
+
+    /**
+     * Writes tar archive of given directories (merged, entries of each are relative to it) to given output stream,
+     * in given format (that must not be ZIP). The filter is applied to directories and files, and excluded
+     * directories are not traversed. Output stream is closed.
+     */
+    public static void writeTar(
+            BundleFormat format, List<Path> directories, Predicate<Path> filter, OutputStream output)
+            throws IOException {
+        requireNonNull(format);
+        requireNonNull(directories);
+        requireNonNull(filter);
+        requireNonNull(output);
+        try (OutputStream out = compress(format, output)) {
+            for (Path directory : directories) {
+                writeTarEntries(directory, directory, filter, out);
+            }
+            out.write(new byte[BLOCK * 2]);
+        }
+    }
+
+    /**
+     * Extracts tar archive of given format (that must not be ZIP) into given directory.
+     */
+    public static void extractTar(BundleFormat format, InputStream input, Path directory) throws IOException {
+        requireNonNull(format);
+        requireNonNull(input);
+        requireNonNull(directory);
+        InputStream in = new BufferedInputStream(decompress(format, input), 64 * 1024);
+        Path root = directory.toAbsolutePath().normalize();
+        byte[] header = new byte[BLOCK];
+        String nextName = null;
+        long nextSize = -1;
+        while (true) {
+            if (readFully(in, header) < BLOCK) {
+                throw new EOFException("Unexpected end of tar archive");
+            }
+            if (isZero(header)) {
+                return;
+            }
+            String name = string(header, 0, 100);
+            if ("ustar".equals(string(header, 257, 5))) {
+                String prefix = string(header, 345, 155);
+                if (!prefix.isEmpty()) {
+                    name = prefix + "/" + name;
+                }
+            }
+            long size = nextSize >= 0 ? nextSize : octal(header, 124, 12);
+            char type = (char) header[156];
+            if (type == 'x' || type == 'L') {
+                byte[] data = new byte[Math.toIntExact(size)];
+                if (readFully(in, data) < data.length) {
+                    throw new EOFException("Unexpected end of tar archive");
+                }
+                skip(in, padding(size));
+                if (type == 'L') {
+                    nextName = string(data, 0, data.length);
+                } else {
+                    for (String record : pax(data)) {
+                        int eq = record.indexOf('=');
+                        if (record.startsWith("path=")) {
+                            nextName = record.substring(eq + 1);
+                        } else if (record.startsWith("size=")) {
+                            nextSize = Long.parseLong(record.substring(eq + 1));
+                        }
+                    }
+                }
+                continue;
+            }
+            if (nextName != null) {
+                name = nextName;
+            }
+            nextName = null;
+            nextSize = -1;
+            if (type == '0' || type == '\0') {
+                Path target = root.resolve(name).normalize();
+                if (!target.startsWith(root) || target.equals(root)) {
+                    throw new IOException("Invalid tar entry: " + name);
+                }
+                Files.createDirectories(target.getParent());
+                try (OutputStream out = Files.newOutputStream(target)) {
+                    if (copy(in, out, size) != size) {
+                        throw new EOFException("Unexpected end of tar archive");
+                    }
+                }
+            } else {
+                skip(in, size);
+            }
+            skip(in, padding(size));
+        }
+    }
+
+    private static OutputStream compress(BundleFormat format, OutputStream output) throws IOException {
+        switch (format) {
+            case TAR:
+                return new BufferedOutputStream(output, 64 * 1024);
+            case TAR_GZ:
+                return new ParallelGzipOutputStream(output, Runtime.getRuntime().availableProcessors());
+            default:
+                throw new IllegalArgumentException("Not a tar based format: " + format);
+        }
+    }
+
+    private static InputStream decompress(BundleFormat format, InputStream input) throws IOException {
+        switch (format) {
+            case TAR:
+                return input;
+            case TAR_GZ:
+                // handles concatenated members as well, as written by ParallelGzipOutputStream
+                return new GZIPInputStream(input, 64 * 1024);
+            default:
+                throw new IllegalArgumentException("Not a tar based format: " + format);
+        }
+    }
+
+    private static void writeTarEntries(Path root, Path directory, Predicate<Path> filter, OutputStream out)
+            throws IOException {
+        List<Path> children;
+        try (Stream<Path> stream = Files.list(directory)) {
+            children = stream.sorted().collect(Collectors.toList());
+        }
+        for (Path child : children) {
+            if (!filter.test(child)) {
+                continue;
+            }
+            if (Files.isDirectory(child)) {
+                writeTarEntries(root, child, filter, out);
+            } else if (Files.isRegularFile(child)) {
+                String name = root.relativize(child).toString().replace('\\', '/');
+                long size = Files.size(child);
+                long mtime = Files.getLastModifiedTime(child).toMillis() / 1000;
+                writeHeader(out, name, size, mtime);
+                try (InputStream in = Files.newInputStream(child)) {
+                    if (copy(in, out, size) != size) {
+                        throw new IOException("File changed while archiving: " + child);
+                    }
+                }
+                out.write(new byte[padding(size)]);
+            }
+        }
+    }
+
+    private static final long MAX_OCTAL_SIZE = 077777777777L;
+
+    private static void writeHeader(OutputStream out, String name, long size, long mtime) throws IOException {
+        byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+        boolean longName = nameBytes.length > 100;
+        boolean bigFile = size > MAX_OCTAL_SIZE;
+        if (longName || bigFile) {
+            StringBuilder records = new StringBuilder();
+            if (longName) {
+                records.append(paxRecord("path", name));
+            }
+            if (bigFile) {
+                records.append(paxRecord("size", Long.toString(size)));
+            }
+            byte[] data = records.toString().getBytes(StandardCharsets.UTF_8);
+            out.write(header("PaxHeader", data.length, mtime, 'x'));
+            out.write(data);
+            out.write(new byte[padding(data.length)]);
+        }
+        // header truncates long name to 100 bytes; the PAX record carries the full name
+        out.write(header(name, bigFile ? 0 : size, mtime, '0'));
+    }
+
+    private static byte[] header(String name, long size, long mtime, char type) {
+        byte[] header = new byte[BLOCK];
+        byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+        System.arraycopy(nameBytes, 0, header, 0, Math.min(nameBytes.length, 100));
+        putOctal(header, 100, 8, 0644);
+        putOctal(header, 108, 8, 0);
+        putOctal(header, 116, 8, 0);
+        putOctal(header, 124, 12, size);
+        putOctal(header, 136, 12, mtime);
+        header[156] = (byte) type;
+        System.arraycopy("ustar\u000000".getBytes(StandardCharsets.US_ASCII), 0, header, 257, 8);
+        Arrays.fill(header, 148, 156, (byte) ' ');
+        long checksum = 0;
+        for (byte b : header) {
+            checksum += b & 0xff;
+        }
+        putOctal(header, 148, 7, checksum);
+        return header;
+    }
+
+    private static String paxRecord(String key, String value) {
+        String record = " " + key + "=" + value + "\n";
+        int length = record.getBytes(StandardCharsets.UTF_8).length;
+        int total = length + Integer.toString(length).length();
+        if (Integer.toString(total).length() != Integer.toString(length).length()) {
+            total++;
+        }
+        return total + record;
+    }
+
+    private static List<String> pax(byte[] data) {
+        ArrayList<String> result = new ArrayList<>();
+        int pos = 0;
+        while (pos < data.length) {
+            int space = pos;
+            while (space < data.length && data[space] != ' ') {
+                space++;
+            }
+            if (space == data.length) {
+                break;
+            }
+            int length = Integer.parseInt(new String(data, pos, space - pos, StandardCharsets.US_ASCII));
+            result.add(new String(data, space + 1, length - (space - pos) - 2, StandardCharsets.UTF_8));
+            pos += length;
+        }
+        return result;
+    }
+
+    private static void putOctal(byte[] header, int offset, int length, long value) {
+        String octal = Long.toOctalString(value);
+        StringBuilder sb = new StringBuilder();
+        for (int i = octal.length(); i < length - 1; i++) {
+            sb.append('0');
+        }
+        sb.append(octal);
+        byte[] bytes = sb.toString().getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(bytes, 0, header, offset, length - 1);
+        header[offset + length - 1] = 0;
+    }
+
+    private static long octal(byte[] header, int offset, int length) {
+        String value = string(header, offset, length).trim();
+        return value.isEmpty() ? 0 : Long.parseLong(value, 8);
+    }
+
+    private static String string(byte[] bytes, int offset, int length) {
+        int end = offset;
+        while (end < offset + length && bytes[end] != 0) {
+            end++;
+        }
+        return new String(bytes, offset, end - offset, StandardCharsets.UTF_8);
+    }
+
+    private static boolean isZero(byte[] block) {
+        for (byte b : block) {
+            if (b != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int padding(long size) {
+        return (int) ((BLOCK - (size % BLOCK)) % BLOCK);
+    }
+
+    private static int readFully(InputStream in, byte[] buffer) throws IOException {
+        int total = 0;
+        while (total < buffer.length) {
+            int read = in.read(buffer, total, buffer.length - total);
+            if (read < 0) {
+                break;
+            }
+            total += read;
+        }
+        return total;
+    }
+
+    private static long copy(InputStream in, OutputStream out, long size) throws IOException {
+        byte[] buffer = new byte[64 * 1024];
+        long remaining = size;
+        while (remaining > 0) {
+            int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+            if (read < 0) {
+                break;
+            }
+            out.write(buffer, 0, read);
+            remaining -= read;
+        }
+        return size - remaining;
+    }
+
+    private static void skip(InputStream in, long size) throws IOException {
+        long remaining = size;
+        while (remaining > 0) {
+            long skipped = in.skip(remaining);
+            if (skipped <= 0) {
+                if (in.read() < 0) {
+                    throw new EOFException("Unexpected end of tar archive");
+                }
+                skipped = 1;
+            }
+            remaining -= skipped;
+        }
+    }
+}
@@ -10,8 +10,10 @@ package eu.maveniverse.maven.njord.shared.impl.store;
 import static java.util.Objects.requireNonNull;
 
 import eu.maveniverse.maven.njord.shared.impl.J8Utils;
+import eu.maveniverse.maven.njord.shared.impl.jfr.NjordEvents;
 import eu.maveniverse.maven.njord.shared.store.ArtifactStore;
 import eu.maveniverse.maven.njord.shared.store.ArtifactStoreWriter;
+import eu.maveniverse.maven.njord.shared.store.BundleFormat;
 import eu.maveniverse.maven.shared.core.component.ComponentSupport;
 import eu.maveniverse.maven.shared.core.fs.FileUtils;
 import java.io.IOException;
@@ -20,6 +22,11 @@ import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 public class DefaultArtifactStoreWriter extends ComponentSupport implements ArtifactStoreWriter {
     @Override
@@ -37,22 +44,143 @@ public class DefaultArtifactStoreWriter extends ComponentSupport implements Arti
 
     @Override
     public Path writeAsBundle(ArtifactStore artifactStore, Path outputDirectory) throws IOException {
+        return writeAsBundle(artifactStore, outputDirectory, BundleFormat.ZIP);
+    }
+
+    @Override
+    public Path writeAsBundle(ArtifactStore artifactStore, Path outputDirectory, BundleFormat format)
+            throws IOException {
         requireNonNull(artifactStore);
         requireNonNull(outputDirectory);
+        requireNonNull(format);
 
         Path targetDirectory = FileUtils.canonicalPath(outputDirectory);
         if (!Files.isDirectory(targetDirectory)) {
             Files.createDirectories(targetDirectory);
         }
-        Path bundleFile = targetDirectory.resolve(artifactStore.name() + ".zip");
+        Path bundleFile = targetDirectory.resolve(artifactStore.name() + "." + format.extension());
         if (Files.exists(bundleFile)) {
-            throw new IOException("Exporting to existing bundle ZIP not supported");
+            throw new IOException("Exporting to existing bundle file not supported");
         }
-        try (FileSystem fs =
-                FileSystems.newFileSystem(URI.create("jar:" + bundleFile.toUri()), J8Utils.zipFsCreate(true), null)) {
-            Path root = fs.getPath("/");
-            artifactStore.writeTo(root);
+        try (NjordEvents.Event event = NjordEvents.begin(NjordEvents.Type.BUNDLE_WRITE)) {
+            event.store(artifactStore.name()).name(format.name());
+            if (format == BundleFormat.ZIP) {
+                try (FileSystem fs = FileSystems.newFileSystem(
+                        URI.create("jar:" + bundleFile.toUri()), J8Utils.zipFsCreate(true), null)) {
+                    Path root = fs.getPath("/");
+                    artifactStore.writeTo(root);
+                }
+            } else if (artifactStore instanceof PathArtifactStore) {
+                // stream directly from basedir, skipping hidden files as PathArtifactStore#writeTo does
+                BundleArchives.writeTar(
+                        format,
+                        Collections.singletonList(((PathArtifactStore) artifactStore).basedir()),
+                        p -> p.getFileName() == null
+                                || !p.getFileName().toString().startsWith("."),
+                        Files.newOutputStream(bundleFile));
+            } else {
+                Path tmp = Files.createTempDirectory("njord-bundle");
+                try {
+                    artifactStore.writeTo(tmp);
+                    BundleArchives.writeTar(
+                            format, Collections.singletonList(tmp), p -> true, Files.newOutputStream(bundleFile));
+                } finally {
+                    FileUtils.deleteRecursively(tmp);
+                }
+            }
+            if (event.isEnabled()) {
+                event.bytes(Files.size(bundleFile));
+            }
         }
         return bundleFile;
     }
+
+    @Override
+    public List<Path> writeAsBundles(ArtifactStore artifactStore, Path outputDirectory, long maxBundleSize)
+            throws IOException {
+        requireNonNull(artifactStore);
+        requireNonNull(outputDirectory);
+        if (maxBundleSize < 1) {
+            throw new IllegalArgumentException("Max bundle size must be positive");
+        }
+
+        Path targetDirectory = FileUtils.canonicalPath(outputDirectory);
+        if (!Files.isDirectory(targetDirectory)) {
+            Files.createDirectories(targetDirectory);
+        }
+        if (artifactStore instanceof PathArtifactStore) {
+            return writeAsBundles(
+                    artifactStore.name(),
+                    ((PathArtifactStore) artifactStore).basedir(),
+                    targetDirectory,
+                    maxBundleSize);
+        }
+        Path tmp = Files.createTempDirectory("njord-bundle");
+        try {
+            artifactStore.writeTo(tmp);
+            return writeAsBundles(artifactStore.name(), tmp, targetDirectory, maxBundleSize);
+        } finally {
+            FileUtils.deleteRecursively(tmp);
+        }
+    }
+
+    /**
+     * Writes bundles of files from source directory (store basedir or directory store was written to) directly,
+     * without copying them anywhere else first.
+     */
+    private List<Path> writeAsBundles(String storeName, Path source, Path targetDirectory, long maxBundleSize)
+            throws IOException {
+        // files are in G/A/V directories (and metadata in G/A), so parent directory groups them
+        TreeMap<String, List<String>> units = new TreeMap<>();
+        for (String path : ArtifactStoreUtils.visibleFiles(source).keySet()) {
+            int slash = path.lastIndexOf('/');
+            units.computeIfAbsent(slash < 0 ? "" : path.substring(0, slash), k -> new ArrayList<>())
+                    .add(path);
+        }
+        List<List<String>> parts = new ArrayList<>();
+        List<String> part = new ArrayList<>();
+        long partSize = 0;
+        for (Map.Entry<String, List<String>> unit : units.entrySet()) {
+            long unitSize = 0;
+            for (String path : unit.getValue()) {
+                unitSize += Files.size(source.resolve(path));
+            }
+            if (!part.isEmpty() && partSize + unitSize > maxBundleSize) {
+                parts.add(part);
+                part = new ArrayList<>();
+                partSize = 0;
+            }
+            part.addAll(unit.getValue());
+            partSize += unitSize;
+        }
+        if (!part.isEmpty() || parts.isEmpty()) {
+            parts.add(part);
+        }
+
+        ArrayList<Path> result = new ArrayList<>();
+        for (int i = 0; i < parts.size(); i++) {
+            String name = parts.size() == 1 ? storeName : storeName + "-" + (i + 1);
+            Path bundleFile = targetDirectory.resolve(name + "." + BundleFormat.ZIP.extension());
+            if (Files.exists(bundleFile)) {
+                throw new IOException("Exporting to existing bundle file not supported");
+            }
+            try (NjordEvents.Event event = NjordEvents.begin(NjordEvents.Type.BUNDLE_WRITE)) {
+                event.store(storeName).name(BundleFormat.ZIP.name());
+                try (FileSystem fs = FileSystems.newFileSystem(
+                        URI.create("jar:" + bundleFile.toUri()), J8Utils.zipFsCreate(true), null)) {
+                    Path root = fs.getPath("/");
+                    for (String path : parts.get(i)) {
+                        Path target = root.resolve(path);
+                        Files.createDirectories(target.getParent());
+                        Files.copy(source.resolve(path), target);
+                    }
+                }
+                if (event.isEnabled()) {
+                    event.bytes(Files.size(bundleFile));
+                }
+            }
+            result.add(bundleFile);
+        }
+        return result;
+    }
 }
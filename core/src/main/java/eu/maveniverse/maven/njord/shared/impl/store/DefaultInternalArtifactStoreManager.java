@@ -16,6 +16,7 @@ import eu.maveniverse.maven.njord.shared.impl.InternalArtifactStoreManager;
 import eu.maveniverse.maven.njord.shared.impl.J8Utils;
 import eu.maveniverse.maven.njord.shared.store.ArtifactStore;
 import eu.maveniverse.maven.njord.shared.store.ArtifactStoreTemplate;
+import eu.maveniverse.maven.njord.shared.store.BundleFormat;
 import eu.maveniverse.maven.njord.shared.store.RepositoryMode;
 import eu.maveniverse.maven.njord.shared.store.WriteMode;
 import eu.maveniverse.maven.shared.core.component.CloseableConfigSupport;
@@ -26,6 +27,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
@@ -37,35 +39,44 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.TreeSet;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.artifact.DefaultArtifact;
 import org.eclipse.aether.spi.connector.checksum.ChecksumAlgorithmFactory;
 import org.eclipse.aether.spi.connector.checksum.ChecksumAlgorithmFactorySelector;
 import org.eclipse.aether.util.ConfigUtils;
 import org.eclipse.aether.util.artifact.ArtifactIdUtils;
+import org.eclipse.aether.util.artifact.SubArtifact;
 
 public class DefaultInternalArtifactStoreManager extends CloseableConfigSupport<SessionConfig>
         implements InternalArtifactStoreManager {
     private final ChecksumAlgorithmFactorySelector checksumAlgorithmFactorySelector;
     private final Map<String, ArtifactStoreTemplate> templates;
+    private final DefaultLayout storeLayout;
+    private final ArtifactStoreCatalog catalog;
 
     public DefaultInternalArtifactStoreManager(
             SessionConfig sessionConfig, ChecksumAlgorithmFactorySelector checksumAlgorithmFactorySelector) {
         super(sessionConfig);
         this.checksumAlgorithmFactorySelector = requireNonNull(checksumAlgorithmFactorySelector);
         this.templates = new LinkedHashMap<>();
+        this.storeLayout = new DefaultLayout();
+        this.catalog = new ArtifactStoreCatalog(sessionConfig.basedir());
         templates.put(ArtifactStoreTemplate.RELEASE.name(), ArtifactStoreTemplate.RELEASE);
         templates.put(ArtifactStoreTemplate.RELEASE_SCA.name(), ArtifactStoreTemplate.RELEASE_SCA);
         templates.put(ArtifactStoreTemplate.RELEASE_REDEPLOY.name(), ArtifactStoreTemplate.RELEASE_REDEPLOY);
@@ -77,16 +88,8 @@ public class DefaultInternalArtifactStoreManager extends CloseableConfigSupport<
     @Override
     public List<String> listArtifactStoreNames() throws IOException {
         checkClosed();
-        if (Files.isDirectory(config.basedir())) {
-            try (Stream<Path> stream = Files.list(config.basedir())) {
-                return stream.filter(Files::isDirectory)
-                        .filter(p -> Files.isRegularFile(metaRepositoryProperties(p)))
-                        .map(p -> p.getFileName().toString())
-                        .sorted(Comparator.naturalOrder())
-                        .collect(Collectors.toList());
-            }
-        }
-        return Collections.emptyList();
+
+        return J8Utils.copyOf(catalog.entries().keySet());
     }
 
     @Override
@@ -95,14 +98,15 @@ public class DefaultInternalArtifactStoreManager extends CloseableConfigSupport<
         checkClosed();
 
         ArrayList<String> result = new ArrayList<>();
-        for (String storeName : listArtifactStoreNames()) {
-            if (storeName.startsWith(prefix)) { // simple check but more is needed
-                try (ArtifactStore store = loadExistingArtifactStore(storeName)) {
-                    if (store != null && Objects.equals(prefix, store.template().prefix())) {
-                        result.add(storeName);
+        for (Map.Entry<String, Map<String, String>> entry : catalog.entries().entrySet()) {
+            if (entry.getKey().startsWith(prefix)) { // simple check but more is needed
+                try {
+                    if (Objects.equals(
+                            prefix, loadTemplateWithProperties(entry.getValue()).prefix())) {
+                        result.add(entry.getKey());
                     }
-                } catch (IOException e) {
-                    logger.warn("Error listing store for prefix {}: {}", storeName, e.getMessage());
+                } catch (IllegalStateException e) {
+                    logger.warn("Error listing store for prefix {}: {}", entry.getKey(), e.getMessage());
                 }
             }
         }
@@ -161,6 +165,7 @@ public class DefaultInternalArtifactStoreManager extends CloseableConfigSupport<
                 if (Files.exists(meta)) {
                     if (!config.dryRun()) {
                         FileUtils.deleteRecursively(basedir);
+                        catalog.remove(name);
                     } else {
                         logger.info("Dry run; not dropping store {}", name);
                     }
@@ -192,18 +197,43 @@ public class DefaultInternalArtifactStoreManager extends CloseableConfigSupport<
         return false;
     }
 
+    @Override
+    public boolean updateChecksumAlgorithmsArtifactStore(String name, List<String> checksumAlgorithms)
+            throws IOException {
+        validateArtifactStoreName(name);
+        requireNonNull(checksumAlgorithms);
+        checkClosed();
+        // fail fast on unknown algorithms
+        List<ChecksumAlgorithmFactory> checksumAlgorithmFactories =
+                checksumAlgorithmFactorySelector.selectList(checksumAlgorithms);
+
+        Path storeBaseDir = config.basedir().resolve(name);
+        if (Files.isDirectory(storeBaseDir)) {
+            DirectoryLocker.INSTANCE.lockDirectory(storeBaseDir, true);
+            try {
+                Map<String, String> props = loadStoreProperties(storeBaseDir);
+                props.put(
+                        "checksumAlgorithmFactories",
+                        checksumAlgorithmFactories.stream()
+                                .map(ChecksumAlgorithmFactory::getName)
+                                .collect(Collectors.joining(",")));
+                saveStoreProperties(storeBaseDir, props);
+                return true;
+            } finally {
+                DirectoryLocker.INSTANCE.unlockDirectory(storeBaseDir);
+            }
+        }
+        return false;
+    }
+
     @Override
     public void renumberArtifactStores() throws IOException {
         checkClosed();
 
-        ArrayList<String> names = new ArrayList<>(listArtifactStoreNames());
-        names.sort(Comparator.naturalOrder());
         Map<ArtifactStoreTemplate, TreeSet<String>> stores = new HashMap<>();
-        for (String name : names) {
-            Path basedir = config.basedir().resolve(name);
-            Map<String, String> properties = loadStoreProperties(basedir);
-            ArtifactStoreTemplate template = loadTemplateWithProperties(properties);
-            stores.computeIfAbsent(template, k -> new TreeSet<>()).add(name);
+        for (Map.Entry<String, Map<String, String>> entry : catalog.entries().entrySet()) {
+            ArtifactStoreTemplate template = loadTemplateWithProperties(entry.getValue());
+            stores.computeIfAbsent(template, k -> new TreeSet<>()).add(entry.getKey());
         }
         for (ArtifactStoreTemplate template : stores.keySet()) {
             int num = 1;
@@ -215,12 +245,25 @@ public class DefaultInternalArtifactStoreManager extends CloseableConfigSupport<
                 }
             }
         }
+        catalog.resetCounters();
     }
 
     @Override
     public Path exportTo(ArtifactStore artifactStore, Path file) throws IOException {
+        return exportTo(artifactStore, file, null);
+    }
+
+    @Override
+    public Path exportTo(ArtifactStore artifactStore, Path file, ArtifactStore base) throws IOException {
+        return exportTo(artifactStore, file, base, BundleFormat.ZIP);
+    }
+
+    @Override
+    public Path exportTo(ArtifactStore artifactStore, Path file, ArtifactStore base, BundleFormat format)
+            throws IOException {
         requireNonNull(artifactStore);
         requireNonNull(file);
+        requireNonNull(format);
         checkClosed();
 
         if (!(artifactStore instanceof PathArtifactStore)) {
@@ -230,30 +273,80 @@ public class DefaultInternalArtifactStoreManager extends CloseableConfigSupport<
         Path targetDirectory = FileUtils.canonicalPath(file);
         Path bundleFile = targetDirectory;
         if (Files.isDirectory(targetDirectory)) {
-            bundleFile = targetDirectory.resolve(artifactStore.name() + ".ntb");
-        } else if (!Files.isDirectory(targetDirectory.getFileName())) {
+            bundleFile = targetDirectory.resolve(
+                    artifactStore.name() + (format == BundleFormat.ZIP ? ".ntb" : ".ntb." + format.extension()));
+        } else if (!Files.isDirectory(targetDirectory.getParent())) {
             throw new IllegalArgumentException("Target parent directory does not exists");
         }
         if (Files.exists(bundleFile)) {
-            throw new IOException("Exporting to existing bundle ZIP not supported");
+            throw new IOException("Exporting to existing bundle file not supported");
         }
-        try (FileSystem fs =
-                FileSystems.newFileSystem(URI.create("jar:" + bundleFile.toUri()), J8Utils.zipFsCreate(true), null)) {
-            Path root = fs.getPath("/");
-            if (!Files.isDirectory(root)) {
-                throw new IOException("Directory does not exist");
+
+        Path basedir = ((PathArtifactStore) artifactStore).basedir();
+        Map<String, String> unchanged = base != null ? unchangedArtifacts(artifactStore, base) : Collections.emptyMap();
+        HashSet<Path> omitted = new HashSet<>();
+        for (String id : unchanged.keySet()) {
+            omitted.add(basedir.resolve(storeLayout.artifactPath(new DefaultArtifact(id))));
+        }
+        Predicate<Path> filter = p ->
+                (p.getFileName() == null || !p.getFileName().toString().startsWith(".lock")) && !omitted.contains(p);
+        Path delta = null;
+        try {
+            if (base != null) {
+                delta = Files.createTempDirectory("njord-delta");
+                HashMap<String, String> deltaProperties = new HashMap<>();
+                deltaProperties.put("base", base.name());
+                deltaProperties.put("digest", DELTA_DIGEST);
+                saveProperties(metaDeltaProperties(delta), deltaProperties);
+                Files.write(
+                        metaDelta(delta),
+                        unchanged.entrySet().stream()
+                                .map(e -> e.getKey() + "=" + e.getValue())
+                                .collect(toList()),
+                        StandardCharsets.UTF_8);
+            }
+            if (format == BundleFormat.ZIP) {
+                try (FileSystem fs = FileSystems.newFileSystem(
+                        URI.create("jar:" + bundleFile.toUri()), J8Utils.zipFsCreate(true), null)) {
+                    Path root = fs.getPath("/");
+                    if (!Files.isDirectory(root)) {
+                        throw new IOException("Directory does not exist");
+                    }
+                    FileUtils.copyRecursively(basedir, root, filter, false);
+                    if (delta != null) {
+                        FileUtils.copyRecursively(delta, root, p -> true, false);
+                    }
+                }
+            } else {
+                ArrayList<Path> directories = new ArrayList<>();
+                directories.add(basedir);
+                if (delta != null) {
+                    directories.add(delta);
+                }
+                BundleArchives.writeTar(format, directories, filter, Files.newOutputStream(bundleFile));
             }
-            FileUtils.copyRecursively(
-                    ((PathArtifactStore) artifactStore).basedir(),
-                    root,
-                    p -> p.getFileName() == null || !p.getFileName().toString().startsWith(".lock"),
-                    false);
+        } finally {
+            if (delta != null) {
+                FileUtils.deleteRecursively(delta);
+            }
+        }
+        if (base != null) {
+            logger.info(
+                    "Delta export of {} against {}: {} unchanged artifacts omitted",
+                    artifactStore,
+                    base,
+                    unchanged.size());
         }
         return bundleFile;
     }
 
     @Override
     public ArtifactStore importFrom(Path file) throws IOException {
+        return importFrom(file, null);
+    }
+
+    @Override
+    public ArtifactStore importFrom(Path file, ArtifactStore base) throws IOException {
         requireNonNull(file);
         checkClosed();
 
@@ -261,34 +354,209 @@ public class DefaultInternalArtifactStoreManager extends CloseableConfigSupport<
             throw new IllegalArgumentException("File does not exist");
         }
         Path storeSource = FileUtils.canonicalPath(file);
+        BundleFormat format = BundleArchives.detectFormat(storeSource);
+        String storeName;
+        if (format == BundleFormat.ZIP) {
+            try (FileSystem fs = FileSystems.newFileSystem(
+                    URI.create("jar:" + storeSource.toUri()), J8Utils.zipFsCreate(false), null)) {
+                storeName = importFromRoot(fs.getPath("/"), base);
+            }
+        } else {
+            Path extracted = Files.createTempDirectory("njord-import");
+            try {
+                try (InputStream in = Files.newInputStream(storeSource)) {
+                    BundleArchives.extractTar(format, in, extracted);
+                }
+                storeName = importFromRoot(extracted, base);
+            } finally {
+                FileUtils.deleteRecursively(extracted);
+            }
+        }
+        return loadExistingArtifactStore(storeName);
+    }
+
+    private String importFromRoot(Path root, ArtifactStore base) throws IOException {
+        Path repositoryProperties = metaRepositoryProperties(root);
+        if (!Files.exists(repositoryProperties)) {
+            throw new IOException("Unknown transportable bundle layout");
+        }
+        Map<String, String> properties = loadStoreProperties(root);
+        ArtifactStoreTemplate template = loadTemplateWithProperties(properties);
+        Artifact originProjectArtifact = properties.containsKey("originProjectArtifact")
+                ? new DefaultArtifact(properties.get("originProjectArtifact"))
+                : null;
+        boolean delta = Files.isRegularFile(metaDeltaProperties(root));
+        if (delta && base == null) {
+            throw new IOException("Delta bundle requires base store to import: "
+                    + loadProperties(metaDeltaProperties(root)).get("base"));
+        }
         String storeName;
         Path storeBasedir;
-        try (FileSystem fs =
-                FileSystems.newFileSystem(URI.create("jar:" + storeSource.toUri()), J8Utils.zipFsCreate(false), null)) {
-            Path repositoryProperties = metaRepositoryProperties(fs.getPath("/"));
-            if (Files.exists(repositoryProperties)) {
-                Map<String, String> properties = loadStoreProperties(fs.getPath("/"));
-                ArtifactStoreTemplate template = loadTemplateWithProperties(properties);
-                Artifact originProjectArtifact = properties.containsKey("originProjectArtifact")
-                        ? new DefaultArtifact(properties.get("originProjectArtifact"))
-                        : null;
-                try (PathArtifactStore artifactStore = createNewArtifactStore(template, originProjectArtifact)) {
-                    storeName = artifactStore.name();
-                    storeBasedir = artifactStore.basedir();
-                    FileUtils.copyRecursively(
-                            fs.getPath("/"),
-                            artifactStore.basedir(),
-                            p -> p.getFileName() == null
-                                    || !p.getFileName().toString().startsWith(".lock"),
-                            true);
+        try (PathArtifactStore artifactStore = createNewArtifactStore(template, originProjectArtifact)) {
+            storeName = artifactStore.name();
+            storeBasedir = artifactStore.basedir();
+            try {
+                FileUtils.copyRecursively(
+                        root,
+                        artifactStore.basedir(),
+                        p -> p.getFileName() == null
+                                || !(p.getFileName().toString().startsWith(".lock")
+                                        || p.equals(metaDelta(root))
+                                        || p.equals(metaDeltaProperties(root))),
+                        true);
+                if (delta) {
+                    restoreUnchangedArtifacts(root, base, artifactStore.basedir());
+                }
+            } catch (IOException | RuntimeException e) {
+                FileUtils.deleteRecursively(storeBasedir);
+                throw e;
+            }
+        }
+        // fix name
+        renameStore(storeBasedir, storeName);
+        return storeName;
+    }
+
+    @Override
+    public ArtifactStore openBundle(Path file) throws IOException {
+        requireNonNull(file);
+        checkClosed();
+
+        if (!Files.isRegularFile(file)) {
+            throw new IllegalArgumentException("File does not exist");
+        }
+        Path bundleFile = FileUtils.canonicalPath(file);
+        BundleFormat format = BundleArchives.detectFormat(bundleFile);
+        if (format != BundleFormat.ZIP) {
+            throw new IOException("Only ZIP bundles can be opened as store; import " + format + " bundles instead");
+        }
+        ZipFile zipFile = new ZipFile(bundleFile.toFile());
+        try {
+            ZipEntry repositoryProperties = zipFile.getEntry(".meta/repository.properties");
+            if (zipFile.getEntry(".meta/delta.properties") != null) {
+                throw new IOException("Delta bundle cannot be opened as store; import it with its base store");
+            }
+            if (repositoryProperties != null) {
+                Properties prop = new Properties();
+                try (InputStream in = zipFile.getInputStream(repositoryProperties)) {
+                    prop.load(in);
                 }
-                // fix name
-                renameStore(storeBasedir, storeName);
+                Map<String, String> properties = MavenUtils.toMap(prop);
+                return new ZipArtifactStore(
+                        properties.get("name"),
+                        loadTemplateWithProperties(properties),
+                        Instant.ofEpochMilli(Long.parseLong(properties.get("created"))),
+                        RepositoryMode.valueOf(properties.get("repositoryMode")),
+                        checksumAlgorithmFactorySelector.selectList(Arrays.stream(properties
+                                        .get("checksumAlgorithmFactories")
+                                        .split(","))
+                                .filter(s -> !s.trim().isEmpty())
+                                .collect(toList())),
+                        Arrays.stream(properties
+                                        .get("omitChecksumsForExtensions")
+                                        .split(","))
+                                .filter(s -> !s.trim().isEmpty())
+                                .collect(toList()),
+                        properties.containsKey("originProjectArtifact")
+                                ? new DefaultArtifact(properties.get("originProjectArtifact"))
+                                : null,
+                        bundleFile,
+                        zipFile);
             } else {
-                throw new IOException("Unknown transportable bundle layout");
+                boolean snapshot = zipFile.stream()
+                        .map(e -> ZipArtifactStore.artifactFromPath(e.getName()))
+                        .anyMatch(
+                                a -> a.isPresent() && a.orElseThrow(J8Utils.OET).isSnapshot());
+                ArtifactStoreTemplate template =
+                        snapshot ? ArtifactStoreTemplate.SNAPSHOT : ArtifactStoreTemplate.RELEASE;
+                return new ZipArtifactStore(
+                        bundleStoreName(bundleFile),
+                        template,
+                        Files.getLastModifiedTime(bundleFile).toInstant(),
+                        template.repositoryMode(),
+                        defaultChecksumAlgorithmFactories(template),
+                        defaultOmitChecksumsForExtensions(template),
+                        null,
+                        bundleFile,
+                        zipFile);
             }
+        } catch (IOException | RuntimeException e) {
+            zipFile.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Digest used to identify unchanged artifacts in delta bundles.
+     */
+    private static final String DELTA_DIGEST = "SHA-256";
+
+    /**
+     * Collects artifacts (and their checksums) of store that are present in base with same content. Returns map of
+     * artifact ID and digest.
+     */
+    private Map<String, String> unchangedArtifacts(ArtifactStore artifactStore, ArtifactStore base) throws IOException {
+        List<ChecksumAlgorithmFactory> digest =
+                checksumAlgorithmFactorySelector.selectList(Collections.singletonList(DELTA_DIGEST));
+        LinkedHashMap<String, String> result = new LinkedHashMap<>();
+        for (Artifact artifact : artifactStore.artifacts()) {
+            ArrayList<Artifact> candidates = new ArrayList<>();
+            candidates.add(artifact);
+            for (ChecksumAlgorithmFactory checksumAlgorithmFactory : artifactStore.checksumAlgorithmFactories()) {
+                candidates.add(new SubArtifact(
+                        artifact, "*", artifact.getExtension() + "." + checksumAlgorithmFactory.getFileExtension()));
+            }
+            for (Artifact candidate : candidates) {
+                if (artifactStore.artifactPresent(candidate) && base.artifactPresent(candidate)) {
+                    String storeDigest = digest(artifactStore.artifactContent(candidate), digest);
+                    String baseDigest = digest(base.artifactContent(candidate), digest);
+                    if (Objects.equals(storeDigest, baseDigest)) {
+                        result.put(ArtifactIdUtils.toId(candidate), storeDigest);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Restores unchanged artifacts listed in delta manifest from base store, verifying their digests.
+     */
+    private void restoreUnchangedArtifacts(Path root, ArtifactStore base, Path basedir) throws IOException {
+        Map<String, String> deltaProperties = loadProperties(metaDeltaProperties(root));
+        List<ChecksumAlgorithmFactory> digest = checksumAlgorithmFactorySelector.selectList(
+                Collections.singletonList(deltaProperties.getOrDefault("digest", DELTA_DIGEST)));
+        for (String line : Files.readAllLines(metaDelta(root), StandardCharsets.UTF_8)) {
+            if (line.trim().isEmpty()) {
+                continue;
+            }
+            String[] split = line.split("=");
+            Artifact artifact = new DefaultArtifact(split[0]);
+            Optional<InputStream> content = base.artifactContent(artifact);
+            if (!content.isPresent()) {
+                throw new IOException(String.format(
+                        "Base store %s: missing artifact %s (delta bundle base is %s)",
+                        base.name(), split[0], deltaProperties.get("base")));
+            }
+            Path target = basedir.resolve(storeLayout.artifactPath(artifact));
+            Files.createDirectories(target.getParent());
+            try (InputStream in = content.orElseThrow(J8Utils.OET)) {
+                Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            if (!Objects.equals(split[1], digest(Optional.of(Files.newInputStream(target)), digest))) {
+                throw new IOException(String.format(
+                        "Base store %s: artifact %s content differs (delta bundle base is %s)",
+                        base.name(), split[0], deltaProperties.get("base")));
+            }
+        }
+    }
+
+    private static String digest(Optional<InputStream> content, List<ChecksumAlgorithmFactory> digest)
+            throws IOException {
+        try (InputStream in = content.orElseThrow(J8Utils.OET)) {
+            return ArtifactStoreUtils.calculateChecksums(in, digest)
+                    .get(digest.get(0).getName());
         }
-        return loadExistingArtifactStore(storeName);
     }
 
     private ArtifactStoreTemplate loadTemplateWithProperties(Map<String, String> properties) {
@@ -347,27 +615,15 @@ public class DefaultInternalArtifactStoreManager extends CloseableConfigSupport<
 
     private PathArtifactStore createNewArtifactStore(ArtifactStoreTemplate template, Artifact originProjectArtifact)
             throws IOException {
-        String name = newArtifactStoreName(template.prefix());
+        Files.createDirectories(config.basedir());
+        String name = catalog.allocate(template.prefix(), num -> formatArtifactStoreName(template.prefix(), num));
         Path basedir = config.basedir().resolve(name);
-        Files.createDirectories(basedir);
         DirectoryLocker.INSTANCE.lockDirectory(basedir, true);
         Instant created = Instant.now();
         RepositoryMode repositoryMode = template.repositoryMode();
         WriteMode writeMode = template.allowRedeploy() ? WriteMode.WRITE_MANY : WriteMode.WRITE_ONCE;
-        List<ChecksumAlgorithmFactory> checksumAlgorithmFactories = template.checksumAlgorithmFactories()
-                        .isPresent()
-                ? checksumAlgorithmFactorySelector.selectList(
-                        template.checksumAlgorithmFactories().orElseThrow(J8Utils.OET))
-                : checksumAlgorithmFactorySelector.selectList(
-                        ConfigUtils.parseCommaSeparatedUniqueNames(ConfigUtils.getString(
-                                config.session(), DEFAULT_CHECKSUMS_ALGORITHMS, CONFIG_PROP_CHECKSUMS_ALGORITHMS)));
-        List<String> omitChecksumsForExtensions =
-                template.omitChecksumsForExtensions().isPresent()
-                        ? template.omitChecksumsForExtensions().orElseThrow(J8Utils.OET)
-                        : ConfigUtils.parseCommaSeparatedUniqueNames(ConfigUtils.getString(
-                                config.session(),
-                                DEFAULT_OMIT_CHECKSUMS_FOR_EXTENSIONS,
-                                CONFIG_PROP_OMIT_CHECKSUMS_FOR_EXTENSIONS));
+        List<ChecksumAlgorithmFactory> checksumAlgorithmFactories = defaultChecksumAlgorithmFactories(template);
+        List<String> omitChecksumsForExtensions = defaultOmitChecksumsForExtensions(template);
 
         HashMap<String, String> properties = new HashMap<>();
         properties.put("name", name);
@@ -389,6 +645,7 @@ public class DefaultInternalArtifactStoreManager extends CloseableConfigSupport<
             properties.put("originProjectArtifact", ArtifactIdUtils.toId(originProjectArtifact));
         }
         saveStoreProperties(basedir, properties);
+        catalog.put(properties);
 
         return new PathArtifactStore(
                 name,
@@ -402,30 +659,56 @@ public class DefaultInternalArtifactStoreManager extends CloseableConfigSupport<
                 basedir);
     }
 
-    private String newArtifactStoreName(String prefix) throws IOException {
-        return newArtifactStoreName(
-                prefix,
-                Files.list(config.basedir())
-                        .filter(Files::isDirectory)
-                        .filter(d -> Files.isRegularFile(metaRepositoryProperties(d))));
+    private List<ChecksumAlgorithmFactory> defaultChecksumAlgorithmFactories(ArtifactStoreTemplate template) {
+        return template.checksumAlgorithmFactories().isPresent()
+                ? checksumAlgorithmFactorySelector.selectList(
+                        template.checksumAlgorithmFactories().orElseThrow(J8Utils.OET))
+                : checksumAlgorithmFactorySelector.selectList(
+                        ConfigUtils.parseCommaSeparatedUniqueNames(ConfigUtils.getString(
+                                config.session(), DEFAULT_CHECKSUMS_ALGORITHMS, CONFIG_PROP_CHECKSUMS_ALGORITHMS)));
+    }
+
+    private List<String> defaultOmitChecksumsForExtensions(ArtifactStoreTemplate template) {
+        return template.omitChecksumsForExtensions().isPresent()
+                ? template.omitChecksumsForExtensions().orElseThrow(J8Utils.OET)
+                : ConfigUtils.parseCommaSeparatedUniqueNames(ConfigUtils.getString(
+                        config.session(),
+                        DEFAULT_OMIT_CHECKSUMS_FOR_EXTENSIONS,
+                        CONFIG_PROP_OMIT_CHECKSUMS_FOR_EXTENSIONS));
     }
 
     static String newArtifactStoreName(String prefix, Stream<Path> existingStoreDirectories) {
+        return formatArtifactStoreName(prefix, highestArtifactStoreNumber(prefix, existingStoreDirectories) + 1);
+    }
+
+    /**
+     * Returns the highest store number used with given prefix, or 0 if none. Numbers are compared as numbers, so
+     * stores numbered beyond zero padding are handled as well.
+     */
+    static int highestArtifactStoreNumber(String prefix, Stream<Path> existingStoreDirectories) {
         String prefixDash = prefix + "-";
-        Pattern pattern = Pattern.compile(Pattern.quote(prefixDash) + "\\d+");
-        int num = 0;
-        try (Stream<Path> candidates = existingStoreDirectories
-                .filter(d -> pattern.matcher(d.getFileName().toString()).matches())
-                .sorted(Comparator.reverseOrder())) {
-            Optional<Path> greatest = candidates.findFirst();
-            if (greatest.isPresent()) {
-                num = Integer.parseInt(greatest.orElseThrow(J8Utils.OET)
-                        .getFileName()
-                        .toString()
-                        .substring(prefixDash.length()));
-            }
+        Pattern pattern = Pattern.compile(Pattern.quote(prefixDash) + "\\d{1,9}");
+        try (Stream<Path> candidates = existingStoreDirectories) {
+            return candidates
+                    .map(d -> d.getFileName().toString())
+                    .filter(n -> pattern.matcher(n).matches())
+                    .mapToInt(n -> Integer.parseInt(n.substring(prefixDash.length())))
+                    .max()
+                    .orElse(0);
+        }
+    }
+
+    /**
+     * Derives a valid store name from bundle file name, as plain bundles do not carry store name.
+     */
+    static String bundleStoreName(Path bundleFile) {
+        String fileName = bundleFile.getFileName().toString().toLowerCase(Locale.ENGLISH);
+        int dot = fileName.lastIndexOf('.');
+        if (dot > 0) {
+            fileName = fileName.substring(0, dot);
         }
-        return formatArtifactStoreName(prefix, num + 1);
+        String name = fileName.replaceAll("[^a-z0-9-_.]", "-").replace("..", "-");
+        return name.trim().isEmpty() ? "bundle" : name;
     }
 
     private static String formatArtifactStoreName(String prefix, int num) {
@@ -436,21 +719,35 @@ public class DefaultInternalArtifactStoreManager extends CloseableConfigSupport<
         return basedir.resolve(".meta").resolve("repository.properties");
     }
 
+    private static Path metaDeltaProperties(Path basedir) {
+        return basedir.resolve(".meta").resolve("delta.properties");
+    }
+
+    private static Path metaDelta(Path basedir) {
+        return basedir.resolve(".meta").resolve("delta");
+    }
+
     private Map<String, String> loadStoreProperties(Path basedir) throws IOException {
+        return loadProperties(metaRepositoryProperties(basedir));
+    }
+
+    private void saveStoreProperties(Path basedir, Map<String, String> properties) throws IOException {
+        saveProperties(metaRepositoryProperties(basedir), properties);
+    }
+
+    private Map<String, String> loadProperties(Path file) throws IOException {
         Properties properties = new Properties();
-        Path metaStoreProperties = metaRepositoryProperties(basedir);
-        try (InputStream in = Files.newInputStream(metaStoreProperties)) {
+        try (InputStream in = Files.newInputStream(file)) {
             properties.load(in);
         }
         return MavenUtils.toMap(properties);
     }
 
-    private void saveStoreProperties(Path basedir, Map<String, String> properties) throws IOException {
+    private void saveProperties(Path file, Map<String, String> properties) throws IOException {
         Properties prop = new Properties();
         properties.forEach(prop::setProperty);
-        Path metaStoreProperties = metaRepositoryProperties(basedir);
-        Files.createDirectories(metaStoreProperties.getParent());
-        try (OutputStream out = Files.newOutputStream(metaStoreProperties, StandardOpenOption.CREATE)) {
+        Files.createDirectories(file.getParent());
+        try (OutputStream out = Files.newOutputStream(file, StandardOpenOption.CREATE)) {
             prop.store(out, null);
         }
     }
@@ -459,9 +756,12 @@ public class DefaultInternalArtifactStoreManager extends CloseableConfigSupport<
         Map<String, String> props = loadStoreProperties(basedir);
         props.put("name", newName);
         saveStoreProperties(basedir, props);
-        if (!basedir.getFileName().toString().equals(newName)) {
+        String oldName = basedir.getFileName().toString();
+        if (!oldName.equals(newName)) {
             Files.move(basedir, basedir.getParent().resolve(newName), StandardCopyOption.ATOMIC_MOVE);
+            catalog.remove(oldName);
         }
+        catalog.put(props);
     }
 
     private void changeWriteModeStore(Path basedir, WriteMode writeMode) throws IOException {
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2023-2024 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.njord.shared.impl.store;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Appends lines to store index files with "group commit": writers enqueue their lines into lock-free queue, and one
+ * of them (the committer) drains the queue and appends all pending lines at once, under file lock of the index file,
+ * to be safe across processes as well. When {@link #append(Path, List)} returns, the lines are written out.
+ * <p>
+ * Instances are shared per index file within JVM while in use, as file locks are held by JVM, and are dropped once
+ * no thread uses them.
+ */
+final class IndexAppender {
+    static final ConcurrentHashMap<Path, IndexAppender> APPENDERS = new ConcurrentHashMap<>();
+
+    /**
+     * Appends given lines to given index file, returns once they are written out (by this or some other thread).
+     */
+    static void append(Path index, List<String> lines) throws IOException {
+        requireNonNull(index);
+        requireNonNull(lines);
+        if (lines.isEmpty()) {
+            return;
+        }
+        IndexAppender appender = APPENDERS.compute(index.toAbsolutePath().normalize(), (k, v) -> {
+            IndexAppender result = v == null ? new IndexAppender(k) : v;
+            result.users++;
+            return result;
+        });
+        try {
+            appender.append(lines);
+        } finally {
+            APPENDERS.computeIfPresent(appender.index, (k, v) -> --v.users == 0 ? null : v);
+        }
+    }
+
+    private static final class Batch {
+        private final List<String> lines;
+        private volatile boolean done;
+        private volatile IOException failure;
+
+        private Batch(List<String> lines) {
+            this.lines = lines;
+        }
+    }
+
+    private final Path index;
+    private final ConcurrentLinkedQueue<Batch> queue;
+    private final ReentrantLock committer;
+    private int users; // guarded by APPENDERS
+
+    private IndexAppender(Path index) {
+        this.index = index;
+        this.queue = new ConcurrentLinkedQueue<>();
+        this.committer = new ReentrantLock();
+    }
+
+    private void append(List<String> lines) throws IOException {
+        Batch batch = new Batch(lines);
+        queue.add(batch);
+        committer.lock();
+        try {
+            if (!batch.done) {
+                commit();
+            }
+        } finally {
+            committer.unlock();
+        }
+        if (batch.failure != null) {
+            throw new IOException("Failed to append index " + index, batch.failure);
+        }
+    }
+
+    private void commit() {
+        ArrayList<Batch> batches = new ArrayList<>();
+        StringBuilder content = new StringBuilder();
+        Batch batch;
+        while ((batch = queue.poll()) != null) {
+            batches.add(batch);
+            for (String line : batch.lines) {
+                content.append(line).append('\n');
+            }
+        }
+        IOException failure = null;
+        try {
+            Files.createDirectories(index.getParent());
+            try (FileChannel channel = FileChannel.open(
+                            index, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+                    FileLock ignored = channel.lock()) {
+                ByteBuffer buffer = ByteBuffer.wrap(content.toString().getBytes(StandardCharsets.UTF_8));
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+        } catch (IOException e) {
+            failure = e;
+        }
+        for (Batch b : batches) {
+            b.failure = failure;
+            b.done = true;
+        }
+    }
+}
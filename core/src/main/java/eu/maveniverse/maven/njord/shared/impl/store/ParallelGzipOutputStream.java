@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2023-2024 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.njord.shared.impl.store;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzip output stream that compresses fixed size blocks on multiple threads and writes them out in order, as
+ * concatenated gzip members (like {@code pigz} does). The result is a valid gzip stream, readable by any gzip
+ * implementation, including {@link java.util.zip.GZIPInputStream}. Memory use is bounded, as only limited count of
+ * blocks may be in flight.
+ */
+final class ParallelGzipOutputStream extends OutputStream {
+    private static final int BLOCK_SIZE = 1024 * 1024;
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private final OutputStream out;
+    private final ExecutorService executor;
+    private final int maxInFlight;
+    private final ArrayDeque<Future<byte[]>> inFlight;
+    private final byte[] buffer;
+    private int count;
+    private boolean written;
+    private boolean closed;
+
+    ParallelGzipOutputStream(OutputStream out, int threads) {
+        this.out = requireNonNull(out);
+        int threadCount = Math.max(1, threads);
+        this.executor = Executors.newFixedThreadPool(threadCount, r -> {
+            Thread thread = new Thread(r, "njord-gzip-" + THREAD_COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.maxInFlight = threadCount * 2;
+        this.inFlight = new ArrayDeque<>();
+        this.buffer = new byte[BLOCK_SIZE];
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        checkOpen();
+        while (len > 0) {
+            int chunk = Math.min(len, buffer.length - count);
+            System.arraycopy(b, off, buffer, count, chunk);
+            count += chunk;
+            off += chunk;
+            len -= chunk;
+            if (count == buffer.length) {
+                submit();
+            }
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        checkOpen();
+        if (count > 0) {
+            submit();
+        }
+        while (!inFlight.isEmpty()) {
+            drain();
+        }
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        try {
+            if (count > 0 || !written) {
+                submit();
+            }
+            while (!inFlight.isEmpty()) {
+                drain();
+            }
+        } finally {
+            closed = true;
+            executor.shutdownNow();
+            out.close();
+        }
+    }
+
+    private void submit() throws IOException {
+        final byte[] block = Arrays.copyOf(buffer, count);
+        inFlight.add(executor.submit(() -> gzip(block)));
+        written = true;
+        count = 0;
+        while (inFlight.size() >= maxInFlight) {
+            drain();
+        }
+    }
+
+    private void drain() throws IOException {
+        try {
+            out.write(inFlight.poll().get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while compressing");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException("Compression failed", e.getCause());
+        }
+    }
+
+    private void checkOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+    private static byte[] gzip(byte[] block) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream(block.length / 2 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bos, 64 * 1024)) {
+            gzip.write(block);
+        }
+        return bos.toByteArray();
+    }
+}
@@ -11,6 +11,7 @@ import static eu.maveniverse.maven.njord.shared.impl.store.ArtifactStoreUtils.va
 import static eu.maveniverse.maven.njord.shared.impl.store.ArtifactStoreUtils.validateName;
 import static java.util.Objects.requireNonNull;
 
+import eu.maveniverse.maven.njord.shared.impl.jfr.NjordEvents;
 import eu.maveniverse.maven.njord.shared.store.ArtifactStore;
 import eu.maveniverse.maven.njord.shared.store.ArtifactStoreTemplate;
 import eu.maveniverse.maven.njord.shared.store.RepositoryMode;
@@ -20,18 +21,24 @@ import eu.maveniverse.maven.shared.core.fs.DirectoryLocker;
 import eu.maveniverse.maven.shared.core.fs.FileUtils;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
@@ -49,8 +56,76 @@ import org.eclipse.aether.util.artifact.ArtifactIdUtils;
 
 /**
  * Artifact store backed by NIO2 {@link Path}. It completely lies on file system.
+ * <p>
+ * Store allows concurrent writers: write operations lock only the GAVs (or attachments) they touch, and index
+ * entries are appended by {@link IndexAppender}. GAV locks are backed by lock files (in {@code .locks} directory of
+ * store), so they are honored by writers in other processes as well. The store itself is locked shared only, exclusive lock is taken
+ * by store manager when it drops or renames the store.
  */
 public class PathArtifactStore extends CloseableSupport implements ArtifactStore {
+    /**
+     * Write locks of GAVs and attachments, shared within JVM, keyed by store basedir and GAV or attachment. Locks
+     * are present only while in use (held or waited for). Holder of semaphore also holds the file lock of key, as
+     * file locks are held by JVM, and cannot be acquired twice within it.
+     */
+    static final ConcurrentHashMap<String, WriteLock> WRITE_LOCKS = new ConcurrentHashMap<>();
+
+    static final class WriteLock {
+        private final String key;
+        private final Semaphore semaphore;
+        private int users; // guarded by WRITE_LOCKS
+        private FileChannel channel; // guarded by semaphore
+
+        private WriteLock(String key) {
+            this.key = key;
+            this.semaphore = new Semaphore(1);
+        }
+
+        private static WriteLock use(String key) {
+            return WRITE_LOCKS.compute(key, (k, v) -> {
+                WriteLock result = v == null ? new WriteLock(k) : v;
+                result.users++;
+                return result;
+            });
+        }
+
+        private void unuse() {
+            WRITE_LOCKS.computeIfPresent(key, (k, v) -> --v.users == 0 ? null : v);
+        }
+
+        /**
+         * Acquires file lock of given lock file, blocking until other processes release it. Must be invoked while
+         * holding the semaphore.
+         */
+        private void lockFile(Path lockFile) throws IOException {
+            Files.createDirectories(lockFile.getParent());
+            FileChannel fc = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            try {
+                fc.lock();
+                this.channel = fc;
+            } catch (IOException | RuntimeException e) {
+                fc.close();
+                throw e;
+            }
+        }
+
+        /**
+         * Releases file lock, if held. Must be invoked while holding the semaphore.
+         */
+        private void unlockFile() {
+            if (channel != null) {
+                try {
+                    // closing channel releases the lock as well
+                    channel.close();
+                } catch (IOException e) {
+                    // ignore: lock is released with channel anyway
+                } finally {
+                    channel = null;
+                }
+            }
+        }
+    }
+
     private final String name;
     private final ArtifactStoreTemplate template;
     private final Instant created;
@@ -241,8 +316,6 @@ public class PathArtifactStore extends CloseableSupport implements ArtifactStore
             throw new IOException(String.format("Store %s: does not allow write operations.", name));
         }
 
-        DirectoryLocker.INSTANCE.unlockDirectory(basedir);
-        DirectoryLocker.INSTANCE.lockDirectory(basedir, true);
         // check files (set + exists)
         List<Artifact> nfa = artifacts.stream()
                 .filter(a -> a.getFile() == null || !a.getFile().isFile())
@@ -267,13 +340,18 @@ public class PathArtifactStore extends CloseableSupport implements ArtifactStore
             throw new IllegalArgumentException(String.format(
                     "Store %s: PUT Artifacts repository policy mismatch (release vs snapshot): %s", name, mismatch));
         }
-        // check for redeploy (target already exists)
+        // lock GAVs and check for redeploy (target already exists)
+        TreeSet<String> keys = new TreeSet<>();
+        artifacts.forEach(a -> keys.add(writeKey(a)));
+        metadata.forEach(m -> keys.add(m.getGroupId() + ":" + m.getArtifactId() + ":" + m.getVersion()));
+        List<WriteLock> locks = lockWrites(keys);
         List<Artifact> redeploys;
         if (!writeMode.allowUpdate()
                 && !(redeploys = artifacts.stream()
                                 .filter(a -> Files.isRegularFile(basedir.resolve(storeLayout.artifactPath(a))))
                                 .collect(Collectors.toList()))
                         .isEmpty()) {
+            unlockWrites(locks);
             throw new IllegalArgumentException(String.format(
                     "Store %s: Update/redeploy is forbidden (artifacts already exists): %s", name, redeploys));
         }
@@ -289,7 +367,19 @@ public class PathArtifactStore extends CloseableSupport implements ArtifactStore
             @Override
             public void close() throws IOException {
                 if (closed.compareAndSet(false, true)) {
-                    try {
+                    try (NjordEvents.Event event = NjordEvents.begin(NjordEvents.Type.STORE_PUT)) {
+                        if (event.isEnabled()) {
+                            event.store(name)
+                                    .artifact(artifacts.stream()
+                                            .map(ArtifactIdUtils::toId)
+                                            .collect(Collectors.joining(",")))
+                                    .bytes(artifacts.stream()
+                                                    .mapToLong(a -> a.getFile().length())
+                                                    .sum()
+                                            + metadata.stream()
+                                                    .mapToLong(m -> m.getFile().length())
+                                                    .sum());
+                        }
                         if (!canceled.get()) {
                             appendIndex(
                                     "artifacts",
@@ -304,8 +394,7 @@ public class PathArtifactStore extends CloseableSupport implements ArtifactStore
                                             + "=" + storeLayout.metadataPath(m));
                         }
                     } finally {
-                        DirectoryLocker.INSTANCE.unlockDirectory(basedir);
-                        DirectoryLocker.INSTANCE.lockDirectory(basedir, false);
+                        unlockWrites(locks);
                     }
                 }
             }
@@ -365,12 +454,12 @@ public class PathArtifactStore extends CloseableSupport implements ArtifactStore
         if (!writeMode.allowWrite()) {
             throw new IOException(String.format("Store %s: does not allow write operations.", name));
         }
+        List<WriteLock> locks = lockWrites(Collections.singleton(".attachments/" + attachmentName));
         if (attachmentPresent(attachmentName)) {
+            unlockWrites(locks);
             throw new IllegalArgumentException(String.format(
                     "Store %s: Update/redeploy is forbidden (attachment already exists): %s", name, attachmentName));
         }
-        DirectoryLocker.INSTANCE.unlockDirectory(basedir);
-        DirectoryLocker.INSTANCE.lockDirectory(basedir, true);
 
         final Path attachmentPath = attachmentsDir(true).resolve(attachmentName);
         final AtomicReference<InputStream> write = new AtomicReference<>(null);
@@ -415,8 +504,7 @@ public class PathArtifactStore extends CloseableSupport implements ArtifactStore
                             }
                         }
                     } finally {
-                        DirectoryLocker.INSTANCE.unlockDirectory(basedir);
-                        DirectoryLocker.INSTANCE.lockDirectory(basedir, false);
+                        unlockWrites(locks);
                     }
                 }
             }
@@ -461,12 +549,76 @@ public class PathArtifactStore extends CloseableSupport implements ArtifactStore
         return attachmentsPath;
     }
 
+    /**
+     * Acquires write locks of given keys, in sorted order to avoid deadlocks. Locks are not owned by threads,
+     * as operations may be closed by other thread than the one created them.
+     */
+    List<WriteLock> lockWrites(Collection<String> keys) throws IOException {
+        ArrayList<WriteLock> locks = new ArrayList<>(keys.size());
+        for (String key : new TreeSet<>(keys)) {
+            WriteLock lock = WriteLock.use(basedir + "!" + key);
+            try {
+                lock.semaphore.acquire();
+            } catch (InterruptedException e) {
+                lock.unuse();
+                unlockWrites(locks);
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException(String.format("Store %s: interrupted while locking %s", name, keys));
+            }
+            try {
+                lock.lockFile(lockFile(key));
+            } catch (IOException | RuntimeException e) {
+                lock.semaphore.release();
+                lock.unuse();
+                unlockWrites(locks);
+                throw e;
+            }
+            locks.add(lock);
+        }
+        return locks;
+    }
+
+    static void unlockWrites(List<WriteLock> locks) {
+        for (WriteLock lock : locks) {
+            lock.unlockFile();
+            lock.semaphore.release();
+            lock.unuse();
+        }
+    }
+
+    /**
+     * The lock file of write lock key. Characters not safe in file names are replaced, so distinct keys may share
+     * lock file, which is safe (they are just serialized).
+     */
+    Path lockFile(String key) {
+        return basedir.resolve(".locks").resolve(key.replaceAll("[^A-Za-z0-9._-]", "~"));
+    }
+
+    /**
+     * The write lock key of artifact: its GAV (using base version).
+     */
+    static String writeKey(Artifact artifact) {
+        return artifact.getGroupId() + ":" + artifact.getArtifactId() + ":" + artifact.getBaseVersion();
+    }
+
     private <E> Collection<E> readIndex(String what, Function<String, E> transform) throws IOException {
         Path index = basedir.resolve(".meta").resolve(what);
         if (Files.isRegularFile(index)) {
-            try (Stream<String> lines = Files.readAllLines(index, StandardCharsets.UTF_8).stream()) {
-                return lines.map(transform).collect(Collectors.toSet());
+            String content;
+            try (NjordEvents.Event event = NjordEvents.begin(NjordEvents.Type.INDEX_LOAD)) {
+                byte[] bytes = Files.readAllBytes(index);
+                event.store(name).name(what).bytes(bytes.length);
+                content = new String(bytes, StandardCharsets.UTF_8);
             }
+            // ignore incomplete last line, as it may be being appended right now
+            int end = content.lastIndexOf('\n');
+            if (end < 0) {
+                return Collections.emptySet();
+            }
+            return Arrays.stream(content.substring(0, end).split("\r?\n"))
+                    .filter(l -> !l.isEmpty())
+                    .map(transform)
+                    .collect(Collectors.toSet());
         } else {
             return Collections.emptySet();
         }
@@ -474,13 +626,9 @@ public class PathArtifactStore extends CloseableSupport implements ArtifactStore
 
     private <E> void appendIndex(String what, Collection<E> entries, Function<E, String> transform) throws IOException {
         if (!entries.isEmpty()) {
-            Path index = basedir.resolve(".meta").resolve(what);
-            if (!Files.isRegularFile(index)) {
-                Files.createDirectories(index.getParent());
-                Files.createFile(index);
-            }
-            List<String> lines = entries.stream().map(transform).collect(Collectors.toList());
-            Files.write(index, lines, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+            IndexAppender.append(
+                    basedir.resolve(".meta").resolve(what),
+                    entries.stream().map(transform).collect(Collectors.toList()));
         }
     }
 }
@@ -0,0 +1,367 @@
+/*
+ * Copyright (c) 2023-2024 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.njord.shared.impl.store;
+
+import static java.util.Objects.requireNonNull;
+
+import eu.maveniverse.maven.njord.shared.impl.J8Utils;
+import eu.maveniverse.maven.shared.core.fs.FileUtils;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+
+/**
+ * Synthetic store generator, to reproduce large stores for tests, benchmarks and load tests. Each generated module
+ * consists of a POM (complete enough to pass Central validation), main JAR and JARs of configured classifiers (like
+ * sources and javadoc), each optionally accompanied by a (dummy) signature. Artifacts are put into store as
+ * connector and file transport would do, along with checksums as configured for store. Generated content depends
+ * on seed only, so same configuration produces same store content.
+ * <p>
+ * JAR sizes are drawn from configured distribution, and content is written in a streaming fashion (JAR entries are
+ * not compressed), so stores with multi-GB artifacts can be produced as well.
+ *
+ * @since 0.9.7
+ */
+public final class SyntheticArtifactStoreGenerator {
+    /**
+     * Distribution of JAR sizes, between minimum and maximum size.
+     */
+    public enum SizeDistribution {
+        /**
+         * All JARs have minimum size.
+         */
+        FIXED,
+        /**
+         * Sizes are uniformly distributed.
+         */
+        UNIFORM,
+        /**
+         * Sizes are log-uniformly distributed: many small and few large JARs, like in real life.
+         */
+        LOG_UNIFORM
+    }
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Timestamp of JAR entries: 2000-01-01T00:00:00Z.
+     */
+    private static final long ENTRY_TIME = 946_684_800_000L;
+
+    private final Path workdir;
+    private final String groupId;
+    private final String artifactIdPrefix;
+    private final String version;
+    private final int modules;
+    private final long minSize;
+    private final long maxSize;
+    private final SizeDistribution sizeDistribution;
+    private final List<String> classifiers;
+    private final boolean signatures;
+    private final long seed;
+
+    private SyntheticArtifactStoreGenerator(Builder builder) {
+        this.workdir = builder.workdir;
+        this.groupId = builder.groupId;
+        this.artifactIdPrefix = builder.artifactIdPrefix;
+        this.version = builder.version;
+        this.modules = builder.modules;
+        this.minSize = builder.minSize;
+        this.maxSize = builder.maxSize;
+        this.sizeDistribution = builder.sizeDistribution;
+        this.classifiers = J8Utils.copyOf(builder.classifiers);
+        this.signatures = builder.signatures;
+        this.seed = builder.seed;
+    }
+
+    /**
+     * Creates builder using given work directory to create artifact files in.
+     */
+    public static Builder builder(Path workdir) {
+        return new Builder(workdir);
+    }
+
+    /**
+     * The group ID of generated modules.
+     */
+    public String groupId() {
+        return groupId;
+    }
+
+    /**
+     * The version of generated modules.
+     */
+    public String version() {
+        return version;
+    }
+
+    /**
+     * The count of modules {@link #generate(PathArtifactStore)} generates.
+     */
+    public int modules() {
+        return modules;
+    }
+
+    /**
+     * The count of artifacts (checksums not included) per generated module.
+     */
+    public int artifactsPerModule() {
+        return (2 + classifiers.size()) * (signatures ? 2 : 1);
+    }
+
+    /**
+     * Returns the artifact ID of module with given index.
+     */
+    public String artifactId(int index) {
+        return String.format("%s-%05d", artifactIdPrefix, index);
+    }
+
+    /**
+     * Generates all modules into given store, one put per module. Returns the total size of artifacts put (checksums
+     * not included).
+     */
+    public long generate(PathArtifactStore store) throws IOException {
+        requireNonNull(store);
+        long bytes = 0;
+        for (int i = 0; i < modules; i++) {
+            List<Artifact> artifacts = module(i);
+            try {
+                put(store, artifacts);
+                for (Artifact artifact : artifacts) {
+                    bytes += artifact.getFile().length();
+                }
+            } finally {
+                FileUtils.deleteRecursively(workdir.resolve(artifactId(i)));
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Creates files of module with given index in work directory and returns the artifacts backed by them. If files
+     * already exist, they are reused. Files are not deleted by generator.
+     */
+    public List<Artifact> module(int index) throws IOException {
+        String artifactId = artifactId(index);
+        Random random = new Random(seed * 31 + index);
+        Path dir = Files.createDirectories(workdir.resolve(artifactId));
+        ArrayList<Artifact> jars = new ArrayList<>();
+        jars.add(artifact(dir, artifactId, "", "pom"));
+        jars.add(artifact(dir, artifactId, "", "jar"));
+        for (String classifier : classifiers) {
+            jars.add(artifact(dir, artifactId, classifier, "jar"));
+        }
+        ArrayList<Artifact> result = new ArrayList<>();
+        for (Artifact artifact : jars) {
+            Path file = artifact.getFile().toPath();
+            if (!Files.isRegularFile(file)) {
+                if ("pom".equals(artifact.getExtension())) {
+                    Files.write(file, pom(artifactId).getBytes(StandardCharsets.UTF_8));
+                } else {
+                    jar(file, artifact.getClassifier().isEmpty() ? "Main.class" : "Main.txt", size(random), random);
+                }
+            }
+            result.add(artifact);
+            if (signatures) {
+                Artifact signature =
+                        artifact(dir, artifactId, artifact.getClassifier(), artifact.getExtension() + ".asc");
+                if (!Files.isRegularFile(signature.getFile().toPath())) {
+                    Files.write(
+                            signature.getFile().toPath(),
+                            ("-----BEGIN PGP SIGNATURE-----\n" + artifactId + "\n-----END PGP SIGNATURE-----\n")
+                                    .getBytes(StandardCharsets.US_ASCII));
+                }
+                result.add(signature);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Puts given artifacts into store as connector and file transport would do, along with checksums as configured
+     * for store.
+     *
+     * @see ArtifactStoreUtils#putWithChecksums(PathArtifactStore, List)
+     */
+    public void put(PathArtifactStore store, List<Artifact> artifacts) throws IOException {
+        ArtifactStoreUtils.putWithChecksums(store, artifacts);
+    }
+
+    private Artifact artifact(Path dir, String artifactId, String classifier, String extension) {
+        String fileName = artifactId + "-" + version + (classifier.isEmpty() ? "" : "-" + classifier) + "." + extension;
+        return new DefaultArtifact(groupId, artifactId, classifier, extension, version)
+                .setFile(dir.resolve(fileName).toFile());
+    }
+
+    private long size(Random random) {
+        switch (sizeDistribution) {
+            case FIXED:
+                return minSize;
+            case UNIFORM:
+                return minSize + (long) (random.nextDouble() * (maxSize - minSize));
+            case LOG_UNIFORM:
+                double min = Math.log(Math.max(1, minSize));
+                double max = Math.log(Math.max(1, maxSize));
+                return Math.max(minSize, Math.min(maxSize, (long) Math.exp(min + random.nextDouble() * (max - min))));
+            default:
+                throw new IllegalStateException("Unknown size distribution: " + sizeDistribution);
+        }
+    }
+
+    private static void jar(Path file, String entryName, long size, Random random) throws IOException {
+        try (OutputStream out = Files.newOutputStream(file);
+                ZipOutputStream zip = new ZipOutputStream(out)) {
+            zip.setLevel(Deflater.NO_COMPRESSION);
+            zip.putNextEntry(entry("META-INF/MANIFEST.MF"));
+            zip.write("Manifest-Version: 1.0\n".getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+            zip.putNextEntry(entry(entryName));
+            byte[] buffer = new byte[BUFFER_SIZE];
+            long remaining = size;
+            while (remaining > 0) {
+                random.nextBytes(buffer);
+                int len = (int) Math.min(buffer.length, remaining);
+                zip.write(buffer, 0, len);
+                remaining -= len;
+            }
+            zip.closeEntry();
+        }
+    }
+
+    /**
+     * Entries have fixed timestamp, as otherwise JAR content would depend on time of generation.
+     */
+    private static ZipEntry entry(String name) {
+        ZipEntry entry = new ZipEntry(name);
+        entry.setTime(ENTRY_TIME);
+        return entry;
+    }
+
+    private String pom(String artifactId) {
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n"
+                + "  <modelVersion>4.0.0</modelVersion>\n"
+                + "  <groupId>" + groupId + "</groupId>\n"
+                + "  <artifactId>" + artifactId + "</artifactId>\n"
+                + "  <version>" + version + "</version>\n"
+                + "  <packaging>jar</packaging>\n"
+                + "  <name>" + artifactId + "</name>\n"
+                + "  <description>Synthetic module " + artifactId + "</description>\n"
+                + "  <url>https://example.org/" + artifactId + "</url>\n"
+                + "  <licenses>\n"
+                + "    <license>\n"
+                + "      <name>EPL-2.0</name>\n"
+                + "      <url>https://www.eclipse.org/legal/epl-2.0/</url>\n"
+                + "    </license>\n"
+                + "  </licenses>\n"
+                + "  <developers>\n"
+                + "    <developer>\n"
+                + "      <name>Njord</name>\n"
+                + "    </developer>\n"
+                + "  </developers>\n"
+                + "  <scm>\n"
+                + "    <url>https://example.org/" + artifactId + "</url>\n"
+                + "    <connection>scm:git:https://example.org/" + artifactId + ".git</connection>\n"
+                + "  </scm>\n"
+                + "</project>\n";
+    }
+
+    /**
+     * Builder of {@link SyntheticArtifactStoreGenerator}.
+     */
+    public static final class Builder {
+        private final Path workdir;
+        private String groupId = "org.example.njord.synthetic";
+        private String artifactIdPrefix = "module";
+        private String version = "1.0.0";
+        private int modules = 10;
+        private long minSize = 1024;
+        private long maxSize = 1024 * 1024;
+        private SizeDistribution sizeDistribution = SizeDistribution.LOG_UNIFORM;
+        private List<String> classifiers = Arrays.asList("sources", "javadoc");
+        private boolean signatures = true;
+        private long seed = 0;
+
+        private Builder(Path workdir) {
+            this.workdir = requireNonNull(workdir);
+        }
+
+        public Builder groupId(String groupId) {
+            this.groupId = requireNonNull(groupId);
+            return this;
+        }
+
+        public Builder artifactIdPrefix(String artifactIdPrefix) {
+            this.artifactIdPrefix = requireNonNull(artifactIdPrefix);
+            return this;
+        }
+
+        public Builder version(String version) {
+            this.version = requireNonNull(version);
+            return this;
+        }
+
+        public Builder modules(int modules) {
+            if (modules < 0) {
+                throw new IllegalArgumentException("Modules must be non-negative");
+            }
+            this.modules = modules;
+            return this;
+        }
+
+        /**
+         * Sets minimum and maximum size of JAR content in bytes.
+         */
+        public Builder size(long minSize, long maxSize) {
+            if (minSize < 0 || maxSize < minSize) {
+                throw new IllegalArgumentException("Invalid size range: " + minSize + "-" + maxSize);
+            }
+            this.minSize = minSize;
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        public Builder sizeDistribution(SizeDistribution sizeDistribution) {
+            this.sizeDistribution = requireNonNull(sizeDistribution);
+            return this;
+        }
+
+        /**
+         * Sets the classifiers of JARs attached to each module, like {@code sources} and {@code javadoc}.
+         */
+        public Builder classifiers(List<String> classifiers) {
+            this.classifiers = requireNonNull(classifiers);
+            return this;
+        }
+
+        public Builder signatures(boolean signatures) {
+            this.signatures = signatures;
+            return this;
+        }
+
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public SyntheticArtifactStoreGenerator build() {
+            return new SyntheticArtifactStoreGenerator(this);
+        }
+    }
+}
@@ -0,0 +1,467 @@
+/*
+ * Copyright (c) 2023-2024 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.njord.shared.impl.store;
+
+import static eu.maveniverse.maven.njord.shared.impl.store.ArtifactStoreUtils.validateArtifactStoreName;
+import static eu.maveniverse.maven.njord.shared.impl.store.ArtifactStoreUtils.validateName;
+import static java.util.Objects.requireNonNull;
+
+import eu.maveniverse.maven.njord.shared.store.ArtifactStore;
+import eu.maveniverse.maven.njord.shared.store.ArtifactStoreTemplate;
+import eu.maveniverse.maven.njord.shared.store.RepositoryMode;
+import eu.maveniverse.maven.njord.shared.store.WriteMode;
+import eu.maveniverse.maven.shared.core.component.CloseableSupport;
+import eu.maveniverse.maven.shared.core.fs.FileUtils;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.metadata.DefaultMetadata;
+import org.eclipse.aether.metadata.Metadata;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.spi.connector.checksum.ChecksumAlgorithmFactory;
+import org.eclipse.aether.util.artifact.ArtifactIdUtils;
+
+/**
+ * Read-only artifact store backed by a bundle ZIP file: either a "transportable" Njord bundle (with {@code .meta}
+ * indexes) or a plain bundle using Maven repository layout (like the ones Sonatype Central Portal accepts). Content
+ * is served directly from the ZIP central directory, without extracting it. Artifacts returned by this store have
+ * no backing file set; consumers should use {@link #artifactContent(Artifact)} instead.
+ * <p>
+ * The only exception is {@link #storeRemoteRepository()}, that lazily extracts POM files (and their checksums) into
+ * a temporary directory, as Resolver needs a real repository to build effective models. Similarly,
+ * {@link ArtifactStoreDeployer} extracts the deployed artifacts into a temporary directory, as Resolver deploys files.
+ */
+public class ZipArtifactStore extends CloseableSupport implements ArtifactStore {
+    private static final String ATTACHMENTS_PREFIX = ".attachments/";
+
+    private static final List<String> CHECKSUM_EXTENSIONS = Arrays.asList(".sha1", ".md5", ".sha256", ".sha512");
+
+    private final String name;
+    private final ArtifactStoreTemplate template;
+    private final Instant created;
+    private final RepositoryMode repositoryMode;
+    private final List<ChecksumAlgorithmFactory> checksumAlgorithmFactories;
+    private final List<String> omitChecksumsForExtensions;
+    private final Artifact originProjectArtifact;
+    private final Path bundleFile;
+    private final ZipFile zipFile;
+    private final DefaultLayout storeLayout;
+    private final Map<String, ZipEntry> entries;
+    private final Collection<Artifact> artifacts;
+    private final Collection<Metadata> metadata;
+    private Path extracted;
+
+    public ZipArtifactStore(
+            String name,
+            ArtifactStoreTemplate template,
+            Instant created,
+            RepositoryMode repositoryMode,
+            List<ChecksumAlgorithmFactory> checksumAlgorithmFactories,
+            List<String> omitChecksumsForExtensions,
+            Artifact originProjectArtifact, // nullable
+            Path bundleFile,
+            ZipFile zipFile)
+            throws IOException {
+        this.name = validateArtifactStoreName(name);
+        this.template = requireNonNull(template);
+        this.created = requireNonNull(created);
+        this.repositoryMode = requireNonNull(repositoryMode);
+        this.checksumAlgorithmFactories = requireNonNull(checksumAlgorithmFactories);
+        this.omitChecksumsForExtensions = requireNonNull(omitChecksumsForExtensions);
+        this.originProjectArtifact = originProjectArtifact;
+        this.bundleFile = requireNonNull(bundleFile);
+        this.zipFile = requireNonNull(zipFile);
+        this.storeLayout = new DefaultLayout();
+        this.entries = readEntries(zipFile);
+        if (entries.containsKey(".meta/artifacts") || entries.containsKey(".meta/metadata")) {
+            this.artifacts = readIndex("artifacts", l -> {
+                String[] split = l.split("=");
+                return new DefaultArtifact(split[0]);
+            });
+            this.metadata = readIndex("metadata", l -> {
+                String[] split = l.split("=");
+                String[] coord = split[0].split(":");
+                return new DefaultMetadata(
+                        coord[0],
+                        coord[1],
+                        coord[2],
+                        coord[3],
+                        repositoryMode == RepositoryMode.RELEASE ? Metadata.Nature.RELEASE : Metadata.Nature.SNAPSHOT);
+            });
+        } else {
+            this.artifacts = Collections.unmodifiableList(entries.keySet().stream()
+                    .map(ZipArtifactStore::artifactFromPath)
+                    .filter(Optional::isPresent)
+                    .map(Optional::get)
+                    .collect(Collectors.toList()));
+            this.metadata = Collections.emptyList();
+        }
+    }
+
+    /**
+     * The bundle file backing this store.
+     */
+    public Path bundleFile() {
+        return bundleFile;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public ArtifactStoreTemplate template() {
+        return template;
+    }
+
+    @Override
+    public Instant created() {
+        return created;
+    }
+
+    @Override
+    public RepositoryMode repositoryMode() {
+        return repositoryMode;
+    }
+
+    @Override
+    public WriteMode writeMode() {
+        return WriteMode.READ_ONLY;
+    }
+
+    @Override
+    public List<ChecksumAlgorithmFactory> checksumAlgorithmFactories() {
+        return checksumAlgorithmFactories;
+    }
+
+    @Override
+    public List<String> omitChecksumsForExtensions() {
+        return omitChecksumsForExtensions;
+    }
+
+    @Override
+    public Optional<Artifact> originProjectArtifact() {
+        return Optional.ofNullable(originProjectArtifact);
+    }
+
+    @Override
+    public Collection<Artifact> artifacts() throws IOException {
+        checkClosed();
+        return artifacts;
+    }
+
+    @Override
+    public Collection<Metadata> metadata() throws IOException {
+        checkClosed();
+        return metadata;
+    }
+
+    @Override
+    public boolean artifactPresent(Artifact artifact) throws IOException {
+        requireNonNull(artifact);
+        checkClosed();
+        return entries.containsKey(storeLayout.artifactPath(artifact));
+    }
+
+    @Override
+    public boolean metadataPresent(Metadata metadata) throws IOException {
+        requireNonNull(metadata);
+        checkClosed();
+        return entries.containsKey(storeLayout.metadataPath(metadata));
+    }
+
+    @Override
+    public Optional<InputStream> artifactContent(Artifact artifact) throws IOException {
+        requireNonNull(artifact);
+        checkClosed();
+        return entryContent(storeLayout.artifactPath(artifact));
+    }
+
+    @Override
+    public Optional<InputStream> metadataContent(Metadata metadata) throws IOException {
+        requireNonNull(metadata);
+        checkClosed();
+        return entryContent(storeLayout.metadataPath(metadata));
+    }
+
+    @Override
+    public RepositorySystemSession storeRepositorySession(RepositorySystemSession session) {
+        checkClosed();
+        requireNonNull(session);
+        DefaultRepositorySystemSession session2 = new DefaultRepositorySystemSession(session);
+
+        // checksums
+        String caf = checksumAlgorithmFactories().stream()
+                .map(ChecksumAlgorithmFactory::getName)
+                .collect(Collectors.joining(","));
+
+        // resolver 1 and 2
+        session2.setConfigProperty("aether.checksums.algorithms", caf);
+        session2.setConfigProperty("aether.layout.maven2.checksumAlgorithms", caf);
+
+        session2.setConfigProperty(
+                "aether.checksums.omitChecksumsForExtensions", String.join(",", omitChecksumsForExtensions()));
+        return session2;
+    }
+
+    @Override
+    public synchronized RemoteRepository storeRemoteRepository() {
+        checkClosed();
+        if (extracted == null) {
+            try {
+                Path directory = Files.createTempDirectory("njord-" + name);
+                for (String path : entries.keySet()) {
+                    if (isVisible(path) && (path.endsWith(".pom") || path.contains(".pom."))) {
+                        extract(path, directory);
+                    }
+                }
+                extracted = directory;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return new RemoteRepository.Builder(name(), "default", "file://" + extracted).build();
+    }
+
+    @Override
+    public void writeTo(Path directory) throws IOException {
+        requireNonNull(directory);
+        checkClosed();
+        if (!Files.isDirectory(directory)) {
+            throw new IOException("Directory does not exist");
+        }
+        for (String path : entries.keySet()) {
+            if (isVisible(path)) {
+                extract(path, directory);
+            }
+        }
+    }
+
+    @Override
+    public Operation put(Collection<Artifact> artifacts, Collection<Metadata> metadata) throws IOException {
+        requireNonNull(artifacts);
+        requireNonNull(metadata);
+        checkClosed();
+        throw new IOException(String.format("Store %s: does not allow write operations.", name));
+    }
+
+    @Override
+    public boolean isEmpty() throws IOException {
+        return artifacts().isEmpty() && metadata().isEmpty();
+    }
+
+    @Override
+    public Collection<String> attachments() throws IOException {
+        checkClosed();
+        return Collections.unmodifiableList(entries.keySet().stream()
+                .filter(p -> p.startsWith(ATTACHMENTS_PREFIX))
+                .map(p -> p.substring(ATTACHMENTS_PREFIX.length()))
+                .filter(p -> !p.contains("/"))
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public boolean attachmentPresent(String attachmentName) throws IOException {
+        validateName(attachmentName);
+        checkClosed();
+        return entries.containsKey(ATTACHMENTS_PREFIX + attachmentName);
+    }
+
+    @Override
+    public Optional<InputStream> attachmentContent(String attachmentName) throws IOException {
+        validateName(attachmentName);
+        checkClosed();
+        return entryContent(ATTACHMENTS_PREFIX + attachmentName);
+    }
+
+    @Override
+    public AttachmentOperation manageAttachment(String attachmentName) throws IOException {
+        validateName(attachmentName);
+        checkClosed();
+        throw new IOException(String.format("Store %s: does not allow write operations.", name));
+    }
+
+    @Override
+    protected void doClose() throws IOException {
+        try {
+            zipFile.close();
+        } finally {
+            synchronized (this) {
+                if (extracted != null) {
+                    FileUtils.deleteRecursively(extracted);
+                    extracted = null;
+                }
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        String origin = originProjectArtifact == null
+                ? ""
+                : " staged from " + ArtifactIdUtils.toId(originProjectArtifact) + " ";
+        if (closed.get()) {
+            return String.format(
+                    "%s%s(%s, %s, %s, %s, closed)",
+                    name(), origin, created(), repositoryMode().name(), template.name(), bundleFile.getFileName());
+        } else {
+            return String.format(
+                    "%s%s(%s, %s, %s, %s, %s artifacts)",
+                    name(),
+                    origin,
+                    created(),
+                    repositoryMode().name(),
+                    template.name(),
+                    bundleFile.getFileName(),
+                    artifacts.size());
+        }
+    }
+
+    private Optional<InputStream> entryContent(String path) throws IOException {
+        ZipEntry entry = entries.get(path);
+        if (entry != null) {
+            return Optional.of(zipFile.getInputStream(entry));
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    private void extract(String path, Path directory) throws IOException {
+        Path target = directory.resolve(path).normalize();
+        if (!target.startsWith(directory)) {
+            throw new IOException(String.format("Store %s: Invalid bundle entry: %s", name, path));
+        }
+        Files.createDirectories(target.getParent());
+        try (InputStream in = zipFile.getInputStream(entries.get(path))) {
+            Files.copy(in, target);
+        }
+    }
+
+    private <E> Collection<E> readIndex(String what, Function<String, E> transform) throws IOException {
+        ZipEntry index = entries.get(".meta/" + what);
+        if (index != null) {
+            ArrayList<E> result = new ArrayList<>();
+            try (BufferedReader reader =
+                    new BufferedReader(new InputStreamReader(zipFile.getInputStream(index), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.trim().isEmpty()) {
+                        result.add(transform.apply(line));
+                    }
+                }
+            }
+            return Collections.unmodifiableList(result);
+        } else {
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Returns {@code false} for entries that are store internals (any path segment starting with dot).
+     */
+    private static boolean isVisible(String path) {
+        return Arrays.stream(path.split("/")).noneMatch(s -> s.startsWith("."));
+    }
+
+    private static Map<String, ZipEntry> readEntries(ZipFile zipFile) {
+        LinkedHashMap<String, ZipEntry> result = new LinkedHashMap<>();
+        Enumeration<? extends ZipEntry> zipEntries = zipFile.entries();
+        while (zipEntries.hasMoreElements()) {
+            ZipEntry entry = zipEntries.nextElement();
+            if (!entry.isDirectory()) {
+                String path = entry.getName();
+                while (path.startsWith("/")) {
+                    path = path.substring(1);
+                }
+                result.put(path, entry);
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    private static final Pattern SNAPSHOT_TIMESTAMP = Pattern.compile("^(\\d{8}\\.\\d{6}-\\d+)");
+
+    /**
+     * Derives artifact from a path in Maven repository layout, if possible. Hidden entries, checksums and metadata
+     * are not considered artifacts.
+     */
+    static Optional<Artifact> artifactFromPath(String path) {
+        if (!isVisible(path)) {
+            return Optional.empty();
+        }
+        String[] segments = path.split("/");
+        if (segments.length < 4) {
+            return Optional.empty();
+        }
+        String fileName = segments[segments.length - 1];
+        String baseVersion = segments[segments.length - 2];
+        String artifactId = segments[segments.length - 3];
+        String groupId = String.join(".", Arrays.copyOfRange(segments, 0, segments.length - 3));
+        if (!fileName.startsWith(artifactId + "-")
+                || CHECKSUM_EXTENSIONS.stream().anyMatch(fileName::endsWith)) {
+            return Optional.empty();
+        }
+        String rest = fileName.substring(artifactId.length() + 1);
+        String version;
+        if (rest.startsWith(baseVersion)) {
+            version = baseVersion;
+        } else if (baseVersion.endsWith("-SNAPSHOT")
+                && rest.startsWith(baseVersion.substring(0, baseVersion.length() - "SNAPSHOT".length()))) {
+            String prefix = baseVersion.substring(0, baseVersion.length() - "SNAPSHOT".length());
+            Matcher matcher = SNAPSHOT_TIMESTAMP.matcher(rest.substring(prefix.length()));
+            if (!matcher.find()) {
+                return Optional.empty();
+            }
+            version = prefix + matcher.group(1);
+        } else {
+            return Optional.empty();
+        }
+        rest = rest.substring(version.length());
+        String classifier = "";
+        String extension;
+        if (rest.startsWith("-")) {
+            int dot = rest.indexOf('.');
+            if (dot < 0) {
+                return Optional.empty();
+            }
+            classifier = rest.substring(1, dot);
+            extension = rest.substring(dot + 1);
+        } else if (rest.startsWith(".")) {
+            extension = rest.substring(1);
+        } else {
+            return Optional.empty();
+        }
+        return Optional.of(new DefaultArtifact(groupId, artifactId, classifier, extension, version));
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2023-2024 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.njord.shared.metrics;
+
+import java.util.List;
+
+/**
+ * Session metrics: counters, timers and histograms keyed by subsystem, store and name. The store may be
+ * {@code null} for session level metrics. Implementations must be thread safe and cheap to update, as they are
+ * updated from hot paths like staging.
+ *
+ * @since 0.9.7
+ */
+public interface Metrics {
+    /**
+     * Subsystem of staging (connector puts).
+     */
+    String STAGING = "staging";
+
+    /**
+     * Subsystem of store index commits.
+     */
+    String INDEX = "index";
+
+    /**
+     * Subsystem of validation, names are validator names.
+     */
+    String VALIDATION = "validation";
+
+    /**
+     * Subsystem of bundle creation.
+     */
+    String BUNDLE = "bundle";
+
+    /**
+     * Subsystem of publishing, including upload.
+     */
+    String PUBLISH = "publish";
+
+    /**
+     * Subsystem of remote status polling.
+     */
+    String STATUS = "status";
+
+    /**
+     * Running timer, records the elapsed time when closed.
+     */
+    interface Timer extends AutoCloseable {
+        /**
+         * Stops this timer and records elapsed time, if not yet stopped. Returns the elapsed nanoseconds.
+         */
+        long stop();
+
+        @Override
+        default void close() {
+            stop();
+        }
+    }
+
+    /**
+     * Adds delta to counter.
+     */
+    void count(String subsystem, String store, String name, long delta);
+
+    /**
+     * Records a value into histogram, like sizes.
+     */
+    void record(String subsystem, String store, String name, long value);
+
+    /**
+     * Records elapsed time (in nanoseconds) into timer.
+     */
+    void time(String subsystem, String store, String name, long nanos);
+
+    /**
+     * Starts a timer, that records elapsed time once closed.
+     */
+    default Timer start(String subsystem, String store, String name) {
+        long start = System.nanoTime();
+        return new Timer() {
+            private long elapsed = -1;
+
+            @Override
+            public synchronized long stop() {
+                if (elapsed < 0) {
+                    elapsed = System.nanoTime() - start;
+                    time(subsystem, store, name, elapsed);
+                }
+                return elapsed;
+            }
+        };
+    }
+
+    /**
+     * Returns {@code true} if no metric was recorded yet.
+     */
+    boolean isEmpty();
+
+    /**
+     * Returns concise human readable report of all metrics, one line per metric.
+     */
+    List<String> report();
+
+    /**
+     * Returns JSON snapshot of metrics of given store and session level metrics. If store is {@code null}, all
+     * metrics are included.
+     */
+    String toJson(String store);
+}
@@ -75,4 +75,22 @@ public interface ArtifactStorePublisher {
             super(message, cause);
         }
     }
+
+    /**
+     * Special exception that signals that service responded with unexpected HTTP status code.
+     *
+     * @since 0.9.7
+     */
+    class UnexpectedStatusException extends IOException {
+        private final int statusCode;
+
+        public UnexpectedStatusException(int statusCode, String message) {
+            super(message);
+            this.statusCode = statusCode;
+        }
+
+        public int statusCode() {
+            return statusCode;
+        }
+    }
 }
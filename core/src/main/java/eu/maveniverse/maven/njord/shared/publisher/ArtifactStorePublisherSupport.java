@@ -11,11 +11,13 @@ import static java.util.Objects.requireNonNull;
 
 import eu.maveniverse.maven.njord.shared.Session;
 import eu.maveniverse.maven.njord.shared.impl.J8Utils;
+import eu.maveniverse.maven.njord.shared.metrics.Metrics;
 import eu.maveniverse.maven.njord.shared.store.ArtifactStore;
 import eu.maveniverse.maven.njord.shared.store.RepositoryMode;
 import eu.maveniverse.maven.shared.core.component.ComponentSupport;
 import java.io.IOException;
 import java.util.Optional;
+import java.util.function.Predicate;
 import org.eclipse.aether.RepositorySystem;
 import org.eclipse.aether.repository.RemoteRepository;
 
@@ -95,7 +97,9 @@ public abstract class ArtifactStorePublisherSupport extends ComponentSupport imp
     public Optional<ArtifactStoreValidator.ValidationResult> validate(ArtifactStore artifactStore) throws IOException {
         requireNonNull(artifactStore);
 
-        return doValidate(artifactStore);
+        try (Metrics.Timer ignored = session.metrics().start(Metrics.VALIDATION, artifactStore.name(), "total")) {
+            return doValidate(artifactStore);
+        }
     }
 
     protected Optional<ArtifactStoreValidator.ValidationResult> doValidate(ArtifactStore artifactStore)
@@ -114,13 +118,59 @@ public abstract class ArtifactStorePublisherSupport extends ComponentSupport imp
     public void publish(ArtifactStore artifactStore) throws IOException {
         requireNonNull(artifactStore);
 
-        try (ArtifactStore as = artifactStore) {
+        try (ArtifactStore as = artifactStore;
+                Metrics.Timer ignored = session.metrics().start(Metrics.PUBLISH, artifactStore.name(), name)) {
             doPublish(as);
         }
     }
 
     protected abstract void doPublish(ArtifactStore artifactStore) throws IOException;
 
+    /**
+     * Executes remote operation with given retry policy, retrying transient failures.
+     *
+     * @since 0.9.7
+     */
+    protected <T> T retry(
+            ArtifactStore artifactStore,
+            RetryPolicy retryPolicy,
+            String description,
+            RetryPolicy.Operation<T> operation)
+            throws IOException {
+        return retry(artifactStore, retryPolicy, description, operation, RetryPolicy::isTransient, null);
+    }
+
+    /**
+     * Executes remote operation with given retry policy, see
+     * {@link RetryPolicy#execute(String, RetryPolicy.Operation, Predicate, RetryPolicy.Operation)}. Retryable failures
+     * are counted in metrics.
+     *
+     * @since 0.9.7
+     */
+    protected <T> T retry(
+            ArtifactStore artifactStore,
+            RetryPolicy retryPolicy,
+            String description,
+            RetryPolicy.Operation<T> operation,
+            Predicate<IOException> retryable,
+            RetryPolicy.Operation<Optional<T>> existing)
+            throws IOException {
+        requireNonNull(artifactStore);
+        requireNonNull(retryPolicy);
+        requireNonNull(retryable);
+        return retryPolicy.execute(
+                description,
+                operation,
+                e -> {
+                    boolean result = retryable.test(e);
+                    if (result) {
+                        session.metrics().count(Metrics.PUBLISH, artifactStore.name(), "retryableFailures", 1);
+                    }
+                    return result;
+                },
+                existing);
+    }
+
     protected RemoteRepository selectServiceRemoteRepositoryFor(ArtifactStore artifactStore) {
         RemoteRepository repository = artifactStore.repositoryMode() == RepositoryMode.RELEASE
                 ? serviceReleaseRepository
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2023-2024 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.njord.shared.publisher;
+
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bandwidth cap shared by concurrent transfers: each transfer reserves the time slot its bytes take at given
+ * bandwidth, and sleeps until its slot comes. Hence, the sum of all transfers using same limiter stays below the cap.
+ * Idle time is not accumulated, so there are no bursts after pauses.
+ *
+ * @since 0.9.7
+ */
+public final class BandwidthLimiter {
+    private final long bandwidth;
+    private long nextFreeNanos;
+
+    /**
+     * Creates limiter.
+     *
+     * @param bandwidth the maximum bandwidth in bytes per second, must be positive
+     */
+    public BandwidthLimiter(long bandwidth) {
+        if (bandwidth < 1) {
+            throw new IllegalArgumentException("Bandwidth must be positive");
+        }
+        this.bandwidth = bandwidth;
+        this.nextFreeNanos = System.nanoTime();
+    }
+
+    /**
+     * Returns the maximum bandwidth in bytes per second.
+     */
+    public long bandwidth() {
+        return bandwidth;
+    }
+
+    /**
+     * Acquires given count of bytes, sleeping if needed, and returns the nanoseconds spent sleeping.
+     */
+    public long acquire(int count) throws InterruptedIOException {
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            if (nextFreeNanos < now) {
+                nextFreeNanos = now;
+            }
+            waitNanos = nextFreeNanos - now;
+            nextFreeNanos += (long) (count * 1_000_000_000d / bandwidth);
+        }
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while throttling");
+            }
+        }
+        return waitNanos;
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2023-2024 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.njord.shared.publisher;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.HttpEntityWrapper;
+
+/**
+ * Helper for HTTP based publishers, to meter entities sent over the wire. Requires Apache HttpCore, that is an
+ * optional dependency of core; publishers using it must depend on it themselves.
+ *
+ * @since 0.9.7
+ */
+public final class MeteredHttpEntity {
+    private MeteredHttpEntity() {}
+
+    /**
+     * Wraps entity, so its content written to the wire is metered (and throttled, if meter caps bandwidth).
+     */
+    public static HttpEntity metered(HttpEntity entity, TransferMeter meter) {
+        requireNonNull(entity);
+        requireNonNull(meter);
+        return new HttpEntityWrapper(entity) {
+            @Override
+            public void writeTo(OutputStream outStream) throws IOException {
+                super.writeTo(meter.wrap(outStream));
+            }
+        };
+    }
+}
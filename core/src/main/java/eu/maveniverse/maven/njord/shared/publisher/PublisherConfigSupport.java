@@ -9,10 +9,13 @@ package eu.maveniverse.maven.njord.shared.publisher;
 
 import static java.util.Objects.requireNonNull;
 
+import eu.maveniverse.maven.njord.shared.Session;
 import eu.maveniverse.maven.njord.shared.SessionConfig;
 import eu.maveniverse.maven.njord.shared.impl.J8Utils;
 import eu.maveniverse.maven.njord.shared.impl.ResolverUtils;
 import eu.maveniverse.maven.njord.shared.store.RepositoryMode;
+import java.time.Duration;
+import java.util.Arrays;
 import org.eclipse.aether.repository.RemoteRepository;
 import org.eclipse.aether.repository.RepositoryPolicy;
 import org.eclipse.aether.util.ConfigUtils;
@@ -24,6 +27,16 @@ import org.eclipse.aether.util.ConfigUtils;
  * like in case of deploy, but in some cases, like Sonatype CP they are different: to publish to central (one URL)
  * you in fact use some other service URL. The target repository IDs play important role, as they are used to source
  * auth, so they are reused when service repositories are being altered.
+ * <p>
+ * Publishers performing remote calls on their own should use the {@link RetryPolicy} and {@link TransferMeter}
+ * configured with properties:
+ * <ul>
+ *     <li><code>njord.publisher.NAME.retryInitialBackoff</code> (alias <code>njord.retryInitialBackoff</code>) - the backoff before first retry (def: PT1S)</li>
+ *     <li><code>njord.publisher.NAME.retryMaxBackoff</code> (alias <code>njord.retryMaxBackoff</code>) - the maximum backoff between retries (def: PT30S)</li>
+ *     <li><code>njord.publisher.NAME.retryDeadline</code> (alias <code>njord.retryDeadline</code>) - the total time a remote call may spend waiting between retries (time spent in attempts is not counted); PT0S disables retries (def: PT5M)</li>
+ *     <li><code>njord.publisher.NAME.uploadBandwidth</code> (alias <code>njord.uploadBandwidth</code>) - the upload bandwidth cap in bytes per second, shared by all concurrent uploads of session; 0 means no cap (def: 0)</li>
+ *     <li><code>njord.publisher.NAME.uploadProgressInterval</code> (alias <code>njord.uploadProgressInterval</code>) - the interval of upload progress reports; PT0S disables them (def: PT10S)</li>
+ * </ul>
  */
 public abstract class PublisherConfigSupport {
     /**
@@ -47,6 +60,9 @@ public abstract class PublisherConfigSupport {
     protected final String name;
     protected final SessionConfig sessionConfig;
     protected final String artifactStoreRequirements;
+    protected final RetryPolicy retryPolicy;
+    protected final long uploadBandwidth;
+    protected final Duration uploadProgressInterval;
 
     protected final RemoteRepository targetReleaseRepository;
     protected final RemoteRepository targetSnapshotRepository;
@@ -60,6 +76,23 @@ public abstract class PublisherConfigSupport {
                 sessionConfig.effectiveProperties(),
                 ArtifactStoreRequirements.NONE.name(),
                 keyNames("artifactStoreRequirements"));
+        this.retryPolicy = new RetryPolicy(
+                Duration.parse(ConfigUtils.getString(
+                        sessionConfig.effectiveProperties(), "PT1S", keyNames("retryInitialBackoff"))),
+                Duration.parse(ConfigUtils.getString(
+                        sessionConfig.effectiveProperties(), "PT30S", keyNames("retryMaxBackoff"))),
+                Duration.parse(
+                        ConfigUtils.getString(sessionConfig.effectiveProperties(), "PT5M", keyNames("retryDeadline"))));
+        this.uploadBandwidth =
+                ConfigUtils.getLong(sessionConfig.effectiveProperties(), 0L, keyNames("uploadBandwidth"));
+        if (this.uploadBandwidth < 0) {
+            throw new IllegalArgumentException("uploadBandwidth cannot be negative");
+        }
+        this.uploadProgressInterval = Duration.parse(ConfigUtils.getString(
+                sessionConfig.effectiveProperties(), "PT10S", keyNames("uploadProgressInterval")));
+        if (this.uploadProgressInterval.isNegative()) {
+            throw new IllegalArgumentException("uploadProgressInterval cannot be negative");
+        }
 
         this.targetReleaseRepository = createTargetReleaseRepository();
         this.targetSnapshotRepository = createTargetSnapshotRepository();
@@ -148,6 +181,32 @@ public abstract class PublisherConfigSupport {
         return artifactStoreRequirements;
     }
 
+    /**
+     * The retry policy of remote calls.
+     *
+     * @since 0.9.7
+     */
+    public RetryPolicy retryPolicy() {
+        return retryPolicy;
+    }
+
+    /**
+     * Creates meter of upload transfer, with configured bandwidth cap and progress reporting. The bandwidth cap is
+     * shared by all uploads of given session, so concurrent uploads together stay below it.
+     *
+     * @since 0.9.7
+     */
+    public TransferMeter uploadMeter(Session session, String description, long totalBytes) {
+        requireNonNull(session);
+        BandwidthLimiter limiter = null;
+        if (uploadBandwidth > 0) {
+            limiter = session.getOrCreateSessionResource(
+                    Arrays.asList(BandwidthLimiter.class, uploadBandwidth),
+                    () -> new BandwidthLimiter(uploadBandwidth));
+        }
+        return new TransferMeter(description, totalBytes, limiter, uploadProgressInterval);
+    }
+
     public RemoteRepository targetReleaseRepository() {
         return targetReleaseRepository;
     }
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2023-2024 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.njord.shared.publisher;
+
+import static java.util.Objects.requireNonNull;
+
+import eu.maveniverse.maven.shared.core.component.ComponentSupport;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+/**
+ * Retry policy of publisher remote operations: failed operations are re-attempted with exponentially growing
+ * backoff (with jitter, to not have parallel callers retry in lockstep), until they succeed, fail with non-retryable
+ * failure, or time spent waiting between attempts reaches the deadline.
+ *
+ * @since 0.9.7
+ */
+public final class RetryPolicy extends ComponentSupport {
+    /**
+     * Policy that does not retry.
+     */
+    public static final RetryPolicy NONE = new RetryPolicy(Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ZERO);
+
+    /**
+     * HTTP status codes considered transient: request timeout, too many requests, and server and gateway errors.
+     */
+    public static final Set<Integer> TRANSIENT_STATUS_CODES =
+            Collections.unmodifiableSet(new HashSet<>(Arrays.asList(408, 429, 500, 502, 503, 504)));
+
+    /**
+     * Remote operation.
+     */
+    @FunctionalInterface
+    public interface Operation<T> {
+        T run() throws IOException;
+    }
+
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration deadline;
+
+    /**
+     * Creates policy. The deadline limits the total time spent waiting (in backoff) between attempts, hence zero
+     * deadline means "no retries". Time spent in attempts is not counted, so long running operations (like uploads
+     * of big bundles) failing transiently can still be retried.
+     */
+    public RetryPolicy(Duration initialBackoff, Duration maxBackoff, Duration deadline) {
+        this.initialBackoff = requireNonNull(initialBackoff);
+        this.maxBackoff = requireNonNull(maxBackoff);
+        this.deadline = requireNonNull(deadline);
+        if (initialBackoff.isNegative() || initialBackoff.isZero()) {
+            throw new IllegalArgumentException("Initial backoff must be positive");
+        }
+        if (maxBackoff.compareTo(initialBackoff) < 0) {
+            throw new IllegalArgumentException("Max backoff must not be less than initial backoff");
+        }
+        if (deadline.isNegative()) {
+            throw new IllegalArgumentException("Deadline cannot be negative");
+        }
+    }
+
+    public Duration initialBackoff() {
+        return initialBackoff;
+    }
+
+    public Duration maxBackoff() {
+        return maxBackoff;
+    }
+
+    public Duration deadline() {
+        return deadline;
+    }
+
+    /**
+     * Transport failures of Apache HttpClient considered transient, matched by name, as core does not depend on it:
+     * server closed connection without response, and connect timeout.
+     */
+    private static final Set<String> TRANSIENT_HTTP_CLIENT_EXCEPTIONS = Collections.unmodifiableSet(new HashSet<>(
+            Arrays.asList("org.apache.http.NoHttpResponseException", "org.apache.http.conn.ConnectTimeoutException")));
+
+    /**
+     * Returns {@code true} if failure is transient: one of the known transport errors (connection refused or reset,
+     * socket timeout or no response) or transient HTTP status. Anything else, like unknown host, TLS handshake or
+     * protocol errors, failures signaled by service (like failed validation) and local file errors, is not transient.
+     */
+    public static boolean isTransient(IOException e) {
+        if (e instanceof ArtifactStorePublisher.UnexpectedStatusException) {
+            return TRANSIENT_STATUS_CODES.contains(((ArtifactStorePublisher.UnexpectedStatusException) e).statusCode());
+        }
+        if (e instanceof SocketException || e instanceof SocketTimeoutException) {
+            // includes ConnectException and connection reset
+            return true;
+        }
+        for (Class<?> type = e.getClass(); type != null; type = type.getSuperclass()) {
+            if (TRANSIENT_HTTP_CLIENT_EXCEPTIONS.contains(type.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns {@code true} if failure is known to happen before service processed the request: connection was
+     * refused or service refused to process request (too many requests or service unavailable). Meant for operations
+     * that are not idempotent and for which there is no way to check whether failed attempt took effect.
+     */
+    public static boolean isRejected(IOException e) {
+        if (e instanceof ArtifactStorePublisher.UnexpectedStatusException) {
+            int statusCode = ((ArtifactStorePublisher.UnexpectedStatusException) e).statusCode();
+            return statusCode == 429 || statusCode == 503;
+        }
+        return e instanceof ConnectException;
+    }
+
+    /**
+     * Executes operation, re-attempting it while it fails with failure accepted by {@code retryable} and total
+     * backoff does not exceed deadline. If {@code existing} is not {@code null}, it is invoked before each re-attempt
+     * to check whether failed attempt took effect on service side (ie. response was lost); if it returns result, it
+     * is returned without re-attempting the operation.
+     */
+    public <T> T execute(
+            String description,
+            Operation<T> operation,
+            Predicate<IOException> retryable,
+            Operation<Optional<T>> existing)
+            throws IOException {
+        requireNonNull(description);
+        requireNonNull(operation);
+        requireNonNull(retryable);
+
+        long waited = 0;
+        long backoff = initialBackoff.toMillis();
+        int attempt = 1;
+        while (true) {
+            try {
+                if (attempt > 1 && existing != null) {
+                    Optional<T> result = existing.run();
+                    if (result.isPresent()) {
+                        logger.info("{} already took effect; not re-attempting it", description);
+                        return result.get();
+                    }
+                }
+                return operation.run();
+            } catch (IOException e) {
+                long remaining = deadline.toMillis() - waited;
+                if (remaining <= 0 || !retryable.test(e)) {
+                    if (attempt > 1) {
+                        logger.error("{} failed after {} attempts", description, attempt);
+                    }
+                    throw e;
+                }
+                // "equal jitter": half of backoff is fixed, other half is random
+                long sleep = Math.min(
+                        remaining, backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1));
+                logger.warn(
+                        "{} failed (attempt {}): {}; retrying in {} ms", description, attempt, e.getMessage(), sleep);
+                try {
+                    Thread.sleep(sleep);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while waiting to retry " + description, ie);
+                }
+                waited += sleep;
+                backoff = Math.min(backoff * 2, maxBackoff.toMillis());
+                attempt++;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "RetryPolicy{initialBackoff=" + initialBackoff + ", maxBackoff=" + maxBackoff + ", deadline=" + deadline
+                + "}";
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2023-2024 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.njord.shared.publisher;
+
+import static java.util.Objects.requireNonNull;
+
+import eu.maveniverse.maven.njord.shared.metrics.Metrics;
+import eu.maveniverse.maven.shared.core.component.ComponentSupport;
+import java.io.Closeable;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Meter of (upload) transfer: counts bytes written to wrapped stream, periodically reports progress with
+ * instantaneous and average throughput, and optionally caps the bandwidth using given {@link BandwidthLimiter}, that
+ * may be shared by concurrent transfers. Progress is reported from separate thread, so stalled transfer is reported
+ * as such, instead of going silent.
+ *
+ * @since 0.9.7
+ */
+public final class TransferMeter extends ComponentSupport implements Closeable {
+    private static final int CHUNK_SIZE = 8192;
+
+    private final String description;
+    private final long totalBytes;
+    private final BandwidthLimiter limiter;
+    private final Duration progressInterval;
+    private final AtomicLong bytes;
+    private final AtomicLong throttledNanos;
+    private volatile long started;
+    private volatile long finished;
+    private ScheduledExecutorService reporter;
+    private long lastReportBytes;
+    private long lastReportNanos;
+
+    /**
+     * Creates meter.
+     *
+     * @param description the description of transfer, used in progress reports
+     * @param totalBytes the total count of bytes to transfer, or negative if not known
+     * @param limiter the bandwidth limiter, or {@code null} for no cap
+     * @param progressInterval the interval of progress reports, or zero for no reports
+     */
+    public TransferMeter(String description, long totalBytes, BandwidthLimiter limiter, Duration progressInterval) {
+        this.description = requireNonNull(description);
+        this.totalBytes = totalBytes;
+        this.limiter = limiter;
+        this.progressInterval = requireNonNull(progressInterval);
+        if (progressInterval.isNegative()) {
+            throw new IllegalArgumentException("Progress interval cannot be negative");
+        }
+        this.bytes = new AtomicLong();
+        this.throttledNanos = new AtomicLong();
+        this.started = -1;
+        this.finished = -1;
+    }
+
+    /**
+     * Wraps stream to be metered. Closing returned stream does not close meter.
+     */
+    public OutputStream wrap(OutputStream outputStream) {
+        requireNonNull(outputStream);
+        return new FilterOutputStream(outputStream) {
+            @Override
+            public void write(int b) throws IOException {
+                out.write(b);
+                transferred(1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                // chunks keep throttling and progress smooth
+                while (len > 0) {
+                    int chunk = Math.min(len, CHUNK_SIZE);
+                    out.write(b, off, chunk);
+                    transferred(chunk);
+                    off += chunk;
+                    len -= chunk;
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns the count of transferred bytes.
+     */
+    public long bytes() {
+        return bytes.get();
+    }
+
+    /**
+     * Returns the average throughput in bytes per second, or zero if transfer did not start.
+     */
+    public double averageThroughput() {
+        if (started < 0) {
+            return 0;
+        }
+        long end = finished < 0 ? System.nanoTime() : finished;
+        return perSecond(bytes.get(), end - started);
+    }
+
+    /**
+     * Returns the time spent throttling, if bandwidth is capped.
+     */
+    public Duration throttled() {
+        return Duration.ofNanos(throttledNanos.get());
+    }
+
+    /**
+     * Records the throughput (and time spent throttling) into publishing metrics of given store.
+     */
+    public void recordTo(Metrics metrics, String store) {
+        requireNonNull(metrics);
+        requireNonNull(store);
+        if (started >= 0) {
+            metrics.record(Metrics.PUBLISH, store, "uploadThroughput", (long) averageThroughput());
+            if (throttledNanos.get() > 0) {
+                metrics.time(Metrics.PUBLISH, store, "uploadThrottled", throttledNanos.get());
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (started >= 0 && finished < 0) {
+            finished = System.nanoTime();
+            if (reporter != null) {
+                reporter.shutdownNow();
+                reporter = null;
+            }
+            logger.debug(
+                    "{}: transferred {} bytes at {} average{}",
+                    description,
+                    bytes.get(),
+                    rate(averageThroughput()),
+                    throttledNanos.get() > 0 ? " (throttled for " + throttled() + ")" : "");
+        }
+    }
+
+    private void transferred(int count) throws IOException {
+        if (started < 0) {
+            start();
+        }
+        if (limiter != null) {
+            throttledNanos.addAndGet(limiter.acquire(count));
+        }
+        bytes.addAndGet(count);
+    }
+
+    private synchronized void start() {
+        if (started < 0) {
+            started = System.nanoTime();
+            lastReportNanos = started;
+            if (!progressInterval.isZero()) {
+                reporter = Executors.newSingleThreadScheduledExecutor(r -> {
+                    Thread thread = new Thread(r, "njord-progress");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                long interval = progressInterval.toMillis();
+                reporter.scheduleAtFixedRate(this::report, interval, interval, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private void report() {
+        long now = System.nanoTime();
+        long current = bytes.get();
+        double instant = perSecond(current - lastReportBytes, now - lastReportNanos);
+        double average = perSecond(current, now - started);
+        if (current == lastReportBytes) {
+            logger.warn("{}: stalled at {} bytes; no progress in last {}", description, current, progressInterval);
+        } else if (totalBytes > 0) {
+            logger.info(
+                    "{}: {} of {} bytes ({}%), {} now, {} average",
+                    description, current, totalBytes, current * 100 / totalBytes, rate(instant), rate(average));
+        } else {
+            logger.info("{}: {} bytes, {} now, {} average", description, current, rate(instant), rate(average));
+        }
+        lastReportBytes = current;
+        lastReportNanos = now;
+    }
+
+    private static double perSecond(long count, long nanos) {
+        return nanos > 0 ? count * 1_000_000_000d / nanos : 0;
+    }
+
+    private static String rate(double bytesPerSecond) {
+        return String.format(Locale.ENGLISH, "%.1f KiB/s", bytesPerSecond / 1024);
+    }
+}
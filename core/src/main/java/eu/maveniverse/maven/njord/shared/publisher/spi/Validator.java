@@ -13,11 +13,53 @@ import java.io.IOException;
 import org.eclipse.aether.artifact.Artifact;
 
 public interface Validator extends Closeable {
+    /**
+     * The relative cost of validator.
+     *
+     * @since 0.9.7
+     */
+    enum Cost {
+        /**
+         * Presence checks and alike, that mostly do not read content.
+         */
+        CHEAP,
+        /**
+         * Validators reading content, like hashing or signature verification.
+         */
+        MODERATE,
+        /**
+         * Validators building models, that may need remote access as well.
+         */
+        EXPENSIVE
+    }
+
     /**
      * Validator name,
      */
     String name();
 
+    /**
+     * Validator cost, used to order validators when validation should fail fast: cheaper validators are executed
+     * first. Defaults to {@link Cost#EXPENSIVE}.
+     *
+     * @since 0.9.7
+     */
+    default Cost cost() {
+        return Cost.EXPENSIVE;
+    }
+
+    /**
+     * Whether results of validator may be cached with the store, and reused as long as the artifact version directory
+     * content does not change. Validators reading content from elsewhere (like model building validators, that resolve
+     * parent POMs and imported BOMs) must not be cached. Defaults to {@code true} for all but
+     * {@link Cost#EXPENSIVE} validators.
+     *
+     * @since 0.9.7
+     */
+    default boolean cacheable() {
+        return cost() != Cost.EXPENSIVE;
+    }
+
     /**
      * Performs the validation, if applicable. All the validation actions should be recorded against passed in
      * collector.
@@ -59,6 +59,15 @@ public interface ArtifactStoreManager {
      */
     boolean updateWriteModeArtifactStore(String name, WriteMode writeMode) throws IOException;
 
+    /**
+     * Changes checksum algorithms of existing store (used for later deployments into it) and returns {@code true} on
+     * successful operation. Does not touch store content: missing checksums must be written by caller. Opened store
+     * cannot be updated, as this operation requires exclusive lock on store.
+     *
+     * @since 0.9.7
+     */
+    boolean updateChecksumAlgorithmsArtifactStore(String name, List<String> checksumAlgorithms) throws IOException;
+
     /**
      * Renumbers artifact stores.
      */
@@ -71,7 +80,46 @@ public interface ArtifactStoreManager {
     Path exportTo(ArtifactStore artifactStore, Path file) throws IOException;
 
     /**
-     * Imports the whole store to from "transportable" Njord bundle. The file must exist.
+     * Exports store as "delta transportable" Njord bundle against given base store (that may be a store opened from
+     * bundle as well, see {@link #openBundle(Path)}). The bundle contains only files added or changed compared to base
+     * and a manifest of unchanged artifacts with their digests, so it can be imported only with same base present,
+     * see {@link #importFrom(Path, ArtifactStore)}. Otherwise, same as {@link #exportTo(ArtifactStore, Path)}.
+     *
+     * @since 0.9.7
+     */
+    Path exportTo(ArtifactStore artifactStore, Path file, ArtifactStore base) throws IOException;
+
+    /**
+     * Exports store as "transportable" Njord bundle of given format, optionally as "delta" against given base store
+     * (may be {@code null}). See {@link #exportTo(ArtifactStore, Path)} and
+     * {@link #exportTo(ArtifactStore, Path, ArtifactStore)}. The format is detected on import.
+     *
+     * @since 0.9.7
+     */
+    Path exportTo(ArtifactStore artifactStore, Path file, ArtifactStore base, BundleFormat format) throws IOException;
+
+    /**
+     * Imports the whole store to from "transportable" Njord bundle. The file must exist. The bundle format is
+     * detected from file content.
      */
     ArtifactStore importFrom(Path file) throws IOException;
+
+    /**
+     * Imports the whole store from "transportable" Njord bundle, that may be "delta" bundle. For delta bundles the
+     * base store must be given, and unchanged artifacts are taken from it (and verified against manifest digests).
+     * For full bundles base store may be {@code null} and is ignored.
+     *
+     * @since 0.9.7
+     */
+    ArtifactStore importFrom(Path file, ArtifactStore base) throws IOException;
+
+    /**
+     * Opens a ZIP bundle file as read-only store, without importing it. Supported are "transportable" Njord bundles
+     * (see {@link #exportTo(ArtifactStore, Path)}) and bundle ZIP files using Maven repository layout (see
+     * {@link ArtifactStoreWriter#writeAsBundle(ArtifactStore, Path)}). The file must exist. Caller must close the
+     * returned store.
+     *
+     * @since 0.9.7
+     */
+    ArtifactStore openBundle(Path file) throws IOException;
 }
@@ -9,6 +9,7 @@ package eu.maveniverse.maven.njord.shared.store;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 
 public interface ArtifactStoreWriter {
     /**
@@ -20,4 +21,22 @@ public interface ArtifactStoreWriter {
      * Exports store as ZIP bundle. Returns the ZIP file.
      */
     Path writeAsBundle(ArtifactStore artifactStore, Path outputDirectory) throws IOException;
+
+    /**
+     * Exports store as bundle of given format. Returns the bundle file.
+     *
+     * @since 0.9.7
+     */
+    Path writeAsBundle(ArtifactStore artifactStore, Path outputDirectory, BundleFormat format) throws IOException;
+
+    /**
+     * Exports store as one or more ZIP bundles, each of them holding at most given count of bytes (uncompressed) of
+     * store content, unless a single GAV alone exceeds it. Bundles are split along GAV boundaries: all files of one
+     * GAV are always in same bundle. If whole store fits into one bundle, this method behaves as
+     * {@link #writeAsBundle(ArtifactStore, Path)}, otherwise bundles are named {@code <store>-<N>.zip}. Returns the
+     * bundle files in order.
+     *
+     * @since 0.9.7
+     */
+    List<Path> writeAsBundles(ArtifactStore artifactStore, Path outputDirectory, long maxBundleSize) throws IOException;
 }
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2023-2024 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.njord.shared.store;
+
+/**
+ * The container format of bundles written by {@link ArtifactStoreWriter} and exported by
+ * {@link ArtifactStoreManager}. The {@link #ZIP} is default, as it is the only format services like Sonatype Central
+ * Portal accept. Tar based formats are meant for internal transport: they are sequentially streamable, hence may be
+ * piped, and {@link #TAR_GZ} compresses on multiple threads.
+ *
+ * @since 0.9.7
+ */
+public enum BundleFormat {
+    /**
+     * ZIP archive (the default).
+     */
+    ZIP("zip"),
+    /**
+     * Uncompressed tar archive.
+     */
+    TAR("tar"),
+    /**
+     * Gzip compressed tar archive, compressed on multiple threads.
+     */
+    TAR_GZ("tar.gz");
+
+    private final String extension;
+
+    BundleFormat(String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * The file extension for this format, without leading dot.
+     */
+    public String extension() {
+        return extension;
+    }
+}
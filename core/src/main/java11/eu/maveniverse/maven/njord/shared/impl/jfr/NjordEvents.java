@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2023-2024 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.njord.shared.impl.jfr;
+
+import static java.util.Objects.requireNonNull;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder events of Njord. This is the Java 11+ variant, that emits real JFR events. Events are
+ * created only when JFR is recording and given event type is enabled, otherwise shared no-op instance is returned,
+ * so call sites cost nothing when JFR is not in use.
+ * <p>
+ * Usage:
+ * <pre>{@code
+ * try (NjordEvents.Event event = NjordEvents.begin(NjordEvents.Type.BUNDLE_WRITE)) {
+ *     event.store(name);
+ *     ...
+ * }
+ * }</pre>
+ * Costly computation of event data should be guarded with {@link Event#isEnabled()}.
+ */
+public final class NjordEvents {
+    private NjordEvents() {}
+
+    /**
+     * The event types.
+     */
+    public enum Type {
+        /**
+         * Store put operation commit (index update).
+         */
+        STORE_PUT,
+        /**
+         * Store index load.
+         */
+        INDEX_LOAD,
+        /**
+         * Validator invocation.
+         */
+        VALIDATE,
+        /**
+         * Checksum computation.
+         */
+        CHECKSUM,
+        /**
+         * Bundle write.
+         */
+        BUNDLE_WRITE,
+        /**
+         * HTTP upload to remote service.
+         */
+        HTTP_UPLOAD,
+        /**
+         * Remote status poll.
+         */
+        STATUS_POLL
+    }
+
+    /**
+     * Started event, is committed when closed.
+     */
+    public interface Event extends AutoCloseable {
+        /**
+         * Returns {@code true} if this event will be recorded.
+         */
+        boolean isEnabled();
+
+        /**
+         * Sets the store name.
+         */
+        Event store(String store);
+
+        /**
+         * Sets the artifact (or component) ID.
+         */
+        Event artifact(String artifact);
+
+        /**
+         * Sets the byte count.
+         */
+        Event bytes(long bytes);
+
+        /**
+         * Sets the operation name, like validator name or checksum algorithms.
+         */
+        Event name(String name);
+
+        /**
+         * Ends and commits this event.
+         */
+        @Override
+        void close();
+    }
+
+    private static final Event NOOP = new Event() {
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+        @Override
+        public Event store(String store) {
+            return this;
+        }
+
+        @Override
+        public Event artifact(String artifact) {
+            return this;
+        }
+
+        @Override
+        public Event bytes(long bytes) {
+            return this;
+        }
+
+        @Override
+        public Event name(String name) {
+            return this;
+        }
+
+        @Override
+        public void close() {}
+    };
+
+    /**
+     * Begins event of given type.
+     */
+    public static Event begin(Type type) {
+        requireNonNull(type);
+        if (!FlightRecorder.isInitialized()) {
+            return NOOP;
+        }
+        NjordEvent event;
+        switch (type) {
+            case STORE_PUT:
+                event = new StorePutEvent();
+                break;
+            case INDEX_LOAD:
+                event = new IndexLoadEvent();
+                break;
+            case VALIDATE:
+                event = new ValidateEvent();
+                break;
+            case CHECKSUM:
+                event = new ChecksumEvent();
+                break;
+            case BUNDLE_WRITE:
+                event = new BundleWriteEvent();
+                break;
+            case HTTP_UPLOAD:
+                event = new HttpUploadEvent();
+                break;
+            case STATUS_POLL:
+                event = new StatusPollEvent();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown event type: " + type);
+        }
+        if (!event.isEnabled()) {
+            return NOOP;
+        }
+        event.begin();
+        return event;
+    }
+
+    @Category({"Maven", "Njord"})
+    abstract static class NjordEvent extends jdk.jfr.Event implements Event {
+        @Label("Store")
+        String store;
+
+        @Label("Artifact")
+        String artifact;
+
+        @Label("Bytes")
+        @DataAmount
+        long bytes;
+
+        @Label("Name")
+        String name;
+
+        @Override
+        public Event store(String store) {
+            this.store = store;
+            return this;
+        }
+
+        @Override
+        public Event artifact(String artifact) {
+            this.artifact = artifact;
+            return this;
+        }
+
+        @Override
+        public Event bytes(long bytes) {
+            this.bytes = bytes;
+            return this;
+        }
+
+        @Override
+        public Event name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        @Override
+        public void close() {
+            commit();
+        }
+    }
+
+    @Name("eu.maveniverse.njord.StorePut")
+    @Label("Store Put")
+    @Description("Store put operation commit")
+    static final class StorePutEvent extends NjordEvent {}
+
+    @Name("eu.maveniverse.njord.IndexLoad")
+    @Label("Index Load")
+    @Description("Store index load")
+    static final class IndexLoadEvent extends NjordEvent {}
+
+    @Name("eu.maveniverse.njord.Validate")
+    @Label("Validate")
+    @Description("Validator invocation")
+    static final class ValidateEvent extends NjordEvent {}
+
+    @Name("eu.maveniverse.njord.Checksum")
+    @Label("Checksum")
+    @Description("Checksum computation")
+    static final class ChecksumEvent extends NjordEvent {}
+
+    @Name("eu.maveniverse.njord.BundleWrite")
+    @Label("Bundle Write")
+    @Description("Bundle write")
+    static final class BundleWriteEvent extends NjordEvent {}
+
+    @Name("eu.maveniverse.njord.HttpUpload")
+    @Label("HTTP Upload")
+    @Description("HTTP upload to remote service")
+    static final class HttpUploadEvent extends NjordEvent {}
+
+    @Name("eu.maveniverse.njord.StatusPoll")
+    @Label("Status Poll")
+    @Description("Remote status poll")
+    static final class StatusPollEvent extends NjordEvent {}
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2023-2024 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.njord.shared.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.stream.Collectors;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.repository.RepositoryPolicy;
+import org.eclipse.aether.spi.connector.ArtifactDownload;
+import org.eclipse.aether.spi.connector.ArtifactUpload;
+import org.eclipse.aether.spi.connector.MetadataDownload;
+import org.eclipse.aether.spi.connector.MetadataUpload;
+import org.eclipse.aether.spi.connector.RepositoryConnector;
+import org.eclipse.aether.transfer.ArtifactNotFoundException;
+import org.eclipse.aether.transfer.MetadataNotFoundException;
+import org.junit.jupiter.api.Test;
+
+class ArtifactAvailabilityCheckerTest {
+    private static final RemoteRepository REPOSITORY =
+            new RemoteRepository.Builder("test", "default", "https://example.org/").build();
+
+    /**
+     * Connector that answers existence checks using predicate receiving artifact and count of its checks so far, and
+     * metadata downloads using function receiving GA and count of its downloads so far, returning versions.
+     */
+    private static class TestConnector implements RepositoryConnector {
+        private final BiPredicate<Artifact, Integer> available;
+        private final Map<Artifact, Integer> checks = new HashMap<>();
+        private final List<Integer> batches = new ArrayList<>();
+        private final BiFunction<String, Integer, List<String>> metadata;
+        private final Map<String, Integer> metadataChecks = new HashMap<>();
+
+        private TestConnector(BiPredicate<Artifact, Integer> available) {
+            this(available, (ga, c) -> null);
+        }
+
+        private TestConnector(
+                BiPredicate<Artifact, Integer> available, BiFunction<String, Integer, List<String>> metadata) {
+            this.available = available;
+            this.metadata = metadata;
+        }
+
+        @Override
+        public void get(
+                Collection<? extends ArtifactDownload> artifactDownloads,
+                Collection<? extends MetadataDownload> metadataDownloads) {
+            batches.add(artifactDownloads.size());
+            if (metadataDownloads != null) {
+                for (MetadataDownload download : metadataDownloads) {
+                    assertEquals(RepositoryPolicy.CHECKSUM_POLICY_IGNORE, download.getChecksumPolicy());
+                    String ga = download.getMetadata().getGroupId() + ":"
+                            + download.getMetadata().getArtifactId();
+                    int count = metadataChecks.merge(ga, 1, Integer::sum);
+                    List<String> versions = metadata.apply(ga, count);
+                    if (versions == null) {
+                        download.setException(new MetadataNotFoundException(download.getMetadata(), REPOSITORY));
+                    } else {
+                        try {
+                            Files.write(
+                                    download.getFile().toPath(),
+                                    ("<metadata><groupId>"
+                                                    + download.getMetadata().getGroupId()
+                                                    + "</groupId><versioning><versions>"
+                                                    + versions.stream()
+                                                            .map(v -> "<version>" + v + "</version>")
+                                                            .collect(Collectors.joining())
+                                                    + "</versions></versioning></metadata>")
+                                            .getBytes(StandardCharsets.UTF_8));
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }
+                }
+            }
+            for (ArtifactDownload download : artifactDownloads) {
+                assertTrue(download.isExistenceCheck());
+                int count = checks.merge(download.getArtifact(), 1, Integer::sum);
+                if (!available.test(download.getArtifact(), count)) {
+                    download.setException(new ArtifactNotFoundException(download.getArtifact(), REPOSITORY));
+                }
+            }
+        }
+
+        @Override
+        public void put(
+                Collection<? extends ArtifactUpload> artifactUploads,
+                Collection<? extends MetadataUpload> metadataUploads) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void close() {}
+
+        private int checks(Artifact artifact) {
+            return checks.getOrDefault(artifact, 0);
+        }
+    }
+
+    private static List<Artifact> gav(String artifactId) {
+        return gav(artifactId, "1.0");
+    }
+
+    private static List<Artifact> gav(String artifactId, String version) {
+        return Arrays.asList(
+                new DefaultArtifact("org.example:" + artifactId + ":jar:" + version),
+                new DefaultArtifact("org.example:" + artifactId + ":pom:" + version),
+                new DefaultArtifact("org.example:" + artifactId + ":jar:sources:" + version));
+    }
+
+    private static ArtifactAvailabilityChecker checker(TestConnector connector) {
+        return new ArtifactAvailabilityChecker(connector, REPOSITORY, Duration.ofMillis(10), Duration.ofMillis(40));
+    }
+
+    @Test
+    void onePassAllAvailable() throws IOException, InterruptedException {
+        List<Artifact> artifacts = new ArrayList<>(gav("a"));
+        artifacts.addAll(gav("b"));
+        TestConnector connector = new TestConnector((a, c) -> true);
+        assertTrue(checker(connector).check(artifacts, null).isEmpty());
+        // representatives first, then the rest of both GAVs in one batch
+        assertEquals(Arrays.asList(2, 4), connector.batches);
+        artifacts.forEach(a -> assertEquals(1, connector.checks(a)));
+    }
+
+    @Test
+    void onePassMissing() throws IOException, InterruptedException {
+        List<Artifact> artifacts = new ArrayList<>(gav("a"));
+        artifacts.addAll(gav("b"));
+        TestConnector connector = new TestConnector((a, c) -> a.getArtifactId().equals("a"));
+        List<Artifact> unavailable = checker(connector).check(artifacts, null);
+        assertEquals(3, unavailable.size());
+        assertTrue(unavailable.containsAll(gav("b")));
+        // only POM of "b" was checked
+        assertEquals(1, connector.checks(gav("b").get(1)));
+        assertEquals(0, connector.checks(gav("b").get(0)));
+        assertEquals(0, connector.checks(gav("b").get(2)));
+    }
+
+    @Test
+    void waitRepresentativeFirst() throws IOException, InterruptedException {
+        List<Artifact> artifacts = gav("a");
+        Artifact pom = artifacts.get(1);
+        // POM (and with it whole GAV) becomes available on 4th check
+        TestConnector connector = new TestConnector((a, c) -> !a.equals(pom) || c >= 4);
+        long start = System.nanoTime();
+        assertTrue(checker(connector).check(artifacts, Duration.ofSeconds(10)).isEmpty());
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000L;
+        assertEquals(4, connector.checks(pom));
+        assertEquals(1, connector.checks(artifacts.get(0)));
+        assertEquals(1, connector.checks(artifacts.get(2)));
+        // backoff 10 + 20 + 40
+        assertTrue(elapsedMillis >= 70, "elapsed " + elapsedMillis);
+    }
+
+    @Test
+    void waitTimeout() throws IOException, InterruptedException {
+        List<Artifact> artifacts = gav("a");
+        TestConnector connector = new TestConnector((a, c) -> false);
+        List<Artifact> unavailable = checker(connector).check(artifacts, Duration.ofMillis(200));
+        assertEquals(3, unavailable.size());
+        int pomChecks = connector.checks(artifacts.get(1));
+        // backoff capped at 40ms: 0, 10, 30, 70, 110, 150, 190
+        assertTrue(pomChecks >= 4 && pomChecks <= 8, "checks " + pomChecks);
+        assertEquals(0, connector.checks(artifacts.get(0)));
+    }
+
+    @Test
+    void metadataGate() throws IOException, InterruptedException {
+        List<Artifact> artifacts = new ArrayList<>(gav("a", "1.0"));
+        artifacts.addAll(gav("a", "1.1"));
+        artifacts.addAll(gav("b"));
+        // "a" 1.0 is listed right away, 1.1 on 3rd download; "b" metadata on 2nd download
+        TestConnector connector = new TestConnector((a, c) -> true, (ga, c) -> {
+            if (ga.equals("org.example:a")) {
+                return c >= 3 ? Arrays.asList("0.9", "1.0", "1.1") : Arrays.asList("0.9", "1.0");
+            }
+            return c >= 2 ? Arrays.asList("1.0") : null;
+        });
+        ArtifactAvailabilityChecker checker = new ArtifactAvailabilityChecker(
+                connector,
+                REPOSITORY,
+                Duration.ofMillis(10),
+                Duration.ofMillis(40),
+                ArtifactAvailabilityChecker.Mode.METADATA);
+        assertTrue(checker.check(artifacts, Duration.ofSeconds(10)).isEmpty());
+        assertEquals(3, connector.metadataChecks.get("org.example:a"));
+        assertEquals(2, connector.metadataChecks.get("org.example:b"));
+        artifacts.forEach(a -> assertEquals(1, connector.checks(a)));
+    }
+
+    @Test
+    void metadataGateOnePass() throws IOException, InterruptedException {
+        List<Artifact> artifacts = new ArrayList<>(gav("a", "1.0"));
+        artifacts.addAll(gav("a", "1.1"));
+        TestConnector connector = new TestConnector((a, c) -> true, (ga, c) -> Arrays.asList("1.0"));
+        ArtifactAvailabilityChecker checker = new ArtifactAvailabilityChecker(
+                connector,
+                REPOSITORY,
+                Duration.ofMillis(10),
+                Duration.ofMillis(40),
+                ArtifactAvailabilityChecker.Mode.METADATA);
+        List<Artifact> unavailable = checker.check(artifacts, null);
+        assertEquals(gav("a", "1.1"), unavailable);
+        assertEquals(1, connector.metadataChecks.get("org.example:a"));
+        gav("a", "1.1").forEach(a -> assertEquals(0, connector.checks(a)));
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2023-2024 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.njord.shared.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import org.junit.jupiter.api.Test;
+
+class ParallelUtilsTest {
+    @Test
+    void resultsInTaskOrder() throws IOException {
+        for (int threads : new int[] {1, 4}) {
+            LinkedHashMap<String, Callable<String>> tasks = new LinkedHashMap<>();
+            for (int i = 0; i < 16; i++) {
+                String key = "task-" + i;
+                long sleep = 16 - i;
+                tasks.put(key, () -> {
+                    Thread.sleep(sleep);
+                    return key.toUpperCase();
+                });
+            }
+            LinkedHashMap<String, Exception> failures = new LinkedHashMap<>();
+            Map<String, String> results = ParallelUtils.execute("test", threads, tasks, failures);
+            assertTrue(failures.isEmpty());
+            assertEquals(tasks.keySet(), results.keySet());
+            results.forEach((key, value) -> assertEquals(key.toUpperCase(), value));
+        }
+    }
+
+    @Test
+    void failuresCollected() throws IOException {
+        IOException one = new IOException("one");
+        IllegalStateException two = new IllegalStateException("two");
+        LinkedHashMap<String, Callable<String>> tasks = new LinkedHashMap<>();
+        tasks.put("a", () -> "a");
+        tasks.put("b", () -> {
+            throw one;
+        });
+        tasks.put("c", () -> {
+            throw two;
+        });
+        LinkedHashMap<String, Exception> failures = new LinkedHashMap<>();
+        Map<String, String> results = ParallelUtils.execute("test", 3, tasks, failures);
+        assertEquals(Arrays.asList("a"), Arrays.asList(results.keySet().toArray()));
+        assertEquals(Arrays.asList("b", "c"), Arrays.asList(failures.keySet().toArray()));
+        assertSame(one, failures.get("b"));
+        assertSame(two, failures.get("c"));
+
+        IOException aggregated = assertThrows(IOException.class, () -> ParallelUtils.rethrow(failures, () -> "both"));
+        assertEquals("both", aggregated.getMessage());
+        assertEquals(2, aggregated.getSuppressed().length);
+
+        failures.remove("b");
+        assertSame(two, assertThrows(IllegalStateException.class, () -> ParallelUtils.rethrow(failures, () -> "c")));
+        failures.clear();
+        ParallelUtils.rethrow(failures, () -> "none");
+    }
+}
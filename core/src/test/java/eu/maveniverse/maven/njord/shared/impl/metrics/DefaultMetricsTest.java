@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2023-2024 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.njord.shared.impl.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import eu.maveniverse.maven.njord.shared.metrics.Metrics;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class DefaultMetricsTest {
+    @Test
+    void report() {
+        DefaultMetrics metrics = new DefaultMetrics(Collections.emptyMap());
+        assertTrue(metrics.isEmpty());
+        metrics.count(Metrics.STAGING, "store-00001", "artifacts", 2);
+        metrics.count(Metrics.STAGING, "store-00001", "artifacts", 3);
+        for (int i = 1; i <= 100; i++) {
+            metrics.time(Metrics.STAGING, "store-00001", "put", i * 1_000_000L);
+        }
+        metrics.record(Metrics.PUBLISH, null, "uploadBytes", 1024);
+        assertFalse(metrics.isEmpty());
+
+        List<String> report = metrics.report();
+        assertEquals(3, report.size());
+        assertEquals("(session) publish uploadBytes: 1x 1024 (avg 1024, p95 1024, max 1024)", report.get(0));
+        assertEquals("store-00001 staging artifacts: 5", report.get(1));
+        assertTrue(report.get(2).startsWith("store-00001 staging put: 100x 5050.0ms (avg 50.5ms, p95 "));
+        assertTrue(report.get(2).endsWith(", max 100.0ms)"));
+    }
+
+    @Test
+    void timer() {
+        DefaultMetrics metrics = new DefaultMetrics(Collections.emptyMap());
+        Metrics.Timer timer = metrics.start(Metrics.INDEX, "store-00001", "commit");
+        long elapsed = timer.stop();
+        assertEquals(elapsed, timer.stop());
+        timer.close();
+        assertTrue(metrics.report().get(0).startsWith("store-00001 index commit: 1x "));
+    }
+
+    @Test
+    void typeMismatch() {
+        DefaultMetrics metrics = new DefaultMetrics(Collections.emptyMap());
+        metrics.count(Metrics.STAGING, "store-00001", "put", 1);
+        assertThrows(IllegalArgumentException.class, () -> metrics.time(Metrics.STAGING, "store-00001", "put", 1));
+    }
+
+    @Test
+    void json() {
+        DefaultMetrics metrics = new DefaultMetrics(Collections.singletonMap("njordVersion", "1.0 \"test\""));
+        metrics.count(Metrics.STAGING, "store-00001", "artifacts", 1);
+        metrics.count(Metrics.STAGING, "store-00002", "artifacts", 1);
+        metrics.time(Metrics.STATUS, null, "poll", 1000);
+
+        String json = metrics.toJson("store-00001");
+        assertTrue(json.contains("\"njordVersion\": \"1.0 \\\"test\\\"\""));
+        assertTrue(json.contains(
+                "{\"subsystem\": \"staging\", \"store\": \"store-00001\", \"name\": \"artifacts\", \"type\":"
+                        + " \"counter\", \"count\": 1}"));
+        assertTrue(
+                json.contains("{\"subsystem\": \"status\", \"store\": null, \"name\": \"poll\", \"type\": \"timer\", "
+                        + "\"count\": 1, \"unit\": \"ns\", \"sum\": 1000, \"min\": 1000, \"max\": 1000, \"p50\": 1000, "
+                        + "\"p95\": 1000, \"p99\": 1000}"));
+        assertFalse(json.contains("store-00002"));
+        assertTrue(metrics.toJson(null).contains("store-00002"));
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2023-2024 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.njord.shared.impl.publisher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import eu.maveniverse.maven.mima.context.Context;
+import eu.maveniverse.maven.mima.context.ContextOverrides;
+import eu.maveniverse.maven.mima.context.Runtimes;
+import eu.maveniverse.maven.njord.shared.Session;
+import eu.maveniverse.maven.njord.shared.SessionConfig;
+import eu.maveniverse.maven.njord.shared.impl.J8Utils;
+import eu.maveniverse.maven.njord.shared.impl.store.DefaultLayout;
+import eu.maveniverse.maven.njord.shared.impl.store.PathArtifactStore;
+import eu.maveniverse.maven.njord.shared.impl.store.SyntheticArtifactStoreGenerator;
+import eu.maveniverse.maven.njord.shared.publisher.ArtifactStoreValidator;
+import eu.maveniverse.maven.njord.shared.publisher.spi.ValidationContext;
+import eu.maveniverse.maven.njord.shared.publisher.spi.ValidatorFactory;
+import eu.maveniverse.maven.njord.shared.store.ArtifactStore;
+import eu.maveniverse.maven.njord.shared.store.ArtifactStoreTemplate;
+import eu.maveniverse.maven.njord.shared.store.RepositoryMode;
+import eu.maveniverse.maven.njord.shared.store.WriteMode;
+import eu.maveniverse.maven.shared.core.fs.DirectoryLocker;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.internal.impl.checksum.Sha1ChecksumAlgorithmFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DefaultArtifactStoreValidatorTest extends PublisherTestSupport {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void cachedResults() throws Exception {
+        try (Context context = Runtimes.INSTANCE
+                        .getRuntime()
+                        .create(ContextOverrides.create().offline(true).build());
+                Session session = createSession(
+                        context,
+                        SessionConfig.defaults(context.repositorySystemSession(), context.remoteRepositories())
+                                .basedir(tempDir.resolve("njord"))
+                                .build())) {
+            AtomicInteger invocations = new AtomicInteger();
+            ValidatorFactory counting = s -> new ValidatorSupport("counting") {
+                @Override
+                public Cost cost() {
+                    return Cost.MODERATE;
+                }
+
+                @Override
+                public void validate(ArtifactStore artifactStore, Artifact artifact, ValidationContext collector) {
+                    invocations.incrementAndGet();
+                    collector.addInfo("seen " + artifact.getExtension());
+                    if (artifact.getExtension().equals("pom")) {
+                        collector.child("nested").addWarning("multi\nline \\ warning");
+                    }
+                }
+            };
+            DefaultArtifactStoreValidator validator = new DefaultArtifactStoreValidator(
+                    session, "test", "Test", Collections.emptyList(), Collections.singletonList(counting));
+
+            Path basedir = Files.createDirectories(tempDir.resolve("store"));
+            DirectoryLocker.INSTANCE.lockDirectory(basedir, false);
+            try (PathArtifactStore store = new PathArtifactStore(
+                    "store",
+                    ArtifactStoreTemplate.RELEASE,
+                    Instant.now(),
+                    RepositoryMode.RELEASE,
+                    WriteMode.WRITE_ONCE,
+                    Collections.singletonList(new Sha1ChecksumAlgorithmFactory()),
+                    Collections.singletonList(".asc"),
+                    null,
+                    basedir)) {
+                SyntheticArtifactStoreGenerator.builder(tempDir.resolve("work"))
+                        .modules(3)
+                        .size(1000, 5000)
+                        .build()
+                        .generate(store);
+                int artifacts = store.artifacts().size();
+
+                ArtifactStoreValidator.ValidationResult first = validator.validate(store);
+                assertEquals(artifacts, invocations.getAndSet(0));
+
+                // unchanged: all results are cached, and same
+                ArtifactStoreValidator.ValidationResult second = validator.validate(store);
+                assertEquals(0, invocations.getAndSet(0));
+                assertEquals(render(first), render(second));
+
+                // touch one GAV: only its artifacts are validated again
+                Artifact changed = store.artifacts().stream()
+                        .filter(a -> "pom".equals(a.getExtension()))
+                        .findFirst()
+                        .orElseThrow(J8Utils.OET);
+                Path directory = basedir.resolve(new DefaultLayout().artifactPath(changed))
+                        .getParent();
+                long inDirectory = store.artifacts().stream()
+                        .filter(a -> basedir.resolve(new DefaultLayout().artifactPath(a))
+                                .getParent()
+                                .equals(directory))
+                        .count();
+                Path sidecar = basedir.resolve(new DefaultLayout().artifactPath(changed) + ".sha1");
+                Files.write(sidecar, "x".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+                ArtifactStoreValidator.ValidationResult third = validator.validate(store);
+                assertEquals(inDirectory, invocations.getAndSet(0));
+                assertEquals(render(first), render(third));
+            }
+        }
+    }
+
+    @Test
+    void uncachedResults() throws Exception {
+        try (Context context = Runtimes.INSTANCE
+                        .getRuntime()
+                        .create(ContextOverrides.create().offline(true).build());
+                Session session = createSession(
+                        context,
+                        SessionConfig.defaults(context.repositorySystemSession(), context.remoteRepositories())
+                                .basedir(tempDir.resolve("njord"))
+                                .build())) {
+            AtomicInteger expensiveInvocations = new AtomicInteger();
+            AtomicInteger failingInvocations = new AtomicInteger();
+            ValidatorFactory expensive = s -> new ValidatorSupport("expensive") {
+                @Override
+                public void validate(ArtifactStore artifactStore, Artifact artifact, ValidationContext collector) {
+                    expensiveInvocations.incrementAndGet();
+                    collector.addInfo("VALID");
+                }
+            };
+            ValidatorFactory failing = s -> new ValidatorSupport("failing") {
+                @Override
+                public Cost cost() {
+                    return Cost.CHEAP;
+                }
+
+                @Override
+                public void validate(ArtifactStore artifactStore, Artifact artifact, ValidationContext collector) {
+                    failingInvocations.incrementAndGet();
+                    if (artifact.getExtension().equals("pom")) {
+                        collector.addError("MISSING");
+                    } else {
+                        collector.addInfo("PRESENT");
+                    }
+                }
+            };
+            DefaultArtifactStoreValidator validator = new DefaultArtifactStoreValidator(
+                    session, "test", "Test", Collections.emptyList(), Arrays.asList(expensive, failing));
+
+            Path basedir = Files.createDirectories(tempDir.resolve("store"));
+            DirectoryLocker.INSTANCE.lockDirectory(basedir, false);
+            try (PathArtifactStore store = new PathArtifactStore(
+                    "store",
+                    ArtifactStoreTemplate.RELEASE,
+                    Instant.now(),
+                    RepositoryMode.RELEASE,
+                    WriteMode.WRITE_ONCE,
+                    Collections.singletonList(new Sha1ChecksumAlgorithmFactory()),
+                    Collections.singletonList(".asc"),
+                    null,
+                    basedir)) {
+                SyntheticArtifactStoreGenerator.builder(tempDir.resolve("work"))
+                        .modules(3)
+                        .size(1000, 5000)
+                        .build()
+                        .generate(store);
+                int artifacts = store.artifacts().size();
+                long poms = store.artifacts().stream()
+                        .filter(a -> "pom".equals(a.getExtension()))
+                        .count();
+
+                ArtifactStoreValidator.ValidationResult first = validator.validate(store);
+                assertEquals(artifacts, expensiveInvocations.getAndSet(0));
+                assertEquals(artifacts, failingInvocations.getAndSet(0));
+
+                // expensive validator is not cacheable, and results having errors are not cached
+                ArtifactStoreValidator.ValidationResult second = validator.validate(store);
+                assertEquals(artifacts, expensiveInvocations.getAndSet(0));
+                assertEquals(poms, failingInvocations.getAndSet(0));
+                assertEquals(poms, second.errorCount());
+                assertEquals(render(first), render(second));
+            }
+        }
+    }
+
+    @Test
+    void failFast() throws Exception {
+        try (Context context = Runtimes.INSTANCE
+                        .getRuntime()
+                        .create(ContextOverrides.create().offline(true).build());
+                Session session = createSession(
+                        context,
+                        SessionConfig.defaults(context.repositorySystemSession(), context.remoteRepositories())
+                                .basedir(tempDir.resolve("njord"))
+                                .userProperties(
+                                        Collections.singletonMap(SessionConfig.CONFIG_VALIDATION_FAIL_FAST, "true"))
+                                .build())) {
+            AtomicInteger expensiveInvocations = new AtomicInteger();
+            AtomicInteger cheapInvocations = new AtomicInteger();
+            ValidatorFactory expensive = s -> new ValidatorSupport("expensive") {
+                @Override
+                public void validate(ArtifactStore artifactStore, Artifact artifact, ValidationContext collector) {
+                    expensiveInvocations.incrementAndGet();
+                    collector.addInfo("VALID");
+                }
+            };
+            ValidatorFactory cheap = s -> new ValidatorSupport("cheap") {
+                @Override
+                public Cost cost() {
+                    return Cost.CHEAP;
+                }
+
+                @Override
+                public void validate(ArtifactStore artifactStore, Artifact artifact, ValidationContext collector) {
+                    cheapInvocations.incrementAndGet();
+                    if (artifact.getExtension().equals("pom")) {
+                        collector.addError("MISSING");
+                    }
+                }
+            };
+            DefaultArtifactStoreValidator validator = new DefaultArtifactStoreValidator(
+                    session, "test", "Test", Collections.emptyList(), Arrays.asList(expensive, cheap));
+
+            Path basedir = Files.createDirectories(tempDir.resolve("store"));
+            DirectoryLocker.INSTANCE.lockDirectory(basedir, false);
+            try (PathArtifactStore store = new PathArtifactStore(
+                    "store",
+                    ArtifactStoreTemplate.RELEASE,
+                    Instant.now(),
+                    RepositoryMode.RELEASE,
+                    WriteMode.WRITE_ONCE,
+                    Collections.singletonList(new Sha1ChecksumAlgorithmFactory()),
+                    Collections.singletonList(".asc"),
+                    null,
+                    basedir)) {
+                SyntheticArtifactStoreGenerator.builder(tempDir.resolve("work"))
+                        .modules(3)
+                        .size(1000, 5000)
+                        .build()
+                        .generate(store);
+
+                // cheap validator fails on first POM, expensive one is never executed
+                ArtifactStoreValidator.ValidationResult result = validator.validate(store);
+                assertFalse(result.isValid());
+                assertEquals(1, result.errorCount());
+                assertEquals(0, expensiveInvocations.get());
+                assertTrue(cheapInvocations.get() < store.artifacts().size());
+            }
+        }
+    }
+
+    private static String render(ArtifactStoreValidator.ValidationResult result) {
+        StringBuilder sb = new StringBuilder();
+        render(result, "", sb);
+        return sb.toString();
+    }
+
+    private static void render(ArtifactStoreValidator.ValidationResult result, String indent, StringBuilder sb) {
+        sb.append(indent).append(result.name()).append('\n');
+        result.info().forEach(m -> sb.append(indent).append("I ").append(m).append('\n'));
+        result.warning().forEach(m -> sb.append(indent).append("W ").append(m).append('\n'));
+        result.error().forEach(m -> sb.append(indent).append("E ").append(m).append('\n'));
+        result.children().forEach(c -> render(c, indent + "  ", sb));
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2023-2024 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.njord.shared.impl.store;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import eu.maveniverse.maven.njord.shared.impl.J8Utils;
+import eu.maveniverse.maven.njord.shared.store.ArtifactStore;
+import eu.maveniverse.maven.njord.shared.store.ArtifactStoreTemplate;
+import eu.maveniverse.maven.njord.shared.store.RepositoryMode;
+import eu.maveniverse.maven.njord.shared.store.WriteMode;
+import eu.maveniverse.maven.shared.core.fs.DirectoryLocker;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.internal.impl.checksum.Sha1ChecksumAlgorithmFactory;
+import org.eclipse.aether.internal.impl.checksum.Sha256ChecksumAlgorithmFactory;
+import org.eclipse.aether.internal.impl.checksum.Sha512ChecksumAlgorithmFactory;
+import org.eclipse.aether.spi.connector.checksum.ChecksumAlgorithmFactory;
+import org.eclipse.aether.util.artifact.SubArtifact;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ArtifactStoreChecksumWriterTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void writesMissingChecksums() throws Exception {
+        Path basedir = Files.createDirectories(tempDir.resolve("store"));
+        DirectoryLocker.INSTANCE.lockDirectory(basedir, false);
+        try (PathArtifactStore store = new PathArtifactStore(
+                "store",
+                ArtifactStoreTemplate.RELEASE,
+                Instant.now(),
+                RepositoryMode.RELEASE,
+                WriteMode.WRITE_ONCE,
+                Collections.singletonList(new Sha1ChecksumAlgorithmFactory()),
+                Collections.singletonList(".asc"),
+                null,
+                basedir)) {
+            SyntheticArtifactStoreGenerator generator = SyntheticArtifactStoreGenerator.builder(tempDir.resolve("work"))
+                    .modules(3)
+                    .size(1000, 5000)
+                    .signatures(true)
+                    .build();
+            generator.generate(store);
+            List<ChecksumAlgorithmFactory> factories = Arrays.asList(
+                    new Sha1ChecksumAlgorithmFactory(),
+                    new Sha256ChecksumAlgorithmFactory(),
+                    new Sha512ChecksumAlgorithmFactory());
+            DefaultLayout layout = new DefaultLayout();
+            int checksummed = 0;
+            for (Artifact artifact : store.artifacts()) {
+                if (!artifact.getExtension().endsWith(".asc")) {
+                    checksummed++;
+                }
+            }
+
+            ArtifactStoreChecksumWriter writer = new ArtifactStoreChecksumWriter(factories, 4);
+            // SHA-1 is present: only the two new algorithms are written
+            assertEquals(2 * checksummed, writer.write(store));
+
+            for (Artifact artifact : store.artifacts()) {
+                Path target = basedir.resolve(layout.artifactPath(artifact));
+                if (artifact.getExtension().endsWith(".asc")) {
+                    assertFalse(Files.exists(target.resolveSibling(target.getFileName() + ".sha256")));
+                    continue;
+                }
+                Map<String, String> expected;
+                try (InputStream content = store.artifactContent(artifact).orElseThrow(J8Utils.OET)) {
+                    expected = ArtifactStoreUtils.calculateChecksums(content, factories);
+                }
+                for (ChecksumAlgorithmFactory factory : factories) {
+                    Path sidecar = target.resolveSibling(target.getFileName() + "." + factory.getFileExtension());
+                    assertTrue(Files.isRegularFile(sidecar), sidecar.toString());
+                    assertEquals(
+                            expected.get(factory.getName()),
+                            new String(Files.readAllBytes(sidecar), StandardCharsets.UTF_8));
+                }
+            }
+
+            // all present: nothing to do
+            assertEquals(0, writer.write(store));
+        }
+    }
+
+    @Test
+    void readOnlyStore() throws Exception {
+        Path basedir = Files.createDirectories(tempDir.resolve("store"));
+        DirectoryLocker.INSTANCE.lockDirectory(basedir, false);
+        try (PathArtifactStore store = new PathArtifactStore(
+                "store",
+                ArtifactStoreTemplate.RELEASE,
+                Instant.now(),
+                RepositoryMode.RELEASE,
+                WriteMode.READ_ONLY,
+                Collections.singletonList(new Sha1ChecksumAlgorithmFactory()),
+                Collections.singletonList(".asc"),
+                null,
+                basedir)) {
+            ArtifactStoreChecksumWriter writer =
+                    new ArtifactStoreChecksumWriter(Collections.singletonList(new Sha256ChecksumAlgorithmFactory()), 1);
+            IOException e = assertThrows(IOException.class, () -> writer.write(store));
+            assertTrue(e.getMessage().contains("does not allow write operations"), e.getMessage());
+        }
+    }
+
+    @Test
+    void waitsForConcurrentPut() throws Exception {
+        Path basedir = Files.createDirectories(tempDir.resolve("store"));
+        DirectoryLocker.INSTANCE.lockDirectory(basedir, false);
+        try (PathArtifactStore store = new PathArtifactStore(
+                "store",
+                ArtifactStoreTemplate.RELEASE,
+                Instant.now(),
+                RepositoryMode.RELEASE,
+                WriteMode.WRITE_ONCE,
+                Collections.singletonList(new Sha1ChecksumAlgorithmFactory()),
+                Collections.singletonList(".asc"),
+                null,
+                basedir)) {
+            SyntheticArtifactStoreGenerator.builder(tempDir.resolve("work"))
+                    .modules(1)
+                    .size(1000, 5000)
+                    .build()
+                    .generate(store);
+            Artifact artifact = store.artifacts().iterator().next();
+            Path file = Files.write(tempDir.resolve("extra.jar"), "extra".getBytes(StandardCharsets.UTF_8));
+            Artifact extra = new SubArtifact(artifact, "extra", "jar").setFile(file.toFile());
+            ArtifactStoreChecksumWriter writer =
+                    new ArtifactStoreChecksumWriter(Collections.singletonList(new Sha256ChecksumAlgorithmFactory()), 1);
+            CompletableFuture<Integer> written;
+            try (ArtifactStore.Operation operation =
+                    store.put(Collections.singletonList(extra), Collections.emptyList())) {
+                Files.copy(file, basedir.resolve(new DefaultLayout().artifactPath(extra)));
+                // put holds the GAV lock: writer must wait until operation is closed
+                written = CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return writer.write(store);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                Thread.sleep(200);
+                assertFalse(written.isDone());
+            }
+            // checksums of artifact put meanwhile are written as well
+            assertTrue(written.get(10, TimeUnit.SECONDS) > 0);
+            Path target = basedir.resolve(new DefaultLayout().artifactPath(extra));
+            assertTrue(Files.isRegularFile(target.resolveSibling(target.getFileName() + ".sha256")));
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2023-2024 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.njord.shared.impl.store;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import eu.maveniverse.maven.njord.shared.impl.J8Utils;
+import eu.maveniverse.maven.njord.shared.store.ArtifactStoreTemplate;
+import eu.maveniverse.maven.njord.shared.store.RepositoryMode;
+import eu.maveniverse.maven.njord.shared.store.WriteMode;
+import eu.maveniverse.maven.shared.core.fs.DirectoryLocker;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import org.bouncycastle.bcpg.ArmoredOutputStream;
+import org.bouncycastle.bcpg.HashAlgorithmTags;
+import org.bouncycastle.bcpg.PublicKeyAlgorithmTags;
+import org.bouncycastle.bcpg.PublicKeyPacket;
+import org.bouncycastle.crypto.generators.RSAKeyPairGenerator;
+import org.bouncycastle.crypto.params.RSAKeyGenerationParameters;
+import org.bouncycastle.openpgp.PGPEncryptedData;
+import org.bouncycastle.openpgp.PGPException;
+import org.bouncycastle.openpgp.PGPKeyRingGenerator;
+import org.bouncycastle.openpgp.PGPPublicKey;
+import org.bouncycastle.openpgp.PGPSecretKeyRing;
+import org.bouncycastle.openpgp.PGPSignature;
+import org.bouncycastle.openpgp.PGPSignatureList;
+import org.bouncycastle.openpgp.PGPUtil;
+import org.bouncycastle.openpgp.bc.BcPGPObjectFactory;
+import org.bouncycastle.openpgp.operator.PGPDigestCalculator;
+import org.bouncycastle.openpgp.operator.bc.BcPBESecretKeyEncryptorBuilder;
+import org.bouncycastle.openpgp.operator.bc.BcPGPContentSignerBuilder;
+import org.bouncycastle.openpgp.operator.bc.BcPGPContentVerifierBuilderProvider;
+import org.bouncycastle.openpgp.operator.bc.BcPGPDigestCalculatorProvider;
+import org.bouncycastle.openpgp.operator.bc.BcPGPKeyPair;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.internal.impl.checksum.Sha1ChecksumAlgorithmFactory;
+import org.eclipse.aether.util.artifact.SubArtifact;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ArtifactStoreSignerTest {
+    private static final char[] PASSPHRASE = "secret".toCharArray();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void signsUnsignedArtifacts() throws Exception {
+        PGPSecretKeyRing keyRing = keyRing();
+        Path keyFile = tempDir.resolve("key.asc");
+        try (OutputStream out = new ArmoredOutputStream(Files.newOutputStream(keyFile))) {
+            keyRing.encode(out);
+        }
+        Path basedir = Files.createDirectories(tempDir.resolve("store"));
+        DirectoryLocker.INSTANCE.lockDirectory(basedir, false);
+        try (PathArtifactStore store = new PathArtifactStore(
+                "store",
+                ArtifactStoreTemplate.RELEASE,
+                Instant.now(),
+                RepositoryMode.RELEASE,
+                WriteMode.WRITE_ONCE,
+                Collections.singletonList(new Sha1ChecksumAlgorithmFactory()),
+                Collections.singletonList(".asc"),
+                null,
+                basedir)) {
+            SyntheticArtifactStoreGenerator generator = SyntheticArtifactStoreGenerator.builder(tempDir.resolve("work"))
+                    .modules(3)
+                    .size(1000, 5000)
+                    .signatures(false)
+                    .build();
+            generator.generate(store);
+            int artifacts = store.artifacts().size();
+
+            assertThrows(IOException.class, () -> new ArtifactStoreSigner(keyFile, null, null, 4));
+            assertThrows(IOException.class, () -> new ArtifactStoreSigner(keyFile, "0123456789ABCDEF", PASSPHRASE, 4));
+
+            ArtifactStoreSigner signer = new ArtifactStoreSigner(keyFile, null, PASSPHRASE, 4);
+            assertEquals(String.format("%016X", keyRing.getPublicKey().getKeyID()), signer.keyId());
+            List<Artifact> signatures = signer.sign(store);
+            assertEquals(artifacts, signatures.size());
+            assertEquals(2 * artifacts, store.artifacts().size());
+
+            PGPPublicKey publicKey = keyRing.getPublicKey();
+            for (Artifact artifact : store.artifacts()) {
+                if (!artifact.getExtension().endsWith(".asc")) {
+                    Artifact signature = new SubArtifact(artifact, "*", artifact.getExtension() + ".asc");
+                    assertTrue(store.artifactPresent(signature), signature.toString());
+                    assertTrue(verify(store, artifact, signature, publicKey), signature.toString());
+                }
+            }
+
+            // all signed: nothing to do
+            assertTrue(signer.sign(store).isEmpty());
+        }
+    }
+
+    private static boolean verify(
+            PathArtifactStore store, Artifact artifact, Artifact signatureArtifact, PGPPublicKey publicKey)
+            throws IOException, PGPException {
+        PGPSignature signature;
+        try (InputStream in = PGPUtil.getDecoderStream(
+                store.artifactContent(signatureArtifact).orElseThrow(J8Utils.OET))) {
+            signature = ((PGPSignatureList) new BcPGPObjectFactory(in).nextObject()).get(0);
+        }
+        signature.init(new BcPGPContentVerifierBuilderProvider(), publicKey);
+        try (InputStream in = store.artifactContent(artifact).orElseThrow(J8Utils.OET)) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) >= 0) {
+                signature.update(buffer, 0, read);
+            }
+        }
+        return signature.verify();
+    }
+
+    private static PGPSecretKeyRing keyRing() throws PGPException {
+        RSAKeyPairGenerator rsa = new RSAKeyPairGenerator();
+        rsa.init(new RSAKeyGenerationParameters(BigInteger.valueOf(0x10001), new SecureRandom(), 2048, 12));
+        BcPGPKeyPair keyPair = new BcPGPKeyPair(
+                PublicKeyPacket.VERSION_4, PublicKeyAlgorithmTags.RSA_GENERAL, rsa.generateKeyPair(), new Date());
+        PGPDigestCalculator sha1 = new BcPGPDigestCalculatorProvider().get(HashAlgorithmTags.SHA1);
+        return new PGPKeyRingGenerator(
+                        PGPSignature.POSITIVE_CERTIFICATION,
+                        keyPair,
+                        "Njord Test <test@example.org>",
+                        sha1,
+                        null,
+                        null,
+                        new BcPGPContentSignerBuilder(PublicKeyAlgorithmTags.RSA_GENERAL, HashAlgorithmTags.SHA256),
+                        new BcPBESecretKeyEncryptorBuilder(PGPEncryptedData.AES_256, sha1).build(PASSPHRASE))
+                .generateSecretKeyRing();
+    }
+}
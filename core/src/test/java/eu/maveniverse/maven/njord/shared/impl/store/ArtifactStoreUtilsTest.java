@@ -8,11 +8,32 @@
 package eu.maveniverse.maven.njord.shared.impl.store;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import eu.maveniverse.maven.njord.shared.store.ArtifactStoreTemplate;
+import eu.maveniverse.maven.njord.shared.store.RepositoryMode;
+import eu.maveniverse.maven.njord.shared.store.WriteMode;
+import eu.maveniverse.maven.shared.core.fs.DirectoryLocker;
+import eu.maveniverse.maven.shared.core.fs.FileUtils;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.internal.impl.checksum.Sha1ChecksumAlgorithmFactory;
+import org.eclipse.aether.internal.impl.checksum.Sha256ChecksumAlgorithmFactory;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class ArtifactStoreUtilsTest {
+    @TempDir
+    Path tempDir;
 
     @Test
     void smoke() {
@@ -35,4 +56,75 @@ class ArtifactStoreUtilsTest {
         assertEquals("some-name.dot123", ArtifactStoreUtils.validateArtifactStoreName("some-name.dot123"));
         assertEquals("some_name.dot123", ArtifactStoreUtils.validateArtifactStoreName("some_name.dot123"));
     }
+
+    @Test
+    void contentDigest() throws IOException {
+        String digest;
+        try (PathArtifactStore store = generate("a", 0)) {
+            digest = ArtifactStoreUtils.contentDigest(store);
+            assertEquals(64, digest.length());
+            assertEquals(digest, ArtifactStoreUtils.contentDigest(store));
+        }
+        // same content, different store (name and creation)
+        FileUtils.copyRecursively(tempDir.resolve("a"), tempDir.resolve("b"), p -> true, false);
+        try (PathArtifactStore store = open("b")) {
+            assertEquals(digest, ArtifactStoreUtils.contentDigest(store));
+        }
+        try (PathArtifactStore store = generate("c", 1)) {
+            assertNotEquals(digest, ArtifactStoreUtils.contentDigest(store));
+        }
+    }
+
+    @Test
+    void contentDigestCoversChecksums() throws IOException {
+        try (PathArtifactStore store = generate("a", 0)) {
+            String digest = ArtifactStoreUtils.contentDigest(store);
+            new ArtifactStoreChecksumWriter(Collections.singletonList(new Sha256ChecksumAlgorithmFactory()), 2)
+                    .write(store);
+            assertNotEquals(digest, ArtifactStoreUtils.contentDigest(store));
+        }
+    }
+
+    @Test
+    void putWithChecksumsCancelsOnFailure() throws IOException {
+        try (PathArtifactStore store = open("a")) {
+            Path file = Files.write(tempDir.resolve("file.jar"), "jar".getBytes(StandardCharsets.UTF_8));
+            Artifact good = new DefaultArtifact("org.example:good:1.0").setFile(file.toFile());
+            Artifact bad = new DefaultArtifact("org.example:bad:1.0").setFile(file.toFile());
+            // target of bad artifact is occupied by a directory: copy fails
+            Files.createDirectories(store.basedir().resolve(new DefaultLayout().artifactPath(bad)));
+            assertThrows(IOException.class, () -> ArtifactStoreUtils.putWithChecksums(store, Arrays.asList(good, bad)));
+            assertTrue(store.artifacts().isEmpty());
+
+            ArtifactStoreUtils.putWithChecksums(store, Collections.singletonList(good));
+            assertEquals(1, store.artifacts().size());
+            assertTrue(Files.isRegularFile(store.basedir().resolve(new DefaultLayout().artifactPath(good) + ".sha1")));
+        }
+    }
+
+    private PathArtifactStore generate(String name, long seed) throws IOException {
+        PathArtifactStore store = open(name);
+        SyntheticArtifactStoreGenerator.builder(tempDir.resolve("work-" + name))
+                .modules(3)
+                .size(1000, 5000)
+                .seed(seed)
+                .build()
+                .generate(store);
+        return store;
+    }
+
+    private PathArtifactStore open(String name) throws IOException {
+        Path basedir = Files.createDirectories(tempDir.resolve(name));
+        DirectoryLocker.INSTANCE.lockDirectory(basedir, false);
+        return new PathArtifactStore(
+                name,
+                ArtifactStoreTemplate.RELEASE,
+                Instant.now(),
+                RepositoryMode.RELEASE,
+                WriteMode.WRITE_ONCE,
+                Collections.singletonList(new Sha1ChecksumAlgorithmFactory()),
+                Collections.singletonList(".asc"),
+                null,
+                basedir);
+    }
 }
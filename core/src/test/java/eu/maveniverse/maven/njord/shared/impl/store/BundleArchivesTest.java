@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2023-2024 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.njord.shared.impl.store;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import eu.maveniverse.maven.njord.shared.store.BundleFormat;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BundleArchivesTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void tarRoundTrip() throws IOException {
+        roundTrip(BundleFormat.TAR);
+    }
+
+    @Test
+    void tarGzRoundTrip() throws IOException {
+        roundTrip(BundleFormat.TAR_GZ);
+    }
+
+    @Test
+    void nonAsciiLongName() throws IOException {
+        // less than 100 chars, but more than 100 bytes in UTF-8
+        String path = "org/foo/" + String.join("", Collections.nCopies(60, "\u00fc")) + "/1.0/baz-1.0.jar";
+        Path source;
+        try {
+            source = tempDir.resolve("source");
+            source.resolve(path);
+        } catch (InvalidPathException e) {
+            assumeTrue(false, "File system cannot represent non-ASCII names");
+            return;
+        }
+        write(source.resolve(path), "non-ascii".getBytes(StandardCharsets.UTF_8));
+
+        Path bundle = tempDir.resolve("bundle.ntb.tar");
+        BundleArchives.writeTar(
+                BundleFormat.TAR, Collections.singletonList(source), p -> true, Files.newOutputStream(bundle));
+        Path target = tempDir.resolve("target");
+        try (InputStream in = Files.newInputStream(bundle)) {
+            BundleArchives.extractTar(BundleFormat.TAR, in, target);
+        }
+        assertEquals("non-ascii", new String(Files.readAllBytes(target.resolve(path)), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void detectZip() throws IOException {
+        Path bundle = tempDir.resolve("bundle.ntb");
+        try (OutputStream out = Files.newOutputStream(bundle);
+                ZipOutputStream zip = new ZipOutputStream(out)) {
+            zip.putNextEntry(new ZipEntry("foo"));
+            zip.closeEntry();
+        }
+        assertEquals(BundleFormat.ZIP, BundleArchives.detectFormat(bundle));
+        Path other = Files.write(tempDir.resolve("other"), "hello".getBytes(StandardCharsets.UTF_8));
+        assertThrows(IOException.class, () -> BundleArchives.detectFormat(other));
+    }
+
+    private void roundTrip(BundleFormat format) throws IOException {
+        Path source = Files.createDirectories(tempDir.resolve("source"));
+        Path meta = Files.createDirectories(tempDir.resolve("meta"));
+        // bigger than compression block, to have multiple gzip members
+        byte[] big = new byte[3 * 1024 * 1024 + 17];
+        new Random(42).nextBytes(big);
+        String longPath = "org/foo/some/very/long/group/id/that/does/not/fit/into/ustar/name/field/bar/1.0/"
+                + "bar-1.0-with-classifier.jar";
+        write(source.resolve("org/foo/bar/1.0/bar-1.0.jar"), big);
+        write(source.resolve(longPath), "long".getBytes(StandardCharsets.UTF_8));
+        write(source.resolve("org/foo/bar/1.0/bar-1.0.pom"), new byte[0]);
+        write(source.resolve(".locks/ignored"), "x".getBytes(StandardCharsets.UTF_8));
+        write(meta.resolve(".meta/delta"), "delta".getBytes(StandardCharsets.UTF_8));
+
+        Path bundle = tempDir.resolve("bundle.ntb." + format.extension());
+        BundleArchives.writeTar(
+                format,
+                Arrays.asList(source, meta),
+                p -> !p.getFileName().toString().equals(".locks"),
+                Files.newOutputStream(bundle));
+        assertEquals(format, BundleArchives.detectFormat(bundle));
+
+        Path target = tempDir.resolve("target");
+        try (InputStream in = Files.newInputStream(bundle)) {
+            BundleArchives.extractTar(format, in, target);
+        }
+        assertArrayEquals(big, Files.readAllBytes(target.resolve("org/foo/bar/1.0/bar-1.0.jar")));
+        assertEquals("long", new String(Files.readAllBytes(target.resolve(longPath)), StandardCharsets.UTF_8));
+        assertEquals(0, Files.size(target.resolve("org/foo/bar/1.0/bar-1.0.pom")));
+        assertEquals(
+                Collections.singletonList("delta"),
+                Files.readAllLines(target.resolve(".meta/delta"), StandardCharsets.UTF_8));
+        assertFalse(Files.exists(target.resolve(".locks")));
+    }
+
+    private static void write(Path file, byte[] content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.write(file, content);
+    }
+}
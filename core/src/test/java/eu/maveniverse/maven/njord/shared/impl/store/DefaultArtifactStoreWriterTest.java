@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2023-2024 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.njord.shared.impl.store;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import eu.maveniverse.maven.njord.shared.impl.J8Utils;
+import eu.maveniverse.maven.njord.shared.store.ArtifactStoreTemplate;
+import eu.maveniverse.maven.njord.shared.store.BundleFormat;
+import eu.maveniverse.maven.njord.shared.store.RepositoryMode;
+import eu.maveniverse.maven.njord.shared.store.WriteMode;
+import eu.maveniverse.maven.shared.core.fs.DirectoryLocker;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.eclipse.aether.internal.impl.checksum.Sha1ChecksumAlgorithmFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DefaultArtifactStoreWriterTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void writeAsBundlesSplitsAlongGavs() throws IOException {
+        try (PathArtifactStore store = store()) {
+            SyntheticArtifactStoreGenerator.builder(tempDir.resolve("work"))
+                    .modules(5)
+                    .size(10_000, 10_000)
+                    .sizeDistribution(SyntheticArtifactStoreGenerator.SizeDistribution.FIXED)
+                    .classifiers(Collections.emptyList())
+                    .build()
+                    .generate(store);
+            DefaultArtifactStoreWriter writer = new DefaultArtifactStoreWriter();
+
+            // everything fits: single bundle named as store
+            List<Path> single = writer.writeAsBundles(store, tempDir.resolve("single"), Long.MAX_VALUE);
+            assertEquals(1, single.size());
+            assertEquals("store.zip", single.get(0).getFileName().toString());
+            List<String> all = entries(single.get(0));
+
+            // each GAV is over 10KB, so cap of 25KB fits two of them per bundle
+            List<Path> bundles = writer.writeAsBundles(store, tempDir.resolve("split"), 25_000);
+            assertEquals(3, bundles.size());
+            assertEquals("store-1.zip", bundles.get(0).getFileName().toString());
+            assertEquals("store-3.zip", bundles.get(2).getFileName().toString());
+            List<String> split = new ArrayList<>();
+            Set<String> gavs = new HashSet<>();
+            for (Path bundle : bundles) {
+                List<String> entries = entries(bundle);
+                Set<String> bundleGavs = entries.stream()
+                        .map(e -> e.substring(0, e.lastIndexOf('/')))
+                        .collect(Collectors.toSet());
+                // no GAV is split across bundles
+                bundleGavs.forEach(gav -> assertTrue(gavs.add(gav), gav));
+                split.addAll(entries);
+            }
+            Collections.sort(split);
+            assertEquals(all, split);
+
+            // cap smaller than single GAV: one GAV per bundle
+            assertEquals(
+                    5, writer.writeAsBundles(store, tempDir.resolve("tiny"), 1).size());
+        }
+    }
+
+    @Test
+    void writeAsTarBundleHasSameEntriesAsZip() throws IOException {
+        try (PathArtifactStore store = store()) {
+            SyntheticArtifactStoreGenerator.builder(tempDir.resolve("work"))
+                    .modules(3)
+                    .size(1000, 5000)
+                    .build()
+                    .generate(store);
+            DefaultArtifactStoreWriter writer = new DefaultArtifactStoreWriter();
+            List<String> zip = entries(writer.writeAsBundle(store, tempDir.resolve("zip"), BundleFormat.ZIP));
+
+            Path tar = writer.writeAsBundle(store, tempDir.resolve("tar"), BundleFormat.TAR_GZ);
+            Path extracted = Files.createDirectories(tempDir.resolve("extracted"));
+            try (InputStream in = Files.newInputStream(tar)) {
+                BundleArchives.extractTar(BundleFormat.TAR_GZ, in, extracted);
+            }
+            // store metadata (hidden files) is not bundled
+            try (Stream<Path> files = Files.walk(extracted)) {
+                assertEquals(
+                        zip,
+                        files.filter(Files::isRegularFile)
+                                .map(extracted::relativize)
+                                .map(p -> p.toString().replace('\\', '/'))
+                                .sorted()
+                                .collect(Collectors.toList()));
+            }
+        }
+    }
+
+    private List<String> entries(Path bundle) throws IOException {
+        try (FileSystem fs =
+                FileSystems.newFileSystem(URI.create("jar:" + bundle.toUri()), J8Utils.zipFsCreate(false), null)) {
+            Path root = fs.getPath("/");
+            try (Stream<Path> files = Files.walk(root)) {
+                return files.filter(Files::isRegularFile)
+                        .map(root::relativize)
+                        .map(Path::toString)
+                        .sorted()
+                        .collect(Collectors.toList());
+            }
+        }
+    }
+
+    private PathArtifactStore store() throws IOException {
+        Path basedir = Files.createDirectories(tempDir.resolve("store"));
+        DirectoryLocker.INSTANCE.lockDirectory(basedir, false);
+        return new PathArtifactStore(
+                "store",
+                ArtifactStoreTemplate.RELEASE,
+                Instant.now(),
+                RepositoryMode.RELEASE,
+                WriteMode.WRITE_ONCE,
+                Collections.singletonList(new Sha1ChecksumAlgorithmFactory()),
+                Collections.singletonList(".asc"),
+                null,
+                basedir);
+    }
+}
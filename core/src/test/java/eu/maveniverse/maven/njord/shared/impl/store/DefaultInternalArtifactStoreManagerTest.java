@@ -8,15 +8,42 @@
 package eu.maveniverse.maven.njord.shared.impl.store;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import eu.maveniverse.maven.njord.shared.SessionConfig;
+import eu.maveniverse.maven.njord.shared.impl.J8Utils;
+import eu.maveniverse.maven.njord.shared.store.ArtifactStore;
+import eu.maveniverse.maven.njord.shared.store.ArtifactStoreTemplate;
+import eu.maveniverse.maven.njord.shared.store.BundleFormat;
+import eu.maveniverse.maven.shared.core.fs.FileUtils;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.zip.ZipFile;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.internal.impl.checksum.DefaultChecksumAlgorithmFactorySelector;
+import org.eclipse.aether.internal.impl.checksum.Md5ChecksumAlgorithmFactory;
+import org.eclipse.aether.internal.impl.checksum.Sha1ChecksumAlgorithmFactory;
+import org.eclipse.aether.internal.impl.checksum.Sha256ChecksumAlgorithmFactory;
+import org.eclipse.aether.spi.connector.checksum.ChecksumAlgorithmFactory;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class DefaultInternalArtifactStoreManagerTest {
+    @TempDir
+    Path tempDir;
 
     @Test
     void testNewArtifactStoreNameWithExtendedPrefix() {
@@ -38,4 +65,181 @@ class DefaultInternalArtifactStoreManagerTest {
         assertEquals(
                 "myPrefix-00004", DefaultInternalArtifactStoreManager.newArtifactStoreName("myPrefix", paths.stream()));
     }
+
+    @Test
+    void testNewArtifactStoreNameBeyondPadding() {
+        List<Path> paths = Arrays.asList(Paths.get("myPrefix-99999"), Paths.get("myPrefix-100000"));
+        assertEquals(
+                "myPrefix-100001",
+                DefaultInternalArtifactStoreManager.newArtifactStoreName("myPrefix", paths.stream()));
+    }
+
+    @Test
+    void storeNameAllocation() throws IOException {
+        try (DefaultInternalArtifactStoreManager manager = createManager()) {
+            Path basedir = Files.createDirectories(tempDir.resolve("njord"));
+            // leftover directory is not reused
+            Files.createDirectories(basedir.resolve("release-00003"));
+            try (ArtifactStore store = manager.createArtifactStore(ArtifactStoreTemplate.RELEASE, null)) {
+                assertEquals("release-00004", store.name());
+            }
+            // counter is behind existing directories: those are skipped
+            Files.write(basedir.resolve(".counters").resolve("release"), "1".getBytes(StandardCharsets.UTF_8));
+            Files.createDirectories(basedir.resolve("release-00002"));
+            try (ArtifactStore store = manager.createArtifactStore(ArtifactStoreTemplate.RELEASE, null)) {
+                assertEquals("release-00005", store.name());
+            }
+            // store of counter dropped: next follows the highest existing one
+            assertTrue(manager.dropArtifactStore("release-00005"));
+            try (ArtifactStore store = manager.createArtifactStore(ArtifactStoreTemplate.RELEASE, null)) {
+                assertEquals("release-00005", store.name());
+            }
+            // lower store dropped: counter is used
+            assertTrue(manager.dropArtifactStore("release-00004"));
+            try (ArtifactStore store = manager.createArtifactStore(ArtifactStoreTemplate.RELEASE, null)) {
+                assertEquals("release-00006", store.name());
+            }
+            // all stores of prefix dropped (like drop-all does): numbering starts over
+            for (String name : manager.listArtifactStoreNamesForPrefix("release")) {
+                assertTrue(manager.dropArtifactStore(name));
+            }
+            Files.delete(basedir.resolve("release-00002"));
+            Files.delete(basedir.resolve("release-00003"));
+            try (ArtifactStore store = manager.createArtifactStore(ArtifactStoreTemplate.RELEASE, null)) {
+                assertEquals("release-00001", store.name());
+            }
+        }
+    }
+
+    @Test
+    void deltaExportImport() throws IOException {
+        try (DefaultInternalArtifactStoreManager manager = createManager()) {
+            String baseName;
+            try (ArtifactStore store = manager.createArtifactStore(ArtifactStoreTemplate.RELEASE, null)) {
+                baseName = store.name();
+                write(store, "org.foo:a:1.0", "one", "org.foo:b:1.0", "two");
+            }
+            String storeName;
+            try (ArtifactStore store = manager.createArtifactStore(ArtifactStoreTemplate.RELEASE, null)) {
+                storeName = store.name();
+                write(store, "org.foo:a:1.0", "one", "org.foo:b:1.0", "TWO", "org.foo:c:1.0", "three");
+            }
+
+            Path bundle;
+            try (ArtifactStore base = manager.selectArtifactStore(baseName).orElseThrow(J8Utils.OET);
+                    ArtifactStore store = manager.selectArtifactStore(storeName).orElseThrow(J8Utils.OET)) {
+                bundle = manager.exportTo(store, tempDir.resolve("delta.ntb"), base);
+            }
+            try (ZipFile zipFile = new ZipFile(bundle.toFile())) {
+                assertNotNull(zipFile.getEntry(".meta/delta"));
+                assertFalse(zipFile.stream().anyMatch(e -> e.getName().endsWith("a-1.0.jar")));
+                assertNotNull(zipFile.getEntry("org/foo/b/1.0/b-1.0.jar"));
+                assertNotNull(zipFile.getEntry("org/foo/c/1.0/c-1.0.jar"));
+            }
+
+            assertThrows(IOException.class, () -> manager.importFrom(bundle));
+            try (ArtifactStore base = manager.selectArtifactStore(baseName).orElseThrow(J8Utils.OET);
+                    ArtifactStore imported = manager.importFrom(bundle, base)) {
+                assertEquals(3, imported.artifacts().size());
+                assertEquals("one", read(imported, "org.foo:a:1.0"));
+                assertEquals("TWO", read(imported, "org.foo:b:1.0"));
+                assertEquals("three", read(imported, "org.foo:c:1.0"));
+            }
+        }
+    }
+
+    @Test
+    void tarGzDeltaExportImport() throws IOException {
+        try (DefaultInternalArtifactStoreManager manager = createManager()) {
+            String baseName;
+            try (ArtifactStore store = manager.createArtifactStore(ArtifactStoreTemplate.RELEASE, null)) {
+                baseName = store.name();
+                write(store, "org.foo:a:1.0", "one");
+            }
+            Path bundle;
+            try (ArtifactStore store = manager.createArtifactStore(ArtifactStoreTemplate.RELEASE, null);
+                    ArtifactStore base = manager.selectArtifactStore(baseName).orElseThrow(J8Utils.OET)) {
+                write(store, "org.foo:a:1.0", "one", "org.foo:b:1.0", "two");
+                bundle = manager.exportTo(store, tempDir, base, BundleFormat.TAR_GZ);
+                assertEquals(store.name() + ".ntb.tar.gz", bundle.getFileName().toString());
+            }
+            assertEquals(BundleFormat.TAR_GZ, BundleArchives.detectFormat(bundle));
+            assertThrows(IOException.class, () -> manager.openBundle(bundle));
+            try (ArtifactStore base = manager.selectArtifactStore(baseName).orElseThrow(J8Utils.OET);
+                    ArtifactStore imported = manager.importFrom(bundle, base)) {
+                assertEquals(2, imported.artifacts().size());
+                assertEquals("one", read(imported, "org.foo:a:1.0"));
+                assertEquals("two", read(imported, "org.foo:b:1.0"));
+            }
+        }
+    }
+
+    @Test
+    void catalog() throws IOException {
+        try (DefaultInternalArtifactStoreManager manager = createManager()) {
+            manager.createArtifactStore(ArtifactStoreTemplate.RELEASE, null).close();
+            manager.createArtifactStore(ArtifactStoreTemplate.RELEASE.withPrefix("foo"), null)
+                    .close();
+            manager.createArtifactStore(ArtifactStoreTemplate.RELEASE.withPrefix("foo-bar"), null)
+                    .close();
+            manager.createArtifactStore(ArtifactStoreTemplate.RELEASE.withPrefix("foo"), null)
+                    .close();
+            assertEquals(
+                    Arrays.asList("foo-00001", "foo-00002", "foo-bar-00001", "release-00001"),
+                    manager.listArtifactStoreNames());
+            assertEquals(Arrays.asList("foo-00001", "foo-00002"), manager.listArtifactStoreNamesForPrefix("foo"));
+
+            // stores dropped behind our back and lost catalog are reconciled
+            FileUtils.deleteRecursively(tempDir.resolve("njord").resolve("foo-00001"));
+            Files.delete(tempDir.resolve("njord").resolve(".catalog"));
+            assertEquals(Collections.singletonList("foo-00002"), manager.listArtifactStoreNamesForPrefix("foo"));
+
+            manager.renumberArtifactStores();
+            assertEquals(Collections.singletonList("foo-00001"), manager.listArtifactStoreNamesForPrefix("foo"));
+            assertTrue(manager.dropArtifactStore("foo-00001"));
+            assertEquals(Arrays.asList("foo-bar-00001", "release-00001"), manager.listArtifactStoreNames());
+            try (ArtifactStore store = manager.createArtifactStore(ArtifactStoreTemplate.RELEASE, null)) {
+                assertEquals("release-00002", store.name());
+            }
+        }
+    }
+
+    private DefaultInternalArtifactStoreManager createManager() {
+        HashMap<String, ChecksumAlgorithmFactory> factories = new HashMap<>();
+        factories.put(Sha1ChecksumAlgorithmFactory.NAME, new Sha1ChecksumAlgorithmFactory());
+        factories.put(Md5ChecksumAlgorithmFactory.NAME, new Md5ChecksumAlgorithmFactory());
+        factories.put(Sha256ChecksumAlgorithmFactory.NAME, new Sha256ChecksumAlgorithmFactory());
+        SessionConfig config = SessionConfig.defaults(new DefaultRepositorySystemSession(), Collections.emptyList())
+                .basedir(tempDir.resolve("njord"))
+                .build();
+        return new DefaultInternalArtifactStoreManager(config, new DefaultChecksumAlgorithmFactorySelector(factories));
+    }
+
+    /**
+     * Writes artifacts as given by pairs of coordinates and content, as connector and file transport would do.
+     */
+    private void write(ArtifactStore store, String... coordinatesAndContent) throws IOException {
+        Path basedir = ((PathArtifactStore) store).basedir();
+        DefaultLayout layout = new DefaultLayout();
+        ArrayList<Artifact> artifacts = new ArrayList<>();
+        for (int i = 0; i < coordinatesAndContent.length; i += 2) {
+            Path source = Files.createTempFile(tempDir, "artifact", ".tmp");
+            Files.write(source, coordinatesAndContent[i + 1].getBytes(StandardCharsets.UTF_8));
+            artifacts.add(new DefaultArtifact(coordinatesAndContent[i]).setFile(source.toFile()));
+        }
+        try (ArtifactStore.Operation operation = store.put(artifacts, Collections.emptyList())) {
+            for (Artifact artifact : artifacts) {
+                Path target = basedir.resolve(layout.artifactPath(artifact));
+                Files.createDirectories(target.getParent());
+                Files.copy(artifact.getFile().toPath(), target);
+            }
+        }
+    }
+
+    private String read(ArtifactStore store, String coordinates) throws IOException {
+        Path file = ((PathArtifactStore) store)
+                .basedir()
+                .resolve(new DefaultLayout().artifactPath(new DefaultArtifact(coordinates)));
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    }
 }
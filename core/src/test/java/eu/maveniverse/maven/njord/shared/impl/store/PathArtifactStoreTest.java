@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2023-2024 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.njord.shared.impl.store;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import eu.maveniverse.maven.njord.shared.store.ArtifactStore;
+import eu.maveniverse.maven.njord.shared.store.ArtifactStoreTemplate;
+import eu.maveniverse.maven.njord.shared.store.RepositoryMode;
+import eu.maveniverse.maven.njord.shared.store.WriteMode;
+import eu.maveniverse.maven.shared.core.fs.DirectoryLocker;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PathArtifactStoreTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void concurrentPut() throws Exception {
+        try (PathArtifactStore store = store()) {
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            try {
+                ArrayList<Future<?>> futures = new ArrayList<>();
+                for (int i = 0; i < 64; i++) {
+                    String coordinates = "org.foo:module" + i + ":1.0";
+                    futures.add(executor.submit(() -> {
+                        write(store, coordinates);
+                        return null;
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } finally {
+                executor.shutdown();
+            }
+            assertEquals(64, store.artifacts().size());
+            // nothing is held: no locks nor appenders are kept around
+            assertFalse(PathArtifactStore.WRITE_LOCKS.keySet().stream()
+                    .anyMatch(k -> k.startsWith(store.basedir().toString())));
+            assertFalse(IndexAppender.APPENDERS.keySet().stream()
+                    .anyMatch(p -> p.startsWith(store.basedir().toAbsolutePath())));
+        }
+    }
+
+    @Test
+    void sameGavIsSerialized() throws Exception {
+        try (PathArtifactStore store = store()) {
+            Artifact artifact = artifact("org.foo:bar:1.0");
+            ArtifactStore.Operation first = store.put(Collections.singletonList(artifact), Collections.emptyList());
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            try {
+                // second writer of same GAV waits for first one, and then sees the redeploy
+                Future<?> second = executor.submit(() -> {
+                    write(store, "org.foo:bar:1.0");
+                    return null;
+                });
+                copy(store, artifact);
+                // operation is closed by other thread than the one created it
+                executor.submit(() -> {
+                            first.close();
+                            return null;
+                        })
+                        .get();
+                Exception e = assertThrows(Exception.class, second::get);
+                assertEquals(IllegalArgumentException.class, e.getCause().getClass());
+            } finally {
+                executor.shutdown();
+            }
+            assertEquals(1, store.artifacts().size());
+            assertFalse(PathArtifactStore.WRITE_LOCKS.keySet().stream()
+                    .anyMatch(k -> k.startsWith(store.basedir().toString())));
+        }
+    }
+
+    @Test
+    void gavLockIsFileLock() throws Exception {
+        try (PathArtifactStore store = store()) {
+            Artifact artifact = artifact("org.foo:bar:1.0");
+            Path lockFile = store.lockFile(PathArtifactStore.writeKey(artifact));
+            try (ArtifactStore.Operation operation =
+                    store.put(Collections.singletonList(artifact), Collections.emptyList())) {
+                copy(store, artifact);
+                // lock file is locked while operation is open (by this JVM; other processes would block)
+                try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.WRITE)) {
+                    assertThrows(OverlappingFileLockException.class, channel::tryLock);
+                }
+            }
+            try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.WRITE);
+                    FileLock lock = channel.tryLock()) {
+                assertNotNull(lock);
+            }
+            // lock files are not part of store content
+            Path exported = Files.createDirectories(tempDir.resolve("exported"));
+            store.writeTo(exported);
+            assertFalse(Files.exists(exported.resolve(".locks")));
+        }
+    }
+
+    private PathArtifactStore store() throws IOException {
+        Path basedir = Files.createDirectories(tempDir.resolve("store"));
+        DirectoryLocker.INSTANCE.lockDirectory(basedir, false);
+        return new PathArtifactStore(
+                "test-00001",
+                ArtifactStoreTemplate.RELEASE,
+                Instant.now(),
+                RepositoryMode.RELEASE,
+                WriteMode.WRITE_ONCE,
+                Collections.emptyList(),
+                Collections.emptyList(),
+                null,
+                basedir);
+    }
+
+    private Artifact artifact(String coordinates) throws IOException {
+        Path source = Files.createTempFile(tempDir, "artifact", ".tmp");
+        Files.write(source, coordinates.getBytes(StandardCharsets.UTF_8));
+        return new DefaultArtifact(coordinates).setFile(source.toFile());
+    }
+
+    /**
+     * Writes artifact as connector and file transport would do.
+     */
+    private void write(PathArtifactStore store, String coordinates) throws IOException {
+        List<Artifact> artifacts = Collections.singletonList(artifact(coordinates));
+        try (ArtifactStore.Operation operation = store.put(artifacts, Collections.emptyList())) {
+            copy(store, artifacts.get(0));
+        }
+    }
+
+    private void copy(PathArtifactStore store, Artifact artifact) throws IOException {
+        Path target = store.basedir().resolve(new DefaultLayout().artifactPath(artifact));
+        Files.createDirectories(target.getParent());
+        Files.copy(artifact.getFile().toPath(), target);
+    }
+}
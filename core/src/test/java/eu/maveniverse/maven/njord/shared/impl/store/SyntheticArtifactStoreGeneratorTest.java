@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2023-2024 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.njord.shared.impl.store;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import eu.maveniverse.maven.njord.shared.store.ArtifactStoreTemplate;
+import eu.maveniverse.maven.njord.shared.store.RepositoryMode;
+import eu.maveniverse.maven.njord.shared.store.WriteMode;
+import eu.maveniverse.maven.shared.core.fs.DirectoryLocker;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.internal.impl.checksum.Sha1ChecksumAlgorithmFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SyntheticArtifactStoreGeneratorTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void generate() throws IOException {
+        SyntheticArtifactStoreGenerator generator = SyntheticArtifactStoreGenerator.builder(tempDir.resolve("work"))
+                .modules(3)
+                .size(100, 10_000)
+                .classifiers(Collections.singletonList("sources"))
+                .build();
+        assertEquals(6, generator.artifactsPerModule());
+        try (PathArtifactStore store = store("first")) {
+            long bytes = generator.generate(store);
+            assertEquals(18, store.artifacts().size());
+            Artifact jar = new DefaultArtifact(generator.groupId(), generator.artifactId(1), "", "jar", "1.0.0");
+            assertTrue(store.artifactPresent(jar));
+            assertTrue(store.artifactPresent(
+                    new DefaultArtifact(generator.groupId(), generator.artifactId(1), "", "jar.sha1", "1.0.0")));
+            assertFalse(store.artifactPresent(
+                    new DefaultArtifact(generator.groupId(), generator.artifactId(1), "", "jar.asc.sha1", "1.0.0")));
+            long size = Files.size(store.basedir().resolve(new DefaultLayout().artifactPath(jar)));
+            assertTrue(size > 100 && size < 11_000);
+            assertTrue(bytes > 0);
+
+            // module files are removed once put
+            try (Stream<Path> files = Files.list(tempDir.resolve("work"))) {
+                assertEquals(0, files.count());
+            }
+
+            // same seed generates same content
+            try (PathArtifactStore other = store("second")) {
+                generator.generate(other);
+                assertEquals(listFiles(store.basedir()), listFiles(other.basedir()));
+                assertArrayEquals(
+                        Files.readAllBytes(store.basedir().resolve(new DefaultLayout().artifactPath(jar))),
+                        Files.readAllBytes(other.basedir().resolve(new DefaultLayout().artifactPath(jar))));
+            }
+        }
+    }
+
+    private List<String> listFiles(Path basedir) throws IOException {
+        try (Stream<Path> files = Files.walk(basedir)) {
+            return files.filter(Files::isRegularFile)
+                    .map(basedir::relativize)
+                    .map(Path::toString)
+                    .filter(p -> !p.startsWith("."))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private PathArtifactStore store(String name) throws IOException {
+        Path basedir = Files.createDirectories(tempDir.resolve(name));
+        DirectoryLocker.INSTANCE.lockDirectory(basedir, false);
+        return new PathArtifactStore(
+                name,
+                ArtifactStoreTemplate.RELEASE,
+                Instant.now(),
+                RepositoryMode.RELEASE,
+                WriteMode.WRITE_ONCE,
+                Collections.singletonList(new Sha1ChecksumAlgorithmFactory()),
+                Collections.singletonList(".asc"),
+                null,
+                basedir);
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2023-2024 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.njord.shared.impl.store;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import eu.maveniverse.maven.njord.shared.impl.J8Utils;
+import eu.maveniverse.maven.njord.shared.impl.NjordRepositoryListener;
+import eu.maveniverse.maven.njord.shared.store.ArtifactStoreTemplate;
+import eu.maveniverse.maven.njord.shared.store.RepositoryMode;
+import eu.maveniverse.maven.njord.shared.store.WriteMode;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.deployment.DeployRequest;
+import org.eclipse.aether.deployment.DeployResult;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.util.artifact.ArtifactIdUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ZipArtifactStoreTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void artifactFromPath() {
+        assertEquals(
+                Optional.of("org.foo:bar:jar:1.0"),
+                ZipArtifactStore.artifactFromPath("org/foo/bar/1.0/bar-1.0.jar").map(ArtifactIdUtils::toId));
+        assertEquals(
+                Optional.of("org.foo:bar:jar.asc:sources:1.0"),
+                ZipArtifactStore.artifactFromPath("org/foo/bar/1.0/bar-1.0-sources.jar.asc")
+                        .map(ArtifactIdUtils::toId));
+        assertEquals(
+                Optional.of("org.foo:bar:tar.gz:1.0-20250101.101010-3"),
+                ZipArtifactStore.artifactFromPath("org/foo/bar/1.0-SNAPSHOT/bar-1.0-20250101.101010-3.tar.gz")
+                        .map(ArtifactIdUtils::toId));
+        assertFalse(ZipArtifactStore.artifactFromPath("org/foo/bar/1.0/bar-1.0.jar.sha1")
+                .isPresent());
+        assertFalse(ZipArtifactStore.artifactFromPath("org/foo/bar/maven-metadata.xml")
+                .isPresent());
+        assertFalse(
+                ZipArtifactStore.artifactFromPath(".meta/repository.properties").isPresent());
+    }
+
+    @Test
+    void plainBundle() throws IOException {
+        LinkedHashMap<String, String> entries = new LinkedHashMap<>();
+        entries.put("org/foo/bar/1.0/bar-1.0.pom", "pom");
+        entries.put("org/foo/bar/1.0/bar-1.0.pom.sha1", "sha1");
+        entries.put("org/foo/bar/1.0/bar-1.0.jar", "jar");
+        entries.put("org/foo/bar/1.0/bar-1.0.jar.asc", "asc");
+        Path bundle = zip("bundle.zip", entries);
+
+        try (ZipArtifactStore store = store(bundle)) {
+            assertEquals(WriteMode.READ_ONLY, store.writeMode());
+            assertEquals(
+                    "org.foo:bar:jar.asc:1.0,org.foo:bar:jar:1.0,org.foo:bar:pom:1.0",
+                    store.artifacts().stream()
+                            .map(ArtifactIdUtils::toId)
+                            .sorted()
+                            .collect(Collectors.joining(",")));
+            assertTrue(store.artifactPresent(new DefaultArtifact("org.foo:bar:pom.sha1:1.0")));
+            assertEquals("jar", content(store.artifactContent(new DefaultArtifact("org.foo:bar:1.0"))));
+            assertFalse(store.artifactContent(new DefaultArtifact("org.foo:bar:war:1.0"))
+                    .isPresent());
+            assertTrue(store.metadata().isEmpty());
+            assertTrue(store.attachments().isEmpty());
+            assertThrows(IOException.class, () -> store.put(store.artifacts(), Collections.emptyList()));
+            assertThrows(IOException.class, () -> store.manageAttachment("foo"));
+
+            Path target = Files.createDirectories(tempDir.resolve("target"));
+            store.writeTo(target);
+            assertEquals("jar", new String(Files.readAllBytes(target.resolve("org/foo/bar/1.0/bar-1.0.jar"))));
+        }
+    }
+
+    @Test
+    void transportableBundle() throws IOException {
+        LinkedHashMap<String, String> entries = new LinkedHashMap<>();
+        entries.put(".meta/repository.properties", "name=release-00001");
+        entries.put(".meta/artifacts", "org.foo:bar:jar:1.0=org/foo/bar/1.0/bar-1.0.jar\n");
+        entries.put(".attachments/notes.txt", "notes");
+        entries.put("org/foo/bar/1.0/bar-1.0.jar", "jar");
+        entries.put("org/foo/bar/1.0/bar-1.0-other.jar", "not indexed");
+        Path bundle = zip("release-00001.ntb", entries);
+
+        try (ZipArtifactStore store = store(bundle)) {
+            assertEquals(
+                    Collections.singletonList("org.foo:bar:jar:1.0"),
+                    store.artifacts().stream().map(ArtifactIdUtils::toId).collect(Collectors.toList()));
+            assertEquals(Collections.singletonList("notes.txt"), store.attachments());
+            assertEquals("notes", content(store.attachmentContent("notes.txt")));
+
+            Path target = Files.createDirectories(tempDir.resolve("target"));
+            store.writeTo(target);
+            assertFalse(Files.exists(target.resolve(".meta")));
+            assertFalse(Files.exists(target.resolve(".attachments")));
+        }
+    }
+
+    @Test
+    void deployExtractsContent() throws IOException {
+        LinkedHashMap<String, String> entries = new LinkedHashMap<>();
+        entries.put("org/foo/bar/1.0/bar-1.0.pom", "pom");
+        entries.put("org/foo/bar/1.0/bar-1.0.jar", "jar");
+        Path bundle = zip("bundle.zip", entries);
+
+        LinkedHashMap<String, String> deployed = new LinkedHashMap<>();
+        RepositorySystem repositorySystem = (RepositorySystem) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class<?>[] {RepositorySystem.class}, (proxy, method, args) -> {
+                    if ("deploy".equals(method.getName())) {
+                        for (Artifact artifact : ((DeployRequest) args[1]).getArtifacts()) {
+                            deployed.put(
+                                    ArtifactIdUtils.toId(artifact),
+                                    new String(
+                                            Files.readAllBytes(
+                                                    artifact.getFile().toPath()),
+                                            StandardCharsets.UTF_8));
+                        }
+                        return new DeployResult((DeployRequest) args[1]);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        try (ZipArtifactStore store = store(bundle)) {
+            new ArtifactStoreDeployer(
+                            repositorySystem,
+                            new DefaultRepositorySystemSession(),
+                            NjordRepositoryListener.Mode.AGGREGATED_SILENT,
+                            new RemoteRepository.Builder("target", "default", "file:///target").build(),
+                            true)
+                    .deploy(store);
+        }
+        assertEquals("pom", deployed.get("org.foo:bar:pom:1.0"));
+        assertEquals("jar", deployed.get("org.foo:bar:jar:1.0"));
+    }
+
+    private ZipArtifactStore store(Path bundle) throws IOException {
+        return new ZipArtifactStore(
+                "test",
+                ArtifactStoreTemplate.RELEASE,
+                Instant.now(),
+                RepositoryMode.RELEASE,
+                Collections.emptyList(),
+                Collections.emptyList(),
+                null,
+                bundle,
+                new ZipFile(bundle.toFile()));
+    }
+
+    private Path zip(String name, Map<String, String> entries) throws IOException {
+        Path bundle = tempDir.resolve(name);
+        try (OutputStream out = Files.newOutputStream(bundle);
+                ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (Map.Entry<String, String> entry : entries.entrySet()) {
+                zip.putNextEntry(new ZipEntry(entry.getKey()));
+                zip.write(entry.getValue().getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+        return bundle;
+    }
+
+    private String content(Optional<InputStream> content) throws IOException {
+        try (InputStream in = content.orElseThrow(J8Utils.OET)) {
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            J8Utils.transferTo(in, bos);
+            return new String(bos.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2023-2024 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.njord.shared.publisher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.nio.file.NoSuchFileException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.net.ssl.SSLHandshakeException;
+import org.junit.jupiter.api.Test;
+
+class RetryPolicyTest {
+    private static final RetryPolicy POLICY =
+            new RetryPolicy(Duration.ofMillis(10), Duration.ofMillis(20), Duration.ofSeconds(10));
+
+    private static IOException status(int statusCode) {
+        return new ArtifactStorePublisher.UnexpectedStatusException(statusCode, "status " + statusCode);
+    }
+
+    @Test
+    void classification() {
+        assertTrue(RetryPolicy.isTransient(status(502)));
+        assertTrue(RetryPolicy.isTransient(status(429)));
+        assertTrue(RetryPolicy.isTransient(new SocketException("Connection reset")));
+        assertTrue(RetryPolicy.isTransient(new ConnectException("Connection refused")));
+        assertTrue(RetryPolicy.isTransient(new SocketTimeoutException("Read timed out")));
+        assertFalse(RetryPolicy.isTransient(status(400)));
+        assertFalse(RetryPolicy.isTransient(new UnknownHostException("central.sonatype.com")));
+        assertFalse(RetryPolicy.isTransient(new SSLHandshakeException("PKIX path building failed")));
+        assertFalse(RetryPolicy.isTransient(new IOException("Unexpected failure")));
+        assertFalse(RetryPolicy.isTransient(status(401)));
+        assertFalse(RetryPolicy.isTransient(new ArtifactStorePublisher.PublishFailedException("failed")));
+        assertFalse(RetryPolicy.isTransient(new NoSuchFileException("bundle.zip")));
+
+        assertTrue(RetryPolicy.isRejected(status(503)));
+        assertTrue(RetryPolicy.isRejected(new ConnectException("Connection refused")));
+        assertFalse(RetryPolicy.isRejected(status(502)));
+        assertFalse(RetryPolicy.isRejected(new SocketException("Connection reset")));
+    }
+
+    @Test
+    void retriesTransientFailures() throws IOException {
+        AtomicInteger attempts = new AtomicInteger();
+        String result = POLICY.execute(
+                "op",
+                () -> {
+                    if (attempts.incrementAndGet() < 3) {
+                        throw status(502);
+                    }
+                    return "ok";
+                },
+                RetryPolicy::isTransient,
+                null);
+        assertEquals("ok", result);
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void doesNotRetryPermanentFailures() {
+        AtomicInteger attempts = new AtomicInteger();
+        IOException failure = status(400);
+        IOException e = assertThrows(
+                IOException.class,
+                () -> POLICY.execute(
+                        "op",
+                        () -> {
+                            attempts.incrementAndGet();
+                            throw failure;
+                        },
+                        RetryPolicy::isTransient,
+                        null));
+        assertSame(failure, e);
+        assertEquals(1, attempts.get());
+
+        attempts.set(0);
+        assertThrows(
+                IOException.class,
+                () -> RetryPolicy.NONE.execute(
+                        "op",
+                        () -> {
+                            attempts.incrementAndGet();
+                            throw status(503);
+                        },
+                        RetryPolicy::isTransient,
+                        null));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void deadline() {
+        RetryPolicy policy = new RetryPolicy(Duration.ofMillis(10), Duration.ofMillis(20), Duration.ofMillis(200));
+        AtomicInteger attempts = new AtomicInteger();
+        long start = System.nanoTime();
+        assertThrows(
+                IOException.class,
+                () -> policy.execute(
+                        "op",
+                        () -> {
+                            attempts.incrementAndGet();
+                            throw status(503);
+                        },
+                        RetryPolicy::isTransient,
+                        null));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000L;
+        assertTrue(elapsedMillis >= 200 && elapsedMillis < 2000, "elapsed " + elapsedMillis);
+        // backoff (with jitter) between 5 and 20ms
+        assertTrue(attempts.get() > 5, "attempts " + attempts.get());
+    }
+
+    @Test
+    void attemptTimeNotCountedInDeadline() throws IOException {
+        RetryPolicy policy = new RetryPolicy(Duration.ofMillis(10), Duration.ofMillis(20), Duration.ofMillis(50));
+        AtomicInteger attempts = new AtomicInteger();
+        String result = policy.execute(
+                "op",
+                () -> {
+                    if (attempts.incrementAndGet() == 1) {
+                        try {
+                            Thread.sleep(200);
+                        } catch (InterruptedException e) {
+                            throw new IOException(e);
+                        }
+                        throw new SocketTimeoutException("Read timed out");
+                    }
+                    return "ok";
+                },
+                RetryPolicy::isTransient,
+                null);
+        assertEquals("ok", result);
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    void existingResultSkipsReattempt() throws IOException {
+        AtomicInteger attempts = new AtomicInteger();
+        AtomicInteger checks = new AtomicInteger();
+        String result = POLICY.execute(
+                "op",
+                () -> {
+                    attempts.incrementAndGet();
+                    throw new SocketException("Connection reset");
+                },
+                RetryPolicy::isTransient,
+                () -> {
+                    checks.incrementAndGet();
+                    return Optional.of("existing");
+                });
+        assertEquals("existing", result);
+        assertEquals(1, attempts.get());
+        assertEquals(1, checks.get());
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2023-2024 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.njord.shared.publisher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import eu.maveniverse.maven.njord.shared.impl.metrics.DefaultMetrics;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TransferMeterTest {
+    @Test
+    void counts() throws IOException {
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        DefaultMetrics metrics = new DefaultMetrics(Collections.emptyMap());
+        try (TransferMeter meter = new TransferMeter("test", 20_001, null, Duration.ZERO)) {
+            try (OutputStream out = meter.wrap(target)) {
+                out.write(new byte[20_000]);
+                out.write(1);
+            }
+            assertEquals(20_001, meter.bytes());
+            assertEquals(Duration.ZERO, meter.throttled());
+            meter.close();
+            meter.recordTo(metrics, "store-00001");
+        }
+        assertEquals(20_001, target.size());
+        List<String> report = metrics.report();
+        assertEquals(1, report.size());
+        assertTrue(report.get(0).startsWith("store-00001 publish uploadThroughput: 1x "), report.get(0));
+    }
+
+    @Test
+    void bandwidthCap() throws IOException {
+        DefaultMetrics metrics = new DefaultMetrics(Collections.emptyMap());
+        long start = System.nanoTime();
+        try (TransferMeter meter =
+                new TransferMeter("test", 50_000, new BandwidthLimiter(100_000), Duration.ofMillis(100))) {
+            try (OutputStream out = meter.wrap(new ByteArrayOutputStream())) {
+                out.write(new byte[50_000]);
+            }
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000L;
+            // 50KB at 100KB/s
+            assertTrue(elapsedMillis >= 450, "elapsed " + elapsedMillis);
+            assertTrue(meter.throttled().toMillis() >= 400, "throttled " + meter.throttled());
+            assertTrue(meter.averageThroughput() <= 110_000, "throughput " + meter.averageThroughput());
+            meter.close();
+            meter.recordTo(metrics, "store-00001");
+        }
+        List<String> report = metrics.report();
+        assertEquals(2, report.size());
+        assertTrue(report.get(0).startsWith("store-00001 publish uploadThrottled: 1x "), report.get(0));
+    }
+
+    @Test
+    void sharedBandwidthCap() throws Exception {
+        BandwidthLimiter limiter = new BandwidthLimiter(100_000);
+        long start = System.nanoTime();
+        Thread[] threads = new Thread[2];
+        TransferMeter[] meters = new TransferMeter[threads.length];
+        for (int i = 0; i < threads.length; i++) {
+            TransferMeter meter = new TransferMeter("test-" + i, 25_000, limiter, Duration.ZERO);
+            meters[i] = meter;
+            threads[i] = new Thread(() -> {
+                try (OutputStream out = meter.wrap(new ByteArrayOutputStream())) {
+                    out.write(new byte[25_000]);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000L;
+        // 2 x 25KB at 100KB/s shared, not 25KB at 100KB/s each
+        assertTrue(elapsedMillis >= 400, "elapsed " + elapsedMillis);
+        for (TransferMeter meter : meters) {
+            assertEquals(25_000, meter.bytes());
+            meter.close();
+        }
+    }
+
+    @Test
+    void notStarted() {
+        DefaultMetrics metrics = new DefaultMetrics(Collections.emptyMap());
+        try (TransferMeter meter = new TransferMeter("test", -1, null, Duration.ofMillis(100))) {
+            assertEquals(0, meter.averageThroughput());
+            meter.recordTo(metrics, "store-00001");
+        }
+        assertTrue(metrics.isEmpty());
+    }
+}
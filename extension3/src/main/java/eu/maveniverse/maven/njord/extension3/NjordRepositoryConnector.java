@@ -9,33 +9,63 @@ package eu.maveniverse.maven.njord.extension3;
 
 import static java.util.Objects.requireNonNull;
 
+import eu.maveniverse.maven.njord.shared.Session;
+import eu.maveniverse.maven.njord.shared.SessionConfig;
+import eu.maveniverse.maven.njord.shared.metrics.Metrics;
 import eu.maveniverse.maven.njord.shared.store.ArtifactStore;
+import eu.maveniverse.maven.shared.core.fs.FileUtils;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.metadata.Metadata;
 import org.eclipse.aether.repository.RemoteRepository;
 import org.eclipse.aether.spi.connector.ArtifactDownload;
 import org.eclipse.aether.spi.connector.ArtifactUpload;
 import org.eclipse.aether.spi.connector.MetadataDownload;
 import org.eclipse.aether.spi.connector.MetadataUpload;
 import org.eclipse.aether.spi.connector.RepositoryConnector;
+import org.eclipse.aether.transfer.ArtifactNotFoundException;
 import org.eclipse.aether.transfer.ArtifactTransferException;
+import org.eclipse.aether.transfer.MetadataNotFoundException;
 import org.eclipse.aether.transfer.MetadataTransferException;
+import org.eclipse.aether.util.artifact.ArtifactIdUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Njord connector.
+ * <p>
+ * If {@link SessionConfig#asyncStaging()} is enabled, uploads are handed over to session staging, and this connector
+ * returns immediately. Staging into same store happens in order, and reads from store wait for pending uploads.
+ * Staging failures are reported by {@link Session#awaitStaging()}.
+ * <p>
+ * Downloads are served directly from the store: presence is decided by store index alone, and files are copied
+ * straight from the store, without going through transport.
  */
 public class NjordRepositoryConnector implements RepositoryConnector {
     private final Logger logger = LoggerFactory.getLogger(getClass());
+    private final Session session;
     private final ArtifactStore artifactStore;
     private final RemoteRepository remoteRepository;
     private final RepositoryConnector delegate;
+    private volatile Map<String, Path> artifactIndex;
+    private volatile Map<String, Path> metadataIndex;
 
     public NjordRepositoryConnector(
-            ArtifactStore artifactStore, RemoteRepository remoteRepository, RepositoryConnector delegate) {
+            Session session,
+            ArtifactStore artifactStore,
+            RemoteRepository remoteRepository,
+            RepositoryConnector delegate) {
+        this.session = requireNonNull(session);
         this.artifactStore = requireNonNull(artifactStore);
         this.remoteRepository = requireNonNull(remoteRepository);
         this.delegate = requireNonNull(delegate);
@@ -45,13 +75,146 @@ public class NjordRepositoryConnector implements RepositoryConnector {
     public void get(
             Collection<? extends ArtifactDownload> artifactDownloads,
             Collection<? extends MetadataDownload> metadataDownloads) {
-        delegate.get(artifactDownloads, metadataDownloads);
+        if (session.config().asyncStaging()) {
+            session.awaitStaging(artifactStore.name());
+        }
+        try {
+            if (artifactDownloads != null && !artifactDownloads.isEmpty()) {
+                Map<String, Path> index = artifactIndex();
+                for (ArtifactDownload download : artifactDownloads) {
+                    Path file = index.get(ArtifactIdUtils.toId(download.getArtifact()));
+                    if (file == null) {
+                        download.setException(new ArtifactNotFoundException(download.getArtifact(), remoteRepository));
+                    } else if (!download.isExistenceCheck()) {
+                        try {
+                            copy(file, download.getFile().toPath());
+                        } catch (IOException e) {
+                            download.setException(
+                                    new ArtifactTransferException(download.getArtifact(), remoteRepository, e));
+                        }
+                    }
+                }
+            }
+            if (metadataDownloads != null && !metadataDownloads.isEmpty()) {
+                Map<String, Path> index = metadataIndex();
+                for (MetadataDownload download : metadataDownloads) {
+                    Path file = index.get(metadataId(download.getMetadata()));
+                    if (file == null) {
+                        download.setException(new MetadataNotFoundException(download.getMetadata(), remoteRepository));
+                    } else {
+                        try {
+                            copy(file, download.getFile().toPath());
+                        } catch (IOException e) {
+                            download.setException(
+                                    new MetadataTransferException(download.getMetadata(), remoteRepository, e));
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            if (artifactDownloads != null) {
+                artifactDownloads.stream()
+                        .filter(d -> d.getException() == null)
+                        .forEach(d ->
+                                d.setException(new ArtifactTransferException(d.getArtifact(), remoteRepository, e)));
+            }
+            if (metadataDownloads != null) {
+                metadataDownloads.stream()
+                        .filter(d -> d.getException() == null)
+                        .forEach(d ->
+                                d.setException(new MetadataTransferException(d.getMetadata(), remoteRepository, e)));
+            }
+        }
+    }
+
+    private Map<String, Path> artifactIndex() throws IOException {
+        Map<String, Path> index = artifactIndex;
+        if (index == null) {
+            HashMap<String, Path> map = new HashMap<>();
+            for (Artifact artifact : artifactStore.artifacts()) {
+                map.put(ArtifactIdUtils.toId(artifact), artifact.getFile().toPath());
+            }
+            index = map;
+            artifactIndex = index;
+        }
+        return index;
+    }
+
+    private Map<String, Path> metadataIndex() throws IOException {
+        Map<String, Path> index = metadataIndex;
+        if (index == null) {
+            HashMap<String, Path> map = new HashMap<>();
+            for (Metadata metadata : artifactStore.metadata()) {
+                map.put(metadataId(metadata), metadata.getFile().toPath());
+            }
+            index = map;
+            metadataIndex = index;
+        }
+        return index;
+    }
+
+    private static String metadataId(Metadata metadata) {
+        return String.format(
+                "%s:%s:%s:%s",
+                metadata.getGroupId(), metadata.getArtifactId(), metadata.getVersion(), metadata.getType());
+    }
+
+    private static void copy(Path source, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        FileUtils.writeFile(target, p -> Files.copy(source, p, StandardCopyOption.REPLACE_EXISTING));
     }
 
     @Override
     public void put(
             Collection<? extends ArtifactUpload> artifactUploads,
             Collection<? extends MetadataUpload> metadataUploads) {
+        if (session.config().asyncStaging()) {
+            List<? extends ArtifactUpload> artifacts =
+                    artifactUploads != null ? new ArrayList<>(artifactUploads) : Collections.emptyList();
+            List<? extends MetadataUpload> metadata =
+                    metadataUploads != null ? new ArrayList<>(metadataUploads) : Collections.emptyList();
+            session.stageAsync(artifactStore.name(), () -> {
+                try {
+                    stage(artifacts, metadata);
+                } catch (IOException e) {
+                    throw new IOException(
+                            String.format(
+                                    "Store %s: staging failed for %s",
+                                    artifactStore.name(),
+                                    artifacts.stream()
+                                            .map(u -> ArtifactIdUtils.toId(u.getArtifact()))
+                                            .collect(Collectors.toList())),
+                            e);
+                }
+            });
+            return;
+        }
+        try {
+            stage(artifactUploads, metadataUploads);
+        } catch (IOException e) {
+            if (artifactUploads != null) {
+                artifactUploads.stream()
+                        .filter(u -> u.getException() == null)
+                        .forEach(u ->
+                                u.setException(new ArtifactTransferException(u.getArtifact(), remoteRepository, e)));
+            }
+            if (metadataUploads != null) {
+                metadataUploads.stream()
+                        .filter(u -> u.getException() == null)
+                        .forEach(u ->
+                                u.setException(new MetadataTransferException(u.getMetadata(), remoteRepository, e)));
+            }
+        }
+    }
+
+    private void stage(
+            Collection<? extends ArtifactUpload> artifactUploads, Collection<? extends MetadataUpload> metadataUploads)
+            throws IOException {
+        artifactIndex = null;
+        metadataIndex = null;
+        Metrics metrics = session.metrics();
+        Metrics.Timer put = metrics.start(Metrics.STAGING, artifactStore.name(), "put");
+        Metrics.Timer commit = null;
         try (ArtifactStore.Operation putOperation = artifactStore.put(
                 artifactUploads != null
                         ? artifactUploads.stream()
@@ -63,7 +226,9 @@ public class NjordRepositoryConnector implements RepositoryConnector {
                                 .map(u -> u.getMetadata().setFile(u.getFile()))
                                 .collect(Collectors.toList())
                         : Collections.emptyList())) {
-            delegate.put(artifactUploads, metadataUploads);
+            try (Metrics.Timer ignored = metrics.start(Metrics.STAGING, artifactStore.name(), "transfer")) {
+                delegate.put(artifactUploads, metadataUploads);
+            }
             if (artifactUploads != null && artifactUploads.stream().anyMatch(u -> u.getException() != null)) {
                 putOperation.cancel();
                 throw new IOException("PUT failed");
@@ -72,24 +237,39 @@ public class NjordRepositoryConnector implements RepositoryConnector {
                 putOperation.cancel();
                 throw new IOException("PUT failed");
             }
-        } catch (IOException e) {
-            if (artifactUploads != null) {
-                artifactUploads.stream()
-                        .filter(u -> u.getException() == null)
-                        .forEach(u ->
-                                u.setException(new ArtifactTransferException(u.getArtifact(), remoteRepository, e)));
-            }
-            if (metadataUploads != null) {
-                metadataUploads.stream()
-                        .filter(u -> u.getException() == null)
-                        .forEach(u ->
-                                u.setException(new MetadataTransferException(u.getMetadata(), remoteRepository, e)));
+            metrics.count(
+                    Metrics.STAGING,
+                    artifactStore.name(),
+                    "artifacts",
+                    artifactUploads != null ? artifactUploads.size() : 0);
+            metrics.count(
+                    Metrics.STAGING,
+                    artifactStore.name(),
+                    "metadata",
+                    metadataUploads != null ? metadataUploads.size() : 0);
+            // index is committed when operation is closed
+            commit = metrics.start(Metrics.INDEX, artifactStore.name(), "commit");
+        } finally {
+            if (commit != null) {
+                commit.stop();
             }
+            put.stop();
+            artifactIndex = null;
+            metadataIndex = null;
         }
     }
 
     @Override
     public void close() {
+        if (session.config().asyncStaging()) {
+            // close once pending uploads of this store are done
+            session.stageAsync(artifactStore.name(), this::doClose);
+        } else {
+            doClose();
+        }
+    }
+
+    private void doClose() {
         try {
             artifactStore.close();
         } catch (IOException e) {
@@ -65,6 +65,7 @@ public class NjordRepositoryConnectorFactory implements RepositoryConnectorFacto
                                 "No basic repository connector factory found");
                         ArtifactStore artifactStore = ns.getOrCreateSessionArtifactStore(repository, url.substring(6));
                         return new NjordRepositoryConnector(
+                                ns,
                                 artifactStore,
                                 repository,
                                 basicRepositoryConnectorFactory.newInstance(
@@ -75,9 +75,15 @@ public class NjordSessionLifecycleParticipant extends AbstractMavenLifecyclePart
         try {
             Optional<Session> ns = NjordUtils.mayGetNjordSession(session.getRepositorySession());
             if (ns.isPresent()) {
+                IOException stagingFailure = null;
                 try (Session njordSession = ns.orElseThrow(J8Utils.OET)) {
+                    try {
+                        njordSession.awaitStaging();
+                    } catch (IOException e) {
+                        stagingFailure = e;
+                    }
                     if (njordSession.config().autoPublish()) {
-                        if (session.getResult().hasExceptions()) {
+                        if (session.getResult().hasExceptions() || stagingFailure != null) {
                             if (njordSession.config().autoDrop()) {
                                 int dropped = njordSession.dropSessionArtifactStores();
                                 if (dropped != 0) {
@@ -113,8 +119,15 @@ public class NjordSessionLifecycleParticipant extends AbstractMavenLifecyclePart
                             }
                         }
                     }
+                    if (!njordSession.metrics().isEmpty()) {
+                        logger.info("Njord timing report:");
+                        njordSession.metrics().report().forEach(l -> logger.info("  {}", l));
+                    }
                 }
                 logger.info("Njord session closed");
+                if (stagingFailure != null) {
+                    throw new MavenExecutionException(stagingFailure.getMessage(), stagingFailure);
+                }
             }
         } catch (IOException e) {
             throw new MavenExecutionException("Error closing Njord", e);
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2023-2024 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+def steps = ['generate-1', 'generate-2', 'validate', 'merge', 'export', 'publish']
+def logs = [:]
+for (step in steps) {
+    File logFile = new File( basedir, step + '.log' )
+    assert logFile.exists()
+    logs[step] = logFile.text
+    assert logs[step].contains("[INFO] Njord ${projectVersion} session created")
+}
+
+// 50 modules * (pom, jar, sources, javadoc) * (artifact + signature)
+assert logs['generate-1'].contains('[INFO] Generated 400 artifacts (')
+assert logs['generate-2'].contains('[INFO] Generated 400 artifacts (')
+assert logs['validate'].contains('[INFO] ArtifactStore load-test-00001 passed ')
+assert logs['merge'].contains('[INFO] Merging load-test-00002')
+assert logs['merge'].contains('[INFO] Dropping load-test-00002')
+assert logs['export'].contains('[INFO] Exported to ')
+assert new File( basedir, 'load-test-00001.ntb' ).isFile()
+assert logs['publish'].contains(' artifact(s) to deploy-release-service repository')
+assert new File( basedir, 'releases-repo' ).isDirectory()
+
+// timing output
+println "Load test timings:"
+for (step in steps) {
+    def total = logs[step].readLines().find { it.contains('[INFO] Total time:') }
+    println String.format('  %-12s %s', step, total == null ? 'n/a' : total.substring(total.indexOf(':') + 1).trim())
+    def generated = logs[step].readLines().find { it.contains('[INFO] Generated ') }
+    if (generated != null) {
+        println '               ' + generated.substring(generated.indexOf('Generated'))
+    }
+    def report = logs[step].readLines().dropWhile { !it.contains('Njord timing report:') }.drop(1)
+            .takeWhile { it.startsWith('[INFO]   ') }
+    report.each { println '               ' + it.substring(7).trim() }
+}
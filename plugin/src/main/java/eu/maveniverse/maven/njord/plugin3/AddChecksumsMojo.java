@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2023-2024 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.njord.plugin3;
+
+import eu.maveniverse.maven.njord.shared.Session;
+import eu.maveniverse.maven.njord.shared.SessionConfig;
+import eu.maveniverse.maven.njord.shared.impl.J8Utils;
+import eu.maveniverse.maven.njord.shared.impl.store.ArtifactStoreChecksumWriter;
+import eu.maveniverse.maven.njord.shared.impl.store.PathArtifactStore;
+import eu.maveniverse.maven.njord.shared.store.ArtifactStore;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import javax.inject.Inject;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.eclipse.aether.spi.connector.checksum.ChecksumAlgorithmFactory;
+import org.eclipse.aether.spi.connector.checksum.ChecksumAlgorithmFactorySelector;
+
+/**
+ * Adds missing checksums of given algorithms to all artifacts of given store, and records the algorithms with store,
+ * so later deployments into it carry them as well. Meant for upgrading stores created with templates lacking strong
+ * checksums (like {@code release}) to carry SHA-256 and SHA-512, instead of re-running whole build.
+ *
+ * @since 0.9.7
+ */
+@Mojo(name = "add-checksums", threadSafe = true, requiresProject = false, aggregator = true)
+public class AddChecksumsMojo extends NjordMojoSupport {
+    @Inject
+    private ChecksumAlgorithmFactorySelector checksumAlgorithmFactorySelector;
+
+    /**
+     * The name of the store to add checksums to. Mandatory parameter.
+     */
+    @Parameter(required = true, property = SessionConfig.KEY_PREFIX + "store")
+    private String store;
+
+    /**
+     * The checksum algorithms to add.
+     */
+    @Parameter(
+            required = true,
+            property = SessionConfig.KEY_PREFIX + "checksumAlgorithms",
+            defaultValue = "SHA-256,SHA-512")
+    private List<String> checksumAlgorithms;
+
+    /**
+     * The count of checksum threads; if zero, the count of available processors.
+     */
+    @Parameter(required = true, property = SessionConfig.KEY_PREFIX + "checksumThreads", defaultValue = "0")
+    private int checksumThreads;
+
+    @Override
+    protected void doWithSession(Session ns) throws IOException, MojoExecutionException, MojoFailureException {
+        List<ChecksumAlgorithmFactory> factories;
+        try {
+            factories = checksumAlgorithmFactorySelector.selectList(checksumAlgorithms);
+        } catch (IllegalArgumentException e) {
+            throw new MojoFailureException(e.getMessage(), e);
+        }
+        ArtifactStoreChecksumWriter writer = new ArtifactStoreChecksumWriter(
+                factories,
+                checksumThreads > 0 ? checksumThreads : Runtime.getRuntime().availableProcessors());
+        LinkedHashSet<String> algorithms = new LinkedHashSet<>();
+        Optional<ArtifactStore> aso = ns.artifactStoreManager().selectArtifactStore(store);
+        if (aso.isPresent()) {
+            try (ArtifactStore artifactStore = aso.orElseThrow(J8Utils.OET)) {
+                if (!(artifactStore instanceof PathArtifactStore)) {
+                    throw new MojoExecutionException("Unsupported store type: " + artifactStore.getClass());
+                }
+                if (!artifactStore.writeMode().allowWrite()) {
+                    throw new MojoFailureException("ArtifactStore does not allow write operations: " + store);
+                }
+                artifactStore.checksumAlgorithmFactories().forEach(f -> algorithms.add(f.getName()));
+                factories.forEach(f -> algorithms.add(f.getName()));
+                logger.info("Adding {} checksums to {}", checksumAlgorithms, artifactStore);
+                long start = System.nanoTime();
+                int written = writer.write((PathArtifactStore) artifactStore);
+                long elapsed = (System.nanoTime() - start) / 1_000_000L;
+                if (written == 0) {
+                    logger.info("All artifacts of ArtifactStore {} already have checksums", store);
+                } else {
+                    logger.info("Written {} checksums of ArtifactStore {} in {} ms", written, store, elapsed);
+                }
+            }
+            // store must be closed (unlocked) to update it
+            ns.artifactStoreManager().updateChecksumAlgorithmsArtifactStore(store, new ArrayList<>(algorithms));
+        } else {
+            logger.warn("ArtifactStore with given name not found");
+        }
+    }
+}
@@ -9,6 +9,7 @@ package eu.maveniverse.maven.njord.plugin3;
 
 import eu.maveniverse.maven.njord.shared.Session;
 import eu.maveniverse.maven.njord.shared.SessionConfig;
+import eu.maveniverse.maven.njord.shared.impl.ArtifactAvailabilityChecker;
 import eu.maveniverse.maven.njord.shared.impl.J8Utils;
 import eu.maveniverse.maven.njord.shared.impl.ResolverUtils;
 import eu.maveniverse.maven.njord.shared.publisher.ArtifactStorePublisher;
@@ -20,27 +21,22 @@ import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Duration;
-import java.time.Instant;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugins.annotations.Component;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
+import org.eclipse.aether.DefaultRepositorySystemSession;
 import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.artifact.DefaultArtifact;
 import org.eclipse.aether.impl.RepositoryConnectorProvider;
 import org.eclipse.aether.repository.RemoteRepository;
 import org.eclipse.aether.repository.RepositoryPolicy;
-import org.eclipse.aether.spi.connector.ArtifactDownload;
 import org.eclipse.aether.spi.connector.RepositoryConnector;
 import org.eclipse.aether.transfer.NoRepositoryConnectorException;
 
@@ -56,6 +52,10 @@ import org.eclipse.aether.transfer.NoRepositoryConnectorException;
  * While some services do provide status of (non-atomic) publishing, this goal checks the "real thing": when it
  * succeeds, the artifacts can be resolved 100% by builds from given remote repository. Hence, this goal
  * can work with all publishers available out there, and even with in-house MRMs solutions as well.
+ * <p>
+ * To keep request volume low, only one artifact (the POM) per GAV is checked until it becomes available, and only
+ * then are the rest of GAV artifacts checked (or, with {@link #checkMode} set to {@code METADATA}, until the version
+ * appears in GA {@code maven-metadata.xml}). Unavailable artifacts are rechecked with exponential backoff.
  */
 @Mojo(name = "check-artifacts-availability", threadSafe = true, requiresProject = false, aggregator = true)
 public class CheckArtifactsAvailabilityMojo extends PublisherSupportMojo {
@@ -82,15 +82,46 @@ public class CheckArtifactsAvailabilityMojo extends PublisherSupportMojo {
      * The {@link #waitTimeout} <em>does not include this delay</em>, so "worst case" total execution time of this
      * goal when set to wait is {@code waitDelay + waitTimeout}.
      */
-    @Parameter(required = true, property = SessionConfig.KEY_PREFIX + "waitDelay", defaultValue = "PT10M")
+    @Parameter(required = true, property = SessionConfig.KEY_PREFIX + "waitDelay", defaultValue = "PT1M")
     private String waitDelay;
 
     /**
-     * If goal set to {@link #wait}, the sleep duration between checks (as {@link Duration} string).
+     * If goal set to {@link #wait}, the initial sleep duration between checks of an artifact (as {@link Duration}
+     * string). The sleep is doubled after each check finding the artifact not available, up to
+     * {@link #waitMaxSleep}.
      */
-    @Parameter(required = true, property = SessionConfig.KEY_PREFIX + "waitSleep", defaultValue = "PT1M")
+    @Parameter(required = true, property = SessionConfig.KEY_PREFIX + "waitSleep", defaultValue = "PT15S")
     private String waitSleep;
 
+    /**
+     * If goal set to {@link #wait}, the maximum sleep duration between checks of an artifact (as {@link Duration}
+     * string).
+     *
+     * @since 0.9.7
+     */
+    @Parameter(required = true, property = SessionConfig.KEY_PREFIX + "waitMaxSleep", defaultValue = "PT2M")
+    private String waitMaxSleep;
+
+    /**
+     * The mode of checks performed before checking existence of all artifacts: {@code ARTIFACT} checks existence of
+     * one artifact (the POM) per GAV, while {@code METADATA} checks presence of version in {@code maven-metadata.xml}
+     * per GA, needing one request per GA. Note: some repositories update metadata later than artifacts become
+     * available.
+     *
+     * @since 0.9.7
+     */
+    @Parameter(required = true, property = SessionConfig.KEY_PREFIX + "checkMode", defaultValue = "ARTIFACT")
+    private ArtifactAvailabilityChecker.Mode checkMode;
+
+    /**
+     * The count of existence checks performed in parallel. It only sets {@code aether.connector.basic.threads}
+     * for the checks, hence it is ignored if the target repository is served by a connector other than the basic one.
+     *
+     * @since 0.9.7
+     */
+    @Parameter(required = true, property = SessionConfig.KEY_PREFIX + "parallelism", defaultValue = "8")
+    private int parallelism;
+
     /**
      * The comma separated list of artifacts to check availability for. If this parameter is set, the goal
      * will use this list instead to go for {@link ArtifactStore}. The comma separated list should contain
@@ -218,63 +249,39 @@ public class CheckArtifactsAvailabilityMojo extends PublisherSupportMojo {
         Duration waitTimeout = Duration.parse(this.waitTimeout);
         Duration waitDelay = Duration.parse(this.waitDelay);
         Duration waitSleep = Duration.parse(this.waitSleep);
-        Map<Artifact, Boolean> artifactsMap = artifacts.stream().collect(Collectors.toMap(a -> a, a -> false));
+        Duration waitMaxSleep = Duration.parse(this.waitMaxSleep);
+        if (waitMaxSleep.compareTo(waitSleep) < 0) {
+            waitMaxSleep = waitSleep;
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parameter parallelism must be positive");
+        }
+        DefaultRepositorySystemSession session = new DefaultRepositorySystemSession(mavenSession.getRepositorySession())
+                .setConfigProperty("aether.connector.basic.threads", parallelism);
 
         try (RepositoryConnector repositoryConnector =
-                repositoryConnectorProvider.newRepositoryConnector(mavenSession.getRepositorySession(), target)) {
+                repositoryConnectorProvider.newRepositoryConnector(session, target)) {
             if (wait) {
                 logger.info(
-                        "Waiting for {} artifacts to become available from {} (poll {}; delay {}; timeout {})",
-                        artifactsMap.size(),
+                        "Waiting for {} artifacts to become available from {} (poll {} to {}; delay {}; timeout {})",
+                        artifacts.size(),
                         target.getUrl(),
                         waitSleep,
+                        waitMaxSleep,
                         waitDelay,
                         waitTimeout);
                 Thread.sleep(waitDelay.toMillis());
             } else {
-                logger.info("Checking for {} artifacts availability from {}", artifactsMap.size(), target.getUrl());
+                logger.info("Checking for {} artifacts availability from {}", artifacts.size(), target.getUrl());
             }
-            Instant waitingUntil = Instant.now().plus(waitTimeout);
-            AtomicInteger toCheck = new AtomicInteger(artifactsMap.size());
-            while (toCheck.get() > 0) {
-                logger.info("Checking availability of {} artifacts (out of {}).", toCheck.get(), artifactsMap.size());
-                List<ArtifactDownload> artifactDownloads = new ArrayList<>();
-                artifactsMap.forEach((key, value) -> {
-                    if (!value) {
-                        ArtifactDownload artifactDownload = new ArtifactDownload(key, "njord", null, null);
-                        artifactDownload.setRepositories(Collections.singletonList(target));
-                        artifactDownload.setExistenceCheck(true);
-                        artifactDownloads.add(artifactDownload);
-                    }
-                });
-                repositoryConnector.get(artifactDownloads, null);
-                artifactDownloads.forEach(d -> {
-                    if (d.getException() == null) {
-                        toCheck.decrementAndGet();
-                        artifactsMap.put(d.getArtifact(), true);
-                    }
-                });
-
-                if (toCheck.get() == 0) {
-                    logger.info("All {} artifacts are available.", artifactsMap.size());
-                    break;
-                }
-
-                if (!wait || Instant.now().isAfter(waitingUntil)) {
-                    artifactDownloads.forEach(d -> {
-                        if (d.getException() != null) {
-                            logger.warn(
-                                    "Artifact {} failed for {}",
-                                    d.getArtifact(),
-                                    d.getException().getMessage());
-                        }
-                    });
-                    throw new MojoFailureException(
-                            wait
-                                    ? "Timeout on checking availability of artifacts on " + target
-                                    : "Checking availability of artifacts on " + target + " failed");
-                }
-                Thread.sleep(waitSleep.toMillis());
+            List<Artifact> unavailable = new ArtifactAvailabilityChecker(
+                            repositoryConnector, target, waitSleep, waitMaxSleep, checkMode)
+                    .check(artifacts, wait ? waitTimeout : null);
+            if (!unavailable.isEmpty()) {
+                throw new MojoFailureException(
+                        wait
+                                ? "Timeout on checking availability of artifacts on " + target
+                                : "Checking availability of artifacts on " + target + " failed");
             }
         } catch (NoRepositoryConnectorException e) {
             logger.info("No connector for publishing target exists; bailing out");
@@ -11,6 +11,7 @@ import eu.maveniverse.maven.njord.shared.Session;
 import eu.maveniverse.maven.njord.shared.SessionConfig;
 import eu.maveniverse.maven.njord.shared.impl.J8Utils;
 import eu.maveniverse.maven.njord.shared.store.ArtifactStore;
+import eu.maveniverse.maven.njord.shared.store.BundleFormat;
 import eu.maveniverse.maven.shared.core.fs.FileUtils;
 import java.io.IOException;
 import java.nio.file.Files;
@@ -32,6 +33,15 @@ public class ExportAllMojo extends NjordMojoSupport {
     @Parameter(required = true, property = SessionConfig.KEY_PREFIX + "path", defaultValue = ".")
     private String path;
 
+    /**
+     * The bundle format: {@code ZIP} (default), {@code TAR} or {@code TAR_GZ}. Tar based formats are meant for
+     * internal transport only.
+     *
+     * @since 0.9.7
+     */
+    @Parameter(required = true, property = SessionConfig.KEY_PREFIX + "format", defaultValue = "ZIP")
+    private BundleFormat format;
+
     @Override
     protected void doWithSession(Session ns) throws IOException, MojoExecutionException {
         Path targetPath = FileUtils.canonicalPath(Paths.get(path).toAbsolutePath());
@@ -40,7 +50,8 @@ public class ExportAllMojo extends NjordMojoSupport {
             Optional<ArtifactStore> storeOptional = ns.artifactStoreManager().selectArtifactStore(name);
             if (storeOptional.isPresent()) {
                 logger.info("Exporting store {} to {}", name, targetPath);
-                Path bundle = ns.artifactStoreManager().exportTo(storeOptional.orElseThrow(J8Utils.OET), targetPath);
+                Path bundle = ns.artifactStoreManager()
+                        .exportTo(storeOptional.orElseThrow(J8Utils.OET), targetPath, null, format);
                 logger.info("Exported to " + bundle);
             }
         }
@@ -11,6 +11,7 @@ import eu.maveniverse.maven.njord.shared.Session;
 import eu.maveniverse.maven.njord.shared.SessionConfig;
 import eu.maveniverse.maven.njord.shared.impl.J8Utils;
 import eu.maveniverse.maven.njord.shared.store.ArtifactStore;
+import eu.maveniverse.maven.njord.shared.store.BundleFormat;
 import eu.maveniverse.maven.shared.core.fs.FileUtils;
 import java.io.IOException;
 import java.nio.file.Path;
@@ -33,19 +34,53 @@ public class ExportMojo extends NjordMojoSupport {
 
     /**
      * The path to export to. It may be a directory, then the file name will be same as store name, or some
-     * custom file name. In latter case is recommended to use same extension as Njord does (".ntb").
+     * custom file name. In latter case is recommended to use same extension as Njord does (".ntb", or
+     * ".ntb.tar.gz" for {@code TAR_GZ} format).
      */
     @Parameter(required = true, property = SessionConfig.KEY_PREFIX + "path", defaultValue = ".")
     private String path;
 
+    /**
+     * The base to export delta against: name of a store or path of a "transportable bundle". If set, the exported
+     * bundle will contain only files added or changed compared to base, and can be imported only with the same
+     * base present.
+     *
+     * @since 0.9.7
+     */
+    @Parameter(property = SessionConfig.KEY_PREFIX + "base")
+    private String base;
+
+    /**
+     * The bundle format: {@code ZIP} (default), {@code TAR} or {@code TAR_GZ}. Tar based formats are meant for
+     * internal transport only.
+     *
+     * @since 0.9.7
+     */
+    @Parameter(required = true, property = SessionConfig.KEY_PREFIX + "format", defaultValue = "ZIP")
+    private BundleFormat format;
+
     @Override
     protected void doWithSession(Session ns) throws IOException, MojoExecutionException {
         Optional<ArtifactStore> storeOptional = ns.artifactStoreManager().selectArtifactStore(store);
         if (storeOptional.isPresent()) {
             Path targetPath = FileUtils.canonicalPath(Paths.get(path).toAbsolutePath());
-            logger.info("Exporting store {} to {}", store, targetPath);
-            Path bundle = ns.artifactStoreManager().exportTo(storeOptional.orElseThrow(J8Utils.OET), targetPath);
-            logger.info("Exported to " + bundle);
+            if (base != null) {
+                Optional<ArtifactStore> baseOptional = selectArtifactStoreOrBundle(ns, base);
+                if (!baseOptional.isPresent()) {
+                    throw new MojoExecutionException("Base store or bundle not found: " + base);
+                }
+                try (ArtifactStore baseStore = baseOptional.orElseThrow(J8Utils.OET)) {
+                    logger.info("Exporting store {} as delta against {} to {}", store, baseStore, targetPath);
+                    Path bundle = ns.artifactStoreManager()
+                            .exportTo(storeOptional.orElseThrow(J8Utils.OET), targetPath, baseStore, format);
+                    logger.info("Exported to " + bundle);
+                }
+            } else {
+                logger.info("Exporting store {} to {}", store, targetPath);
+                Path bundle = ns.artifactStoreManager()
+                        .exportTo(storeOptional.orElseThrow(J8Utils.OET), targetPath, null, format);
+                logger.info("Exported to " + bundle);
+            }
         } else {
             logger.warn("ArtifactStore with given name not found");
         }
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2023-2024 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.njord.plugin3;
+
+import eu.maveniverse.maven.njord.shared.Session;
+import eu.maveniverse.maven.njord.shared.SessionConfig;
+import eu.maveniverse.maven.njord.shared.impl.store.PathArtifactStore;
+import eu.maveniverse.maven.njord.shared.impl.store.SyntheticArtifactStoreGenerator;
+import eu.maveniverse.maven.njord.shared.store.ArtifactStore;
+import eu.maveniverse.maven.njord.shared.store.ArtifactStoreTemplate;
+import eu.maveniverse.maven.shared.core.fs.FileUtils;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+/**
+ * Creates a new store and populates it with synthetic modules, meant for load testing and reproducing large
+ * stores locally. Each module has a POM, main JAR, JARs with given classifiers and (dummy) signatures of all of
+ * them.
+ *
+ * @since 0.9.7
+ */
+@Mojo(name = "generate", threadSafe = true, requiresProject = false, aggregator = true)
+public class GenerateMojo extends NjordMojoSupport {
+    /**
+     * The template to create store with.
+     */
+    @Parameter(required = true, property = SessionConfig.KEY_PREFIX + "template", defaultValue = "release-sca")
+    private String template;
+
+    /**
+     * The count of modules to generate.
+     */
+    @Parameter(required = true, property = SessionConfig.KEY_PREFIX + "modules", defaultValue = "10")
+    private int modules;
+
+    /**
+     * The group ID of generated modules.
+     */
+    @Parameter(
+            required = true,
+            property = SessionConfig.KEY_PREFIX + "moduleGroupId",
+            defaultValue = "org.example.njord.synthetic")
+    private String groupId;
+
+    /**
+     * The version of generated modules.
+     */
+    @Parameter(required = true, property = SessionConfig.KEY_PREFIX + "moduleVersion", defaultValue = "1.0.0")
+    private String version;
+
+    /**
+     * The minimum size of JAR content in bytes.
+     */
+    @Parameter(required = true, property = SessionConfig.KEY_PREFIX + "minSize", defaultValue = "1024")
+    private long minSize;
+
+    /**
+     * The maximum size of JAR content in bytes.
+     */
+    @Parameter(required = true, property = SessionConfig.KEY_PREFIX + "maxSize", defaultValue = "1048576")
+    private long maxSize;
+
+    /**
+     * The distribution of JAR sizes: {@code FIXED} (all of minimum size), {@code UNIFORM} or {@code LOG_UNIFORM}.
+     */
+    @Parameter(required = true, property = SessionConfig.KEY_PREFIX + "sizeDistribution", defaultValue = "LOG_UNIFORM")
+    private SyntheticArtifactStoreGenerator.SizeDistribution sizeDistribution;
+
+    /**
+     * The classifiers of JARs attached to each module.
+     */
+    @Parameter(required = true, property = SessionConfig.KEY_PREFIX + "classifiers", defaultValue = "sources,javadoc")
+    private List<String> classifiers;
+
+    /**
+     * Whether artifacts should have (dummy) signatures.
+     */
+    @Parameter(required = true, property = SessionConfig.KEY_PREFIX + "signatures", defaultValue = "true")
+    private boolean signatures;
+
+    /**
+     * The seed of generated content: same seed (and parameters) produces same content.
+     */
+    @Parameter(required = true, property = SessionConfig.KEY_PREFIX + "seed", defaultValue = "0")
+    private long seed;
+
+    @Override
+    protected void doWithSession(Session ns) throws IOException, MojoExecutionException {
+        ArtifactStoreTemplate artifactStoreTemplate = ns.selectSessionArtifactStoreTemplate(template);
+        Path workdir = Files.createTempDirectory("njord-generate");
+        try (ArtifactStore store = ns.artifactStoreManager().createArtifactStore(artifactStoreTemplate, null)) {
+            if (!(store instanceof PathArtifactStore)) {
+                throw new MojoExecutionException("Unsupported store type: " + store.getClass());
+            }
+            SyntheticArtifactStoreGenerator generator = SyntheticArtifactStoreGenerator.builder(workdir)
+                    .groupId(groupId)
+                    .version(version)
+                    .modules(modules)
+                    .size(minSize, maxSize)
+                    .sizeDistribution(sizeDistribution)
+                    .classifiers(classifiers)
+                    .signatures(signatures)
+                    .seed(seed)
+                    .build();
+            logger.info("Generating {} modules into {}", modules, store);
+            long start = System.nanoTime();
+            long bytes = generator.generate((PathArtifactStore) store);
+            long elapsed = (System.nanoTime() - start) / 1_000_000L;
+            logger.info(
+                    "Generated {} artifacts ({} bytes) into {} in {} ms",
+                    store.artifacts().size(),
+                    bytes,
+                    store.name(),
+                    elapsed);
+        } finally {
+            FileUtils.deleteRecursively(workdir);
+        }
+    }
+}
@@ -42,7 +42,7 @@ public class ImportAllMojo extends NjordMojoSupport {
         logger.info("Importing stores from {}", sourceDirectory);
         List<Path> bundles;
         try (Stream<Path> stream = Files.list(sourceDirectory)
-                .filter(p -> p.getFileName().toString().endsWith(".ntb") && Files.isRegularFile(p))) {
+                .filter(p -> isBundle(p.getFileName().toString()) && Files.isRegularFile(p))) {
             bundles = stream.collect(Collectors.toList());
         }
         for (Path bundle : bundles) {
@@ -51,4 +51,8 @@ public class ImportAllMojo extends NjordMojoSupport {
             }
         }
     }
+
+    private static boolean isBundle(String fileName) {
+        return fileName.endsWith(".ntb") || fileName.endsWith(".ntb.tar") || fileName.endsWith(".ntb.tar.gz");
+    }
 }
@@ -9,12 +9,14 @@ package eu.maveniverse.maven.njord.plugin3;
 
 import eu.maveniverse.maven.njord.shared.Session;
 import eu.maveniverse.maven.njord.shared.SessionConfig;
+import eu.maveniverse.maven.njord.shared.impl.J8Utils;
 import eu.maveniverse.maven.njord.shared.store.ArtifactStore;
 import eu.maveniverse.maven.shared.core.fs.FileUtils;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Optional;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
@@ -30,15 +32,37 @@ public class ImportMojo extends NjordMojoSupport {
     @Parameter(required = true, property = SessionConfig.KEY_PREFIX + "file")
     private String file;
 
+    /**
+     * The base to import delta bundle with: name of a store or path of a "transportable bundle". Required if
+     * imported bundle is a delta bundle, ignored otherwise.
+     *
+     * @since 0.9.7
+     */
+    @Parameter(property = SessionConfig.KEY_PREFIX + "base")
+    private String base;
+
     @Override
     protected void doWithSession(Session ns) throws IOException, MojoExecutionException {
         Path source = FileUtils.canonicalPath(Paths.get(file).toAbsolutePath());
         if (!Files.exists(source)) {
             throw new MojoExecutionException("Import file not found: " + file);
         }
-        logger.info("Importing store from {}", source);
-        try (ArtifactStore artifactStore = ns.artifactStoreManager().importFrom(source)) {
-            logger.info("Imported to " + artifactStore);
+        if (base != null) {
+            Optional<ArtifactStore> baseOptional = selectArtifactStoreOrBundle(ns, base);
+            if (!baseOptional.isPresent()) {
+                throw new MojoExecutionException("Base store or bundle not found: " + base);
+            }
+            try (ArtifactStore baseStore = baseOptional.orElseThrow(J8Utils.OET)) {
+                logger.info("Importing store from {} with base {}", source, baseStore);
+                try (ArtifactStore artifactStore = ns.artifactStoreManager().importFrom(source, baseStore)) {
+                    logger.info("Imported to " + artifactStore);
+                }
+            }
+        } else {
+            logger.info("Importing store from {}", source);
+            try (ArtifactStore artifactStore = ns.artifactStoreManager().importFrom(source)) {
+                logger.info("Imported to " + artifactStore);
+            }
         }
     }
 }
@@ -15,9 +15,13 @@ import eu.maveniverse.maven.njord.shared.impl.J8Utils;
 import eu.maveniverse.maven.njord.shared.publisher.ArtifactStorePublisher;
 import eu.maveniverse.maven.njord.shared.publisher.ArtifactStoreRequirements;
 import eu.maveniverse.maven.njord.shared.publisher.spi.signature.SignatureType;
+import eu.maveniverse.maven.njord.shared.store.ArtifactStore;
 import eu.maveniverse.maven.njord.shared.store.ArtifactStoreTemplate;
 import eu.maveniverse.maven.shared.plugin.MojoSupport;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -55,6 +59,8 @@ public abstract class NjordMojoSupport extends MojoSupport {
                             mojoExecution.getPlugin().getVersion(),
                             session.config().version());
                 }
+                // uploads of this build may still be staging
+                session.awaitStaging();
                 doWithSession(session);
             }
         } catch (IOException e) {
@@ -81,6 +87,18 @@ public abstract class NjordMojoSupport extends MojoSupport {
         }
     }
 
+    /**
+     * Selects store by name or, if given string points to existing file, opens it as bundle. If selected (optional
+     * is not empty), caller must close it.
+     */
+    protected Optional<ArtifactStore> selectArtifactStoreOrBundle(Session ns, String storeOrBundle) throws IOException {
+        Path bundle = Paths.get(storeOrBundle).toAbsolutePath();
+        if (Files.isRegularFile(bundle)) {
+            return Optional.of(ns.artifactStoreManager().openBundle(bundle));
+        }
+        return ns.artifactStoreManager().selectArtifactStore(storeOrBundle);
+    }
+
     protected void printTemplate(ArtifactStoreTemplate template, boolean defaultTemplate) {
         logger.info(
                 "- {} {}",
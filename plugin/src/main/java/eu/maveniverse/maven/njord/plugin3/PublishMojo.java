@@ -22,7 +22,8 @@ import org.apache.maven.plugins.annotations.Parameter;
 @Mojo(name = "publish", threadSafe = true, requiresProject = false, aggregator = true)
 public class PublishMojo extends PublisherSupportMojo {
     /**
-     * Whether source store should be dropped after successful operation. Defaults to {@code false}.
+     * Whether source store should be dropped after successful operation. Defaults to {@code false}. Ignored if
+     * {@code bundle} is used.
      */
     @Parameter(required = true, property = SessionConfig.KEY_PREFIX + "drop", defaultValue = "false")
     private boolean drop;
@@ -38,7 +39,7 @@ public class PublishMojo extends PublisherSupportMojo {
                 throw new MojoFailureException(e.getMessage(), e);
             }
         }
-        if (drop) {
+        if (drop && bundle == null) {
             logger.info("Dropping {}", store);
             ns.artifactStoreManager().dropArtifactStore(store);
         }
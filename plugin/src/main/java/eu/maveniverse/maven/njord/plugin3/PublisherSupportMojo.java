@@ -14,6 +14,9 @@ import eu.maveniverse.maven.njord.shared.publisher.ArtifactPublisherRedirector;
 import eu.maveniverse.maven.njord.shared.publisher.ArtifactStorePublisher;
 import eu.maveniverse.maven.njord.shared.store.ArtifactStore;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -47,6 +50,16 @@ public abstract class PublisherSupportMojo extends NjordMojoSupport {
     @Parameter(property = SessionConfig.KEY_PREFIX + "publisher")
     protected String publisher;
 
+    /**
+     * The bundle file to use as store instead of named store. May be a "transportable" Njord bundle or a bundle
+     * ZIP file using Maven repository layout. The bundle is opened as read-only store, without importing it.
+     * If set, the {@code store} parameter is ignored.
+     *
+     * @since 0.9.7
+     */
+    @Parameter(property = SessionConfig.KEY_PREFIX + "bundle")
+    protected String bundle;
+
     /**
      * Returns artifact store candidate names.
      * <ul>
@@ -86,6 +99,13 @@ public abstract class PublisherSupportMojo extends NjordMojoSupport {
     }
 
     protected ArtifactStore getArtifactStore(Session ns) throws IOException, MojoFailureException {
+        if (bundle != null) {
+            Path bundleFile = Paths.get(bundle).toAbsolutePath();
+            if (!Files.isRegularFile(bundleFile)) {
+                throw new MojoFailureException("Bundle file not found: " + bundleFile);
+            }
+            return ns.artifactStoreManager().openBundle(bundleFile);
+        }
         Optional<String> storeName = getArtifactStoreName(ns);
         if (!storeName.isPresent()) {
             throw new MojoFailureException("ArtifactStore name was not specified nor could be found");
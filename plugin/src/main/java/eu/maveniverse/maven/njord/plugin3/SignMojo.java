@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2023-2024 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.njord.plugin3;
+
+import eu.maveniverse.maven.njord.shared.Session;
+import eu.maveniverse.maven.njord.shared.SessionConfig;
+import eu.maveniverse.maven.njord.shared.impl.J8Utils;
+import eu.maveniverse.maven.njord.shared.impl.store.ArtifactStoreSigner;
+import eu.maveniverse.maven.njord.shared.impl.store.PathArtifactStore;
+import eu.maveniverse.maven.njord.shared.store.ArtifactStore;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Optional;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.eclipse.aether.artifact.Artifact;
+
+/**
+ * Signs all artifacts of given store that are not signed yet, producing GPG signatures ({@code .asc}) in parallel,
+ * using a local secret key (no {@code gpg} executable needed). Meant for stores that were staged without signatures,
+ * instead of re-running whole build with signing.
+ *
+ * @since 0.9.7
+ */
+@Mojo(name = "sign", threadSafe = true, requiresProject = false, aggregator = true)
+public class SignMojo extends NjordMojoSupport {
+    /**
+     * The name of the store to sign. Mandatory parameter.
+     */
+    @Parameter(required = true, property = SessionConfig.KEY_PREFIX + "store")
+    private String store;
+
+    /**
+     * The secret key ring file (armored or binary), for example exported with
+     * {@code gpg --export-secret-keys --armor <KEY_ID>}. Mandatory parameter.
+     */
+    @Parameter(required = true, property = SessionConfig.KEY_PREFIX + "signingKeyFile")
+    private File signingKeyFile;
+
+    /**
+     * The ID or fingerprint of the key to sign with. If not set, the first key capable of signing is used.
+     */
+    @Parameter(property = SessionConfig.KEY_PREFIX + "signingKeyId")
+    private String signingKeyId;
+
+    /**
+     * The name of environment variable holding the key passphrase; by default the one used by Maven GPG Plugin.
+     */
+    @Parameter(
+            required = true,
+            property = SessionConfig.KEY_PREFIX + "signingPassphraseEnvName",
+            defaultValue = "MAVEN_GPG_PASSPHRASE")
+    private String signingPassphraseEnvName;
+
+    /**
+     * The count of signing threads; if zero, the count of available processors.
+     */
+    @Parameter(required = true, property = SessionConfig.KEY_PREFIX + "signingThreads", defaultValue = "0")
+    private int signingThreads;
+
+    @Override
+    protected void doWithSession(Session ns) throws IOException, MojoExecutionException, MojoFailureException {
+        if (!Files.isRegularFile(signingKeyFile.toPath())) {
+            throw new MojoFailureException("Signing key file is not a regular file");
+        }
+        String passphrase = System.getenv(signingPassphraseEnvName);
+        ArtifactStoreSigner signer = new ArtifactStoreSigner(
+                signingKeyFile.toPath(),
+                signingKeyId,
+                passphrase == null ? null : passphrase.toCharArray(),
+                signingThreads > 0 ? signingThreads : Runtime.getRuntime().availableProcessors());
+        Optional<ArtifactStore> aso = ns.artifactStoreManager().selectArtifactStore(store);
+        if (aso.isPresent()) {
+            try (ArtifactStore artifactStore = aso.orElseThrow(J8Utils.OET)) {
+                if (!(artifactStore instanceof PathArtifactStore)) {
+                    throw new MojoExecutionException("Unsupported store type: " + artifactStore.getClass());
+                }
+                logger.info("Signing {} with key {}", artifactStore, signer.keyId());
+                long start = System.nanoTime();
+                List<Artifact> signatures = signer.sign((PathArtifactStore) artifactStore);
+                long elapsed = (System.nanoTime() - start) / 1_000_000L;
+                if (signatures.isEmpty()) {
+                    logger.info("All artifacts of ArtifactStore {} are already signed", store);
+                } else {
+                    logger.info("Signed {} artifacts of ArtifactStore {} in {} ms", signatures.size(), store, elapsed);
+                }
+            }
+        } else {
+            logger.warn("ArtifactStore with given name not found");
+        }
+    }
+}
@@ -11,6 +11,7 @@ import eu.maveniverse.maven.njord.shared.Session;
 import eu.maveniverse.maven.njord.shared.SessionConfig;
 import eu.maveniverse.maven.njord.shared.impl.J8Utils;
 import eu.maveniverse.maven.njord.shared.store.ArtifactStore;
+import eu.maveniverse.maven.njord.shared.store.BundleFormat;
 import eu.maveniverse.maven.shared.core.fs.FileUtils;
 import java.io.IOException;
 import java.nio.file.Files;
@@ -39,6 +40,15 @@ public class WriteBundleMojo extends NjordMojoSupport {
     @Parameter(required = true, property = SessionConfig.KEY_PREFIX + "directory")
     private String directory;
 
+    /**
+     * The bundle format: {@code ZIP} (default), {@code TAR} or {@code TAR_GZ}. Tar based formats are meant for
+     * internal transport only.
+     *
+     * @since 0.9.7
+     */
+    @Parameter(required = true, property = SessionConfig.KEY_PREFIX + "format", defaultValue = "ZIP")
+    private BundleFormat format;
+
     @Override
     protected void doWithSession(Session ns) throws IOException, MojoExecutionException {
         Optional<ArtifactStore> storeOptional = ns.artifactStoreManager().selectArtifactStore(store);
@@ -48,8 +58,8 @@ public class WriteBundleMojo extends NjordMojoSupport {
                 Files.createDirectories(targetDirectory);
             }
             logger.info("Writing store {} as bundle to {}", store, directory);
-            Path result =
-                    ns.artifactStoreWriter().writeAsBundle(storeOptional.orElseThrow(J8Utils.OET), targetDirectory);
+            Path result = ns.artifactStoreWriter()
+                    .writeAsBundle(storeOptional.orElseThrow(J8Utils.OET), targetDirectory, format);
             logger.info("Written to " + result);
         } else {
             logger.warn("ArtifactStore with given name not found");
@@ -13,21 +13,40 @@ import eu.maveniverse.maven.mima.extensions.mhc4.impl.MavenHttpClient4FactoryImp
 import eu.maveniverse.maven.njord.shared.NjordUtils;
 import eu.maveniverse.maven.njord.shared.Session;
 import eu.maveniverse.maven.njord.shared.impl.J8Utils;
+import eu.maveniverse.maven.njord.shared.impl.ParallelUtils;
+import eu.maveniverse.maven.njord.shared.impl.jfr.NjordEvents;
 import eu.maveniverse.maven.njord.shared.impl.store.ArtifactStoreDeployer;
+import eu.maveniverse.maven.njord.shared.impl.store.ArtifactStoreUtils;
+import eu.maveniverse.maven.njord.shared.metrics.Metrics;
 import eu.maveniverse.maven.njord.shared.publisher.ArtifactStorePublisherSupport;
 import eu.maveniverse.maven.njord.shared.publisher.ArtifactStoreRequirements;
+import eu.maveniverse.maven.njord.shared.publisher.MeteredHttpEntity;
+import eu.maveniverse.maven.njord.shared.publisher.RetryPolicy;
+import eu.maveniverse.maven.njord.shared.publisher.TransferMeter;
 import eu.maveniverse.maven.njord.shared.store.ArtifactStore;
 import eu.maveniverse.maven.shared.core.fs.FileUtils;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.apache.http.HttpEntity;
 import org.apache.http.HttpHeaders;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
@@ -94,8 +113,10 @@ public class SonatypeCentralPortalPublisher extends ArtifactStorePublisherSuppor
                 ConfigurationProperties.HTTP_HEADERS);
 
         if (repository.getPolicy(false).isEnabled()) { // release
-            // create ZIP bundle
+            // create ZIP bundle(s)
             Path bundleDir;
+            String digest = null;
+            List<Path> bundles = null;
             if (session.config().currentProject().isPresent()) {
                 bundleDir = session.config()
                         .currentProject()
@@ -103,21 +124,42 @@ public class SonatypeCentralPortalPublisher extends ArtifactStorePublisherSuppor
                         .buildDirectory()
                         .resolve(name);
                 Files.createDirectories(bundleDir);
-                logger.debug("Creating bundle in directory {}", bundleDir);
-                // TODO: sort out this; we cannot expect user to run clean
-                if (Files.deleteIfExists(bundleDir.resolve(artifactStore.name() + ".zip"))) {
-                    logger.debug("Found existing bundle; deleted it");
+                digest = ArtifactStoreUtils.contentDigest(artifactStore);
+                bundles = cachedBundles(artifactStore, bundleDir, digest);
+                if (bundles != null) {
+                    logger.info(
+                            "Store '{}' unchanged since its bundle was built; reusing {} bundle(s) in directory {}",
+                            artifactStore.name(),
+                            bundles.size(),
+                            bundleDir);
+                    session.metrics().count(Metrics.BUNDLE, artifactStore.name(), "reused", bundles.size());
+                } else {
+                    logger.debug("Creating bundle in directory {}", bundleDir);
+                    deleteBundles(artifactStore, bundleDir);
                 }
             } else {
                 bundleDir = Files.createTempDirectory(name);
                 logger.debug("Creating bundle in tmp directory; cleanup will happen at end of upload");
             }
             try {
-                Path bundle = session.artifactStoreWriter().writeAsBundle(artifactStore, bundleDir);
-                if (bundle == null) {
-                    throw new IllegalStateException("Bundle ZIP was not created");
+                if (bundles == null) {
+                    try (Metrics.Timer ignored = session.metrics().start(Metrics.BUNDLE, artifactStore.name(), name)) {
+                        if (publisherConfig.maxBundleSize() > 0) {
+                            bundles = session.artifactStoreWriter()
+                                    .writeAsBundles(artifactStore, bundleDir, publisherConfig.maxBundleSize());
+                        } else {
+                            bundles = Collections.singletonList(
+                                    session.artifactStoreWriter().writeAsBundle(artifactStore, bundleDir));
+                        }
+                    }
+                    if (bundles.isEmpty() || bundles.contains(null)) {
+                        throw new IllegalStateException("Bundle ZIP was not created");
+                    }
+                    if (digest != null) {
+                        writeBundleCache(artifactStore, bundleDir, digest, bundles);
+                    }
                 }
-                String bundleName = bundle.getFileName().toString();
+                String bundleName = null;
                 if (publisherConfig.bundleName().isPresent()) {
                     bundleName = publisherConfig.bundleName().orElseThrow(J8Utils.OET);
                 } else if (artifactStore.originProjectArtifact().isPresent()) {
@@ -125,6 +167,16 @@ public class SonatypeCentralPortalPublisher extends ArtifactStorePublisherSuppor
                             artifactStore.originProjectArtifact().orElseThrow(J8Utils.OET);
                     bundleName = originProjectArtifact.getArtifactId() + "-" + originProjectArtifact.getVersion();
                 }
+                ArrayList<String> bundleNames = new ArrayList<>();
+                for (int i = 0; i < bundles.size(); i++) {
+                    if (bundleName == null) {
+                        bundleNames.add(bundles.get(i).getFileName().toString());
+                    } else if (bundles.size() == 1) {
+                        bundleNames.add(bundleName);
+                    } else {
+                        bundleNames.add(bundleName + "-" + (i + 1) + "-of-" + bundles.size());
+                    }
+                }
 
                 // build auth token
                 RemoteRepository authSource =
@@ -145,67 +197,30 @@ public class SonatypeCentralPortalPublisher extends ArtifactStorePublisherSuppor
                             "No authorization information found for repository " + authSource.getId());
                 }
                 logger.debug("Publishing '{}' to '{}' service at {}", artifactStore.name(), name, repository);
+                if (bundles.size() > 1) {
+                    logger.info(
+                            "Publishing '{}' as {} deployments (bundles of at most {} bytes)",
+                            artifactStore.name(),
+                            bundles.size(),
+                            publisherConfig.maxBundleSize());
+                }
 
-                // we need to use own HTTP client here
-                String deploymentId;
-                try (CloseableHttpClient httpClient = mhc4.createDeploymentClient(
-                                session.config().session(), repository)
-                        .build()) {
-                    URIBuilder uriBuilder = new URIBuilder(repository.getUrl());
-                    deploymentId = upload(httpClient, uriBuilder, extraHeaders, authValue, bundle, bundleName);
-                    logger.info("Deployment ID: {}", deploymentId);
-
-                    if (publisherConfig.waitForStates()) {
-                        logger.info(
-                                "Waiting for states past {}... (poll {}; timeout {}, failed states {})",
-                                publisherConfig.waitForStatesWaitStates(),
-                                publisherConfig.waitForStatesSleep(),
-                                publisherConfig.waitForStatesTimeout(),
-                                publisherConfig.waitForStatesFailureStates());
-                        Instant waitingUntil = Instant.now().plus(publisherConfig.waitForStatesTimeout());
-                        try {
-                            String deploymentState =
-                                    deploymentState(httpClient, uriBuilder, extraHeaders, authValue, deploymentId);
-                            logger.debug("deploymentState = {}", deploymentState);
-                            while (publisherConfig.waitForStatesWaitStates().contains(deploymentState)) {
-                                if (Instant.now().isAfter(waitingUntil)) {
-                                    throw new IOException(
-                                            "Timeout on waiting for validation for deployment " + deploymentId);
-                                }
-                                Thread.sleep(
-                                        publisherConfig.waitForStatesSleep().toMillis());
-
-                                deploymentState =
-                                        deploymentState(httpClient, uriBuilder, extraHeaders, authValue, deploymentId);
-                                logger.debug("deploymentState = {}", deploymentState);
-                            }
+                List<String> deploymentIds =
+                        uploadBundles(artifactStore, repository, extraHeaders, authValue, bundles, bundleNames);
+                String deployments = String.join(", ", deploymentIds);
 
-                            if (publisherConfig.waitForStatesFailureStates().contains(deploymentState)) {
-                                throw new PublishFailedException("Publishing of deployment " + deploymentId
-                                        + " failed; transitioned to failure state: " + deploymentState);
-                            } else {
-                                logger.info("Publishing of deployment {} succeeded: {}", deploymentId, deploymentState);
-                            }
-                        } catch (InterruptedException e) {
-                            Thread.currentThread().interrupt();
-                            throw new IOException(e.getMessage(), e);
-                        }
-                    }
-                    if (publisherConfig
-                            .publishingType()
-                            .filter("AUTOMATIC"::equals)
-                            .isPresent()) {
-                        logger.info(
-                                "Publishing type is AUTOMATIC; deployment {} will be automatically published to Maven Central without further manual action (given that it is valid)",
-                                deploymentId);
-                    } else {
-                        logger.info(
-                                "Continue at {} to review and publish the deployment {}",
-                                CENTRAL_DEPLOYMENTS_URL,
-                                deploymentId);
-                    }
-                } catch (URISyntaxException e) {
-                    throw new IOException(e.getMessage(), e);
+                if (publisherConfig.waitForStates()) {
+                    waitForStates(artifactStore, repository, extraHeaders, authValue, deploymentIds);
+                }
+                if (publisherConfig.publishingType().filter("AUTOMATIC"::equals).isPresent()) {
+                    logger.info(
+                            "Publishing type is AUTOMATIC; deployment {} will be automatically published to Maven Central without further manual action (given that it is valid)",
+                            deployments);
+                } else {
+                    logger.info(
+                            "Continue at {} to review and publish the deployment {}",
+                            CENTRAL_DEPLOYMENTS_URL,
+                            deployments);
                 }
             } finally {
                 if (!session.config().currentProject().isPresent() && Files.isDirectory(bundleDir)) {
@@ -226,61 +241,328 @@ public class SonatypeCentralPortalPublisher extends ArtifactStorePublisherSuppor
         }
     }
 
+    /**
+     * Returns the session-scoped pooled HTTP client for given repository; it must not be closed by caller. As
+     * repository equality covers URL, proxy and authentication, the client is shared only where it is safe.
+     */
+    private CloseableHttpClient httpClient(RemoteRepository repository) {
+        return session.getOrCreateSessionResource(
+                Arrays.asList(CloseableHttpClient.class, repository),
+                () -> mhc4.createDeploymentClient(session.config().session(), repository)
+                        .build());
+    }
+
+    /**
+     * Returns bundles of store found in bundle directory, if they were built from store content of given digest (and
+     * with same max bundle size), otherwise {@code null}. Bundles are built once, and reused by later publish attempts
+     * of unchanged store, like a retry after a failure on Central Portal side.
+     */
+    private List<Path> cachedBundles(ArtifactStore artifactStore, Path bundleDir, String digest) throws IOException {
+        Path cache = bundleDir.resolve(artifactStore.name() + ".properties");
+        if (!Files.isRegularFile(cache)) {
+            return null;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(cache)) {
+            properties.load(in);
+        }
+        if (!digest.equals(properties.getProperty("digest"))
+                || !String.valueOf(publisherConfig.maxBundleSize()).equals(properties.getProperty("maxBundleSize"))) {
+            logger.debug("Store '{}' changed since its bundle was built", artifactStore.name());
+            return null;
+        }
+        ArrayList<Path> bundles = new ArrayList<>();
+        for (String bundleName : properties.getProperty("bundles", "").split(",")) {
+            Path bundle = bundleDir.resolve(bundleName);
+            if (bundleName.isEmpty() || !isBundleOf(artifactStore, bundle) || !Files.isRegularFile(bundle)) {
+                return null;
+            }
+            bundles.add(bundle);
+        }
+        return bundles;
+    }
+
+    /**
+     * Records digest of store content the bundles were built from, to make them reusable.
+     */
+    private void writeBundleCache(ArtifactStore artifactStore, Path bundleDir, String digest, List<Path> bundles)
+            throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("digest", digest);
+        properties.setProperty("maxBundleSize", String.valueOf(publisherConfig.maxBundleSize()));
+        properties.setProperty(
+                "bundles", bundles.stream().map(p -> p.getFileName().toString()).collect(Collectors.joining(",")));
+        FileUtils.writeFile(bundleDir.resolve(artifactStore.name() + ".properties"), p -> {
+            try (OutputStream out = Files.newOutputStream(p)) {
+                properties.store(out, null);
+            }
+        });
+    }
+
+    /**
+     * Deletes stale bundles (and their cache record) of store, if any, as bundle writer does not overwrite them.
+     */
+    private void deleteBundles(ArtifactStore artifactStore, Path bundleDir) throws IOException {
+        Files.deleteIfExists(bundleDir.resolve(artifactStore.name() + ".properties"));
+        try (DirectoryStream<Path> existing = Files.newDirectoryStream(bundleDir, p -> isBundleOf(artifactStore, p))) {
+            for (Path bundle : existing) {
+                Files.delete(bundle);
+                logger.debug("Found stale bundle {}; deleted it", bundle.getFileName());
+            }
+        }
+    }
+
+    private static boolean isBundleOf(ArtifactStore artifactStore, Path file) {
+        String fileName = file.getFileName().toString();
+        return fileName.equals(artifactStore.name() + ".zip")
+                || fileName.matches(Pattern.quote(artifactStore.name()) + "-\\d+\\.zip");
+    }
+
+    /**
+     * Uploads bundles, each as separate deployment, and returns deployment IDs in order of bundles. Bundles are
+     * uploaded in parallel (sharing pooled HTTP client) if there are more of them and configuration allows it.
+     */
+    private List<String> uploadBundles(
+            ArtifactStore artifactStore,
+            RemoteRepository repository,
+            Map<String, String> extraHeaders,
+            String authorizationHeader,
+            List<Path> bundles,
+            List<String> bundleNames)
+            throws IOException {
+        LinkedHashMap<String, Callable<String>> tasks = new LinkedHashMap<>();
+        for (int i = 0; i < bundles.size(); i++) {
+            Path bundle = bundles.get(i);
+            String bundleName = bundleNames.get(i);
+            tasks.put(
+                    bundleName,
+                    () -> uploadBundle(
+                            artifactStore, repository, extraHeaders, authorizationHeader, bundle, bundleName));
+        }
+        LinkedHashMap<String, Exception> failures = new LinkedHashMap<>();
+        ArrayList<String> deploymentIds =
+                new ArrayList<>(ParallelUtils.execute("upload", publisherConfig.uploadThreads(), tasks, failures)
+                        .values());
+        if (failures.isEmpty()) {
+            return deploymentIds;
+        }
+        failures.forEach((bundleName, e) -> logger.error("Upload of {} failed: {}", bundleName, e.getMessage()));
+        if (!deploymentIds.isEmpty()) {
+            logger.warn(
+                    "Deployments {} are incomplete without failed bundles; drop them at {}",
+                    String.join(", ", deploymentIds),
+                    CENTRAL_DEPLOYMENTS_URL);
+        }
+        ParallelUtils.rethrow(
+                failures,
+                () -> "Upload of " + failures.size() + " out of " + bundles.size() + " bundles failed: "
+                        + String.join(", ", failures.keySet()));
+        return deploymentIds;
+    }
+
+    private String uploadBundle(
+            ArtifactStore artifactStore,
+            RemoteRepository repository,
+            Map<String, String> extraHeaders,
+            String authorizationHeader,
+            Path bundle,
+            String bundleName)
+            throws IOException {
+        String deploymentId;
+        try (Metrics.Timer ignored = session.metrics().start(Metrics.PUBLISH, artifactStore.name(), "upload")) {
+            // CP offers no way to look up deployment by name, so upload is re-attempted only if it surely did not
+            // reach the service, as otherwise we could end up with duplicate deployments
+            deploymentId = retry(
+                    artifactStore,
+                    publisherConfig.retryPolicy(),
+                    "Upload of bundle " + bundleName,
+                    () -> upload(
+                            artifactStore,
+                            httpClient(repository),
+                            repository,
+                            extraHeaders,
+                            authorizationHeader,
+                            bundle,
+                            bundleName),
+                    RetryPolicy::isRejected,
+                    null);
+        }
+        session.metrics().record(Metrics.PUBLISH, artifactStore.name(), "uploadBytes", Files.size(bundle));
+        logger.info("Deployment ID: {}", deploymentId);
+        return deploymentId;
+    }
+
+    /**
+     * Polls states of all deployments until none of them is in "wait state". Fails if any of them transitioned to
+     * "failure state" or if timeout was hit, hence success is reported only when all deployments passed.
+     */
+    private void waitForStates(
+            ArtifactStore artifactStore,
+            RemoteRepository repository,
+            Map<String, String> extraHeaders,
+            String authorizationHeader,
+            List<String> deploymentIds)
+            throws IOException {
+        logger.info(
+                "Waiting for states past {}... (poll {}; timeout {}, failed states {})",
+                publisherConfig.waitForStatesWaitStates(),
+                publisherConfig.waitForStatesSleep(),
+                publisherConfig.waitForStatesTimeout(),
+                publisherConfig.waitForStatesFailureStates());
+        Instant waitingUntil = Instant.now().plus(publisherConfig.waitForStatesTimeout());
+        LinkedHashMap<String, String> deploymentStates = new LinkedHashMap<>();
+        deploymentIds.forEach(deploymentId -> deploymentStates.put(deploymentId, null));
+        try (Metrics.Timer ignored = session.metrics().start(Metrics.STATUS, artifactStore.name(), "wait")) {
+            while (true) {
+                ArrayList<String> waiting = new ArrayList<>();
+                for (Map.Entry<String, String> entry : deploymentStates.entrySet()) {
+                    if (entry.getValue() == null
+                            || publisherConfig.waitForStatesWaitStates().contains(entry.getValue())) {
+                        String deploymentId = entry.getKey();
+                        String deploymentState = retry(
+                                artifactStore,
+                                publisherConfig.retryPolicy(),
+                                "Status poll of deployment " + deploymentId,
+                                () -> deploymentState(
+                                        artifactStore,
+                                        httpClient(repository),
+                                        repository,
+                                        extraHeaders,
+                                        authorizationHeader,
+                                        deploymentId));
+                        logger.debug("deploymentState of {} = {}", entry.getKey(), deploymentState);
+                        entry.setValue(deploymentState);
+                        if (publisherConfig.waitForStatesWaitStates().contains(deploymentState)) {
+                            waiting.add(entry.getKey());
+                        }
+                    }
+                }
+                if (waiting.isEmpty()) {
+                    break;
+                }
+                if (Instant.now().isAfter(waitingUntil)) {
+                    throw new IOException(
+                            "Timeout on waiting for validation for deployment " + String.join(", ", waiting));
+                }
+                Thread.sleep(publisherConfig.waitForStatesSleep().toMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e.getMessage(), e);
+        }
+
+        LinkedHashMap<String, String> failed = new LinkedHashMap<>();
+        deploymentStates.forEach((deploymentId, deploymentState) -> {
+            if (publisherConfig.waitForStatesFailureStates().contains(deploymentState)) {
+                failed.put(deploymentId, deploymentState);
+            }
+        });
+        if (failed.isEmpty()) {
+            deploymentStates.forEach((deploymentId, deploymentState) ->
+                    logger.info("Publishing of deployment {} succeeded: {}", deploymentId, deploymentState));
+        } else if (deploymentStates.size() == 1) {
+            Map.Entry<String, String> entry = failed.entrySet().iterator().next();
+            throw new PublishFailedException("Publishing of deployment " + entry.getKey()
+                    + " failed; transitioned to failure state: " + entry.getValue());
+        } else {
+            ArrayList<String> passed = new ArrayList<>(deploymentStates.keySet());
+            passed.removeAll(failed.keySet());
+            if (!passed.isEmpty()) {
+                logger.warn(
+                        "Deployments {} are incomplete without failed deployments; drop them at {}",
+                        String.join(", ", passed),
+                        CENTRAL_DEPLOYMENTS_URL);
+            }
+            throw new PublishFailedException("Publishing of " + failed.size() + " out of " + deploymentStates.size()
+                    + " deployments failed; transitioned to failure states: " + failed);
+        }
+    }
+
     private String upload(
+            ArtifactStore artifactStore,
             CloseableHttpClient httpClient,
-            URIBuilder uriBuilder,
+            RemoteRepository repository,
             Map<String, String> extraHeaders,
             String authorizationHeader,
             Path bundle,
             String bundleName)
-            throws IOException, URISyntaxException {
-        uriBuilder.clearParameters();
-        uriBuilder.setPath("/api/v1/publisher/upload");
-        uriBuilder.addParameter("name", bundleName);
-        publisherConfig.publishingType().ifPresent(publishingType -> {
-            uriBuilder.addParameter("publishingType", publishingType);
-        });
-        HttpPost post = new HttpPost(uriBuilder.build());
+            throws IOException {
+        HttpPost post;
+        try {
+            URIBuilder uriBuilder = new URIBuilder(repository.getUrl());
+            uriBuilder.setPath("/api/v1/publisher/upload");
+            uriBuilder.addParameter("name", bundleName);
+            publisherConfig.publishingType().ifPresent(publishingType -> {
+                uriBuilder.addParameter("publishingType", publishingType);
+            });
+            post = new HttpPost(uriBuilder.build());
+        } catch (URISyntaxException e) {
+            throw new IOException(e.getMessage(), e);
+        }
         extraHeaders.forEach(post::setHeader);
         post.setHeader(HttpHeaders.AUTHORIZATION, authorizationHeader);
         MultipartEntityBuilder builder = MultipartEntityBuilder.create();
         builder.setMode(HttpMultipartMode.BROWSER_COMPATIBLE);
         builder.addBinaryBody("bundle", bundle.toFile(), ContentType.DEFAULT_BINARY, bundleName);
-        post.setEntity(builder.build());
-        try (CloseableHttpResponse response = httpClient.execute(post)) {
+        HttpEntity entity = builder.build();
+        TransferMeter meter =
+                publisherConfig.uploadMeter(session, "Upload of bundle " + bundleName, entity.getContentLength());
+        post.setEntity(MeteredHttpEntity.metered(entity, meter));
+        try (NjordEvents.Event event = NjordEvents.begin(NjordEvents.Type.HTTP_UPLOAD)
+                        .store(artifactStore.name())
+                        .artifact(bundleName)
+                        .bytes(Files.size(bundle));
+                CloseableHttpResponse response = httpClient.execute(post)) {
             if (response.getStatusLine().getStatusCode() == 201) {
                 logger.info(
                         "Uploaded bundle {} ({} bytes) as {}", bundle.getFileName(), Files.size(bundle), bundleName);
                 return EntityUtils.toString(response.getEntity());
             } else {
-                throw new IOException("Unexpected response code: " + response.getStatusLine() + " "
-                        + (response.getEntity() != null ? EntityUtils.toString(response.getEntity()) : ""));
+                throw new UnexpectedStatusException(
+                        response.getStatusLine().getStatusCode(),
+                        "Unexpected response code: " + response.getStatusLine() + " "
+                                + (response.getEntity() != null ? EntityUtils.toString(response.getEntity()) : ""));
             }
+        } finally {
+            meter.close();
+            meter.recordTo(session.metrics(), artifactStore.name());
         }
     }
 
     private String deploymentState(
+            ArtifactStore artifactStore,
             CloseableHttpClient httpClient,
-            URIBuilder uriBuilder,
+            RemoteRepository repository,
             Map<String, String> extraHeaders,
             String authorizationHeader,
             String deploymentId)
-            throws IOException, URISyntaxException {
-        uriBuilder.clearParameters();
-        uriBuilder.setPath("/api/v1/publisher/status");
-        uriBuilder.addParameter("id", deploymentId);
-        HttpPost post = new HttpPost(uriBuilder.build());
+            throws IOException {
+        HttpPost post;
+        try {
+            URIBuilder uriBuilder = new URIBuilder(repository.getUrl());
+            uriBuilder.setPath("/api/v1/publisher/status");
+            uriBuilder.addParameter("id", deploymentId);
+            post = new HttpPost(uriBuilder.build());
+        } catch (URISyntaxException e) {
+            throw new IOException(e.getMessage(), e);
+        }
         extraHeaders.forEach(post::setHeader);
         post.setHeader(HttpHeaders.AUTHORIZATION, authorizationHeader);
         post.setHeader(HttpHeaders.ACCEPT, "application/json");
-        try (CloseableHttpResponse response = httpClient.execute(post)) {
+        try (Metrics.Timer ignored = session.metrics().start(Metrics.STATUS, artifactStore.name(), "poll");
+                NjordEvents.Event event = NjordEvents.begin(NjordEvents.Type.STATUS_POLL)
+                        .store(artifactStore.name())
+                        .artifact(deploymentId);
+                CloseableHttpResponse response = httpClient.execute(post)) {
             if (response.getStatusLine().getStatusCode() == 200) {
                 return new JSONObject(EntityUtils.toString(response.getEntity()))
                         .optString("deploymentState")
                         .toLowerCase(Locale.ENGLISH);
             } else {
-                throw new IOException("Unexpected response code: " + response.getStatusLine() + " "
-                        + (response.getEntity() != null ? EntityUtils.toString(response.getEntity()) : ""));
+                throw new UnexpectedStatusException(
+                        response.getStatusLine().getStatusCode(),
+                        "Unexpected response code: " + response.getStatusLine() + " "
+                                + (response.getEntity() != null ? EntityUtils.toString(response.getEntity()) : ""));
             }
         }
     }
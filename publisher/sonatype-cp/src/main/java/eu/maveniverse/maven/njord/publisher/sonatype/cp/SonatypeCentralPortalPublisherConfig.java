@@ -34,10 +34,16 @@ import org.eclipse.aether.util.ConfigUtils;
  *     <li><code>njord.publisher.sonatype-cp.waitForStatesSleep</code> (alias <code>njord.waitForStatesSleep</code>) - how long should publisher sleep between each state check (def: PT10S)</li>
  *     <li><code>njord.publisher.sonatype-cp.waitForStatesWaitStates</code> (alias <code>njord.waitForStatesWaitStates</code>) - the comma separated states that publisher should wait CP to transition from (def: "pending,validating")</li>
  *     <li><code>njord.publisher.sonatype-cp.waitForStatesFailureStates</code> (alias <code>njord.waitForStatesFailureStates</code>) - the comma separated states that publisher should consider as failure (def: "failed")</li>
+ *     <li><code>njord.publisher.sonatype-cp.maxBundleSize</code> (alias <code>njord.maxBundleSize</code>) - the maximum size of bundle content in bytes; if set, bigger stores are split along GAV boundaries into multiple bundles, each uploaded as separate deployment; cannot be used with AUTOMATIC publishing type (def: 0, no splitting)</li>
+ *     <li><code>njord.publisher.sonatype-cp.uploadThreads</code> (alias <code>njord.uploadThreads</code>) - how many bundles of split store should be uploaded in parallel (def: 4)</li>
+ *     <li><code>njord.publisher.sonatype-cp.serviceUrl</code> - the URL of Central Portal service, meant for testing against local stand-in only (def: Central Portal)</li>
  * </ul>
  * The property <code>njord.publisher.sonatype-cp.bundleName</code> defines the bundle name that is shown on CP WebUI.
  * By default, value of <code>${project.artifactId}-${project.version}</code> is used IF current project is present.
  * Also <a href="https://central.sonatype.com/api-doc">see API documentation.</a>
+ * When store is split, bundle names get <code>-N-of-M</code> suffix, and publisher waits for (and reports success only
+ * if) all the deployments pass. Failure of any deployment leaves others on CP, to be dropped manually; hence, with
+ * AUTOMATIC publishing type, splitting may result in partially published store.
  * Note: publishingType, waitForStatesWaitStates and waitForStatesFailureStates are case-insensitive (are converted to required case).
  */
 public final class SonatypeCentralPortalPublisherConfig extends PublisherConfigSupport {
@@ -54,6 +60,8 @@ public final class SonatypeCentralPortalPublisherConfig extends PublisherConfigS
     private final Set<String> waitForStatesWaitStates;
     private final Set<String> waitForStatesFailureStates;
     private final NjordRepositoryListener.Mode listenerMode;
+    private final long maxBundleSize;
+    private final int uploadThreads;
 
     public SonatypeCentralPortalPublisherConfig(SessionConfig sessionConfig) {
         super(SonatypeCentralPortalPublisherFactory.NAME, sessionConfig);
@@ -101,6 +109,22 @@ public final class SonatypeCentralPortalPublisherConfig extends PublisherConfigS
                         NjordRepositoryListener.Mode.AGGREGATED.name(),
                         keyNames("listenerMode"))
                 .toUpperCase(Locale.ROOT));
+
+        // njord.publisher.sonatype-cp.maxBundleSize
+        this.maxBundleSize = ConfigUtils.getLong(sessionConfig.effectiveProperties(), 0L, keyNames("maxBundleSize"));
+        if (this.maxBundleSize < 0) {
+            throw new IllegalArgumentException("maxBundleSize cannot be negative");
+        }
+        if (this.maxBundleSize > 0 && "AUTOMATIC".equalsIgnoreCase(this.publishingType)) {
+            // deployments are published independently, so a failed one would leave the rest published partially
+            throw new IllegalArgumentException("maxBundleSize cannot be used with AUTOMATIC publishingType");
+        }
+
+        // njord.publisher.sonatype-cp.uploadThreads
+        this.uploadThreads = ConfigUtils.getInteger(sessionConfig.effectiveProperties(), 4, keyNames("uploadThreads"));
+        if (this.uploadThreads < 1) {
+            throw new IllegalArgumentException("uploadThreads must be greater than zero");
+        }
     }
 
     @Override
@@ -108,19 +132,23 @@ public final class SonatypeCentralPortalPublisherConfig extends PublisherConfigS
         RemoteRepository result;
         if (targetReleaseRepository == null) {
             result = new RemoteRepository.Builder(
-                            repositoryId(RepositoryMode.RELEASE, RELEASE_REPOSITORY_ID),
-                            "default",
-                            RELEASE_REPOSITORY_URL)
+                            repositoryId(RepositoryMode.RELEASE, RELEASE_REPOSITORY_ID), "default", serviceUrl())
                     .setSnapshotPolicy(new RepositoryPolicy(false, null, null))
                     .build();
         } else {
-            result = new RemoteRepository.Builder(targetReleaseRepository.getId(), "default", RELEASE_REPOSITORY_URL)
+            result = new RemoteRepository.Builder(targetReleaseRepository.getId(), "default", serviceUrl())
                     .setSnapshotPolicy(new RepositoryPolicy(false, null, null))
                     .build();
         }
         return result;
     }
 
+    private String serviceUrl() {
+        // njord.publisher.sonatype-cp.serviceUrl; invoked from super constructor, so no field
+        return ConfigUtils.getString(
+                sessionConfig.effectiveProperties(), RELEASE_REPOSITORY_URL, keyName("serviceUrl"));
+    }
+
     @Override
     protected RemoteRepository createServiceSnapshotRepository() {
         RemoteRepository result;
@@ -174,4 +202,12 @@ public final class SonatypeCentralPortalPublisherConfig extends PublisherConfigS
     public NjordRepositoryListener.Mode listenerMode() {
         return listenerMode;
     }
+
+    public long maxBundleSize() {
+        return maxBundleSize;
+    }
+
+    public int uploadThreads() {
+        return uploadThreads;
+    }
 }
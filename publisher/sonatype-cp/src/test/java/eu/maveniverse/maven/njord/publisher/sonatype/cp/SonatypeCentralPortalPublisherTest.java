@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2023-2024 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.njord.publisher.sonatype.cp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import eu.maveniverse.maven.mima.context.Context;
+import eu.maveniverse.maven.mima.context.ContextOverrides;
+import eu.maveniverse.maven.mima.context.Runtimes;
+import eu.maveniverse.maven.mima.extensions.mmr.MavenModelReader;
+import eu.maveniverse.maven.njord.publisher.sonatype.central.SonatypeCentralRequirementsFactory;
+import eu.maveniverse.maven.njord.shared.Session;
+import eu.maveniverse.maven.njord.shared.SessionConfig;
+import eu.maveniverse.maven.njord.shared.impl.DefaultSessionFactory;
+import eu.maveniverse.maven.njord.shared.impl.store.DefaultArtifactStoreMergerFactory;
+import eu.maveniverse.maven.njord.shared.impl.store.DefaultArtifactStoreWriterFactory;
+import eu.maveniverse.maven.njord.shared.impl.store.DefaultInternalArtifactStoreManagerFactory;
+import eu.maveniverse.maven.njord.shared.impl.store.PathArtifactStore;
+import eu.maveniverse.maven.njord.shared.impl.store.SyntheticArtifactStoreGenerator;
+import eu.maveniverse.maven.njord.shared.publisher.ArtifactStorePublisher;
+import eu.maveniverse.maven.njord.shared.store.ArtifactStoreTemplate;
+import eu.maveniverse.maven.njord.testing.MockSonatypeServer;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.maven.rtinfo.RuntimeInformation;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.internal.impl.checksum.DefaultChecksumAlgorithmFactorySelector;
+import org.eclipse.aether.internal.impl.checksum.Md5ChecksumAlgorithmFactory;
+import org.eclipse.aether.internal.impl.checksum.Sha1ChecksumAlgorithmFactory;
+import org.eclipse.aether.internal.impl.checksum.Sha256ChecksumAlgorithmFactory;
+import org.eclipse.aether.internal.impl.checksum.Sha512ChecksumAlgorithmFactory;
+import org.eclipse.aether.spi.connector.checksum.ChecksumAlgorithmFactory;
+import org.eclipse.aether.spi.connector.checksum.ChecksumAlgorithmFactorySelector;
+import org.eclipse.aether.util.repository.AuthenticationBuilder;
+import org.eclipse.aether.util.repository.DefaultAuthenticationSelector;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SonatypeCentralPortalPublisherTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void splitUploadPartialFailure() throws Exception {
+        try (MockSonatypeServer server = MockSonatypeServer.builder()
+                .failFirst(1, 400)
+                .failurePath(MockSonatypeServer.UPLOAD_PATH)
+                .start()) {
+            // every GAV is bundled separately
+            IOException e = assertThrows(
+                    IOException.class, () -> publish(server, Collections.singletonMap("njord.maxBundleSize", "1")));
+            assertTrue(e.getMessage().contains("400"), e.getMessage());
+            int bundles = server.requestCount(MockSonatypeServer.UPLOAD_PATH);
+            assertTrue(bundles > 1, "bundles " + bundles);
+            assertEquals(bundles - 1, server.deployments().size());
+        }
+    }
+
+    @Test
+    void uploadRetriedWhenServiceUnavailable() throws Exception {
+        try (MockSonatypeServer server = MockSonatypeServer.builder()
+                .failFirst(2, 503)
+                .failurePath(MockSonatypeServer.UPLOAD_PATH)
+                .start()) {
+            publish(server, Collections.emptyMap());
+            assertEquals(3, server.requestCount(MockSonatypeServer.UPLOAD_PATH));
+            assertEquals(1, server.deployments().size());
+        }
+    }
+
+    @Test
+    void statusPollRetriedOnBadGateway() throws Exception {
+        try (MockSonatypeServer server = MockSonatypeServer.builder()
+                .failFirst(2, 502)
+                .failurePath(MockSonatypeServer.STATUS_PATH)
+                .start()) {
+            publish(server, Collections.singletonMap("njord.waitForStates", "true"));
+            MockSonatypeServer.Deployment deployment =
+                    server.deployments().values().iterator().next();
+            assertEquals("VALIDATED", deployment.state());
+            assertEquals(3, deployment.polls());
+            assertEquals(5, server.requestCount(MockSonatypeServer.STATUS_PATH));
+        }
+    }
+
+    @Test
+    void waitsForAllDeployments() throws Exception {
+        try (MockSonatypeServer server = MockSonatypeServer.builder().start()) {
+            HashMap<String, String> properties = new HashMap<>();
+            properties.put("njord.maxBundleSize", "1");
+            properties.put("njord.waitForStates", "true");
+            publish(server, properties);
+            assertTrue(server.deployments().size() > 1);
+            for (MockSonatypeServer.Deployment deployment : server.deployments().values()) {
+                // PENDING, VALIDATING, VALIDATED; VALIDATED is not polled again
+                assertEquals("VALIDATED", deployment.state(), deployment.name());
+                assertEquals(3, deployment.polls(), deployment.name());
+            }
+        }
+    }
+
+    @Test
+    void failsIfAnyDeploymentFails() throws Exception {
+        try (MockSonatypeServer server = MockSonatypeServer.builder()
+                .deploymentStates(Arrays.asList("PENDING", "VALIDATING"))
+                .failDeployments(true)
+                .start()) {
+            HashMap<String, String> properties = new HashMap<>();
+            properties.put("njord.maxBundleSize", "1");
+            properties.put("njord.waitForStates", "true");
+            ArtifactStorePublisher.PublishFailedException e = assertThrows(
+                    ArtifactStorePublisher.PublishFailedException.class, () -> publish(server, properties));
+            int deployments = server.deployments().size();
+            assertTrue(
+                    e.getMessage().contains(deployments + " out of " + deployments + " deployments failed"),
+                    e.getMessage());
+            for (MockSonatypeServer.Deployment deployment : server.deployments().values()) {
+                assertEquals("FAILED", deployment.state(), deployment.name());
+            }
+        }
+    }
+
+    /**
+     * Publishes synthetic release store to given server, with given user properties (and fast retries and polls).
+     */
+    private void publish(MockSonatypeServer server, Map<String, String> properties) throws IOException {
+        HashMap<String, String> userProperties = new HashMap<>(properties);
+        userProperties.put(
+                "njord.publisher.sonatype-cp.serviceUrl",
+                server.uri().resolve(MockSonatypeServer.UPLOAD_PATH).toString());
+        userProperties.put("njord.retryInitialBackoff", "PT0.01S");
+        userProperties.put("njord.retryMaxBackoff", "PT0.05S");
+        userProperties.put("njord.waitForStatesSleep", "PT0.01S");
+        userProperties.put("njord.uploadProgressInterval", "PT0S");
+        HashMap<String, ChecksumAlgorithmFactory> factories = new HashMap<>();
+        factories.put(Sha1ChecksumAlgorithmFactory.NAME, new Sha1ChecksumAlgorithmFactory());
+        factories.put(Md5ChecksumAlgorithmFactory.NAME, new Md5ChecksumAlgorithmFactory());
+        factories.put(Sha256ChecksumAlgorithmFactory.NAME, new Sha256ChecksumAlgorithmFactory());
+        factories.put(Sha512ChecksumAlgorithmFactory.NAME, new Sha512ChecksumAlgorithmFactory());
+        ChecksumAlgorithmFactorySelector selector = new DefaultChecksumAlgorithmFactorySelector(factories);
+        try (Context context = Runtimes.INSTANCE
+                        .getRuntime()
+                        .create(ContextOverrides.create().offline(true).build());
+                Session session = createSession(context, selector, userProperties)) {
+            PathArtifactStore store = (PathArtifactStore)
+                    session.artifactStoreManager().createArtifactStore(ArtifactStoreTemplate.RELEASE, null);
+            SyntheticArtifactStoreGenerator.builder(tempDir.resolve("work"))
+                    .modules(3)
+                    .size(1000, 5000)
+                    .build()
+                    .generate(store);
+            new SonatypeCentralPortalPublisherFactory(
+                            context.repositorySystem(), new SonatypeCentralRequirementsFactory(selector))
+                    .create(session)
+                    .publish(store);
+        }
+    }
+
+    private Session createSession(
+            Context context, ChecksumAlgorithmFactorySelector selector, Map<String, String> userProperties) {
+        DefaultRepositorySystemSession repositorySystemSession =
+                new DefaultRepositorySystemSession(context.repositorySystemSession());
+        repositorySystemSession.setAuthenticationSelector(new DefaultAuthenticationSelector()
+                .add(
+                        SonatypeCentralPortalPublisherConfig.RELEASE_REPOSITORY_ID,
+                        new AuthenticationBuilder()
+                                .addUsername("user")
+                                .addPassword("password")
+                                .build()));
+        SessionConfig config = SessionConfig.defaults(repositorySystemSession, context.remoteRepositories())
+                .basedir(tempDir.resolve("njord"))
+                .userProperties(userProperties)
+                .build();
+        return new DefaultSessionFactory(
+                        context.repositorySystem(),
+                        new RuntimeInformation() {
+                            @Override
+                            public String getMavenVersion() {
+                                return "3.9.11";
+                            }
+
+                            @Override
+                            public boolean isMavenVersion(String s) {
+                                return getMavenVersion().equals(s);
+                            }
+                        },
+                        new DefaultInternalArtifactStoreManagerFactory(selector),
+                        new DefaultArtifactStoreWriterFactory(),
+                        new DefaultArtifactStoreMergerFactory(context.repositorySystem(), selector),
+                        Collections.emptyMap(),
+                        Collections.emptyMap(),
+                        new MavenModelReader(context).getImpl())
+                .create(config);
+    }
+}
@@ -11,21 +11,33 @@ import static java.util.Objects.requireNonNull;
 
 import eu.maveniverse.maven.mima.extensions.mhc4.impl.MavenHttpClient4FactoryImpl;
 import eu.maveniverse.maven.njord.shared.Session;
+import eu.maveniverse.maven.njord.shared.impl.jfr.NjordEvents;
+import eu.maveniverse.maven.njord.shared.impl.store.DefaultLayout;
+import eu.maveniverse.maven.njord.shared.metrics.Metrics;
 import eu.maveniverse.maven.njord.shared.publisher.ArtifactStorePublisherSupport;
 import eu.maveniverse.maven.njord.shared.publisher.ArtifactStoreRequirements;
+import eu.maveniverse.maven.njord.shared.publisher.MeteredHttpEntity;
+import eu.maveniverse.maven.njord.shared.publisher.RetryPolicy;
+import eu.maveniverse.maven.njord.shared.publisher.TransferMeter;
 import eu.maveniverse.maven.njord.shared.store.ArtifactStore;
 import eu.maveniverse.maven.njord.shared.store.RepositoryMode;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import org.apache.http.HttpEntity;
 import org.apache.http.HttpHeaders;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpHead;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.utils.URIBuilder;
 import org.apache.http.entity.ContentType;
@@ -77,18 +89,57 @@ public class SonatypeNx3Publisher extends ArtifactStorePublisherSupport {
     }
 
     /**
-     * Checks if the NXRM3 server is Pro edition by checking the Server header from the status endpoint.
+     * Returns the session-scoped pooled HTTP client for given repository; it must not be closed by caller. As
+     * repository equality covers URL, proxy and authentication, the client is shared only where it is safe.
+     */
+    private CloseableHttpClient httpClient(RemoteRepository repository) {
+        return session.getOrCreateSessionResource(
+                Arrays.asList(CloseableHttpClient.class, repository),
+                () -> mhc4.createDeploymentClient(session.config().session(), repository)
+                        .build());
+    }
+
+    /**
+     * Checks if the NXRM3 server is Pro edition. The edition is probed once per server in session.
      * @param httpClient The HTTP client to use
      * @param repository The repository to check
      * @return true if the server is Pro edition, false if OSS/Community
      */
     private boolean isNexusProEdition(CloseableHttpClient httpClient, RemoteRepository repository) {
+        URI statusUri;
         try {
             URIBuilder uriBuilder = new URIBuilder(repository.getUrl());
             uriBuilder.setPath("/service/rest/v1/status");
-            HttpGet request = new HttpGet(uriBuilder.build());
+            statusUri = uriBuilder.build();
+        } catch (URISyntaxException e) {
+            // If we can't check, assume OSS to be safe
+            logger.debug("Could not determine Nexus edition, assuming OSS: {}", e.getMessage());
+            return false;
+        }
+        // status endpoint URI is same for all repositories of the server
+        try {
+            return session.getOrCreateSessionResource(
+                    Arrays.asList("nexusProEdition", statusUri), () -> probeNexusProEdition(httpClient, statusUri));
+        } catch (UncheckedIOException e) {
+            // failed probe is not cached, next publish probes again; assume OSS to be safe
+            logger.debug(
+                    "Could not determine Nexus edition, assuming OSS: {}",
+                    e.getCause().getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Checks if the NXRM3 server is Pro edition by checking the Server header from the status endpoint. Throws if
+     * the server could not be asked, so the outcome is not cached.
+     */
+    private boolean probeNexusProEdition(CloseableHttpClient httpClient, URI statusUri) {
+        try {
+            HttpGet request = new HttpGet(statusUri);
 
             try (CloseableHttpResponse response = httpClient.execute(request)) {
+                // consume body, so the pooled connection can be reused
+                EntityUtils.consumeQuietly(response.getEntity());
                 // Check the Server header for edition information
                 // OSS/Community: "Nexus/3.x.x (COMMUNITY)" or "Nexus/3.x.x (OSS)"
                 // Pro: "Nexus/3.x.x (PRO)"
@@ -102,10 +153,8 @@ public class SonatypeNx3Publisher extends ArtifactStorePublisherSupport {
                 logger.debug("No Server header found, assuming OSS");
                 return false;
             }
-        } catch (Exception e) {
-            // If we can't check, assume OSS to be safe
-            logger.debug("Could not determine Nexus edition, assuming OSS: {}", e.getMessage());
-            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 
@@ -158,33 +207,49 @@ public class SonatypeNx3Publisher extends ArtifactStorePublisherSupport {
         // Get auth repository for authentication
         RemoteRepository authSource = session.artifactPublisherRedirector().getAuthRepositoryId(repository);
 
-        try (CloseableHttpClient httpClient = mhc4.createDeploymentClient(
-                        session.config().session(), repository)
-                .build()) {
-            // Check if server is Pro edition (for tagging support)
-            boolean isProEdition = isNexusProEdition(httpClient, repository);
-
-            // Warn only if tag is explicitly configured but server is OSS
-            if (publisherConfig.isTagConfigured() && !isProEdition) {
-                logger.warn(
-                        "Tag '{}' is configured but Nexus Repository OSS does not support tagging. "
-                                + "Tagging is only available in Nexus Repository Pro. The tag will be omitted.",
-                        publisherConfig.tag());
-            }
+        CloseableHttpClient httpClient = httpClient(repository);
+        // Check if server is Pro edition (for tagging support)
+        boolean isProEdition = isNexusProEdition(httpClient, repository);
 
-            for (Map.Entry<String, List<Artifact>> entry : componentGroups.entrySet()) {
-                String gav = entry.getKey();
-                List<Artifact> artifacts = entry.getValue();
-                uploadComponent(
-                        httpClient,
-                        repository,
-                        authSource,
-                        repositoryName,
-                        extraHeaders,
-                        gav,
-                        artifacts,
+        // Warn only if tag is explicitly configured but server is OSS
+        if (publisherConfig.isTagConfigured() && !isProEdition) {
+            logger.warn(
+                    "Tag '{}' is configured but Nexus Repository OSS does not support tagging. "
+                            + "Tagging is only available in Nexus Repository Pro. The tag will be omitted.",
+                    publisherConfig.tag());
+        }
+
+        for (Map.Entry<String, List<Artifact>> entry : componentGroups.entrySet()) {
+            String gav = entry.getKey();
+            List<Artifact> artifacts = entry.getValue();
+            RetryPolicy.Operation<Optional<Boolean>> uploaded = null;
+            if (artifactStore.repositoryMode() == RepositoryMode.RELEASE) {
+                // failed attempt may have been processed, and redeploy of release would be refused
+                uploaded = () ->
+                        componentExists(httpClient, repository, authSource, repositoryName, extraHeaders, artifacts)
+                                ? Optional.of(Boolean.TRUE)
+                                : Optional.empty();
+            }
+            try (Metrics.Timer ignored = session.metrics().start(Metrics.PUBLISH, artifactStore.name(), "upload")) {
+                retry(
                         artifactStore,
-                        isProEdition);
+                        publisherConfig.retryPolicy(),
+                        "Upload of component " + gav,
+                        () -> {
+                            uploadComponent(
+                                    httpClient,
+                                    repository,
+                                    authSource,
+                                    repositoryName,
+                                    extraHeaders,
+                                    gav,
+                                    artifacts,
+                                    artifactStore,
+                                    isProEdition);
+                            return Boolean.TRUE;
+                        },
+                        RetryPolicy::isTransient,
+                        uploaded);
             }
         }
 
@@ -228,18 +293,9 @@ public class SonatypeNx3Publisher extends ArtifactStorePublisherSupport {
             extraHeaders.forEach(post::setHeader);
 
             // Add authentication if available
-            try (AuthenticationContext repoAuthContext =
-                    AuthenticationContext.forRepository(session.config().session(), authSource)) {
-                if (repoAuthContext != null) {
-                    String username = repoAuthContext.get(AuthenticationContext.USERNAME);
-                    String password = repoAuthContext.get(AuthenticationContext.PASSWORD);
-                    if (username != null && password != null) {
-                        String auth = username + ":" + password;
-                        String encodedAuth = java.util.Base64.getEncoder()
-                                .encodeToString(auth.getBytes(java.nio.charset.StandardCharsets.UTF_8));
-                        post.setHeader(HttpHeaders.AUTHORIZATION, "Basic " + encodedAuth);
-                    }
-                }
+            String authorization = basicAuthorization(authSource);
+            if (authorization != null) {
+                post.setHeader(HttpHeaders.AUTHORIZATION, authorization);
             }
 
             // Build multipart entity
@@ -305,29 +361,104 @@ public class SonatypeNx3Publisher extends ArtifactStorePublisherSupport {
                 assetIndex++;
             }
 
-            post.setEntity(builder.build());
+            HttpEntity entity = builder.build();
+            TransferMeter meter =
+                    publisherConfig.uploadMeter(session, "Upload of component " + gav, entity.getContentLength());
+            post.setEntity(MeteredHttpEntity.metered(entity, meter));
 
             logger.info("Uploading component {} ({} assets)", gav, sortedArtifacts.size());
 
-            try (CloseableHttpResponse response = httpClient.execute(post)) {
+            try (NjordEvents.Event event = NjordEvents.begin(NjordEvents.Type.HTTP_UPLOAD)
+                            .store(artifactStore.name())
+                            .artifact(gav)
+                            .bytes(Math.max(0, post.getEntity().getContentLength()));
+                    CloseableHttpResponse response = httpClient.execute(post)) {
                 int statusCode = response.getStatusLine().getStatusCode();
                 String responseBody = response.getEntity() != null ? EntityUtils.toString(response.getEntity()) : "";
 
                 if (statusCode == 204 || statusCode == 200 || statusCode == 201) {
                     logger.info("Successfully uploaded component {}", gav);
                 } else if (statusCode == 403) {
-                    throw new IOException("Insufficient permissions to upload to NXRM3 repository '" + repositoryName
-                            + "': " + response.getStatusLine() + " " + responseBody);
+                    throw new UnexpectedStatusException(
+                            statusCode,
+                            "Insufficient permissions to upload to NXRM3 repository '" + repositoryName + "': "
+                                    + response.getStatusLine() + " " + responseBody);
                 } else if (statusCode == 422) {
-                    throw new IOException("Invalid component upload (missing parameters?): " + response.getStatusLine()
-                            + " " + responseBody);
+                    throw new UnexpectedStatusException(
+                            statusCode,
+                            "Invalid component upload (missing parameters?): " + response.getStatusLine() + " "
+                                    + responseBody);
                 } else {
-                    throw new IOException(
+                    throw new UnexpectedStatusException(
+                            statusCode,
                             "Failed to upload component " + gav + ": " + response.getStatusLine() + " " + responseBody);
                 }
+            } finally {
+                meter.close();
+                meter.recordTo(session.metrics(), artifactStore.name());
             }
         } catch (URISyntaxException e) {
             throw new IOException("Invalid repository URL: " + repository.getUrl(), e);
         }
     }
+
+    /**
+     * Checks whether all the artifacts of a component are present in NXRM3 repository.
+     */
+    private boolean componentExists(
+            CloseableHttpClient httpClient,
+            RemoteRepository repository,
+            RemoteRepository authSource,
+            String repositoryName,
+            Map<String, String> extraHeaders,
+            List<Artifact> artifacts)
+            throws IOException {
+        String authorization = basicAuthorization(authSource);
+        DefaultLayout layout = new DefaultLayout();
+        for (Artifact artifact : artifacts) {
+            HttpHead head;
+            try {
+                URIBuilder uriBuilder = new URIBuilder(repository.getUrl());
+                uriBuilder.setPath("/repository/" + repositoryName + "/" + layout.artifactPath(artifact));
+                head = new HttpHead(uriBuilder.build());
+            } catch (URISyntaxException e) {
+                throw new IOException("Invalid repository URL: " + repository.getUrl(), e);
+            }
+            extraHeaders.forEach(head::setHeader);
+            if (authorization != null) {
+                head.setHeader(HttpHeaders.AUTHORIZATION, authorization);
+            }
+            try (CloseableHttpResponse response = httpClient.execute(head)) {
+                int statusCode = response.getStatusLine().getStatusCode();
+                if (statusCode == 404) {
+                    return false;
+                } else if (statusCode != 200) {
+                    throw new UnexpectedStatusException(
+                            statusCode, "Failed to check " + artifact + ": " + response.getStatusLine());
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the value of basic authorization header for given auth source, or {@code null} if it has no
+     * credentials.
+     */
+    private String basicAuthorization(RemoteRepository authSource) {
+        try (AuthenticationContext repoAuthContext =
+                AuthenticationContext.forRepository(session.config().session(), authSource)) {
+            if (repoAuthContext != null) {
+                String username = repoAuthContext.get(AuthenticationContext.USERNAME);
+                String password = repoAuthContext.get(AuthenticationContext.PASSWORD);
+                if (username != null && password != null) {
+                    String auth = username + ":" + password;
+                    String encodedAuth = java.util.Base64.getEncoder()
+                            .encodeToString(auth.getBytes(java.nio.charset.StandardCharsets.UTF_8));
+                    return "Basic " + encodedAuth;
+                }
+            }
+        }
+        return null;
+    }
 }
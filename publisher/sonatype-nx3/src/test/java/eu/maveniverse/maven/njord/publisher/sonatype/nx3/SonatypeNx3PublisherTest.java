@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2023-2024 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.njord.publisher.sonatype.nx3;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import eu.maveniverse.maven.mima.context.Context;
+import eu.maveniverse.maven.mima.context.ContextOverrides;
+import eu.maveniverse.maven.mima.context.Runtimes;
+import eu.maveniverse.maven.mima.extensions.mmr.MavenModelReader;
+import eu.maveniverse.maven.njord.shared.Session;
+import eu.maveniverse.maven.njord.shared.SessionConfig;
+import eu.maveniverse.maven.njord.shared.impl.DefaultSessionFactory;
+import eu.maveniverse.maven.njord.shared.impl.store.DefaultArtifactStoreMergerFactory;
+import eu.maveniverse.maven.njord.shared.impl.store.DefaultArtifactStoreWriterFactory;
+import eu.maveniverse.maven.njord.shared.impl.store.DefaultInternalArtifactStoreManagerFactory;
+import eu.maveniverse.maven.njord.shared.impl.store.PathArtifactStore;
+import eu.maveniverse.maven.njord.shared.impl.store.SyntheticArtifactStoreGenerator;
+import eu.maveniverse.maven.njord.shared.publisher.ArtifactStorePublisher;
+import eu.maveniverse.maven.njord.shared.store.ArtifactStoreTemplate;
+import eu.maveniverse.maven.njord.testing.MockSonatypeServer;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.maven.rtinfo.RuntimeInformation;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.internal.impl.checksum.DefaultChecksumAlgorithmFactorySelector;
+import org.eclipse.aether.internal.impl.checksum.Md5ChecksumAlgorithmFactory;
+import org.eclipse.aether.internal.impl.checksum.Sha1ChecksumAlgorithmFactory;
+import org.eclipse.aether.spi.connector.checksum.ChecksumAlgorithmFactory;
+import org.eclipse.aether.spi.connector.checksum.ChecksumAlgorithmFactorySelector;
+import org.eclipse.aether.util.repository.AuthenticationBuilder;
+import org.eclipse.aether.util.repository.DefaultAuthenticationSelector;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SonatypeNx3PublisherTest {
+    private static final String REPOSITORY_ID = "nx3";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void uploads() throws Exception {
+        try (MockSonatypeServer server = MockSonatypeServer.builder().start()) {
+            int components = publish(server);
+            assertEquals(components, server.components().size());
+            assertEquals(components, server.requestCount(MockSonatypeServer.COMPONENTS_PATH));
+            assertTrue(server.components().stream().allMatch(c -> "releases".equals(c.repository())));
+        }
+    }
+
+    @Test
+    void uploadRetriedOnBadGateway() throws Exception {
+        try (MockSonatypeServer server = MockSonatypeServer.builder()
+                .failFirst(2, 502)
+                .failurePath(MockSonatypeServer.COMPONENTS_PATH)
+                .start()) {
+            int components = publish(server);
+            assertEquals(components, server.components().size());
+            assertEquals(components + 2, server.requestCount(MockSonatypeServer.COMPONENTS_PATH));
+            // before each re-attempt, presence of component is checked
+            assertTrue(server.requestCount(MockSonatypeServer.REPOSITORY_PATH) >= 2);
+        }
+    }
+
+    @Test
+    void alreadyUploadedComponentIsNotUploadedAgain() throws Exception {
+        try (MockSonatypeServer server = MockSonatypeServer.builder()
+                .failFirst(1, 502)
+                .failurePath(MockSonatypeServer.COMPONENTS_PATH)
+                .failAfterProcessing(true)
+                .start()) {
+            // first upload took effect, but response was lost; re-upload of release would be refused with 400
+            int components = publish(server);
+            assertEquals(components, server.components().size());
+            assertEquals(components, server.requestCount(MockSonatypeServer.COMPONENTS_PATH));
+            assertTrue(server.requestCount(MockSonatypeServer.REPOSITORY_PATH) > 0);
+        }
+    }
+
+    @Test
+    void nonTransientFailureIsNotRetried() throws Exception {
+        try (MockSonatypeServer server = MockSonatypeServer.builder()
+                .failFirst(1, 403)
+                .failurePath(MockSonatypeServer.COMPONENTS_PATH)
+                .start()) {
+            ArtifactStorePublisher.UnexpectedStatusException e =
+                    assertThrows(ArtifactStorePublisher.UnexpectedStatusException.class, () -> publish(server));
+            assertEquals(403, e.statusCode());
+            assertEquals(1, server.requestCount(MockSonatypeServer.COMPONENTS_PATH));
+            assertEquals(0, server.requestCount(MockSonatypeServer.REPOSITORY_PATH));
+        }
+    }
+
+    /**
+     * Publishes synthetic release store to given server (with fast retries), and returns the count of its components.
+     */
+    private int publish(MockSonatypeServer server) throws IOException {
+        HashMap<String, String> userProperties = new HashMap<>();
+        userProperties.put("altDeploymentRepository", REPOSITORY_ID + "::" + server.uri());
+        userProperties.put("njord.publisher.sonatype-nx3.releaseRepositoryName", "releases");
+        userProperties.put("njord.retryInitialBackoff", "PT0.01S");
+        userProperties.put("njord.retryMaxBackoff", "PT0.05S");
+        userProperties.put("njord.uploadProgressInterval", "PT0S");
+        HashMap<String, ChecksumAlgorithmFactory> factories = new HashMap<>();
+        factories.put(Sha1ChecksumAlgorithmFactory.NAME, new Sha1ChecksumAlgorithmFactory());
+        factories.put(Md5ChecksumAlgorithmFactory.NAME, new Md5ChecksumAlgorithmFactory());
+        ChecksumAlgorithmFactorySelector selector = new DefaultChecksumAlgorithmFactorySelector(factories);
+        try (Context context = Runtimes.INSTANCE
+                        .getRuntime()
+                        .create(ContextOverrides.create().offline(true).build());
+                Session session = createSession(context, selector, userProperties)) {
+            PathArtifactStore store = (PathArtifactStore)
+                    session.artifactStoreManager().createArtifactStore(ArtifactStoreTemplate.RELEASE, null);
+            SyntheticArtifactStoreGenerator.builder(tempDir.resolve("work"))
+                    .modules(3)
+                    .size(1000, 5000)
+                    .build()
+                    .generate(store);
+            int components = (int) store.artifacts().stream()
+                    .map(a -> a.getGroupId() + ":" + a.getArtifactId() + ":" + a.getVersion())
+                    .distinct()
+                    .count();
+            new SonatypeNx3PublisherFactory(context.repositorySystem(), Collections.emptyMap())
+                    .create(session)
+                    .publish(store);
+            return components;
+        }
+    }
+
+    private Session createSession(
+            Context context, ChecksumAlgorithmFactorySelector selector, Map<String, String> userProperties) {
+        DefaultRepositorySystemSession repositorySystemSession =
+                new DefaultRepositorySystemSession(context.repositorySystemSession());
+        repositorySystemSession.setAuthenticationSelector(new DefaultAuthenticationSelector()
+                .add(
+                        REPOSITORY_ID,
+                        new AuthenticationBuilder()
+                                .addUsername("user")
+                                .addPassword("password")
+                                .build()));
+        SessionConfig config = SessionConfig.defaults(repositorySystemSession, context.remoteRepositories())
+                .basedir(tempDir.resolve("njord"))
+                .userProperties(userProperties)
+                .build();
+        return new DefaultSessionFactory(
+                        context.repositorySystem(),
+                        new RuntimeInformation() {
+                            @Override
+                            public String getMavenVersion() {
+                                return "3.9.11";
+                            }
+
+                            @Override
+                            public boolean isMavenVersion(String s) {
+                                return getMavenVersion().equals(s);
+                            }
+                        },
+                        new DefaultInternalArtifactStoreManagerFactory(selector),
+                        new DefaultArtifactStoreWriterFactory(),
+                        new DefaultArtifactStoreMergerFactory(context.repositorySystem(), selector),
+                        Collections.emptyMap(),
+                        Collections.emptyMap(),
+                        new MavenModelReader(context).getImpl())
+                .create(config);
+    }
+}
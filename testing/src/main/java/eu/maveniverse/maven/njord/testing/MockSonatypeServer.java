@@ -0,0 +1,735 @@
+/*
+ * Copyright (c) 2023-2024 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.njord.testing;
+
+import static java.util.Objects.requireNonNull;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Embeddable in-process stand-in for Sonatype Central Portal and Sonatype Nexus Repository 3, implementing the
+ * endpoints used by Njord publishers:
+ * <ul>
+ *     <li>{@code POST /api/v1/publisher/upload} - Central Portal bundle upload, responds with deployment ID</li>
+ *     <li>{@code POST /api/v1/publisher/status} - Central Portal deployment status, transitions on each poll</li>
+ *     <li>{@code POST /service/rest/v1/components} - NXRM3 component upload</li>
+ *     <li>{@code GET /service/rest/v1/status} - NXRM3 status, with edition in {@code Server} header</li>
+ *     <li>{@code HEAD /repository/NAME/PATH} - NXRM3 repository content, answers whether asset of received
+ *     component exists</li>
+ * </ul>
+ * The server can be configured with latency (applied to every request), bandwidth (applied to reading request
+ * bodies, per request), error injection (first N requests or random rate, optionally of one path only, and
+ * optionally after request took effect, like a gateway losing the response) and deployment state transitions. It
+ * records the received deployments and components, and counts requests, so upload concurrency, retry and polling
+ * behaviour can be asserted or measured offline. Request bodies are held in memory while processed.
+ *
+ * @since 0.9.7
+ */
+public final class MockSonatypeServer implements Closeable {
+    public static final String UPLOAD_PATH = "/api/v1/publisher/upload";
+    public static final String STATUS_PATH = "/api/v1/publisher/status";
+    public static final String COMPONENTS_PATH = "/service/rest/v1/components";
+    public static final String NX3_STATUS_PATH = "/service/rest/v1/status";
+    public static final String REPOSITORY_PATH = "/repository/";
+
+    private static final Pattern NAME = Pattern.compile("[;\\s]name=\"([^\"]*)\"");
+    private static final Pattern FILENAME = Pattern.compile("[;\\s]filename=\"([^\"]*)\"");
+    private static final Pattern BOUNDARY = Pattern.compile("boundary=\"?([^\";]+)\"?");
+
+    /**
+     * A Central Portal deployment, as received by upload endpoint.
+     */
+    public static final class Deployment {
+        private final String id;
+        private final String name;
+        private final String publishingType;
+        private final String fileName;
+        private final long bytes;
+        private final List<String> states;
+        private final AtomicInteger polls;
+
+        private Deployment(
+                String id, String name, String publishingType, String fileName, long bytes, List<String> states) {
+            this.id = id;
+            this.name = name;
+            this.publishingType = publishingType;
+            this.fileName = fileName;
+            this.bytes = bytes;
+            this.states = states;
+            this.polls = new AtomicInteger();
+        }
+
+        public String id() {
+            return id;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        /**
+         * The publishing type as sent by client, or {@code null} if not sent.
+         */
+        public String publishingType() {
+            return publishingType;
+        }
+
+        public String fileName() {
+            return fileName;
+        }
+
+        /**
+         * The size of uploaded bundle in bytes.
+         */
+        public long bytes() {
+            return bytes;
+        }
+
+        /**
+         * The count of status polls of this deployment.
+         */
+        public int polls() {
+            return polls.get();
+        }
+
+        /**
+         * The current state of this deployment (the one next poll will return).
+         */
+        public String state() {
+            return states.get(Math.min(polls.get(), states.size() - 1));
+        }
+
+        private String poll() {
+            return states.get(Math.min(polls.getAndIncrement(), states.size() - 1));
+        }
+    }
+
+    /**
+     * A NXRM3 component, as received by components endpoint.
+     */
+    public static final class Component {
+        private final String repository;
+        private final String groupId;
+        private final String artifactId;
+        private final String version;
+        private final List<String> assets;
+        private final long bytes;
+
+        private Component(
+                String repository, String groupId, String artifactId, String version, List<String> assets, long bytes) {
+            this.repository = repository;
+            this.groupId = groupId;
+            this.artifactId = artifactId;
+            this.version = version;
+            this.assets = Collections.unmodifiableList(assets);
+            this.bytes = bytes;
+        }
+
+        public String repository() {
+            return repository;
+        }
+
+        public String groupId() {
+            return groupId;
+        }
+
+        public String artifactId() {
+            return artifactId;
+        }
+
+        public String version() {
+            return version;
+        }
+
+        /**
+         * The file names of uploaded assets.
+         */
+        public List<String> assets() {
+            return assets;
+        }
+
+        /**
+         * The size of uploaded assets in bytes.
+         */
+        public long bytes() {
+            return bytes;
+        }
+    }
+
+    private static final class Part {
+        private final String name;
+        private final String fileName;
+        private final String value;
+        private final long size;
+
+        private Part(String name, String fileName, String value, long size) {
+            this.name = name;
+            this.fileName = fileName;
+            this.value = value;
+            this.size = size;
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private int port = 0;
+        private int threads = 16;
+        private Duration latency = Duration.ZERO;
+        private long bandwidth = 0;
+        private int failFirst = 0;
+        private double failureRate = 0;
+        private int failureStatus = 503;
+        private String failurePath = null;
+        private boolean failAfterProcessing = false;
+        private long seed = 0;
+        private List<String> deploymentStates = Arrays.asList("PENDING", "VALIDATING", "VALIDATED");
+        private List<String> automaticStates = Arrays.asList("PUBLISHING", "PUBLISHED");
+        private boolean failDeployments = false;
+        private String nexusEdition = "PRO";
+        private boolean requireAuthorization = true;
+
+        private Builder() {}
+
+        /**
+         * The port to listen on (on loopback interface), {@code 0} for any free port (default).
+         */
+        public Builder port(int port) {
+            if (port < 0) {
+                throw new IllegalArgumentException("port cannot be negative");
+            }
+            this.port = port;
+            return this;
+        }
+
+        /**
+         * The count of threads serving requests, limits the concurrency server supports (default 16).
+         */
+        public Builder threads(int threads) {
+            if (threads < 1) {
+                throw new IllegalArgumentException("threads must be positive");
+            }
+            this.threads = threads;
+            return this;
+        }
+
+        /**
+         * The latency added to each request (default none).
+         */
+        public Builder latency(Duration latency) {
+            requireNonNull(latency, "latency");
+            if (latency.isNegative()) {
+                throw new IllegalArgumentException("latency cannot be negative");
+            }
+            this.latency = latency;
+            return this;
+        }
+
+        /**
+         * The bandwidth in bytes per second that request bodies are read with (per request), {@code 0} for
+         * unlimited (default).
+         */
+        public Builder bandwidth(long bytesPerSecond) {
+            if (bytesPerSecond < 0) {
+                throw new IllegalArgumentException("bandwidth cannot be negative");
+            }
+            this.bandwidth = bytesPerSecond;
+            return this;
+        }
+
+        /**
+         * Makes first {@code count} requests (to any endpoint) fail with given HTTP status.
+         */
+        public Builder failFirst(int count, int status) {
+            if (count < 0) {
+                throw new IllegalArgumentException("count cannot be negative");
+            }
+            this.failFirst = count;
+            this.failureStatus = status;
+            return this;
+        }
+
+        /**
+         * Makes requests (to any endpoint) fail randomly with given rate (from 0 to 1) and HTTP status. The
+         * randomness is driven by {@link #seed(long)}.
+         */
+        public Builder failureRate(double rate, int status) {
+            if (rate < 0 || rate > 1) {
+                throw new IllegalArgumentException("rate must be between 0 and 1");
+            }
+            this.failureRate = rate;
+            this.failureStatus = status;
+            return this;
+        }
+
+        /**
+         * Restricts injected failures to requests of given path, {@code null} for any path (default).
+         */
+        public Builder failurePath(String failurePath) {
+            this.failurePath = failurePath;
+            return this;
+        }
+
+        /**
+         * Whether injected failures should be responded after request was processed (took effect), like a gateway
+         * losing the response, instead of before it (default {@code false}).
+         */
+        public Builder failAfterProcessing(boolean failAfterProcessing) {
+            this.failAfterProcessing = failAfterProcessing;
+            return this;
+        }
+
+        /**
+         * The seed of random failures (default 0).
+         */
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * The states a Central Portal deployment goes through, one state per status poll; the last state is kept
+         * (default {@code PENDING, VALIDATING, VALIDATED}).
+         */
+        public Builder deploymentStates(List<String> deploymentStates) {
+            requireNonNull(deploymentStates, "deploymentStates");
+            if (deploymentStates.isEmpty()) {
+                throw new IllegalArgumentException("deploymentStates cannot be empty");
+            }
+            this.deploymentStates = new ArrayList<>(deploymentStates);
+            return this;
+        }
+
+        /**
+         * The states appended to deployment states if deployment was uploaded with {@code AUTOMATIC} publishing type
+         * (default {@code PUBLISHING, PUBLISHED}).
+         */
+        public Builder automaticStates(List<String> automaticStates) {
+            this.automaticStates = new ArrayList<>(requireNonNull(automaticStates, "automaticStates"));
+            return this;
+        }
+
+        /**
+         * Whether deployments should end up in {@code FAILED} state, instead of going through deployment states
+         * (default {@code false}).
+         */
+        public Builder failDeployments(boolean failDeployments) {
+            this.failDeployments = failDeployments;
+            return this;
+        }
+
+        /**
+         * The NXRM3 edition reported in {@code Server} header: {@code PRO}, {@code OSS} or {@code COMMUNITY}
+         * (default {@code PRO}).
+         */
+        public Builder nexusEdition(String nexusEdition) {
+            this.nexusEdition = requireNonNull(nexusEdition, "nexusEdition");
+            return this;
+        }
+
+        /**
+         * Whether requests without {@code Authorization} header should be refused with 401 (default {@code true}).
+         */
+        public Builder requireAuthorization(boolean requireAuthorization) {
+            this.requireAuthorization = requireAuthorization;
+            return this;
+        }
+
+        /**
+         * Creates and starts the server.
+         */
+        public MockSonatypeServer start() throws IOException {
+            return new MockSonatypeServer(this);
+        }
+    }
+
+    private final Builder config;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Random random;
+    private final AtomicInteger failuresLeft;
+    private final AtomicInteger inFlight;
+    private final AtomicInteger maxInFlight;
+    private final ConcurrentHashMap<String, AtomicInteger> requests;
+    private final ConcurrentHashMap<String, Deployment> deployments;
+    private final CopyOnWriteArrayList<Component> components;
+    private final ConcurrentHashMap<HttpExchange, Integer> lostResponses;
+
+    private MockSonatypeServer(Builder config) throws IOException {
+        this.config = config;
+        this.random = new Random(config.seed);
+        this.failuresLeft = new AtomicInteger(config.failFirst);
+        this.inFlight = new AtomicInteger();
+        this.maxInFlight = new AtomicInteger();
+        this.requests = new ConcurrentHashMap<>();
+        this.deployments = new ConcurrentHashMap<>();
+        this.components = new CopyOnWriteArrayList<>();
+        this.lostResponses = new ConcurrentHashMap<>();
+        this.executor = Executors.newFixedThreadPool(config.threads);
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), config.port), 0);
+        this.server.setExecutor(executor);
+        this.server.createContext("/", this::handle);
+        this.server.start();
+    }
+
+    /**
+     * The base URI of this server, to be used as service repository URL.
+     */
+    public URI uri() {
+        return URI.create("http://" + server.getAddress().getHostString() + ":"
+                + server.getAddress().getPort() + "/");
+    }
+
+    /**
+     * The deployments received so far, keyed by deployment ID.
+     */
+    public Map<String, Deployment> deployments() {
+        return Collections.unmodifiableMap(deployments);
+    }
+
+    /**
+     * The components received so far, in order of receiving.
+     */
+    public List<Component> components() {
+        return Collections.unmodifiableList(components);
+    }
+
+    /**
+     * The count of requests received for given path (including failed ones). Requests of repository content are
+     * counted under {@link #REPOSITORY_PATH}.
+     */
+    public int requestCount(String path) {
+        AtomicInteger count = requests.get(path);
+        return count == null ? 0 : count.get();
+    }
+
+    /**
+     * The maximum count of requests that were served concurrently.
+     */
+    public int maxConcurrentRequests() {
+        return maxInFlight.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        requests.computeIfAbsent(path.startsWith(REPOSITORY_PATH) ? REPOSITORY_PATH : path, k -> new AtomicInteger())
+                .incrementAndGet();
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            byte[] body = readBody(exchange.getRequestBody());
+            if (!config.latency.isZero()) {
+                Thread.sleep(config.latency.toMillis());
+            }
+            boolean failure = injectFailure(path);
+            if (failure && config.failAfterProcessing) {
+                lostResponses.put(exchange, config.failureStatus);
+            }
+            if (failure && !config.failAfterProcessing) {
+                respond(exchange, config.failureStatus, "text/plain", "Injected failure");
+            } else if (config.requireAuthorization
+                    && !NX3_STATUS_PATH.equals(path)
+                    && exchange.getRequestHeaders().getFirst("Authorization") == null) {
+                respond(exchange, 401, "text/plain", "Unauthorized");
+            } else if (UPLOAD_PATH.equals(path)) {
+                handleUpload(exchange, body);
+            } else if (STATUS_PATH.equals(path)) {
+                handleStatus(exchange);
+            } else if (COMPONENTS_PATH.equals(path)) {
+                handleComponents(exchange, body);
+            } else if (NX3_STATUS_PATH.equals(path)) {
+                exchange.getResponseHeaders().set("Server", "Nexus/3.80.0-06 (" + config.nexusEdition + ")");
+                respond(exchange, 200, "application/json", "{}");
+            } else if (path.startsWith(REPOSITORY_PATH)) {
+                handleRepository(exchange, path);
+            } else {
+                respond(exchange, 404, "text/plain", "Not found: " + path);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            respond(exchange, 503, "text/plain", "Interrupted");
+        } finally {
+            lostResponses.remove(exchange);
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    private void handleUpload(HttpExchange exchange, byte[] body) throws IOException {
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            respond(exchange, 405, "text/plain", "Method not allowed");
+            return;
+        }
+        Part bundle = parts(exchange, body).stream()
+                .filter(p -> "bundle".equals(p.name) && p.fileName != null)
+                .findFirst()
+                .orElse(null);
+        if (bundle == null) {
+            respond(exchange, 400, "text/plain", "Missing bundle");
+            return;
+        }
+        Map<String, String> query = query(exchange.getRequestURI());
+        String publishingType = query.get("publishingType");
+        List<String> states = new ArrayList<>(config.deploymentStates);
+        if (config.failDeployments) {
+            states.add("FAILED");
+        } else if ("AUTOMATIC".equals(publishingType)) {
+            states.addAll(config.automaticStates);
+        }
+        Deployment deployment = new Deployment(
+                UUID.randomUUID().toString(),
+                query.getOrDefault("name", bundle.fileName),
+                publishingType,
+                bundle.fileName,
+                bundle.size,
+                Collections.unmodifiableList(states));
+        deployments.put(deployment.id(), deployment);
+        respond(exchange, 201, "text/plain", deployment.id());
+    }
+
+    private void handleStatus(HttpExchange exchange) throws IOException {
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            respond(exchange, 405, "text/plain", "Method not allowed");
+            return;
+        }
+        Deployment deployment = deployments.get(query(exchange.getRequestURI()).getOrDefault("id", ""));
+        if (deployment == null) {
+            respond(exchange, 404, "text/plain", "Deployment not found");
+            return;
+        }
+        respond(
+                exchange,
+                200,
+                "application/json",
+                "{\"deploymentId\":\"" + json(deployment.id()) + "\",\"deploymentName\":\"" + json(deployment.name())
+                        + "\",\"deploymentState\":\"" + json(deployment.poll()) + "\",\"purls\":[]}");
+    }
+
+    private void handleComponents(HttpExchange exchange, byte[] body) throws IOException {
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            respond(exchange, 405, "text/plain", "Method not allowed");
+            return;
+        }
+        String repository = query(exchange.getRequestURI()).get("repository");
+        HashMap<String, String> fields = new HashMap<>();
+        List<String> assets = new ArrayList<>();
+        long bytes = 0;
+        for (Part part : parts(exchange, body)) {
+            if (part.fileName != null) {
+                assets.add(part.fileName);
+                bytes += part.size;
+            } else {
+                fields.put(part.name, part.value);
+            }
+        }
+        String groupId = fields.get("maven2.groupId");
+        String artifactId = fields.get("maven2.artifactId");
+        String version = fields.get("maven2.version");
+        if (repository == null || groupId == null || artifactId == null || version == null || assets.isEmpty()) {
+            respond(exchange, 422, "text/plain", "Missing repository, coordinates or assets");
+            return;
+        }
+        synchronized (components) {
+            for (Component component : components) {
+                if (component.repository().equals(repository)
+                        && component.groupId().equals(groupId)
+                        && component.artifactId().equals(artifactId)
+                        && component.version().equals(version)
+                        && !version.endsWith("-SNAPSHOT")) {
+                    respond(exchange, 400, "text/plain", "Repository does not allow updating assets: " + repository);
+                    return;
+                }
+            }
+            components.add(new Component(repository, groupId, artifactId, version, assets, bytes));
+        }
+        respond(exchange, 204, null, null);
+    }
+
+    private void handleRepository(HttpExchange exchange, String path) throws IOException {
+        if (!"HEAD".equals(exchange.getRequestMethod())) {
+            respond(exchange, 405, null, null);
+            return;
+        }
+        // NAME/groupId/as/path/artifactId/version/fileName
+        List<String> segments =
+                Arrays.asList(path.substring(REPOSITORY_PATH.length()).split("/"));
+        int count = segments.size();
+        if (count >= 5) {
+            String repository = segments.get(0);
+            String groupId = String.join(".", segments.subList(1, count - 3));
+            String artifactId = segments.get(count - 3);
+            String version = segments.get(count - 2);
+            String fileName = segments.get(count - 1);
+            for (Component component : components) {
+                if (component.repository().equals(repository)
+                        && component.groupId().equals(groupId)
+                        && component.artifactId().equals(artifactId)
+                        && component.version().equals(version)
+                        && component.assets().contains(fileName)) {
+                    respond(exchange, 200, null, null);
+                    return;
+                }
+            }
+        }
+        respond(exchange, 404, null, null);
+    }
+
+    private boolean injectFailure(String path) {
+        if (config.failurePath != null && !config.failurePath.equals(path)) {
+            return false;
+        }
+        if (failuresLeft.get() > 0 && failuresLeft.getAndDecrement() > 0) {
+            return true;
+        }
+        if (config.failureRate > 0) {
+            synchronized (random) {
+                return random.nextDouble() < config.failureRate;
+            }
+        }
+        return false;
+    }
+
+    private byte[] readBody(InputStream inputStream) throws IOException, InterruptedException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        long start = System.nanoTime();
+        long total = 0;
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            result.write(buffer, 0, read);
+            total += read;
+            if (config.bandwidth > 0) {
+                long due = TimeUnit.SECONDS.toNanos(total) / config.bandwidth;
+                long ahead = due - (System.nanoTime() - start);
+                if (ahead > 0) {
+                    TimeUnit.NANOSECONDS.sleep(ahead);
+                }
+            }
+        }
+        return result.toByteArray();
+    }
+
+    private void respond(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        Integer lostResponse = lostResponses.get(exchange);
+        if (lostResponse != null) {
+            // request took effect, but client gets failure
+            status = lostResponse;
+            contentType = "text/plain";
+            body = "Injected failure";
+        }
+        if (body == null) {
+            exchange.sendResponseHeaders(status, -1);
+        } else {
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", contentType);
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(bytes);
+            }
+        }
+    }
+
+    private static List<Part> parts(HttpExchange exchange, byte[] body) {
+        ArrayList<Part> result = new ArrayList<>();
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        Matcher boundaryMatcher = BOUNDARY.matcher(contentType == null ? "" : contentType);
+        if (contentType == null || !contentType.startsWith("multipart/") || !boundaryMatcher.find()) {
+            return result;
+        }
+        // ISO-8859-1 maps bytes 1:1 to chars, so offsets and lengths are preserved
+        String content = new String(body, StandardCharsets.ISO_8859_1);
+        String delimiter = "--" + boundaryMatcher.group(1);
+        int pos = content.indexOf(delimiter);
+        while (pos >= 0) {
+            int start = pos + delimiter.length();
+            if (content.startsWith("--", start)) {
+                break;
+            }
+            start += 2;
+            int next = content.indexOf("\r\n" + delimiter, start);
+            int headersEnd = content.indexOf("\r\n\r\n", start);
+            if (next < 0 || headersEnd < 0 || headersEnd > next) {
+                break;
+            }
+            String headers = content.substring(start, headersEnd);
+            Matcher name = NAME.matcher(headers);
+            Matcher fileName = FILENAME.matcher(headers);
+            if (name.find()) {
+                boolean file = fileName.find();
+                result.add(new Part(
+                        name.group(1),
+                        file ? fileName.group(1) : null,
+                        file ? null : new String(body, headersEnd + 4, next - headersEnd - 4, StandardCharsets.UTF_8),
+                        next - headersEnd - 4));
+            }
+            pos = next + 2;
+        }
+        return result;
+    }
+
+    private static Map<String, String> query(URI uri) throws UnsupportedEncodingException {
+        HashMap<String, String> result = new HashMap<>();
+        String query = uri.getRawQuery();
+        if (query != null) {
+            for (String pair : query.split("&")) {
+                int eq = pair.indexOf('=');
+                if (eq > 0) {
+                    result.put(
+                            URLDecoder.decode(pair.substring(0, eq), "UTF-8"),
+                            URLDecoder.decode(pair.substring(eq + 1), "UTF-8"));
+                }
+            }
+        }
+        return result;
+    }
+
+    private static String json(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
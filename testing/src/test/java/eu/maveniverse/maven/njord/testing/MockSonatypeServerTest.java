@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2023-2024 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.njord.testing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class MockSonatypeServerTest {
+    private static final String BOUNDARY = "njord-boundary";
+
+    private static final class Response {
+        private final int status;
+        private final String body;
+        private final String server;
+
+        private Response(int status, String body, String server) {
+            this.status = status;
+            this.body = body;
+            this.server = server;
+        }
+    }
+
+    private static byte[] multipart(Map<String, String> fields, String fileField, String fileName, byte[] content)
+            throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (Map.Entry<String, String> field : fields.entrySet()) {
+            out.write(("--" + BOUNDARY + "\r\nContent-Disposition: form-data; name=\"" + field.getKey() + "\"\r\n\r\n"
+                            + field.getValue() + "\r\n")
+                    .getBytes(StandardCharsets.UTF_8));
+        }
+        if (fileField != null) {
+            out.write(("--" + BOUNDARY + "\r\nContent-Disposition: form-data; name=\"" + fileField + "\"; filename=\""
+                            + fileName + "\"\r\nContent-Type: application/octet-stream\r\n\r\n")
+                    .getBytes(StandardCharsets.UTF_8));
+            out.write(content);
+            out.write("\r\n".getBytes(StandardCharsets.UTF_8));
+        }
+        out.write(("--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return out.toByteArray();
+    }
+
+    private static Response request(URI uri, String method, String authorization, byte[] body) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) uri.toURL().openConnection();
+        connection.setRequestMethod(method);
+        if (authorization != null) {
+            connection.setRequestProperty("Authorization", authorization);
+        }
+        if (body != null) {
+            connection.setDoOutput(true);
+            connection.setRequestProperty("Content-Type", "multipart/form-data; boundary=" + BOUNDARY);
+            connection.setFixedLengthStreamingMode(body.length);
+            try (OutputStream os = connection.getOutputStream()) {
+                os.write(body);
+            }
+        }
+        int status = connection.getResponseCode();
+        InputStream is = status < 400 ? connection.getInputStream() : connection.getErrorStream();
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        if (is != null) {
+            try (InputStream in = is) {
+                byte[] buffer = new byte[1024];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    content.write(buffer, 0, read);
+                }
+            }
+        }
+        return new Response(
+                status, new String(content.toByteArray(), StandardCharsets.UTF_8), connection.getHeaderField("Server"));
+    }
+
+    private static Response upload(MockSonatypeServer server, String query, byte[] bundle) throws IOException {
+        return request(
+                server.uri().resolve(MockSonatypeServer.UPLOAD_PATH + query),
+                "POST",
+                "Bearer token",
+                multipart(new LinkedHashMap<>(), "bundle", "bundle.zip", bundle));
+    }
+
+    private static String status(MockSonatypeServer server, String deploymentId) throws IOException {
+        Response response = request(
+                server.uri().resolve(MockSonatypeServer.STATUS_PATH + "?id=" + deploymentId),
+                "POST",
+                "Bearer token",
+                null);
+        assertEquals(200, response.status);
+        return response.body;
+    }
+
+    @Test
+    void centralPortalStateTransitions() throws IOException {
+        try (MockSonatypeServer server = MockSonatypeServer.builder().start()) {
+            Response response = upload(server, "?name=test-1.0", new byte[1000]);
+            assertEquals(201, response.status);
+            String deploymentId = response.body;
+            MockSonatypeServer.Deployment deployment = server.deployments().get(deploymentId);
+            assertEquals("test-1.0", deployment.name());
+            assertEquals("bundle.zip", deployment.fileName());
+            assertEquals(1000, deployment.bytes());
+
+            assertTrue(status(server, deploymentId).contains("\"deploymentState\":\"PENDING\""));
+            assertTrue(status(server, deploymentId).contains("\"deploymentState\":\"VALIDATING\""));
+            assertTrue(status(server, deploymentId).contains("\"deploymentState\":\"VALIDATED\""));
+            assertTrue(status(server, deploymentId).contains("\"deploymentState\":\"VALIDATED\""));
+            assertEquals(4, deployment.polls());
+
+            response = upload(server, "?name=test-1.0&publishingType=AUTOMATIC", new byte[10]);
+            assertEquals(201, response.status);
+            MockSonatypeServer.Deployment automatic = server.deployments().get(response.body);
+            assertEquals("AUTOMATIC", automatic.publishingType());
+            for (int i = 0; i < 5; i++) {
+                status(server, automatic.id());
+            }
+            assertEquals("PUBLISHED", automatic.state());
+
+            assertEquals(
+                    404,
+                    request(
+                                    server.uri().resolve(MockSonatypeServer.STATUS_PATH + "?id=unknown"),
+                                    "POST",
+                                    "Bearer token",
+                                    null)
+                            .status);
+            assertEquals(2, server.requestCount(MockSonatypeServer.UPLOAD_PATH));
+        }
+    }
+
+    @Test
+    void centralPortalFailedDeployment() throws IOException {
+        try (MockSonatypeServer server = MockSonatypeServer.builder()
+                .deploymentStates(Arrays.asList("PENDING"))
+                .failDeployments(true)
+                .start()) {
+            String deploymentId = upload(server, "", new byte[10]).body;
+            assertTrue(status(server, deploymentId).contains("\"deploymentState\":\"PENDING\""));
+            assertTrue(status(server, deploymentId).contains("\"deploymentState\":\"FAILED\""));
+        }
+    }
+
+    @Test
+    void errorInjection() throws IOException {
+        try (MockSonatypeServer server =
+                MockSonatypeServer.builder().failFirst(2, 502).start()) {
+            assertEquals(502, upload(server, "", new byte[10]).status);
+            assertEquals(502, upload(server, "", new byte[10]).status);
+            assertEquals(201, upload(server, "", new byte[10]).status);
+            assertEquals(1, server.deployments().size());
+            assertEquals(
+                    401,
+                    request(
+                                    server.uri().resolve(MockSonatypeServer.UPLOAD_PATH),
+                                    "POST",
+                                    null,
+                                    multipart(new LinkedHashMap<>(), "bundle", "bundle.zip", new byte[10]))
+                            .status);
+        }
+        try (MockSonatypeServer server =
+                MockSonatypeServer.builder().failureRate(1, 503).start()) {
+            assertEquals(503, upload(server, "", new byte[10]).status);
+            assertTrue(server.deployments().isEmpty());
+        }
+    }
+
+    @Test
+    void nx3Components() throws IOException {
+        try (MockSonatypeServer server =
+                MockSonatypeServer.builder().nexusEdition("OSS").start()) {
+            Response status = request(server.uri().resolve(MockSonatypeServer.NX3_STATUS_PATH), "GET", null, null);
+            assertEquals(200, status.status);
+            assertTrue(status.server.contains("(OSS)"));
+
+            LinkedHashMap<String, String> fields = new LinkedHashMap<>();
+            fields.put("maven2.groupId", "org.example");
+            fields.put("maven2.artifactId", "test");
+            fields.put("maven2.version", "1.0");
+            byte[] body = multipart(fields, "maven2.asset1", "test-1.0.jar", new byte[100]);
+            URI uri = server.uri().resolve(MockSonatypeServer.COMPONENTS_PATH + "?repository=releases");
+            assertEquals(204, request(uri, "POST", "Basic token", body).status);
+            assertEquals(1, server.components().size());
+            MockSonatypeServer.Component component = server.components().get(0);
+            assertEquals("releases", component.repository());
+            assertEquals("org.example", component.groupId());
+            assertEquals(Arrays.asList("test-1.0.jar"), component.assets());
+            assertEquals(100, component.bytes());
+
+            // release redeploy is refused
+            assertEquals(400, request(uri, "POST", "Basic token", body).status);
+            // missing repository
+            assertEquals(
+                    422,
+                    request(server.uri().resolve(MockSonatypeServer.COMPONENTS_PATH), "POST", "Basic token", body)
+                            .status);
+        }
+    }
+
+    @Test
+    void nx3LostResponse() throws IOException {
+        try (MockSonatypeServer server = MockSonatypeServer.builder()
+                .failFirst(1, 502)
+                .failurePath(MockSonatypeServer.COMPONENTS_PATH)
+                .failAfterProcessing(true)
+                .start()) {
+            URI asset = server.uri()
+                    .resolve(MockSonatypeServer.REPOSITORY_PATH + "releases/org/example/test/1.0/test-1.0.jar");
+            assertEquals(404, request(asset, "HEAD", "Basic token", null).status);
+
+            LinkedHashMap<String, String> fields = new LinkedHashMap<>();
+            fields.put("maven2.groupId", "org.example");
+            fields.put("maven2.artifactId", "test");
+            fields.put("maven2.version", "1.0");
+            byte[] body = multipart(fields, "maven2.asset1", "test-1.0.jar", new byte[100]);
+            URI uri = server.uri().resolve(MockSonatypeServer.COMPONENTS_PATH + "?repository=releases");
+            // failure is responded, but component is received
+            assertEquals(502, request(uri, "POST", "Basic token", body).status);
+            assertEquals(1, server.components().size());
+            assertEquals(200, request(asset, "HEAD", "Basic token", null).status);
+            assertEquals(
+                    404,
+                    request(
+                                    server.uri()
+                                            .resolve(MockSonatypeServer.REPOSITORY_PATH
+                                                    + "releases/org/example/test/1.0/test-1.0-sources.jar"),
+                                    "HEAD",
+                                    "Basic token",
+                                    null)
+                            .status);
+            assertEquals(3, server.requestCount(MockSonatypeServer.REPOSITORY_PATH));
+        }
+    }
+
+    @Test
+    void latencyAndBandwidth() throws IOException {
+        try (MockSonatypeServer server = MockSonatypeServer.builder()
+                .latency(Duration.ofMillis(100))
+                .bandwidth(100_000)
+                .start()) {
+            long start = System.nanoTime();
+            assertEquals(201, upload(server, "", new byte[50_000]).status);
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000L;
+            // 50KB at 100KB/s + 100ms latency
+            assertTrue(elapsedMillis >= 500, "elapsed " + elapsedMillis);
+            assertEquals(1, server.maxConcurrentRequests());
+        }
+    }
+}